@@ -0,0 +1,78 @@
+package com.example.miniproyecto4.benchmarks;
+
+import com.example.miniproyecto4.model.AI.IAIStrategy;
+import com.example.miniproyecto4.model.Board.IBoard;
+import com.example.miniproyecto4.model.Cell.CellStatus;
+import com.example.miniproyecto4.model.Cell.Coordinate;
+import com.example.miniproyecto4.model.Game.FleetPlacer;
+import com.example.miniproyecto4.model.Ship.IShip;
+import com.example.miniproyecto4.model.Ship.ShipFactory;
+import com.example.miniproyecto4.model.Shot.ShotResolver;
+import com.example.miniproyecto4.model.Shot.ShotResult;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic game states shared by the benchmarks.
+ * Every fixture is built from a fixed seed so before/after numbers are
+ * measured on identical boards.
+ */
+final class BenchmarkFixtures {
+
+    /**
+     * Seed used for every fleet layout.
+     */
+    static final long SEED = 42L;
+
+    /**
+     * Places the standard fleet on the board at seeded random positions.
+     *
+     * @param board the board to fill
+     * @return the placed ships
+     */
+    static List<IShip> placeFleet(IBoard board) {
+        List<IShip> fleet = ShipFactory.createFleet();
+        FleetPlacer.placeRandomly(board, fleet, new Random(SEED));
+        return fleet;
+    }
+
+    /**
+     * Lets a strategy shoot at the board until it has fired at least the given
+     * number of shots and no ship is left partially hit, so the strategy ends
+     * in hunt mode and repeated selectTarget calls do not change its state.
+     *
+     * @param board the board under attack, with its fleet already placed
+     * @param strategy the strategy firing the shots
+     * @param shots minimum number of shots to fire
+     */
+    static void playUntil(IBoard board, IAIStrategy strategy, int shots) {
+        int fired = 0;
+        while (!board.allShipsSunk() && (fired < shots || hasOpenHits(board))) {
+            Coordinate target = strategy.selectTarget(board);
+            ShotResult result = ShotResolver.resolve(board, target);
+            strategy.updateStrategy(target, result == ShotResult.HIT || result == ShotResult.SUNK);
+            fired++;
+        }
+    }
+
+    /**
+     * Checks if any ship on the board is hit but not sunk.
+     *
+     * @param board the board to inspect
+     * @return true if some cell is in HIT status
+     */
+    private static boolean hasOpenHits(IBoard board) {
+        for (int index = 0; index < board.getSize() * board.getSize(); index++) {
+            if (board.getCell(index).getStatus() == CellStatus.HIT) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Prevents instantiation.
+     */
+    private BenchmarkFixtures() {
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.miniproyecto4.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the GC profiler attached, so each result comes with
+ * its allocation rate ({@code gc.alloc.rate.norm} is bytes per operation).
+ * An optional first argument is a regular expression selecting benchmarks,
+ * for example {@code BoardBenchmark}.
+ */
+public final class BenchmarkRunner {
+
+    /**
+     * Runs the selected benchmarks.
+     *
+     * @param args optional benchmark include pattern
+     * @throws RunnerException if JMH fails to run
+     */
+    public static void main(String[] args) throws RunnerException {
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .include(args.length > 0 ? args[0] : BenchmarkRunner.class.getPackage().getName() + ".*")
+                .addProfiler(GCProfiler.class);
+        new Runner(options.build()).run();
+    }
+
+    /**
+     * Prevents instantiation.
+     */
+    private BenchmarkRunner() {
+    }
+}
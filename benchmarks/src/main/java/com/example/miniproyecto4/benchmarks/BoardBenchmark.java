@@ -0,0 +1,130 @@
+package com.example.miniproyecto4.benchmarks;
+
+import com.example.miniproyecto4.model.Board.BoardFactory;
+import com.example.miniproyecto4.model.Board.IBoard;
+import com.example.miniproyecto4.model.Cell.Coordinate;
+import com.example.miniproyecto4.model.Game.FleetPlacementSampler;
+import com.example.miniproyecto4.model.Ship.IShip;
+import com.example.miniproyecto4.model.Ship.ShipFactory;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks ship placement and ship lookup on both board implementations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BoardBenchmark {
+
+    /**
+     * Board implementation under test.
+     */
+    @Param({"board", "bitboard"})
+    public String implementation;
+
+    /**
+     * Board holding the seeded fleet, used by the lookup benchmark.
+     */
+    private IBoard fullBoard;
+
+    /**
+     * Ships of the seeded fleet, already positioned.
+     */
+    private List<IShip> fleet;
+
+    /**
+     * Every coordinate of the board.
+     */
+    private Coordinate[] coordinates;
+
+    /**
+     * Random fleet placement engine.
+     */
+    private FleetPlacementSampler sampler;
+
+    /**
+     * Random number generator for the sampled fleets.
+     */
+    private Random random;
+
+    /**
+     * Builds the seeded board and the coordinate list.
+     */
+    @Setup
+    public void setUp() {
+        fullBoard = newBoard();
+        fleet = BenchmarkFixtures.placeFleet(fullBoard);
+
+        int size = fullBoard.getSize();
+        coordinates = new Coordinate[size * size];
+        for (int index = 0; index < coordinates.length; index++) {
+            coordinates[index] = Coordinate.ofIndex(index, size);
+        }
+        sampler = new FleetPlacementSampler(size);
+        random = new Random(BenchmarkFixtures.SEED);
+    }
+
+    /**
+     * Places the whole fleet on an empty board.
+     *
+     * @return the filled board
+     */
+    @Benchmark
+    public IBoard placeFleet() {
+        IBoard board = newBoard();
+        for (IShip ship : fleet) {
+            board.placeShip(ship);
+        }
+        return board;
+    }
+
+    /**
+     * Places a freshly created fleet at random positions on an empty board.
+     *
+     * @return the filled board
+     */
+    @Benchmark
+    public IBoard sampleFleet() {
+        IBoard board = newBoard();
+        sampler.place(board, ShipFactory.createFleet(), random);
+        return board;
+    }
+
+    /**
+     * Looks up the ship at every coordinate of the board.
+     *
+     * @param blackhole sink for the results
+     */
+    @Benchmark
+    public void getShipAtEveryCell(Blackhole blackhole) {
+        for (Coordinate coordinate : coordinates) {
+            blackhole.consume(fullBoard.getShipAt(coordinate));
+        }
+    }
+
+    /**
+     * Creates an empty board of the selected implementation.
+     *
+     * @return a new board
+     */
+    private IBoard newBoard() {
+        return "bitboard".equals(implementation) ? BoardFactory.createBitBoard() : BoardFactory.createBoard();
+    }
+}
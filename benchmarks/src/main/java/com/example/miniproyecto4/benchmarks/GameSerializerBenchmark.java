@@ -0,0 +1,137 @@
+package com.example.miniproyecto4.benchmarks;
+
+import com.example.miniproyecto4.model.AI.RandomAIStrategy;
+import com.example.miniproyecto4.model.Game.GameStatus;
+import com.example.miniproyecto4.model.GameSave.BinaryGameSerializer;
+import com.example.miniproyecto4.model.GameSave.GameSerializer;
+import com.example.miniproyecto4.model.GameSave.ISerializer;
+import com.example.miniproyecto4.model.GameSave.SerializableGameData;
+import com.example.miniproyecto4.model.Player.ComputerPlayer;
+import com.example.miniproyecto4.model.Player.Player;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks saving and loading a mid-game state with {@link GameSerializer}
+ * (Java serialization) and {@link BinaryGameSerializer}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameSerializerBenchmark {
+
+    /**
+     * Save format under test.
+     */
+    @Param({"java", "binary"})
+    public String format;
+
+    /**
+     * Serializer under test.
+     */
+    private ISerializer serializer;
+
+    /**
+     * Mid-game state to save.
+     */
+    private SerializableGameData data;
+
+    /**
+     * Temporary save file for the round-trip benchmark.
+     */
+    private Path roundTripFile;
+
+    /**
+     * Temporary save file already holding the state, for the load benchmark.
+     */
+    private Path loadFile;
+
+    /**
+     * Builds a mid-game state with both fleets placed and 30 shots fired on each side.
+     *
+     * @throws IOException if the temporary files cannot be created
+     */
+    @Setup
+    public void setUp() throws IOException {
+        serializer = "binary".equals(format) ? new BinaryGameSerializer() : new GameSerializer();
+
+        Player human = new Player("benchmark");
+        ComputerPlayer computer = new ComputerPlayer();
+        BenchmarkFixtures.placeFleet(human.getBoard());
+        BenchmarkFixtures.placeFleet(computer.getBoard());
+        BenchmarkFixtures.playUntil(human.getBoard(), new RandomAIStrategy(), 30);
+        BenchmarkFixtures.playUntil(computer.getBoard(), new RandomAIStrategy(), 30);
+        data = new SerializableGameData(human, computer, GameStatus.PLAYING, true);
+
+        roundTripFile = Files.createTempFile("battleship-bench", ".ser");
+        loadFile = Files.createTempFile("battleship-bench-load", ".ser");
+        serializer.serialize(data, loadFile.toString());
+    }
+
+    /**
+     * Deletes the temporary files.
+     *
+     * @throws IOException if a file cannot be deleted
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(roundTripFile);
+        Files.deleteIfExists(loadFile);
+    }
+
+    /**
+     * Saves the state.
+     */
+    @Benchmark
+    public void serialize() {
+        serializer.serialize(data, roundTripFile.toString());
+    }
+
+    /**
+     * Loads a previously saved state.
+     *
+     * @return the loaded state
+     */
+    @Benchmark
+    public SerializableGameData deserialize() {
+        return serializer.deserialize(loadFile.toString());
+    }
+
+    /**
+     * Encodes the state in memory, without any disk I/O.
+     *
+     * @return the encoded bytes
+     */
+    @Benchmark
+    public byte[] encode() {
+        return serializer.encode(data);
+    }
+
+    /**
+     * Saves then loads the state.
+     *
+     * @return the loaded state
+     */
+    @Benchmark
+    public SerializableGameData roundTrip() {
+        serializer.serialize(data, roundTripFile.toString());
+        return serializer.deserialize(roundTripFile.toString());
+    }
+}
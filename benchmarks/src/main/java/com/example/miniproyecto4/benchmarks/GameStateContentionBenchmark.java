@@ -0,0 +1,155 @@
+package com.example.miniproyecto4.benchmarks;
+
+import com.example.miniproyecto4.model.AI.RandomAIStrategy;
+import com.example.miniproyecto4.model.Game.GameManager;
+import com.example.miniproyecto4.model.Game.GameStatus;
+import com.example.miniproyecto4.model.GameSave.GameRepository;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks reading the turn and status of a game while another thread keeps
+ * changing it, as the UI does while the AI plays. Three reader threads share
+ * one engine with a writer thread that switches turns.
+ * The {@code locked} implementation reproduces the previous engine, where
+ * every getter took the game lock; {@code published} is {@link GameManager},
+ * whose getters read its immutable game state.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class GameStateContentionBenchmark {
+
+    /**
+     * Engine implementation under test.
+     */
+    @Param({"locked", "published"})
+    public String implementation;
+
+    /**
+     * Engine whose getters read the published state.
+     */
+    private GameManager manager;
+
+    /**
+     * Engine whose getters take the lock.
+     */
+    private LockedGameState locked;
+
+    /**
+     * Creates the engine under test.
+     */
+    @Setup
+    public void setUp() {
+        manager = new GameManager(new GameRepository(), new RandomAIStrategy(), new Random(BenchmarkFixtures.SEED));
+        locked = new LockedGameState();
+    }
+
+    /**
+     * Reads the status and the turn, as the controller does on every click and AI step.
+     *
+     * @return true if the player may shoot
+     */
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(3)
+    public boolean read() {
+        if ("locked".equals(implementation)) {
+            return locked.getGameStatus() == GameStatus.SETUP && locked.isPlayerTurn();
+        }
+        return manager.getGameStatus() == GameStatus.SETUP && manager.isPlayerTurn();
+    }
+
+    /**
+     * Switches the turn, taking the write path.
+     */
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(1)
+    public void write() {
+        if ("locked".equals(implementation)) {
+            locked.switchTurn();
+        } else {
+            manager.switchTurn();
+        }
+    }
+
+    /**
+     * Turn and status guarded by a lock on every access, as the engine did
+     * before publishing immutable states.
+     */
+    private static final class LockedGameState {
+
+        /**
+         * Lock guarding every access.
+         */
+        private final ReentrantLock lock = new ReentrantLock();
+
+        /**
+         * Current game status.
+         */
+        private GameStatus gameStatus = GameStatus.SETUP;
+
+        /**
+         * True if it is the player's turn.
+         */
+        private boolean isPlayerTurn = true;
+
+        /**
+         * Returns the game status under the lock.
+         *
+         * @return the game status
+         */
+        GameStatus getGameStatus() {
+            lock.lock();
+            try {
+                return gameStatus;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Returns the turn under the lock.
+         *
+         * @return true if it is the player's turn
+         */
+        boolean isPlayerTurn() {
+            lock.lock();
+            try {
+                return isPlayerTurn;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Switches the turn under the lock.
+         */
+        void switchTurn() {
+            lock.lock();
+            try {
+                isPlayerTurn = !isPlayerTurn;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
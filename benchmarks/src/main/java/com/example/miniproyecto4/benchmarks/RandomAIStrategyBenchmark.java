@@ -0,0 +1,68 @@
+package com.example.miniproyecto4.benchmarks;
+
+import com.example.miniproyecto4.model.AI.RandomAIStrategy;
+import com.example.miniproyecto4.model.Board.BoardFactory;
+import com.example.miniproyecto4.model.Board.IBoard;
+import com.example.miniproyecto4.model.Cell.Coordinate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks hunt-mode target selection of {@link RandomAIStrategy} at
+ * different stages of a game.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RandomAIStrategyBenchmark {
+
+    /**
+     * Minimum number of shots fired before measuring: early, mid and late game.
+     */
+    @Param({"0", "30", "60"})
+    public int shotsFired;
+
+    /**
+     * Board under attack.
+     */
+    private IBoard board;
+
+    /**
+     * Strategy in hunt mode after the preparatory shots.
+     */
+    private RandomAIStrategy strategy;
+
+    /**
+     * Plays the preparatory shots.
+     */
+    @Setup
+    public void setUp() {
+        board = BoardFactory.createBoard();
+        BenchmarkFixtures.placeFleet(board);
+        strategy = new RandomAIStrategy();
+        BenchmarkFixtures.playUntil(board, strategy, shotsFired);
+    }
+
+    /**
+     * Selects the next target without firing it, so the state stays the same.
+     *
+     * @return the selected coordinate
+     */
+    @Benchmark
+    public Coordinate selectTarget() {
+        return strategy.selectTarget(board);
+    }
+}
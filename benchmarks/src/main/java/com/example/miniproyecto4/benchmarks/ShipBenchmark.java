@@ -0,0 +1,97 @@
+package com.example.miniproyecto4.benchmarks;
+
+import com.example.miniproyecto4.model.Cell.Coordinate;
+import com.example.miniproyecto4.model.Ship.IShip;
+import com.example.miniproyecto4.model.Ship.Ship;
+import com.example.miniproyecto4.model.Ship.ShipType;
+import com.example.miniproyecto4.model.Validation.Orientation;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks hit registration, the sunk check and geometry reads on a carrier.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ShipBenchmark {
+
+    /**
+     * Ship segments of a horizontal carrier at (3, 4).
+     */
+    private Coordinate[] segments;
+
+    /**
+     * Carrier with two segments already hit, for the read-only benchmarks.
+     */
+    private IShip damagedShip;
+
+    /**
+     * Builds the fixtures.
+     */
+    @Setup
+    public void setUp() {
+        damagedShip = new Ship(ShipType.CARRIER, Coordinate.of(3, 4), Orientation.HORIZONTAL);
+        segments = damagedShip.getCoordinates().toArray(new Coordinate[0]);
+        damagedShip.hit(segments[0]);
+        damagedShip.hit(segments[2]);
+    }
+
+    /**
+     * Positions a fresh carrier and sinks it segment by segment.
+     *
+     * @return whether the carrier ended sunk
+     */
+    @Benchmark
+    public boolean hitUntilSunk() {
+        IShip ship = new Ship(ShipType.CARRIER, Coordinate.of(3, 4), Orientation.HORIZONTAL);
+        for (Coordinate segment : segments) {
+            ship.hit(segment);
+        }
+        return ship.isSunk();
+    }
+
+    /**
+     * Repeats a hit on a segment that is already hit.
+     *
+     * @return the (false) hit result
+     */
+    @Benchmark
+    public boolean repeatedHit() {
+        return damagedShip.hit(segments[0]);
+    }
+
+    /**
+     * Checks whether a partially hit ship is sunk.
+     *
+     * @return the (false) sunk state
+     */
+    @Benchmark
+    public boolean isSunk() {
+        return damagedShip.isSunk();
+    }
+
+    /**
+     * Measures reading the geometry of a ship, as done by placement and the views.
+     *
+     * @return the last coordinate of the ship
+     */
+    @Benchmark
+    public Coordinate coordinates() {
+        List<Coordinate> coordinates = damagedShip.getCoordinates();
+        return coordinates.get(coordinates.size() - 1);
+    }
+}
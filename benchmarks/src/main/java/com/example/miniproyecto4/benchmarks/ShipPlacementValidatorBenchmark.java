@@ -0,0 +1,107 @@
+package com.example.miniproyecto4.benchmarks;
+
+import com.example.miniproyecto4.model.Board.BoardFactory;
+import com.example.miniproyecto4.model.Board.IBoard;
+import com.example.miniproyecto4.model.Cell.Coordinate;
+import com.example.miniproyecto4.model.Ship.IShip;
+import com.example.miniproyecto4.model.Ship.Ship;
+import com.example.miniproyecto4.model.Ship.ShipType;
+import com.example.miniproyecto4.model.Validation.Orientation;
+import com.example.miniproyecto4.model.Validation.ShipPlacementValidator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks placement validation against a board holding the seeded fleet.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ShipPlacementValidatorBenchmark {
+
+    /**
+     * Validator under test.
+     */
+    private ShipPlacementValidator validator;
+
+    /**
+     * Board holding the seeded fleet.
+     */
+    private IBoard board;
+
+    /**
+     * A ship that leaves the board.
+     */
+    private IShip outOfBounds;
+
+    /**
+     * A ship placed over a cell of the fleet.
+     */
+    private IShip overlapping;
+
+    /**
+     * A destroyer on free cells, which passes every check.
+     */
+    private IShip valid;
+
+    /**
+     * Builds the fixtures.
+     */
+    @Setup
+    public void setUp() {
+        validator = new ShipPlacementValidator();
+        board = BoardFactory.createBoard();
+        IShip carrier = BenchmarkFixtures.placeFleet(board).get(0);
+        outOfBounds = new Ship(ShipType.CARRIER, Coordinate.of(8, 8), Orientation.HORIZONTAL);
+        overlapping = new Ship(ShipType.CARRIER, carrier.getStartCoordinate(), carrier.getOrientation());
+
+        for (int index = 0; valid == null; index++) {
+            IShip ship = new Ship(ShipType.DESTROYER, Coordinate.ofIndex(index, board.getSize()), Orientation.VERTICAL);
+            if (validator.validate(board, ship)) {
+                valid = ship;
+            }
+        }
+    }
+
+    /**
+     * Validates a ship that fails the bounds check.
+     *
+     * @return the validation result
+     */
+    @Benchmark
+    public boolean validateOutOfBounds() {
+        return validator.validate(board, outOfBounds);
+    }
+
+    /**
+     * Validates a ship that fails the overlap check.
+     *
+     * @return the validation result
+     */
+    @Benchmark
+    public boolean validateOverlapping() {
+        return validator.validate(board, overlapping);
+    }
+
+    /**
+     * Validates a ship on free cells, walking every check.
+     *
+     * @return the validation result
+     */
+    @Benchmark
+    public boolean validateValid() {
+        return validator.validate(board, valid);
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.miniproyecto4;
 
 import com.example.miniproyecto4.view.Menu;
+import com.example.miniproyecto4.view.utils.ImageCache;
 import javafx.application.Application;
 import javafx.stage.Stage;
 
@@ -8,6 +9,7 @@ public class Main extends Application {
 
     @Override
     public void start(Stage primaryStage) {
+        ImageCache.preload();
         Menu menuView = new Menu();
         menuView.show();
     }
@@ -1,8 +1,8 @@
 package com.example.miniproyecto4.controller;
 import javafx.scene.layout.Pane;
 
-import com.example.miniproyecto4.model.Cell.Cell;
-import com.example.miniproyecto4.model.Cell.CellStatus;
+import com.example.miniproyecto4.model.AI.AIDifficulty;
+import com.example.miniproyecto4.model.AI.ThinkingBudget;
 import com.example.miniproyecto4.model.Cell.Coordinate;
 import com.example.miniproyecto4.model.Game.GameManager;
 import com.example.miniproyecto4.model.Game.GameStatus;
@@ -14,8 +14,8 @@ import com.example.miniproyecto4.view.Components.ShipImageView;
 import com.example.miniproyecto4.view.Lose;
 import com.example.miniproyecto4.view.Menu;
 import com.example.miniproyecto4.view.WinView;
-import com.example.miniproyecto4.view.Components.BoardView;
-import com.example.miniproyecto4.view.Components.CellView;
+import com.example.miniproyecto4.view.Components.BoardViewBinder;
+import com.example.miniproyecto4.view.Components.IBoardView;
 import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.control.Alert;
@@ -28,8 +28,6 @@ import javafx.stage.Stage;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -46,18 +44,29 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * </p>
  * <p>
  * The controller uses JavaFX's Platform.runLater() for thread-safe UI updates
- * and maintains a single-threaded executor service for AI operations to prevent
- * race conditions and ensure deterministic game behavior.
+ * and a {@link TurnScheduler} with a single worker thread for AI operations to
+ * prevent race conditions and ensure deterministic game behavior.
  * </p>
  *
  * @author Mini Proyecto 4 Team
  * @version 1.0
  * @see GameManager
- * @see BoardView
+ * @see IBoardView
  * @see IShip
  */
 public class GameController {
 
+    /**
+     * Difficulty of the computer player; sets the AI's thinking time per shot.
+     */
+    private static final AIDifficulty AI_DIFFICULTY = AIDifficulty.NORMAL;
+
+    /**
+     * Minimum time "Turno de la máquina..." stays on screen before the shot,
+     * so fast decisions remain readable.
+     */
+    private static final long MIN_THINKING_DISPLAY_MILLIS = 400;
+
     /**
      * Flag indicating whether the player is currently viewing enemy ships.
      * When true, enemy ships are visible on the board (cheat mode).
@@ -72,16 +81,17 @@ public class GameController {
     private final AtomicBoolean isProcessingComputerTurn = new AtomicBoolean(false);
 
     /**
-     * Single-threaded executor service for running AI computations in background.
-     * Configured as a daemon thread named "AI-Worker" to ensure proper shutdown
-     * when the application closes. This prevents UI freezing during AI thinking time.
+     * Scheduler running delayed computer turns on a daemon thread named "AI-Worker".
+     * The AI plans its shot while the delay is showing, so the UI never freezes
+     * and no thread sleeps; leaving the screen cancels every pending turn.
+     */
+    private final TurnScheduler turnScheduler = new TurnScheduler("AI-Worker");
+
+    /**
+     * Thinking budget of the computer turn in progress, cancelled when the
+     * screen is left so the AI stops thinking right away.
      */
-    private final ExecutorService aiExecutor = Executors.newSingleThreadExecutor(r -> {
-        Thread thread = new Thread(r);
-        thread.setDaemon(true);
-        thread.setName("AI-Worker");
-        return thread;
-    });
+    private volatile ThinkingBudget activeThinkingBudget;
 
     /**
      * Label displaying the current game status and turn information.
@@ -167,13 +177,25 @@ public class GameController {
      * Visual representation of the player's board (left side).
      * Displays player's ships, hits, misses, and sunk ships.
      */
-    private BoardView playerBoard;
+    private IBoardView playerBoard;
 
     /**
      * Visual representation of the enemy's board (right side).
      * Shows only the results of player's shots unless cheat mode is active.
      */
-    private BoardView enemyBoard;
+    private IBoardView enemyBoard;
+
+    /**
+     * Keeps the player's board view in sync with the player's board model.
+     * Null until game mode starts.
+     */
+    private BoardViewBinder playerBoardBinder;
+
+    /**
+     * Keeps the enemy's board view in sync with the computer's board model.
+     * Null until game mode starts.
+     */
+    private BoardViewBinder enemyBoardBinder;
 
     /**
      * List of ships in the player's fleet to be placed during setup.
@@ -261,7 +283,7 @@ public class GameController {
      */
     private void setupCursorShipPreview() {
         // Obtener el contenedor principal del juego
-        gameContainer = (Pane) playerBoard.getParent().getParent();
+        gameContainer = (Pane) playerBoard.asNode().getParent().getParent();
 
         if (gameContainer != null && currentShipIndex < playerFleet.size()) {
             IShip ship = playerFleet.get(currentShipIndex);
@@ -300,7 +322,7 @@ public class GameController {
      * @param playerBoard the visual representation of the player's board (left side)
      * @param enemyBoard the visual representation of the enemy's board (right side)
      */
-    public void setBoards(BoardView playerBoard, BoardView enemyBoard) {
+    public void setBoards(IBoardView playerBoard, IBoardView enemyBoard) {
         this.playerBoard = playerBoard;
         this.enemyBoard = enemyBoard;
 
@@ -323,7 +345,7 @@ public class GameController {
      * <p>
      * Performs cleanup operations including:
      * <ul>
-     * <li>Shutting down the AI executor service</li>
+     * <li>Cancelling pending computer turns and stopping the turn scheduler</li>
      * <li>Saving the game (if in progress)</li>
      * <li>Opening the main menu</li>
      * </ul>
@@ -338,7 +360,8 @@ public class GameController {
 
             Optional<ButtonType> result = alert.showAndWait();
             if (result.isPresent() && result.get() == ButtonType.OK) {
-                shutdownExecutor();
+                unbindBoards();
+                shutdownTurnScheduler();
                 openMenu();
             }
         } else {
@@ -349,39 +372,34 @@ public class GameController {
 
             Optional<ButtonType> result = alert.showAndWait();
             if (result.isPresent() && result.get() == ButtonType.OK) {
+                shutdownTurnScheduler();
                 gameManager.saveGame();
-                shutdownExecutor();
+                unbindBoards();
                 openMenu();
             }
         }
     }
 
     /**
-     * Shuts down the AI executor service gracefully with a 2-second timeout.
+     * Cancels every pending computer turn and stops the turn scheduler.
      * <p>
-     * Shutdown process:
-     * <ol>
-     * <li>Initiates graceful shutdown, allowing running tasks to complete</li>
-     * <li>Waits up to 2 seconds for termination</li>
-     * <li>Forces immediate shutdown if timeout is reached</li>
-     * <li>Restores interrupt status if interrupted during shutdown</li>
-     * </ol>
+     * Pending delays are dropped immediately instead of waiting for sleeping
+     * threads to wake up, and the AI's thinking budget is cancelled so a
+     * running decision returns at its next check. A planned but unfired shot
+     * stays in the game manager and is fired when the game continues.
      * </p>
      * <p>
      * This method should be called before closing the game window or
      * transitioning to another scene to prevent thread leaks.
      * </p>
      */
-    private void shutdownExecutor() {
-        aiExecutor.shutdown();
-        try {
-            if (!aiExecutor.awaitTermination(2, java.util.concurrent.TimeUnit.SECONDS)) {
-                aiExecutor.shutdownNow();
-            }
-        } catch (InterruptedException e) {
-            aiExecutor.shutdownNow();
-            Thread.currentThread().interrupt();
+    private void shutdownTurnScheduler() {
+        ThinkingBudget budget = activeThinkingBudget;
+        if (budget != null) {
+            budget.cancel();
         }
+        turnScheduler.shutdown();
+        isProcessingComputerTurn.set(false);
     }
 
     /**
@@ -389,7 +407,7 @@ public class GameController {
      * <p>
      * Creates a new Menu instance, displays it, and closes the current
      * game stage. This method assumes the game has been properly saved
-     * and the executor service has been shut down.
+     * and the turn scheduler has been shut down.
      * </p>
      */
     private void openMenu() {
@@ -438,7 +456,6 @@ public class GameController {
         }
 
         restorePlayerBoard();
-        restoreEnemyBoard();
         updatePlayerShips();
         updateEnemyShips();
 
@@ -453,82 +470,16 @@ public class GameController {
     }
 
     /**
-     * Restores the player's board from saved game state to its visual representation.
+     * Restores the ship graphics of the player's board from saved game state.
      * <p>
-     * Restoration includes:
-     * <ul>
-     * <li>Drawing all placed ships with their correct positions</li>
-     * <li>Marking cells that have been hit</li>
-     * <li>Marking cells that belong to sunk ships</li>
-     * <li>Marking all missed shots (water)</li>
-     * </ul>
-     * </p>
-     * <p>
-     * This method iterates through all ships first, then scans the entire
-     * board for miss markers to ensure complete state restoration.
+     * Hit, sunk and miss markers of both boards are not restored here: they
+     * arrive as one bulk delta when {@link #setupGameMode()} binds the views
+     * to the board models.
      * </p>
      */
     private void restorePlayerBoard() {
-        List<IShip> ships = gameManager.getHumanPlayer().getBoard().getShips();
-
-        for (IShip ship : ships) {
+        for (IShip ship : gameManager.getHumanPlayer().getBoard().getShips()) {
             playerBoard.drawContinuousShip(ship);
-
-            for (Coordinate coord : ship.getCoordinates()) {
-                Cell cell = gameManager.getHumanPlayer().getBoard().getCell(coord);
-
-                if (cell.getStatus() == CellStatus.SUNK) {
-                    playerBoard.markSunk(coord);
-                } else if (cell.getStatus() == CellStatus.HIT) {
-                    playerBoard.markHit(coord);
-                }
-            }
-        }
-
-        int size = gameManager.getHumanPlayer().getBoard().getSize();
-        for (int x = 0; x < size; x++) {
-            for (int y = 0; y < size; y++) {
-                Coordinate coord = new Coordinate(x, y);
-                Cell cell = gameManager.getHumanPlayer().getBoard().getCell(coord);
-
-                if (cell.getStatus() == CellStatus.MISS) {
-                    playerBoard.markMiss(coord);
-                }
-            }
-        }
-    }
-
-    /**
-     * Restores the enemy's board from saved game state to its visual representation.
-     * <p>
-     * Only restores the information visible to the player:
-     * <ul>
-     * <li>Cells marked as hit</li>
-     * <li>Cells marked as sunk</li>
-     * <li>Cells marked as miss (water)</li>
-     * </ul>
-     * </p>
-     * <p>
-     * Enemy ship positions are NOT restored visually (unless cheat mode was active).
-     * This maintains the fog of war aspect of the game.
-     * </p>
-     */
-    private void restoreEnemyBoard() {
-        int size = gameManager.getComputerPlayer().getBoard().getSize();
-
-        for (int x = 0; x < size; x++) {
-            for (int y = 0; y < size; y++) {
-                Coordinate coord = new Coordinate(x, y);
-                Cell cell = gameManager.getComputerPlayer().getBoard().getCell(coord);
-
-                if (cell.getStatus() == CellStatus.SUNK) {
-                    enemyBoard.markSunk(coord);
-                } else if (cell.getStatus() == CellStatus.HIT) {
-                    enemyBoard.markHit(coord);
-                } else if (cell.getStatus() == CellStatus.MISS) {
-                    enemyBoard.markMiss(coord);
-                }
-            }
         }
     }
 
@@ -561,17 +512,9 @@ public class GameController {
             backToMenuButton.setVisible(true);
         }
 
-        for (int x = 0; x < 10; x++) {
-            for (int y = 0; y < 10; y++) {
-                CellView cell = playerBoard.getCell(x, y);
-                final int finalX = x;
-                final int finalY = y;
-
-                cell.setOnMouseClicked(e -> handleCellClickPlacement(new Coordinate(finalX, finalY)));
-                cell.setOnMouseEntered(e -> showShipPreview(new Coordinate(finalX, finalY)));
-                cell.setOnMouseExited(e -> clearShipPreview());
-            }
-        }
+        playerBoard.setOnCellClicked(this::handleCellClickPlacement);
+        playerBoard.setOnCellEntered(this::showShipPreview);
+        playerBoard.setOnCellExited(c -> clearShipPreview());
 
         // AGREGAR ESTA LÍNEA AL FINAL:
         setupCursorShipPreview();
@@ -623,18 +566,15 @@ public class GameController {
         for (int i = 0; i < size; i++) {
             Coordinate previewCoord;
             if (currentOrientation == Orientation.HORIZONTAL) {
-                previewCoord = new Coordinate(coordinate.getX() + i, coordinate.getY());
+                previewCoord = Coordinate.of(coordinate.getX() + i, coordinate.getY());
             } else {
-                previewCoord = new Coordinate(coordinate.getX(), coordinate.getY() + i);
+                previewCoord = Coordinate.of(coordinate.getX(), coordinate.getY() + i);
             }
 
             if (previewCoord.getX() >= 0 && previewCoord.getX() < 10 &&
                     previewCoord.getY() >= 0 && previewCoord.getY() < 10) {
                 previewCoordinates.add(previewCoord);
-                CellView cell = playerBoard.getCell(previewCoord);
-                if (cell != null) {
-                    cell.showPreview(isValidPreviewCoordinate(previewCoord));
-                }
+                playerBoard.showPreview(previewCoord, isValidPreviewCoordinate(previewCoord));
             }
         }
     }
@@ -673,10 +613,7 @@ public class GameController {
      */
     private void clearShipPreview() {
         for (Coordinate coord : previewCoordinates) {
-            CellView cell = playerBoard.getCell(coord);
-            if (cell != null) {
-                cell.clearPreview();
-            }
+            playerBoard.clearPreview(coord);
         }
         previewCoordinates.clear();
     }
@@ -847,12 +784,8 @@ public class GameController {
     /**
      * Sets up game mode after the placement phase is complete.
      * <p>
-     * Configures all enemy board cells to accept shot clicks by:
-     * <ul>
-     * <li>Removing any existing event handlers</li>
-     * <li>Setting onMouseClicked handlers for each cell</li>
-     * <li>Capturing coordinates in final variables for lambda expressions</li>
-     * </ul>
+     * Configures the enemy board to accept shot clicks, passing the
+     * coordinate of the clicked cell to {@link #handleCellClickGame(Coordinate)}.
      * </p>
      * <p>
      * Player board cells remain non-interactive during gameplay to prevent
@@ -860,13 +793,32 @@ public class GameController {
      * </p>
      */
     private void setupGameMode() {
-        for (int x = 0; x < 10; x++) {
-            for (int y = 0; y < 10; y++) {
-                CellView cell = enemyBoard.getCell(x, y);
-                final int finalX = x;
-                final int finalY = y;
-                cell.setOnMouseClicked(e -> handleCellClickGame(new Coordinate(finalX, finalY)));
-            }
+        enemyBoard.setOnCellClicked(this::handleCellClickGame);
+        bindBoards();
+    }
+
+    /**
+     * Binds both board views to their board models.
+     * From then on every cell change in the model (shots, sunk ships) is
+     * repainted by the binders, and the current state is applied right away.
+     */
+    private void bindBoards() {
+        unbindBoards();
+        playerBoardBinder = BoardViewBinder.bind(gameManager.getHumanPlayer().getBoard(), playerBoard);
+        enemyBoardBinder = BoardViewBinder.bind(gameManager.getComputerPlayer().getBoard(), enemyBoard);
+    }
+
+    /**
+     * Disconnects the board views from the board models.
+     */
+    private void unbindBoards() {
+        if (playerBoardBinder != null) {
+            playerBoardBinder.unbind();
+            playerBoardBinder = null;
+        }
+        if (enemyBoardBinder != null) {
+            enemyBoardBinder.unbind();
+            enemyBoardBinder = null;
         }
     }
 
@@ -874,12 +826,13 @@ public class GameController {
      * Handles cell click during active gameplay (player shooting phase).
      * <p>
      * Validates the click is during player's turn and game is not over,
-     * then processes the shot through the game manager. Based on the result:
+     * then processes the shot through the game manager. The markers on the
+     * enemy board are repainted by its binder. Based on the result:
      * </p>
      * <ul>
-     * <li><b>WATER:</b> Marks miss, switches to computer turn with 500ms delay</li>
-     * <li><b>HIT:</b> Marks hit, player shoots again (no turn switch)</li>
-     * <li><b>SUNK:</b> Marks entire ship as sunk, checks for victory, player shoots again</li>
+     * <li><b>WATER:</b> Switches to computer turn with 500ms delay</li>
+     * <li><b>HIT:</b> Player shoots again (no turn switch)</li>
+     * <li><b>SUNK:</b> Checks for victory, player shoots again</li>
      * <li><b>INVALID:</b> Shows error message, no turn switch</li>
      * </ul>
      * <p>
@@ -897,18 +850,15 @@ public class GameController {
 
         switch (result) {
             case WATER:
-                enemyBoard.markMiss(coordinate);
                 statusLabel.setText("¡Agua! Turno de la máquina");
                 updateEnemyShips();
                 scheduleDelayedComputerTurn(500);
                 break;
             case HIT:
-                enemyBoard.markHit(coordinate);
                 statusLabel.setText("¡Tocado! Dispara de nuevo");
                 updateEnemyShips();
                 break;
             case SUNK:
-                markSunkShipOnBoard(gameManager.getComputerPlayer().getBoard(), coordinate, enemyBoard);
                 updateEnemyShips();
                 if (gameManager.hasWinner()) {
                     showWinScreen();
@@ -923,114 +873,79 @@ public class GameController {
     }
 
     /**
-     * Schedules a delayed computer turn execution using the AI executor service.
+     * Schedules the computer's turn with the turn scheduler.
      * <p>
-     * Uses a background thread to implement the delay without freezing the UI.
-     * After the specified delay, schedules the actual turn processing on the
-     * JavaFX Application Thread using Platform.runLater().
-     * </p>
-     * <p>
-     * The delay serves two purposes:
-     * <ul>
-     * <li>Makes AI behavior feel more natural and human-like</li>
-     * <li>Gives player time to process the previous turn result</li>
-     * </ul>
+     * The AI starts planning its shot right away on the worker thread, while
+     * the previous result stays on screen for {@code delayMillis} and
+     * "Turno de la máquina..." is then shown. Instead of a fixed pause, the AI
+     * gets the whole wait as real thinking time: its budget is the delay plus
+     * the thinking time of {@link #AI_DIFFICULTY}. The shot is fired as soon
+     * as the AI is done, but not before the message has been on screen for
+     * {@value #MIN_THINKING_DISPLAY_MILLIS} ms.
      * </p>
      * <p>
-     * If the thread is interrupted during the delay, the interrupt flag
-     * is restored and the turn is not processed.
+     * <b>Thread Safety:</b> Uses AtomicBoolean compareAndSet() so only one
+     * computer turn is pending or running at a time.
      * </p>
      *
-     * @param delayMillis delay in milliseconds before executing the computer turn
+     * @param delayMillis delay in milliseconds before the thinking message is shown
      */
     private void scheduleDelayedComputerTurn(long delayMillis) {
-        aiExecutor.submit(() -> {
-            try {
-                Thread.sleep(delayMillis);
-                Platform.runLater(this::processComputerTurn);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-        });
+        if (gameManager.hasWinner() || !isProcessingComputerTurn.compareAndSet(false, true)) {
+            return;
+        }
+
+        ThinkingBudget budget = AI_DIFFICULTY.newBudget(delayMillis);
+        activeThinkingBudget = budget;
+        turnScheduler.schedule(delayMillis, () -> Platform.runLater(() -> statusLabel.setText("Turno de la máquina...")));
+        turnScheduler.schedule(delayMillis + MIN_THINKING_DISPLAY_MILLIS,
+                () -> gameManager.planComputerShot(budget), planned -> processComputerTurn());
     }
 
     /**
-     * Processes the computer's turn with AI logic in a background thread.
+     * Fires the computer's planned shot on the worker thread and shows the result.
      * <p>
-     * This method is the core of the AI turn execution system. It:
-     * <ol>
-     * <li>Checks if game has winner or turn is already processing (atomic check-and-set)</li>
-     * <li>Updates status label to show "Turno de la máquina..."</li>
-     * <li>Submits AI computation to background thread with simulated thinking time</li>
-     * <li>Processes the shot through game manager</li>
-     * <li>Updates UI on JavaFX thread with results</li>
-     * <li>Resets processing flag in finally block to ensure proper cleanup</li>
-     * </ol>
-     * </p>
-     * <p>
-     * <b>Thread Safety:</b> Uses AtomicBoolean compareAndSet() to prevent race
-     * conditions where multiple computer turns could execute simultaneously.
-     * This is critical for maintaining game state consistency.
+     * The shot is processed through the game manager, which fires at the target
+     * planned while the delay was showing. The UI is then updated on the JavaFX
+     * thread. The processing flag is cleared before the result is handled, so
+     * the result handler can schedule the next computer turn.
      * </p>
      * <p>
-     * <b>Thinking Time:</b> Adds 800-1200ms random delay to simulate realistic
-     * AI decision making, improving user experience.
-     * </p>
-     * <p>
-     * <b>Error Handling:</b> Catches both InterruptedException and general
-     * exceptions, ensuring the processing flag is always reset even if
-     * an error occurs during shot processing.
+     * <b>Error Handling:</b> Catches runtime exceptions so the processing flag
+     * is always reset even if an error occurs during shot processing.
      * </p>
      */
     private void processComputerTurn() {
-        if (gameManager.hasWinner() || !isProcessingComputerTurn.compareAndSet(false, true)) {
-            return;
-        }
-
-        Platform.runLater(() -> statusLabel.setText("Turno de la máquina..."));
-
-        aiExecutor.submit(() -> {
-            try {
-                // Simulate thinking time for more realistic AI behavior
-                Thread.sleep(800 + (long)(Math.random() * 400));
-
-                // Process shot in background
-                final ShotResult result = gameManager.processComputerShot();
-                final Coordinate lastShot = gameManager.getLastComputerShot();
-
-                if (lastShot == null) {
-                    isProcessingComputerTurn.set(false);
-                    return;
-                }
+        try {
+            final ShotResult result = gameManager.processComputerShot();
+            final Coordinate lastShot = gameManager.getLastComputerShot();
 
-                // Update UI on JavaFX thread
-                Platform.runLater(() -> {
-                    try {
-                        handleComputerShotResult(result, lastShot);
-                    } finally {
-                        isProcessingComputerTurn.set(false);
-                    }
-                });
-
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                isProcessingComputerTurn.set(false);
-            } catch (Exception e) {
-                e.printStackTrace();
+            if (result == ShotResult.INVALID || lastShot == null) {
                 isProcessingComputerTurn.set(false);
+                return;
             }
-        });
+
+            // Update UI on JavaFX thread
+            Platform.runLater(() -> {
+                isProcessingComputerTurn.set(false);
+                handleComputerShotResult(result, lastShot);
+            });
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+            isProcessingComputerTurn.set(false);
+        }
     }
 
     /**
      * Handles the result of a computer shot and updates the UI accordingly.
      * <p>
+     * The markers on the player board are repainted by its binder.
      * Processes each shot result type:
      * </p>
      * <ul>
-     * <li><b>WATER:</b> Marks miss on player board, switches turn to player</li>
-     * <li><b>HIT:</b> Marks hit on player board, schedules next computer shot (1000ms delay)</li>
-     * <li><b>SUNK:</b> Marks entire ship as sunk, checks for game over, or continues (1500ms delay)</li>
+     * <li><b>WATER:</b> Switches turn to player</li>
+     * <li><b>HIT:</b> Schedules next computer shot (1000ms delay)</li>
+     * <li><b>SUNK:</b> Checks for game over, or continues (1500ms delay)</li>
      * </ul>
      * <p>
      * Updates player ship counter after each shot. Shows coordinate in
@@ -1047,18 +962,15 @@ public class GameController {
     private void handleComputerShotResult(ShotResult result, Coordinate lastShot) {
         switch (result) {
             case WATER:
-                playerBoard.markMiss(lastShot);
                 statusLabel.setText("La máquina falló en " + coordToString(lastShot) + " - Tu turno");
                 updatePlayerShips();
                 break;
             case HIT:
-                playerBoard.markHit(lastShot);
                 statusLabel.setText("¡La máquina te tocó en " + coordToString(lastShot) + "!");
                 updatePlayerShips();
                 scheduleDelayedComputerTurn(1000);
                 break;
             case SUNK:
-                markSunkShipOnBoard(gameManager.getHumanPlayer().getBoard(), lastShot, playerBoard);
                 updatePlayerShips();
                 if (gameManager.hasWinner()) {
                     showLoseScreen();
@@ -1097,42 +1009,12 @@ public class GameController {
         return letter + "" + number;
     }
 
-    /**
-     * Marks all cells of a sunk ship on the specified board view.
-     * <p>
-     * Process:
-     * <ol>
-     * <li>Retrieves the ship at the hit coordinate from the board model</li>
-     * <li>Verifies the ship is actually sunk (isSunk() returns true)</li>
-     * <li>Iterates through all ship coordinates</li>
-     * <li>Marks each coordinate as sunk on the visual board</li>
-     * </ol>
-     * </p>
-     * <p>
-     * This method handles both player and enemy boards, as indicated by
-     * the parameters. The visual marking helps distinguish sunk ships
-     * from merely hit ships.
-     * </p>
-     *
-     * @param board the game board model containing ship data
-     * @param hitCoord the coordinate where the final hit occurred
-     * @param boardView the visual board view to update with sunk markers
-     */
-    private void markSunkShipOnBoard(com.example.miniproyecto4.model.Board.IBoard board, Coordinate hitCoord, BoardView boardView) {
-        IShip ship = board.getShipAt(hitCoord);
-        if (ship != null && ship.isSunk()) {
-            for (Coordinate coord : ship.getCoordinates()) {
-                boardView.markSunk(coord);
-            }
-        }
-    }
-
     /**
      * Toggles the visibility of enemy ships on the enemy board.
      * <p>
      * <b>When hiding ships (isSeeingEnemyShips = false):</b>
      * <ul>
-     * <li>Draws all enemy ships with their graphics</li>
+     * <li>Shows all enemy ships, drawing them the first time</li>
      * <li>Sets flag to true</li>
      * <li>Changes button text to "Ocultar Barcos Enemigos"</li>
      * </ul>
@@ -1140,7 +1022,7 @@ public class GameController {
      * <p>
      * <b>When showing ships (isSeeingEnemyShips = true):</b>
      * <ul>
-     * <li>Removes ship graphics from board</li>
+     * <li>Hides the ship graphics without removing them</li>
      * <li>Sets flag to false</li>
      * <li>Changes button text to "Mostrar Barcos Enemigos"</li>
      * </ul>
@@ -1154,13 +1036,13 @@ public class GameController {
     private void handleShowEnemyBoard() {
         if (!isSeeingEnemyShips) {
             for (IShip ship : gameManager.getComputerPlayer().getBoard().getShips()) {
-                enemyBoard.drawContinuousShip(ship);
+                enemyBoard.setShipVisible(ship, true);
             }
             isSeeingEnemyShips = true;
             showEnemyBoardButton.setText("Ocultar Barcos Enemigos");
         } else {
             for (IShip ship : gameManager.getComputerPlayer().getBoard().getShips()) {
-                enemyBoard.removeShipGraphic(ship);
+                enemyBoard.setShipVisible(ship, false);
             }
             isSeeingEnemyShips = false;
             showEnemyBoardButton.setText("Mostrar Barcos Enemigos");
@@ -1230,7 +1112,7 @@ public class GameController {
      * </p>
      */
     private void updatePlayerShips() {
-        int total = gameManager.getHumanPlayer().getBoard().getShips().size();
+        int total = gameManager.getHumanPlayer().getBoard().getShipCount();
         int sunk = gameManager.getHumanPlayer().getBoard().getSunkShipsCount();
         int remaining = total - sunk;
         playerShipsLabel.setText("Tus barcos: " + remaining);
@@ -1255,7 +1137,7 @@ public class GameController {
      * </p>
      */
     private void updateEnemyShips() {
-        int total = gameManager.getComputerPlayer().getBoard().getShips().size();
+        int total = gameManager.getComputerPlayer().getBoard().getShipCount();
         int sunk = gameManager.getComputerPlayer().getBoard().getSunkShipsCount();
         int remaining = total - sunk;
         enemyShipsLabel.setText("Barcos enemigos: " + remaining);
@@ -1266,19 +1148,20 @@ public class GameController {
      * <p>
      * Victory sequence:
      * <ol>
-     * <li>Shuts down AI executor service to prevent memory leaks</li>
+     * <li>Shuts down the turn scheduler to prevent memory leaks</li>
      * <li>Creates and displays the WinView</li>
      * <li>Closes the current game stage</li>
      * </ol>
      * </p>
      * <p>
      * This method is called when all enemy ships have been sunk.
-     * The executor shutdown ensures all background threads are properly
+     * The scheduler shutdown ensures all background threads are properly
      * terminated before the window closes.
      * </p>
      */
     private void showWinScreen() {
-        shutdownExecutor();
+        unbindBoards();
+        shutdownTurnScheduler();
         WinView winView = new WinView();
         winView.show();
 
@@ -1291,19 +1174,20 @@ public class GameController {
      * <p>
      * Defeat sequence:
      * <ol>
-     * <li>Shuts down AI executor service to prevent memory leaks</li>
+     * <li>Shuts down the turn scheduler to prevent memory leaks</li>
      * <li>Creates and displays the Lose view</li>
      * <li>Closes the current game stage</li>
      * </ol>
      * </p>
      * <p>
      * This method is called when all player ships have been sunk.
-     * The executor shutdown ensures all background threads are properly
+     * The scheduler shutdown ensures all background threads are properly
      * terminated before the window closes.
      * </p>
      */
     private void showLoseScreen() {
-        shutdownExecutor();
+        unbindBoards();
+        shutdownTurnScheduler();
         Lose loseView = new Lose();
         loseView.show();
 
@@ -1314,7 +1198,7 @@ public class GameController {
     /**
      * Cleanup method to be called when the controller is being destroyed.
      * <p>
-     * Ensures proper resource cleanup by shutting down the AI executor service.
+     * Ensures proper resource cleanup by shutting down the turn scheduler.
      * This prevents thread leaks and ensures all background tasks are terminated.
      * </p>
      * <p>
@@ -1333,6 +1217,7 @@ public class GameController {
      * </p>
      */
     public void cleanup() {
-        shutdownExecutor();
+        unbindBoards();
+        shutdownTurnScheduler();
     }
 }
\ No newline at end of file
@@ -0,0 +1,189 @@
+package com.example.miniproyecto4.controller;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Schedules delayed computer turns without blocking a thread while waiting.
+ * <p>
+ * Delays are timers on a {@link ScheduledThreadPoolExecutor}, so no thread
+ * sleeps. A turn's computation starts as soon as the turn is scheduled and runs
+ * on a separate thread while the delay is showing, so a long computation never
+ * holds up a timer; the turn's action runs once both are done.
+ * Every scheduled task returns a {@link TurnHandle} that can cancel it, and
+ * {@link #cancelAll()} drops every pending task at once.
+ * </p>
+ */
+public class TurnScheduler {
+
+    /**
+     * Daemon thread running the timers and the actions.
+     */
+    private final ScheduledThreadPoolExecutor executor;
+
+    /**
+     * Daemon threads running the computations, created as needed.
+     */
+    private final ExecutorService computeExecutor;
+
+    /**
+     * Tasks that have been scheduled and have not finished or been cancelled.
+     */
+    private final Set<TurnHandle> pending = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Creates a scheduler with its own daemon worker thread and computation threads.
+     *
+     * @param threadName the name of the worker thread; computation threads add "-compute"
+     */
+    public TurnScheduler(String threadName) {
+        executor = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread thread = new Thread(r);
+            thread.setDaemon(true);
+            thread.setName(threadName);
+            return thread;
+        });
+        executor.setRemoveOnCancelPolicy(true);
+        computeExecutor = Executors.newCachedThreadPool(r -> {
+            Thread thread = new Thread(r);
+            thread.setDaemon(true);
+            thread.setName(threadName + "-compute");
+            return thread;
+        });
+    }
+
+    /**
+     * Runs an action on the worker thread after a delay.
+     *
+     * @param delayMillis the delay in milliseconds
+     * @param action the action to run
+     * @return the handle of the task
+     */
+    public TurnHandle schedule(long delayMillis, Runnable action) {
+        return schedule(delayMillis, () -> null, result -> action.run());
+    }
+
+    /**
+     * Starts a computation right away and passes its result to an action once
+     * the delay has also elapsed. The computation runs on a computation thread
+     * and the action on the worker thread. If the computation fails, the error
+     * is printed and the action receives null.
+     *
+     * @param delayMillis the minimum time in milliseconds before the action runs
+     * @param computation the work to do while the delay is showing
+     * @param action the action receiving the result of the computation
+     * @param <T> the type of the result
+     * @return the handle of the task
+     */
+    public <T> TurnHandle schedule(long delayMillis, Supplier<T> computation, Consumer<T> action) {
+        TurnHandle handle = new TurnHandle();
+        pending.add(handle);
+
+        CompletableFuture<Void> elapsed = new CompletableFuture<>();
+        handle.timer = executor.schedule(() -> elapsed.complete(null), delayMillis, TimeUnit.MILLISECONDS);
+        CompletableFuture<T> computed = CompletableFuture.supplyAsync(computation, computeExecutor);
+        handle.computation = computed;
+
+        computed.handle((result, error) -> {
+                    if (error != null && !handle.isCancelled()) {
+                        error.printStackTrace();
+                    }
+                    return result;
+                })
+                .thenCombine(elapsed, (T result, Void ignored) -> result)
+                .thenAcceptAsync(result -> {
+                    if (pending.remove(handle) && !handle.isCancelled()) {
+                        action.accept(result);
+                    }
+                }, executor);
+
+        return handle;
+    }
+
+    /**
+     * Cancels every pending task. Actions that already started are not interrupted.
+     */
+    public void cancelAll() {
+        for (TurnHandle handle : pending) {
+            handle.cancel();
+        }
+    }
+
+    /**
+     * Returns the number of tasks still waiting for their action to run.
+     *
+     * @return the pending task count
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Cancels every pending task and stops the worker and computation threads.
+     * Running computations are interrupted.
+     */
+    public void shutdown() {
+        cancelAll();
+        executor.shutdownNow();
+        computeExecutor.shutdownNow();
+    }
+
+    /**
+     * Handle of a scheduled task, used to cancel it.
+     */
+    public final class TurnHandle {
+
+        /**
+         * Timer completing the delay.
+         */
+        private volatile ScheduledFuture<?> timer;
+
+        /**
+         * The running or finished computation.
+         */
+        private volatile CompletableFuture<?> computation;
+
+        /**
+         * True once the task has been cancelled.
+         */
+        private volatile boolean cancelled;
+
+        /**
+         * Creates a handle; handles are only created by the scheduler.
+         */
+        private TurnHandle() {
+        }
+
+        /**
+         * Cancels the task. Its action will not run, and its timer is dropped.
+         * A computation that already started finishes, but its result is discarded.
+         */
+        public void cancel() {
+            cancelled = true;
+            pending.remove(this);
+            if (timer != null) {
+                timer.cancel(false);
+            }
+            if (computation != null) {
+                computation.cancel(false);
+            }
+        }
+
+        /**
+         * Checks if the task was cancelled.
+         *
+         * @return true if the task was cancelled
+         */
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.miniproyecto4.model.AI;
+
+/**
+ * Difficulty levels of the computer player, expressed as compute budgets.
+ * A harder level gives the AI strategy more thinking time per shot through
+ * {@link IAIStrategy#selectTarget(com.example.miniproyecto4.model.Board.IBoard, ThinkingBudget)};
+ * anytime strategies turn that time into a stronger shot.
+ */
+public enum AIDifficulty {
+    /**
+     * Short thinking time.
+     */
+    EASY(150, "Fácil"),
+
+    /**
+     * Thinking time close to the old fixed pause between computer shots.
+     */
+    NORMAL(1000, "Normal"),
+
+    /**
+     * Long thinking time.
+     */
+    HARD(2500, "Difícil");
+
+    /**
+     * Thinking time per shot in milliseconds.
+     */
+    private final long thinkingMillis;
+
+    /**
+     * Display name of the level in Spanish.
+     */
+    private final String displayName;
+
+    /**
+     * Constructor for AIDifficulty enum.
+     *
+     * @param thinkingMillis the thinking time per shot in milliseconds
+     * @param displayName the display name in Spanish
+     */
+    AIDifficulty(long thinkingMillis, String displayName) {
+        this.thinkingMillis = thinkingMillis;
+        this.displayName = displayName;
+    }
+
+    /**
+     * Gets the thinking time per shot.
+     *
+     * @return the thinking time in milliseconds
+     */
+    public long getThinkingMillis() {
+        return thinkingMillis;
+    }
+
+    /**
+     * Gets the display name of this level.
+     *
+     * @return the display name in Spanish
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Creates the thinking budget of one shot, starting now.
+     *
+     * @param extraMillis time added to the thinking time, for example a pause already running
+     * @return a budget ending after the thinking time plus the extra time
+     */
+    public ThinkingBudget newBudget(long extraMillis) {
+        long millis = extraMillis > Long.MAX_VALUE - thinkingMillis ? Long.MAX_VALUE : thinkingMillis + extraMillis;
+        return ThinkingBudget.ofMillis(millis);
+    }
+}
@@ -23,6 +23,18 @@ public abstract class AIStrategyAdapter implements IAIStrategy {
         return null;
     }
 
+    /**
+     * Default implementation that packs the result of {@link #selectTarget(IBoard)}.
+     *
+     * @param opponentBoard the opponent's board
+     * @return the packed index of the selected target, or -1 if there is none
+     */
+    @Override
+    public int selectTargetIndex(IBoard opponentBoard) {
+        Coordinate target = selectTarget(opponentBoard);
+        return target == null ? -1 : target.toIndex(opponentBoard.getSize());
+    }
+
     /**
      * Default empty implementation.
      * Subclasses should override this method to update their strategy based on shot results.
@@ -35,6 +47,18 @@ public abstract class AIStrategyAdapter implements IAIStrategy {
         // Default: do nothing
     }
 
+    /**
+     * Default empty implementation.
+     * Subclasses should override this method to update their strategy based on shot results.
+     *
+     * @param lastShotIndex the packed index of the last shot
+     * @param wasHit true if the shot was a hit, false if it was a miss
+     */
+    @Override
+    public void updateStrategy(int lastShotIndex, boolean wasHit) {
+        // Default: do nothing
+    }
+
     /**
      * Default empty implementation.
      * Subclasses should override this method to reset their internal state.
@@ -0,0 +1,259 @@
+package com.example.miniproyecto4.model.AI;
+
+import com.example.miniproyecto4.model.Board.IBoard;
+import com.example.miniproyecto4.model.Cell.Cell;
+import com.example.miniproyecto4.model.Ship.IShip;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable snapshot of what a shooter can know about the opponent's board.
+ * Cells are reduced to UNKNOWN (not shot yet), HIT (shot ship segment whose ship
+ * is still afloat) and BLOCKED (miss or sunk ship, no other ship can be there).
+ * Un-shot SHIP cells are reported as UNKNOWN so strategies never see hidden ships.
+ * Cells are addressed by packed index ({@code x * size + y}).
+ */
+final class BoardObservation {
+
+    /** Cell has not been shot yet. */
+    static final byte UNKNOWN = 0;
+
+    /** Cell was hit and belongs to a ship that is not sunk yet. */
+    static final byte HIT = 1;
+
+    /** Cell cannot hold a remaining ship (miss or sunk ship). */
+    static final byte BLOCKED = 2;
+
+    /** Side length of the observed board. */
+    private final int size;
+
+    /** Observed state of every cell by packed index. */
+    private final byte[] cells;
+
+    /** Sizes of the ships that are still afloat, largest first. */
+    private final int[] remainingSizes;
+
+    /** Packed indices of the HIT cells. */
+    private final int[] hitIndices;
+
+    /** Observed-state hash of the board, or 0 if the observation was not taken from a board. */
+    private final long hash;
+
+    /**
+     * Creates an observation from raw data, without a board hash.
+     *
+     * @param size the board size
+     * @param cells the observed state of every cell
+     * @param remainingSizes the sizes of the ships still afloat
+     */
+    BoardObservation(int size, byte[] cells, int[] remainingSizes) {
+        this(size, cells, remainingSizes, 0L);
+    }
+
+    /**
+     * Creates an observation from raw data.
+     *
+     * @param size the board size
+     * @param cells the observed state of every cell
+     * @param remainingSizes the sizes of the ships still afloat
+     * @param hash the observed-state hash of the board, or 0 if unknown
+     */
+    BoardObservation(int size, byte[] cells, int[] remainingSizes, long hash) {
+        this.size = size;
+        this.hash = hash;
+        this.cells = cells;
+        this.remainingSizes = remainingSizes.clone();
+        Arrays.sort(this.remainingSizes);
+        reverse(this.remainingSizes);
+
+        int hits = 0;
+        for (byte cell : cells) {
+            if (cell == HIT) {
+                hits++;
+            }
+        }
+        this.hitIndices = new int[hits];
+        for (int index = 0, next = 0; index < cells.length; index++) {
+            if (cells[index] == HIT) {
+                hitIndices[next++] = index;
+            }
+        }
+    }
+
+    /**
+     * Takes a snapshot of the given board.
+     * The fleet composition is read from the board's ship list, which only
+     * reveals what the player already knows (ship sizes and which ones sank).
+     *
+     * @param board the opponent's board
+     * @return the observation of the board
+     */
+    static BoardObservation of(IBoard board) {
+        int size = board.getSize();
+        byte[] cells = new byte[size * size];
+
+        for (int index = 0; index < cells.length; index++) {
+            Cell cell = board.getCell(index);
+            if (cell == null) {
+                cells[index] = BLOCKED;
+                continue;
+            }
+            switch (cell.getStatus()) {
+                case HIT:
+                    cells[index] = HIT;
+                    break;
+                case MISS:
+                case SUNK:
+                    cells[index] = BLOCKED;
+                    break;
+                default:
+                    cells[index] = UNKNOWN;
+                    break;
+            }
+        }
+
+        List<IShip> ships = board.getShips();
+        int afloat = 0;
+        for (IShip ship : ships) {
+            if (!ship.isSunk()) {
+                afloat++;
+            }
+        }
+        int[] remaining = new int[afloat];
+        int next = 0;
+        for (IShip ship : ships) {
+            if (!ship.isSunk()) {
+                remaining[next++] = ship.getSize();
+            }
+        }
+
+        return new BoardObservation(size, cells, remaining, board.getObservedHash());
+    }
+
+    /**
+     * Returns the side length of the observed board.
+     *
+     * @return the board size
+     */
+    int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the observed-state hash of the board the observation was taken from.
+     * Observations with equal non-zero hashes describe the same position.
+     *
+     * @return the hash, or 0 if the observation was built from raw data
+     */
+    long getHash() {
+        return hash;
+    }
+
+    /**
+     * Returns the number of cells on the observed board.
+     *
+     * @return the cell count
+     */
+    int getCellCount() {
+        return cells.length;
+    }
+
+    /**
+     * Returns the observed state of a cell.
+     *
+     * @param index packed cell index
+     * @return UNKNOWN, HIT or BLOCKED
+     */
+    int getState(int index) {
+        return cells[index];
+    }
+
+    /**
+     * Checks if a cell has not been shot yet.
+     *
+     * @param index packed cell index
+     * @return true if the cell can still be targeted
+     */
+    boolean isUnknown(int index) {
+        return cells[index] == UNKNOWN;
+    }
+
+    /**
+     * Returns the sizes of the ships still afloat, largest first.
+     *
+     * @return a copy of the remaining ship sizes
+     */
+    int[] getRemainingSizes() {
+        return remainingSizes.clone();
+    }
+
+    /**
+     * Returns the packed indices of the HIT cells.
+     *
+     * @return a copy of the hit indices
+     */
+    int[] getHitIndices() {
+        return hitIndices.clone();
+    }
+
+    /**
+     * Checks if a ship of the given size fits at the given position without
+     * leaving the board or crossing a BLOCKED cell.
+     *
+     * @param x starting x coordinate
+     * @param y starting y coordinate
+     * @param shipSize ship size
+     * @param horizontal placement orientation (true=horizontal, false=vertical)
+     * @return true if the placement is possible
+     */
+    boolean isOpenPlacement(int x, int y, int shipSize, boolean horizontal) {
+        int endX = horizontal ? x + shipSize - 1 : x;
+        int endY = horizontal ? y : y + shipSize - 1;
+        if (x < 0 || y < 0 || endX >= size || endY >= size) {
+            return false;
+        }
+        int step = horizontal ? size : 1;
+        for (int i = 0, index = x * size + y; i < shipSize; i++, index += step) {
+            if (cells[index] == BLOCKED) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Lists every open placement of a ship size, encoded as
+     * {@code start << 1 | (horizontal ? 1 : 0)}.
+     *
+     * @param shipSize ship size
+     * @return the encoded open placements
+     */
+    int[] openPlacements(int shipSize) {
+        int[] buffer = new int[size * size * 2];
+        int count = 0;
+        for (int x = 0; x < size; x++) {
+            for (int y = 0; y < size; y++) {
+                if (isOpenPlacement(x, y, shipSize, true)) {
+                    buffer[count++] = ((x * size + y) << 1) | 1;
+                }
+                if (shipSize > 1 && isOpenPlacement(x, y, shipSize, false)) {
+                    buffer[count++] = (x * size + y) << 1;
+                }
+            }
+        }
+        return Arrays.copyOf(buffer, count);
+    }
+
+    /**
+     * Reverses an array in place.
+     *
+     * @param values the array to reverse
+     */
+    private static void reverse(int[] values) {
+        for (int i = 0, j = values.length - 1; i < j; i++, j--) {
+            int tmp = values[i];
+            values[i] = values[j];
+            values[j] = tmp;
+        }
+    }
+}
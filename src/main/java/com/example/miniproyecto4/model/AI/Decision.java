@@ -0,0 +1,59 @@
+package com.example.miniproyecto4.model.AI;
+
+import com.example.miniproyecto4.model.Cell.Coordinate;
+
+/**
+ * Result of an anytime decision: the best target found within the
+ * {@link ThinkingBudget}, and how much work went into it.
+ */
+public final class Decision {
+
+    /** The chosen target, or null if no cell can be shot. */
+    private final Coordinate target;
+
+    /** Number of evaluations completed for the decision. */
+    private final long evaluations;
+
+    /** Time spent deciding, in nanoseconds. */
+    private final long elapsedNanos;
+
+    /**
+     * Creates a decision.
+     *
+     * @param target the chosen target, or null if no cell can be shot
+     * @param evaluations the number of evaluations completed
+     * @param elapsedNanos the time spent deciding, in nanoseconds
+     */
+    public Decision(Coordinate target, long evaluations, long elapsedNanos) {
+        this.target = target;
+        this.evaluations = evaluations;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Returns the chosen target.
+     *
+     * @return the target, or null if no cell can be shot
+     */
+    public Coordinate getTarget() {
+        return target;
+    }
+
+    /**
+     * Returns the number of evaluations completed for the decision.
+     *
+     * @return the evaluation count
+     */
+    public long getEvaluations() {
+        return evaluations;
+    }
+
+    /**
+     * Returns the time spent deciding.
+     *
+     * @return the elapsed time in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+}
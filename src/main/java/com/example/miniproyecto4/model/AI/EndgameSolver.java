@@ -0,0 +1,704 @@
+package com.example.miniproyecto4.model.AI;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Exact late-game solver. Enumerates every layout of the remaining fleet that
+ * is consistent with an observation and counts, for every cell, how many of
+ * those layouts put a ship on it. The unknown cell with the highest count has
+ * the highest exact hit probability.
+ * <p>
+ * A layout is consistent when no ship crosses a BLOCKED cell, ships do not
+ * overlap, every HIT cell is covered and no ship lies entirely on HIT cells
+ * (it would already have been reported as sunk). Ships are placed one at a
+ * time, largest first, as bit masks over the packed cell indices. Partial
+ * layouts that reach the same occupancy are merged into a single state keyed
+ * by a hash of that occupancy, so each distinct state is expanded once: a
+ * forward pass counts the ways to reach every state, remembering the
+ * placement edges between states, and a backward pass over those edges
+ * counts the ways to complete it. Ships of equal size are placed in
+ * increasing placement order, so every layout is counted exactly once.
+ * </p>
+ * <p>
+ * Enumeration stops once it has visited more than the node budget, in which
+ * case the caller is expected to fall back to a heuristic. Given a
+ * {@link ThinkingBudget}, the solver instead runs until that budget stops it,
+ * up to {@value #ANYTIME_NODE_LIMIT} placements, counting every visited
+ * placement as an evaluation.
+ * </p>
+ * <p>
+ * Results, including running out of budget, are cached by the observed board
+ * hash in a {@link TranspositionCache}, by default one shared by every solver
+ * in the JVM, so a position already solved in any game is not enumerated again.
+ * </p>
+ */
+final class EndgameSolver {
+
+    /** Default number of placements the solver may visit per decision. */
+    static final int DEFAULT_NODE_BUDGET = 5_000;
+
+    /** Most placements visited per decision under a thinking budget, which bounds memory. */
+    static final int ANYTIME_NODE_LIMIT = 1_000_000;
+
+    /** Placements visited between two thinking budget checks; a power of two. */
+    private static final int BUDGET_CHECK_INTERVAL = 256;
+
+    /** Number of positions kept by the shared cache. */
+    private static final int SHARED_CACHE_CAPACITY = 1 << 16;
+
+    /** Cache shared by every solver created with the default constructor. */
+    private static final TranspositionCache<long[]> SHARED_CACHE = new TranspositionCache<>(SHARED_CACHE_CAPACITY);
+
+    /** Cached marker of a position that exceeded the node budget. */
+    private static final long[] OVER_BUDGET = new long[0];
+
+    /**
+     * How far the overlap-free layout bound may exceed the node budget before
+     * enumeration is not even attempted. Overlaps and the hit constraint only
+     * prune a fraction of the bound, so larger ones would exhaust the budget anyway.
+     */
+    private static final int BOUND_SLACK = 4;
+
+    /** Maximum number of placements visited per decision. */
+    private final int nodeBudget;
+
+    /** Results by observed board hash, or null to always enumerate. */
+    private final TranspositionCache<long[]> cache;
+
+    /** Number of placements visited by the current decision. */
+    private int nodes;
+
+    /** Thinking budget of the current decision, or null to use the node budget. */
+    private ThinkingBudget thinking;
+
+    /**
+     * Creates a solver with the default node budget and the shared cache.
+     */
+    EndgameSolver() {
+        this(DEFAULT_NODE_BUDGET, SHARED_CACHE);
+    }
+
+    /**
+     * Creates a solver with the given node budget and no cache.
+     *
+     * @param nodeBudget maximum number of placements visited per decision
+     * @throws IllegalArgumentException if the budget is not positive
+     */
+    EndgameSolver(int nodeBudget) {
+        this(nodeBudget, null);
+    }
+
+    /**
+     * Creates a solver with the given node budget and cache.
+     *
+     * @param nodeBudget maximum number of placements visited per decision
+     * @param cache results by observed board hash, or null to always enumerate
+     * @throws IllegalArgumentException if the budget is not positive
+     */
+    EndgameSolver(int nodeBudget, TranspositionCache<long[]> cache) {
+        if (nodeBudget <= 0) {
+            throw new IllegalArgumentException("Node budget must be positive");
+        }
+        this.nodeBudget = nodeBudget;
+        this.cache = cache;
+    }
+
+    /**
+     * Selects the unknown cell covered by the most consistent layouts.
+     *
+     * @param observation the observed opponent board
+     * @param tieBreaker random source used to break ties between equally likely cells
+     * @return the packed index to shoot at, or -1 if the budget ran out or no layout is consistent
+     */
+    int selectIndex(BoardObservation observation, RandomGenerator tieBreaker) {
+        return pickBest(observation, countLayouts(observation), tieBreaker);
+    }
+
+    /**
+     * Selects the unknown cell covered by the most consistent layouts,
+     * enumerating until the thinking budget stops.
+     *
+     * @param observation the observed opponent board
+     * @param tieBreaker random source used to break ties between equally likely cells
+     * @param budget the thinking budget of the decision
+     * @return the packed index to shoot at, or -1 if the budget ran out or no layout is consistent
+     */
+    int selectIndex(BoardObservation observation, RandomGenerator tieBreaker, ThinkingBudget budget) {
+        return pickBest(observation, countLayouts(observation, budget), tieBreaker);
+    }
+
+    /**
+     * Picks the unknown cell with the highest layout count.
+     *
+     * @param observation the observed opponent board
+     * @param counts the per-cell counts and total, or null if the budget ran out
+     * @param tieBreaker random source used to break ties between equally likely cells
+     * @return the packed index to shoot at, or -1 if there are no counts or no layout is consistent
+     */
+    private int pickBest(BoardObservation observation, long[] counts, RandomGenerator tieBreaker) {
+        if (counts == null || counts[observation.getCellCount()] == 0) {
+            return -1;
+        }
+
+        int best = -1;
+        long bestCount = 0;
+        int ties = 0;
+        for (int index = 0; index < observation.getCellCount(); index++) {
+            if (!observation.isUnknown(index) || counts[index] == 0 || counts[index] < bestCount) {
+                continue;
+            }
+            if (counts[index] > bestCount) {
+                best = index;
+                bestCount = counts[index];
+                ties = 1;
+            } else if (tieBreaker.nextInt(++ties) == 0) {
+                best = index;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Counts the consistent layouts covering every cell, using the cache when
+     * the observation carries a board hash.
+     *
+     * @param observation the observed opponent board
+     * @return the layout count of every cell followed by the total layout count
+     *         in the last slot, or null if the node budget ran out; the array
+     *         may be shared through the cache and must not be modified
+     */
+    long[] countLayouts(BoardObservation observation) {
+        long key = observation.getHash();
+        if (cache == null || key == 0L) {
+            return enumerate(observation);
+        }
+
+        long[] counts = cache.get(key);
+        if (counts == null) {
+            counts = enumerate(observation);
+            cache.put(key, counts == null ? OVER_BUDGET : counts);
+        }
+        return counts == OVER_BUDGET ? null : counts;
+    }
+
+    /**
+     * Counts the consistent layouts covering every cell, enumerating until
+     * the thinking budget stops. A position cached as over the node budget
+     * is enumerated again, and only complete results are cached.
+     *
+     * @param observation the observed opponent board
+     * @param budget the thinking budget of the decision
+     * @return the layout count of every cell followed by the total layout count
+     *         in the last slot, or null if the budget stopped the enumeration;
+     *         the array may be shared through the cache and must not be modified
+     */
+    long[] countLayouts(BoardObservation observation, ThinkingBudget budget) {
+        long key = observation.getHash();
+        boolean cached = cache != null && key != 0L;
+        long[] counts = cached ? cache.get(key) : null;
+        if (counts != null && counts != OVER_BUDGET) {
+            return counts;
+        }
+
+        thinking = budget;
+        try {
+            counts = enumerate(observation);
+        } finally {
+            budget.recordEvaluations(nodes & (BUDGET_CHECK_INTERVAL - 1));
+            thinking = null;
+        }
+        if (cached && counts != null) {
+            cache.put(key, counts);
+        }
+        return counts;
+    }
+
+    /**
+     * Enumerates the consistent layouts and counts them per cell.
+     *
+     * @param observation the observed opponent board
+     * @return the per-cell counts and total, or null if the node budget ran out
+     */
+    private long[] enumerate(BoardObservation observation) {
+        nodes = 0;
+        int cellCount = observation.getCellCount();
+        long[] counts = new long[cellCount + 1];
+        int[] sizes = observation.getRemainingSizes();
+        if (sizes.length == 0) {
+            return counts;
+        }
+
+        Tables tables = new Tables(observation, sizes);
+        int nodeLimit = thinking == null ? nodeBudget : ANYTIME_NODE_LIMIT;
+        if (tables.layoutBound() > (long) nodeLimit * BOUND_SLACK) {
+            return null;
+        }
+        List<StateTable> layers = new ArrayList<>(sizes.length);
+        StateTable first = new StateTable();
+        long[] empty = new long[tables.words];
+        State root = first.intern(empty, empty, 0, tables.words, 0);
+        root.forward = 1;
+        layers.add(first);
+
+        // Forward pass: number of ways to reach every state of every ship but the last
+        for (int ship = 0; ship < sizes.length - 1; ship++) {
+            StateTable next = new StateTable();
+            for (State state : layers.get(ship).states) {
+                if (!expand(tables, ship, state, next)) {
+                    return null;
+                }
+            }
+            layers.add(next);
+        }
+
+        // The last ship closes the layouts, so its states never need to be stored
+        int last = sizes.length - 1;
+        for (State state : layers.get(last).states) {
+            if (!closeLayouts(tables, last, state, counts)) {
+                return null;
+            }
+        }
+
+        // Backward pass: number of ways to complete every state, and the cells each edge covers
+        for (int ship = last - 1; ship >= 0; ship--) {
+            for (State state : layers.get(ship).states) {
+                collect(tables, ship, state, counts);
+            }
+        }
+
+        counts[cellCount] = root.backward;
+        return counts;
+    }
+
+    /**
+     * Places one ship in every open position of a state and merges the results
+     * into the next layer.
+     *
+     * @param tables placement tables of the current decision
+     * @param ship index of the ship being placed
+     * @param state the state being expanded
+     * @param next the states of the next ship
+     * @return false if the node budget ran out
+     */
+    private boolean expand(Tables tables, int ship, State state, StateTable next) {
+        long[] masks = tables.masks[ship];
+        int words = tables.words;
+        int count = masks.length / words;
+        boolean nextSameSize = tables.sizes[ship + 1] == tables.sizes[ship];
+
+        for (int p = state.minPlacement; p < count; p++) {
+            if (overlaps(state.occupied, masks, p * words, words)) {
+                continue;
+            }
+            if (outOfBudget()) {
+                return false;
+            }
+
+            if (uncoveredHits(tables, state.occupied, masks, p * words) > tables.cellsFrom[ship + 1]) {
+                continue;
+            }
+
+            State successor = next.intern(state.occupied, masks, p * words, words, nextSameSize ? p + 1 : 0);
+            successor.forward += state.forward;
+            state.addEdge(p, successor);
+        }
+        return true;
+    }
+
+    /**
+     * Places the last ship in every open position of a state that covers all
+     * remaining hits, recording the completed layouts.
+     *
+     * @param tables placement tables of the current decision
+     * @param ship index of the last ship
+     * @param state the state being closed
+     * @param counts per-cell layout counts
+     * @return false if the node budget ran out
+     */
+    private boolean closeLayouts(Tables tables, int ship, State state, long[] counts) {
+        long[] masks = tables.masks[ship];
+        int[] cells = tables.cells[ship];
+        int words = tables.words;
+        int length = tables.sizes[ship];
+        int count = masks.length / words;
+
+        for (int p = state.minPlacement; p < count; p++) {
+            if (overlaps(state.occupied, masks, p * words, words)) {
+                continue;
+            }
+            if (outOfBudget()) {
+                return false;
+            }
+            if (!coversHits(tables, state.occupied, masks, p * words)) {
+                continue;
+            }
+            state.backward++;
+            for (int i = p * length, end = i + length; i < end; i++) {
+                counts[cells[i]] += state.forward;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Counts one more visited placement and checks the node budget, or the
+     * thinking budget when one is set.
+     *
+     * @return true if enumeration must stop
+     */
+    private boolean outOfBudget() {
+        nodes++;
+        if (thinking == null) {
+            return nodes > nodeBudget;
+        }
+        if ((nodes & (BUDGET_CHECK_INTERVAL - 1)) != 0) {
+            return false;
+        }
+        thinking.recordEvaluations(BUDGET_CHECK_INTERVAL);
+        return nodes > ANYTIME_NODE_LIMIT || thinking.shouldStop();
+    }
+
+    /**
+     * Sums the completions of every successor of a state and adds the layouts
+     * passing through each of its placements to the cell counts.
+     *
+     * @param tables placement tables of the current decision
+     * @param ship index of the ship being placed
+     * @param state the state being collected, with the completions of its successors known
+     * @param counts per-cell layout counts
+     */
+    private void collect(Tables tables, int ship, State state, long[] counts) {
+        int[] cells = tables.cells[ship];
+        int length = tables.sizes[ship];
+
+        for (int e = 0; e < state.edgeCount; e++) {
+            long completions = state.successors[e].backward;
+            if (completions == 0) {
+                continue;
+            }
+            state.backward += completions;
+            long layouts = state.forward * completions;
+            for (int i = state.placements[e] * length, end = i + length; i < end; i++) {
+                counts[cells[i]] += layouts;
+            }
+        }
+    }
+
+    /**
+     * Checks if a placement mask intersects an occupancy.
+     *
+     * @param occupied the occupancy words
+     * @param masks the placement masks of a ship
+     * @param offset first word of the placement
+     * @param words number of words per mask
+     * @return true if they share a cell
+     */
+    private static boolean overlaps(long[] occupied, long[] masks, int offset, int words) {
+        for (int w = 0; w < words; w++) {
+            if ((occupied[w] & masks[offset + w]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the union of an occupancy and a placement mask.
+     *
+     * @param occupied the occupancy words
+     * @param masks the placement masks of a ship
+     * @param offset first word of the placement
+     * @param words number of words per mask
+     * @return a new occupancy
+     */
+    private static long[] union(long[] occupied, long[] masks, int offset, int words) {
+        long[] result = new long[words];
+        for (int w = 0; w < words; w++) {
+            result[w] = occupied[w] | masks[offset + w];
+        }
+        return result;
+    }
+
+    /**
+     * Counts the HIT cells not covered by an occupancy plus one placement.
+     *
+     * @param tables placement tables of the current decision
+     * @param occupied the occupancy words
+     * @param masks the placement masks of a ship
+     * @param offset first word of the placement
+     * @return the number of uncovered hits
+     */
+    private static int uncoveredHits(Tables tables, long[] occupied, long[] masks, int offset) {
+        int uncovered = 0;
+        for (int w = 0; w < tables.words; w++) {
+            uncovered += Long.bitCount(tables.hits[w] & ~(occupied[w] | masks[offset + w]));
+        }
+        return uncovered;
+    }
+
+    /**
+     * Checks if an occupancy plus one placement covers every HIT cell.
+     *
+     * @param tables placement tables of the current decision
+     * @param occupied the occupancy words
+     * @param masks the placement masks of a ship
+     * @param offset first word of the placement
+     * @return true if no hit is left uncovered
+     */
+    private static boolean coversHits(Tables tables, long[] occupied, long[] masks, int offset) {
+        for (int w = 0; w < tables.words; w++) {
+            if ((tables.hits[w] & ~(occupied[w] | masks[offset + w])) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Placement tables of one decision. Placements of each remaining ship are
+     * stored as consecutive bit masks of {@code words} longs, along with the
+     * packed indices of their cells. Ships of equal size share arrays.
+     */
+    private static final class Tables {
+
+        /** Number of 64-bit words per mask. */
+        final int words;
+
+        /** Remaining ship sizes, largest first. */
+        final int[] sizes;
+
+        /** Total size of the ships from each index to the last one. */
+        final int[] cellsFrom;
+
+        /** Mask of the HIT cells. */
+        final long[] hits;
+
+        /** Placement masks per ship, {@code words} longs per placement. */
+        final long[][] masks;
+
+        /** Cell indices per ship, {@code size} entries per placement. */
+        final int[][] cells;
+
+        /**
+         * Builds the tables for an observation.
+         *
+         * @param observation the observed opponent board
+         * @param sizes the remaining ship sizes, largest first
+         */
+        Tables(BoardObservation observation, int[] sizes) {
+            int size = observation.getSize();
+            this.words = (observation.getCellCount() + 63) >>> 6;
+            this.sizes = sizes;
+            this.cellsFrom = new int[sizes.length + 1];
+            for (int ship = sizes.length - 1; ship >= 0; ship--) {
+                cellsFrom[ship] = cellsFrom[ship + 1] + sizes[ship];
+            }
+
+            this.hits = new long[words];
+            for (int hit : observation.getHitIndices()) {
+                hits[hit >>> 6] |= 1L << hit;
+            }
+
+            this.masks = new long[sizes.length][];
+            this.cells = new int[sizes.length][];
+            for (int ship = 0; ship < sizes.length; ship++) {
+                if (ship > 0 && sizes[ship] == sizes[ship - 1]) {
+                    masks[ship] = masks[ship - 1];
+                    cells[ship] = cells[ship - 1];
+                    continue;
+                }
+                int length = sizes[ship];
+                int[] open = observation.openPlacements(length);
+                long[] shipMasks = new long[open.length * words];
+                int[] shipCells = new int[open.length * length];
+                int kept = 0;
+                for (int encoded : open) {
+                    int start = encoded >>> 1;
+                    int step = (encoded & 1) == 1 ? size : 1;
+                    boolean allHits = true;
+                    for (int i = 0, index = start; i < length; i++, index += step) {
+                        shipMasks[kept * words + (index >>> 6)] |= 1L << index;
+                        shipCells[kept * length + i] = index;
+                        allHits &= observation.getState(index) == BoardObservation.HIT;
+                    }
+                    if (allHits) {
+                        Arrays.fill(shipMasks, kept * words, (kept + 1) * words, 0L);
+                    } else {
+                        kept++;
+                    }
+                }
+                masks[ship] = Arrays.copyOf(shipMasks, kept * words);
+                cells[ship] = Arrays.copyOf(shipCells, kept * length);
+            }
+        }
+
+        /**
+         * Bounds the number of layouts as if ships could overlap: the product of
+         * the placement counts, divided by the orderings of equal ships.
+         *
+         * @return the bound, saturated at {@link Long#MAX_VALUE}
+         */
+        long layoutBound() {
+            double bound = 1.0;
+            int equal = 0;
+            for (int ship = 0; ship < sizes.length; ship++) {
+                equal = ship > 0 && sizes[ship] == sizes[ship - 1] ? equal + 1 : 1;
+                bound = bound * (masks[ship].length / words) / equal;
+            }
+            return bound >= Long.MAX_VALUE ? Long.MAX_VALUE : (long) bound;
+        }
+    }
+
+    /**
+     * The states of one layer, interned by occupancy and placement bound in an
+     * open-addressing table so that merging a partial layout into an existing
+     * state allocates nothing. States are also listed in insertion order.
+     */
+    private static final class StateTable {
+
+        /** States of the layer in insertion order. */
+        final List<State> states = new ArrayList<>();
+
+        /** Hash slots, a power of two in length and at most half full. */
+        private State[] slots = new State[64];
+
+        /**
+         * Returns the state reached by adding one placement to an occupancy,
+         * creating it if it is new.
+         *
+         * @param occupied the occupancy words
+         * @param masks the placement masks of a ship
+         * @param offset first word of the placement
+         * @param words number of words per mask
+         * @param minPlacement first placement index the next ship may use
+         * @return the interned state
+         */
+        State intern(long[] occupied, long[] masks, int offset, int words, int minPlacement) {
+            long h = minPlacement * 0x9E3779B97F4A7C15L;
+            for (int w = 0; w < words; w++) {
+                h = (h ^ (occupied[w] | masks[offset + w])) * 0xBF58476D1CE4E5B9L;
+                h ^= h >>> 31;
+            }
+            int hash = (int) (h ^ (h >>> 32));
+
+            int mask = slots.length - 1;
+            for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+                State state = slots[slot];
+                if (state == null) {
+                    state = new State(union(occupied, masks, offset, words), minPlacement, hash);
+                    slots[slot] = state;
+                    states.add(state);
+                    if (states.size() * 2 > slots.length) {
+                        grow();
+                    }
+                    return state;
+                }
+                if (state.hash == hash && state.matches(occupied, masks, offset, minPlacement)) {
+                    return state;
+                }
+            }
+        }
+
+        /**
+         * Doubles the slot array and re-inserts every state.
+         */
+        private void grow() {
+            slots = new State[slots.length * 2];
+            int mask = slots.length - 1;
+            for (State state : states) {
+                int slot = state.hash & mask;
+                while (slots[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                slots[slot] = state;
+            }
+        }
+    }
+
+    /**
+     * A partial layout: the cells occupied by the ships placed so far and the
+     * first placement the next ship may use, with the counts and outgoing
+     * placement edges computed for it.
+     */
+    private static final class State {
+
+        /** Occupied cells as bit words. */
+        final long[] occupied;
+
+        /** First placement index the next ship may use. */
+        final int minPlacement;
+
+        /** Hash of the occupancy and placement bound. */
+        final int hash;
+
+        /** Number of ways to reach this state. */
+        long forward;
+
+        /** Number of ways to complete this state into a consistent layout. */
+        long backward;
+
+        /** Number of placements leading out of this state. */
+        int edgeCount;
+
+        /** Placement index of each outgoing edge. */
+        int[] placements;
+
+        /** State each outgoing edge leads to. */
+        State[] successors;
+
+        /**
+         * Creates a state.
+         *
+         * @param occupied occupied cells as bit words
+         * @param minPlacement first placement index the next ship may use
+         * @param hash hash of the occupancy and placement bound
+         */
+        State(long[] occupied, int minPlacement, int hash) {
+            this.occupied = occupied;
+            this.minPlacement = minPlacement;
+            this.hash = hash;
+        }
+
+        /**
+         * Checks if this state is the one reached by adding a placement to an occupancy.
+         *
+         * @param base the occupancy words
+         * @param masks the placement masks of a ship
+         * @param offset first word of the placement
+         * @param bound first placement index the next ship may use
+         * @return true if both the occupancy and the bound match
+         */
+        boolean matches(long[] base, long[] masks, int offset, int bound) {
+            if (minPlacement != bound) {
+                return false;
+            }
+            for (int w = 0; w < occupied.length; w++) {
+                if (occupied[w] != (base[w] | masks[offset + w])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Records a placement leading from this state to a successor.
+         *
+         * @param placement the placement index
+         * @param successor the state it leads to
+         */
+        void addEdge(int placement, State successor) {
+            if (placements == null) {
+                placements = new int[8];
+                successors = new State[8];
+            } else if (edgeCount == placements.length) {
+                placements = Arrays.copyOf(placements, edgeCount * 2);
+                successors = Arrays.copyOf(successors, edgeCount * 2);
+            }
+            placements[edgeCount] = placement;
+            successors[edgeCount++] = successor;
+        }
+    }
+}
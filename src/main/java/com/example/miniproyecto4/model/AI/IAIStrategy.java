@@ -2,6 +2,7 @@ package com.example.miniproyecto4.model.AI;
 
 import com.example.miniproyecto4.model.Board.IBoard;
 import com.example.miniproyecto4.model.Cell.Coordinate;
+import com.example.miniproyecto4.model.Shot.ShotAvailability;
 
 /**
  * Interface for AI strategy implementations.
@@ -17,6 +18,32 @@ public interface IAIStrategy {
      */
     Coordinate selectTarget(IBoard opponentBoard);
 
+    /**
+     * Selects the next target as a packed index ({@code x * size + y}).
+     *
+     * @param opponentBoard The opponent's board
+     * @return The packed index to shoot at, or -1 if no valid target exists
+     */
+    int selectTargetIndex(IBoard opponentBoard);
+
+    /**
+     * Selects the next target within a compute budget. Strategies that can
+     * refine their choice keep working until the budget stops them and then
+     * return the best target found so far; cancelling the budget from another
+     * thread makes them return early. The default makes one ordinary
+     * decision and counts it as a single evaluation.
+     *
+     * @param opponentBoard The opponent's board
+     * @param budget The deadline, evaluation limit and cancellation flag of the decision
+     * @return The decision, whose target is null if no valid target exists
+     */
+    default Decision selectTarget(IBoard opponentBoard, ThinkingBudget budget) {
+        long start = System.nanoTime();
+        Coordinate target = selectTarget(opponentBoard);
+        budget.recordEvaluations(1);
+        return new Decision(target, budget.getEvaluations(), System.nanoTime() - start);
+    }
+
     /**
      * Updates the strategy based on the result of the last shot.
      *
@@ -25,8 +52,26 @@ public interface IAIStrategy {
      */
     void updateStrategy(Coordinate lastShot, boolean wasHit);
 
+    /**
+     * Updates the strategy based on the result of the last shot given as a packed index.
+     *
+     * @param lastShotIndex The packed index ({@code x * size + y}) of the last shot
+     * @param wasHit true if the shot was a hit, false if it was a miss
+     */
+    void updateStrategy(int lastShotIndex, boolean wasHit);
+
     /**
      * Resets the strategy to its initial state.
      */
     void reset();
+
+    /**
+     * Shares the game engine's record of the cells that can still be shot.
+     * The engine marks each shot as taken before calling {@code updateStrategy}.
+     * Strategies that keep their own record may ignore it.
+     *
+     * @param availability the shot availability of the opponent's board
+     */
+    default void setShotAvailability(ShotAvailability availability) {
+    }
 }
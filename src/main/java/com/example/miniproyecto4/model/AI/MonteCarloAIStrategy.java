@@ -0,0 +1,636 @@
+package com.example.miniproyecto4.model.AI;
+
+import com.example.miniproyecto4.model.Board.IBoard;
+import com.example.miniproyecto4.model.Cell.Coordinate;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * AI strategy that estimates the hit probability of every cell by sampling
+ * random fleet layouts consistent with what has been observed on the
+ * opponent's board, then shoots the cell covered by the most layouts.
+ * <p>
+ * A layout is consistent when no ship crosses a known miss or sunk ship and
+ * every HIT cell is covered by some ship. Sampling fans out over a
+ * {@link ForkJoinPool}, each subtask drawing from its own
+ * {@link SplittableRandom} split, and stops at either the sample budget or
+ * the wall-clock deadline, whichever comes first. More cores therefore means
+ * more samples per decision and a sharper estimate.
+ * </p>
+ * <p>
+ * Estimates are cached by the observed board hash, by default in a
+ * {@link TranspositionCache} shared by every strategy in the JVM, so a
+ * position reached again, in this game or any other, is not sampled twice.
+ * </p>
+ * <p>
+ * As an anytime strategy
+ * ({@link #selectTarget(IBoard, ThinkingBudget)}), it keeps sampling in
+ * rounds until the thinking budget stops it, starting from any cached
+ * estimate of the position and caching the sharper one, so the whole
+ * thinking time goes into the shot.
+ * </p>
+ */
+public class MonteCarloAIStrategy extends AIStrategyAdapter {
+
+    /** Default number of layouts sampled per decision. */
+    public static final int DEFAULT_SAMPLE_BUDGET = 20000;
+
+    /** Default wall-clock limit per decision, in milliseconds. */
+    public static final long DEFAULT_TIME_LIMIT_MILLIS = 150;
+
+    /** Samples below which a task runs sequentially instead of splitting. */
+    private static final int SEQUENTIAL_THRESHOLD = 1024;
+
+    /** Random attempts to place one ship before the sample is discarded. */
+    private static final int PLACEMENT_ATTEMPTS = 32;
+
+    /** Samples drawn between two budget checks. */
+    private static final int BUDGET_CHECK_INTERVAL = 64;
+
+    /** Number of positions kept by the shared cache. */
+    private static final int SHARED_CACHE_CAPACITY = 1 << 14;
+
+    /** Estimate cache shared by the strategies that do not choose their own. */
+    private static final TranspositionCache<long[]> SHARED_CACHE = new TranspositionCache<>(SHARED_CACHE_CAPACITY);
+
+    /** Maximum number of layouts sampled per decision. */
+    private final int sampleBudget;
+
+    /** Wall-clock limit per decision, in milliseconds. */
+    private final long timeLimitMillis;
+
+    /** Pool the sampling tasks run on. */
+    private final ForkJoinPool pool;
+
+    /** Seed used to rebuild the random source on reset. */
+    private final long seed;
+
+    /** Estimates by observed board hash, or null to always sample. */
+    private final TranspositionCache<long[]> cache;
+
+    /** Root random source; each decision splits a fresh stream from it. */
+    private SplittableRandom random;
+
+    /**
+     * Creates a strategy with the default budget and time limit on the common pool.
+     */
+    public MonteCarloAIStrategy() {
+        this(DEFAULT_SAMPLE_BUDGET, DEFAULT_TIME_LIMIT_MILLIS);
+    }
+
+    /**
+     * Creates a strategy with the given budget and time limit on the common pool,
+     * using the shared estimate cache.
+     *
+     * @param sampleBudget maximum number of layouts sampled per decision
+     * @param timeLimitMillis wall-clock limit per decision, in milliseconds
+     */
+    public MonteCarloAIStrategy(int sampleBudget, long timeLimitMillis) {
+        this(sampleBudget, timeLimitMillis, ForkJoinPool.commonPool(), System.nanoTime(), SHARED_CACHE);
+    }
+
+    /**
+     * Creates a strategy with full control over its resources and no cache,
+     * so that play only depends on the seed.
+     *
+     * @param sampleBudget maximum number of layouts sampled per decision
+     * @param timeLimitMillis wall-clock limit per decision, in milliseconds
+     * @param pool the pool sampling tasks run on
+     * @param seed seed of the random source, for reproducible play
+     * @throws IllegalArgumentException if the budget or time limit is not positive
+     */
+    public MonteCarloAIStrategy(int sampleBudget, long timeLimitMillis, ForkJoinPool pool, long seed) {
+        this(sampleBudget, timeLimitMillis, pool, seed, null);
+    }
+
+    /**
+     * Creates a strategy with full control over its resources.
+     *
+     * @param sampleBudget maximum number of layouts sampled per decision
+     * @param timeLimitMillis wall-clock limit per decision, in milliseconds
+     * @param pool the pool sampling tasks run on
+     * @param seed seed of the random source
+     * @param cache estimates by observed board hash, possibly shared with other
+     *              strategies and threads, or null to always sample
+     * @throws IllegalArgumentException if the budget or time limit is not positive
+     */
+    public MonteCarloAIStrategy(int sampleBudget, long timeLimitMillis, ForkJoinPool pool, long seed,
+                                TranspositionCache<long[]> cache) {
+        if (sampleBudget <= 0 || timeLimitMillis <= 0) {
+            throw new IllegalArgumentException("Sample budget and time limit must be positive");
+        }
+        this.sampleBudget = sampleBudget;
+        this.timeLimitMillis = timeLimitMillis;
+        this.pool = pool;
+        this.seed = seed;
+        this.cache = cache;
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Selects the unknown cell covered by the most sampled layouts.
+     * Falls back to a cell next to a hit, or to any unknown cell, when no
+     * consistent layout could be sampled in time.
+     *
+     * @param opponentBoard the opponent's board
+     * @return the coordinate to shoot at, or null if every cell has been shot
+     */
+    @Override
+    public Coordinate selectTarget(IBoard opponentBoard) {
+        BoardObservation observation = BoardObservation.of(opponentBoard);
+        int index = selectIndex(observation);
+        return index < 0 ? null : Coordinate.ofIndex(index, observation.getSize());
+    }
+
+    /**
+     * Samples until the thinking budget stops it, then selects the unknown
+     * cell covered by the most layouts. Sampling fans out over the pool, so
+     * spare cores sharpen the estimate. Every sampled layout counts as one
+     * evaluation.
+     *
+     * @param opponentBoard the opponent's board
+     * @param budget the deadline, evaluation limit and cancellation flag of the decision
+     * @return the decision, whose target is null if every cell has been shot
+     */
+    @Override
+    public Decision selectTarget(IBoard opponentBoard, ThinkingBudget budget) {
+        long start = System.nanoTime();
+        BoardObservation observation = BoardObservation.of(opponentBoard);
+        SplittableRandom decisionRandom = nextDecisionRandom();
+
+        int index = choose(observation, refine(observation, budget, decisionRandom), decisionRandom);
+        Coordinate target = index < 0 ? null : Coordinate.ofIndex(index, observation.getSize());
+        return new Decision(target, budget.getEvaluations(), System.nanoTime() - start);
+    }
+
+    /**
+     * Selects the target for an observation as a packed index.
+     *
+     * @param observation the observed opponent board
+     * @return the packed index to shoot at, or -1 if every cell has been shot
+     */
+    int selectIndex(BoardObservation observation) {
+        SplittableRandom decisionRandom = nextDecisionRandom();
+        return choose(observation, estimate(observation, decisionRandom), decisionRandom);
+    }
+
+    /**
+     * Splits the random stream of one decision from the root source.
+     *
+     * @return the decision's random source
+     */
+    private synchronized SplittableRandom nextDecisionRandom() {
+        return random.split();
+    }
+
+    /**
+     * Picks the best cell of an estimate, or a fallback cell when the
+     * estimate accepted no layout.
+     *
+     * @param observation the observed opponent board
+     * @param counts coverage counts per cell plus the accepted layout count
+     * @param decisionRandom random source of the current decision
+     * @return the packed index to shoot at, or -1 if every cell has been shot
+     */
+    private int choose(BoardObservation observation, long[] counts, SplittableRandom decisionRandom) {
+        if (counts[observation.getCellCount()] > 0) {
+            int best = pickBest(observation, counts, decisionRandom);
+            if (best >= 0) {
+                return best;
+            }
+        }
+        return fallbackIndex(observation, decisionRandom);
+    }
+
+    /**
+     * Returns the cached estimate of a position, or samples and caches a new one.
+     * Estimates without any accepted layout are not cached.
+     *
+     * @param observation the observed opponent board
+     * @param decisionRandom random source of the current decision
+     * @return coverage counts per cell plus the accepted layout count; must not be modified
+     */
+    private long[] estimate(BoardObservation observation, SplittableRandom decisionRandom) {
+        long key = observation.getHash();
+        long[] counts = cache != null && key != 0L ? cache.get(key) : null;
+        if (counts != null) {
+            return counts;
+        }
+
+        SamplingTables tables = new SamplingTables(observation);
+        ThinkingBudget budget = ThinkingBudget.ofMillis(timeLimitMillis);
+        counts = pool.invoke(new SampleTask(tables, sampleBudget, decisionRandom.split(), budget));
+        if (cache != null && key != 0L && counts[observation.getCellCount()] > 0) {
+            cache.put(key, counts);
+        }
+        return counts;
+    }
+
+    /**
+     * Samples rounds of layouts until the budget stops, adding them to the
+     * cached estimate of the position if there is one, and caches the result.
+     * At least one round is started, and every round stops at the budget's
+     * next check, so a cancelled or expired budget returns promptly.
+     *
+     * @param observation the observed opponent board
+     * @param budget the thinking budget of the decision
+     * @param decisionRandom random source of the current decision
+     * @return coverage counts per cell plus the accepted layout count; must not be modified
+     */
+    private long[] refine(BoardObservation observation, ThinkingBudget budget, SplittableRandom decisionRandom) {
+        int cellCount = observation.getCellCount();
+        long key = observation.getHash();
+        boolean cached = cache != null && key != 0L;
+        long[] total = new long[cellCount + 1];
+
+        long[] previous = cached ? cache.get(key) : null;
+        if (previous != null) {
+            addCounts(total, previous);
+        }
+        if (observation.getRemainingSizes().length == 0) {
+            return total;
+        }
+
+        SamplingTables tables = new SamplingTables(observation);
+        do {
+            addCounts(total, pool.invoke(new SampleTask(tables, sampleBudget, decisionRandom.split(), budget)));
+        } while (!budget.shouldStop());
+
+        if (cached && total[cellCount] > 0) {
+            cache.put(key, total);
+        }
+        return total;
+    }
+
+    /**
+     * Adds the counts of one estimate to another.
+     *
+     * @param total the counts to add to
+     * @param counts the counts to add
+     */
+    private static void addCounts(long[] total, long[] counts) {
+        for (int i = 0; i < total.length; i++) {
+            total[i] += counts[i];
+        }
+    }
+
+    /**
+     * Picks the unknown cell with the highest count, breaking ties uniformly.
+     *
+     * @param observation the observed opponent board
+     * @param counts layout counts per cell
+     * @param tieBreaker random source for ties
+     * @return the best packed index, or -1 if no unknown cell was ever covered
+     */
+    private int pickBest(BoardObservation observation, long[] counts, SplittableRandom tieBreaker) {
+        int best = -1;
+        long bestCount = 0;
+        int ties = 0;
+        for (int index = 0; index < observation.getCellCount(); index++) {
+            if (!observation.isUnknown(index) || counts[index] < bestCount || counts[index] == 0) {
+                continue;
+            }
+            if (counts[index] > bestCount) {
+                best = index;
+                bestCount = counts[index];
+                ties = 1;
+            } else if (tieBreaker.nextInt(++ties) == 0) {
+                best = index;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Chooses a target without sampling: an unknown cell next to a hit if any,
+     * otherwise a uniformly random unknown cell.
+     *
+     * @param observation the observed opponent board
+     * @param fallbackRandom random source
+     * @return the packed index to shoot at, or -1 if every cell has been shot
+     */
+    private int fallbackIndex(BoardObservation observation, SplittableRandom fallbackRandom) {
+        int size = observation.getSize();
+        for (int hit : observation.getHitIndices()) {
+            int x = hit / size;
+            int y = hit % size;
+            int[][] neighbours = {{x - 1, y}, {x + 1, y}, {x, y - 1}, {x, y + 1}};
+            for (int[] n : neighbours) {
+                if (n[0] >= 0 && n[0] < size && n[1] >= 0 && n[1] < size
+                        && observation.isUnknown(n[0] * size + n[1])) {
+                    return n[0] * size + n[1];
+                }
+            }
+        }
+
+        int chosen = -1;
+        int seen = 0;
+        for (int index = 0; index < observation.getCellCount(); index++) {
+            if (observation.isUnknown(index) && fallbackRandom.nextInt(++seen) == 0) {
+                chosen = index;
+            }
+        }
+        return chosen;
+    }
+
+    /**
+     * Restarts the random source from the configured seed.
+     */
+    @Override
+    public synchronized void reset() {
+        random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Placement tables shared by every sampling task of one decision.
+     * Placements are encoded as {@code start << 1 | (horizontal ? 1 : 0)}.
+     * Placements lying entirely on HIT cells are left out, since such a ship
+     * would already have been reported as sunk.
+     */
+    private static final class SamplingTables {
+
+        /** Board size. */
+        final int size;
+
+        /** Number of cells on the board. */
+        final int cellCount;
+
+        /** Remaining ship sizes, largest first. */
+        final int[] shipSizes;
+
+        /** Packed indices of the HIT cells. */
+        final int[] hits;
+
+        /** Open placements per remaining ship. */
+        final int[][] placements;
+
+        /** Open placements per remaining ship and per hit that cover that hit. */
+        final int[][][] covering;
+
+        /**
+         * Builds the tables for an observation. Ships of equal size share arrays.
+         *
+         * @param observation the observed opponent board
+         */
+        SamplingTables(BoardObservation observation) {
+            this.size = observation.getSize();
+            this.cellCount = observation.getCellCount();
+            this.shipSizes = observation.getRemainingSizes();
+            this.hits = observation.getHitIndices();
+            this.placements = new int[shipSizes.length][];
+            this.covering = new int[shipSizes.length][][];
+
+            for (int ship = 0; ship < shipSizes.length; ship++) {
+                if (ship > 0 && shipSizes[ship] == shipSizes[ship - 1]) {
+                    placements[ship] = placements[ship - 1];
+                    covering[ship] = covering[ship - 1];
+                    continue;
+                }
+                placements[ship] = withoutHitOnly(observation, observation.openPlacements(shipSizes[ship]), shipSizes[ship]);
+                covering[ship] = new int[hits.length][];
+                for (int h = 0; h < hits.length; h++) {
+                    covering[ship][h] = covering(placements[ship], shipSizes[ship], hits[h]);
+                }
+            }
+        }
+
+        /**
+         * Removes the placements whose every cell is a HIT.
+         *
+         * @param observation the observed opponent board
+         * @param candidates encoded open placements
+         * @param length ship size
+         * @return the remaining encoded placements
+         */
+        private int[] withoutHitOnly(BoardObservation observation, int[] candidates, int length) {
+            int[] kept = new int[candidates.length];
+            int count = 0;
+            for (int encoded : candidates) {
+                int start = encoded >>> 1;
+                int step = stepOf(encoded);
+                boolean allHits = true;
+                for (int i = 0, index = start; i < length && allHits; i++, index += step) {
+                    allHits = observation.getState(index) == BoardObservation.HIT;
+                }
+                if (!allHits) {
+                    kept[count++] = encoded;
+                }
+            }
+            return java.util.Arrays.copyOf(kept, count);
+        }
+
+        /**
+         * Filters the placements that cover a given cell.
+         *
+         * @param candidates encoded placements
+         * @param length ship size
+         * @param cell packed index that must be covered
+         * @return the encoded placements covering the cell
+         */
+        private int[] covering(int[] candidates, int length, int cell) {
+            int[] kept = new int[candidates.length];
+            int count = 0;
+            for (int encoded : candidates) {
+                int start = encoded >>> 1;
+                int step = stepOf(encoded);
+                int offset = cell - start;
+                if (offset >= 0 && offset % step == 0 && offset / step < length
+                        && (step == 1 ? start / size == cell / size : true)) {
+                    kept[count++] = encoded;
+                }
+            }
+            return java.util.Arrays.copyOf(kept, count);
+        }
+
+        /**
+         * Returns the index step between the segments of an encoded placement.
+         *
+         * @param encoded the encoded placement
+         * @return {@code size} for horizontal placements, 1 for vertical ones
+         */
+        int stepOf(int encoded) {
+            return (encoded & 1) == 1 ? size : 1;
+        }
+    }
+
+    /**
+     * Fork/join task sampling a share of the layouts.
+     * Returns the per-cell coverage counts followed by the number of accepted
+     * layouts in the last slot.
+     */
+    private static final class SampleTask extends RecursiveTask<long[]> {
+
+        /** Serial version UID for serialization compatibility. */
+        private static final long serialVersionUID = 1L;
+
+        /** Placement tables of the current decision. */
+        private final transient SamplingTables tables;
+
+        /** Number of layouts this task may sample. */
+        private final int budget;
+
+        /** Random stream owned by this task. */
+        private final transient SplittableRandom random;
+
+        /** Thinking budget of the decision, shared by every task. */
+        private final transient ThinkingBudget thinking;
+
+        /**
+         * Creates a sampling task.
+         *
+         * @param tables placement tables of the current decision
+         * @param budget number of layouts this task may sample
+         * @param random random stream owned by this task
+         * @param thinking thinking budget of the decision
+         */
+        SampleTask(SamplingTables tables, int budget, SplittableRandom random, ThinkingBudget thinking) {
+            this.tables = tables;
+            this.budget = budget;
+            this.random = random;
+            this.thinking = thinking;
+        }
+
+        /**
+         * Splits the budget in halves until it is small enough, then samples.
+         *
+         * @return coverage counts per cell plus the accepted layout count
+         */
+        @Override
+        protected long[] compute() {
+            if (budget <= SEQUENTIAL_THRESHOLD) {
+                return sample();
+            }
+
+            int half = budget / 2;
+            SampleTask left = new SampleTask(tables, half, random.split(), thinking);
+            left.fork();
+            long[] right = new SampleTask(tables, budget - half, random.split(), thinking).compute();
+            long[] merged = left.join();
+            for (int i = 0; i < merged.length; i++) {
+                merged[i] += right[i];
+            }
+            return merged;
+        }
+
+        /**
+         * Draws up to {@code budget} layouts sequentially, stopping early when
+         * the thinking budget does. Drawn layouts are recorded as evaluations.
+         *
+         * @return coverage counts per cell plus the accepted layout count
+         */
+        private long[] sample() {
+            int cellCount = tables.cellCount;
+            long[] counts = new long[cellCount + 1];
+            boolean[] occupied = new boolean[cellCount];
+            boolean[] placed = new boolean[tables.shipSizes.length];
+            int[] layout = new int[cellCount];
+
+            int drawn = 0;
+            int recorded = 0;
+            for (; drawn < budget; drawn++) {
+                if (drawn % BUDGET_CHECK_INTERVAL == 0) {
+                    thinking.recordEvaluations(drawn - recorded);
+                    recorded = drawn;
+                    if (thinking.shouldStop()) {
+                        break;
+                    }
+                }
+
+                int used = drawLayout(occupied, placed, layout);
+                boolean accepted = used >= 0;
+                int cells = accepted ? used : ~used;
+                for (int i = 0; i < cells; i++) {
+                    if (accepted) {
+                        counts[layout[i]]++;
+                    }
+                    occupied[layout[i]] = false;
+                }
+                java.util.Arrays.fill(placed, false);
+                if (accepted) {
+                    counts[cellCount]++;
+                }
+            }
+            thinking.recordEvaluations(drawn - recorded);
+            return counts;
+        }
+
+        /**
+         * Draws one layout. Every uncovered hit first receives a random ship
+         * through it, then the remaining ships go to random open positions.
+         *
+         * @param occupied scratch occupancy grid, all false on entry
+         * @param placed scratch flags of the ships already placed, all false on entry
+         * @param layout receives the occupied cell indices
+         * @return the number of occupied cells, or its bitwise complement if the draw failed
+         */
+        private int drawLayout(boolean[] occupied, boolean[] placed, int[] layout) {
+            int[] sizes = tables.shipSizes;
+            int[] hits = tables.hits;
+            int used = 0;
+
+            for (int h = 0; h < hits.length; h++) {
+                if (occupied[hits[h]]) {
+                    continue;
+                }
+                boolean covered = false;
+                for (int attempt = 0; attempt < PLACEMENT_ATTEMPTS && !covered; attempt++) {
+                    int ship = random.nextInt(sizes.length);
+                    int[] options = tables.covering[ship][h];
+                    if (placed[ship] || options.length == 0) {
+                        continue;
+                    }
+                    int next = place(options[random.nextInt(options.length)], sizes[ship], occupied, layout, used);
+                    if (next >= 0) {
+                        used = next;
+                        placed[ship] = true;
+                        covered = true;
+                    }
+                }
+                if (!covered) {
+                    return ~used;
+                }
+            }
+
+            for (int ship = 0; ship < sizes.length; ship++) {
+                int[] options = tables.placements[ship];
+                for (int attempt = 0; attempt < PLACEMENT_ATTEMPTS && !placed[ship] && options.length > 0; attempt++) {
+                    int next = place(options[random.nextInt(options.length)], sizes[ship], occupied, layout, used);
+                    if (next >= 0) {
+                        used = next;
+                        placed[ship] = true;
+                    }
+                }
+                if (!placed[ship]) {
+                    return ~used;
+                }
+            }
+            return used;
+        }
+
+        /**
+         * Places a ship if none of its cells is occupied yet.
+         *
+         * @param encoded the encoded placement
+         * @param length ship size
+         * @param occupied the occupancy grid
+         * @param layout the occupied cell indices
+         * @param used number of entries already in the layout
+         * @return the new number of layout entries, or -1 if the placement overlaps
+         */
+        private int place(int encoded, int length, boolean[] occupied, int[] layout, int used) {
+            int start = encoded >>> 1;
+            int step = tables.stepOf(encoded);
+            for (int i = 0, index = start; i < length; i++, index += step) {
+                if (occupied[index]) {
+                    return -1;
+                }
+            }
+            for (int i = 0, index = start; i < length; i++, index += step) {
+                occupied[index] = true;
+                layout[used++] = index;
+            }
+            return used;
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package com.example.miniproyecto4.model.AI;
+
+import com.example.miniproyecto4.model.Ship.IShip;
+import com.example.miniproyecto4.model.Ship.ShipFactory;
+import com.example.miniproyecto4.model.Utils.Constants;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Precomputed hunt-phase shots, read from a memory-mapped file.
+ * Until its first hit, a shooter only sees misses, and which misses it sees
+ * depends only on its own earlier shots, the fleet composition and the board
+ * size. The book maps the observed board hash
+ * ({@link com.example.miniproyecto4.model.Board.IBoard#getObservedHash()}) of
+ * those positions to the shot to take, so the AI can skip its live search.
+ * <p>
+ * File layout, big-endian: magic ("BSOB"), format version, board size,
+ * fleet signature, number of plies and number of entries, followed by the
+ * entries sorted by hash, each a 64-bit hash and a 16-bit packed cell index.
+ * Lookups binary-search the mapped file without copying it to the heap.
+ * </p>
+ * <p>
+ * A book is tied to the board size and to the fleet of
+ * {@link ShipFactory#createFleet()} it was generated for. {@link #load}
+ * returns the empty book for a file generated for another size or fleet,
+ * so changing either invalidates existing books automatically.
+ * </p>
+ */
+public final class OpeningBook {
+
+    /** Magic number identifying an opening book file ("BSOB"). */
+    static final int MAGIC = 0x42534F42;
+
+    /** Current version of the file layout. */
+    static final short FORMAT_VERSION = 1;
+
+    /** Bytes taken by the header: magic, version, board size, fleet signature, plies and entry count. */
+    private static final int HEADER_BYTES = 4 + 2 + 2 + 8 + 2 + 4;
+
+    /** Bytes taken by each entry: hash and packed cell index. */
+    private static final int ENTRY_BYTES = 8 + 2;
+
+    /** Book with no entries, used when no valid file is available. */
+    private static final OpeningBook EMPTY = new OpeningBook(ByteBuffer.allocate(0), 0, 0, 0);
+
+    /** Mapped entries, starting at offset 0. */
+    private final ByteBuffer entries;
+
+    /** Number of entries. */
+    private final int entryCount;
+
+    /** Board size the book was generated for. */
+    private final int boardSize;
+
+    /** Number of plies the book covers. */
+    private final int plies;
+
+    /**
+     * Creates a book over mapped entries.
+     *
+     * @param entries the entry bytes
+     * @param entryCount the number of entries
+     * @param boardSize the board size the book was generated for
+     * @param plies the number of plies the book covers
+     */
+    private OpeningBook(ByteBuffer entries, int entryCount, int boardSize, int plies) {
+        this.entries = entries;
+        this.entryCount = entryCount;
+        this.boardSize = boardSize;
+        this.plies = plies;
+    }
+
+    /**
+     * Returns the book with no entries.
+     *
+     * @return the empty book
+     */
+    public static OpeningBook empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns the book of the default file for the standard board, loaded on first use.
+     *
+     * @return the shared book, or the empty book if the file is missing or stale
+     */
+    public static OpeningBook shared() {
+        return SharedHolder.BOOK;
+    }
+
+    /**
+     * Maps a book file and checks it against the current fleet and the given board size.
+     *
+     * @param file the book file
+     * @param boardSize the size of the boards the book will be used on
+     * @return the book, or the empty book if the file is missing, unreadable,
+     *         malformed or generated for another board size or fleet
+     */
+    public static OpeningBook load(Path file, int boardSize) {
+        if (!Files.isRegularFile(file)) {
+            return EMPTY;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long length = channel.size();
+            if (length < HEADER_BYTES) {
+                return EMPTY;
+            }
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+            if (buffer.getInt() != MAGIC || buffer.getShort() != FORMAT_VERSION) {
+                return EMPTY;
+            }
+            int size = buffer.getShort();
+            long signature = buffer.getLong();
+            int plies = buffer.getShort();
+            int count = buffer.getInt();
+            if (size != boardSize || signature != fleetSignature(ShipFactory.createFleet(), size)
+                    || count < 0 || length != HEADER_BYTES + (long) count * ENTRY_BYTES) {
+                return EMPTY;
+            }
+            return new OpeningBook(buffer.slice(), count, size, plies);
+        } catch (IOException e) {
+            return EMPTY;
+        }
+    }
+
+    /**
+     * Writes a book file. The file is written next to its destination and
+     * then moved over it, so readers never map a partial book.
+     *
+     * @param file the book file
+     * @param boardSize the board size the book was generated for
+     * @param plies the number of plies the book covers
+     * @param keys the observed board hashes
+     * @param targets the packed cell index to shoot for each hash
+     * @throws IOException if the file cannot be written
+     * @throws IllegalArgumentException if the arrays differ in length
+     */
+    public static void write(Path file, int boardSize, int plies, long[] keys, int[] targets) throws IOException {
+        if (keys.length != targets.length) {
+            throw new IllegalArgumentException("Every key needs one target");
+        }
+
+        Integer[] order = new Integer[keys.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(keys[a], keys[b]));
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + keys.length * ENTRY_BYTES);
+        buffer.putInt(MAGIC);
+        buffer.putShort(FORMAT_VERSION);
+        buffer.putShort((short) boardSize);
+        buffer.putLong(fleetSignature(ShipFactory.createFleet(), boardSize));
+        buffer.putShort((short) plies);
+        buffer.putInt(keys.length);
+        for (int i : order) {
+            buffer.putLong(keys[i]);
+            buffer.putShort((short) targets[i]);
+        }
+        buffer.flip();
+
+        Path target = file.toAbsolutePath();
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+        try {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Computes the signature of a fleet on a board size: any change in the
+     * number of ships of some size, or in the board size, changes it.
+     *
+     * @param fleet the ships of the fleet
+     * @param boardSize the board size
+     * @return the 64-bit signature
+     */
+    public static long fleetSignature(List<IShip> fleet, int boardSize) {
+        int[] sizes = new int[fleet.size()];
+        for (int i = 0; i < sizes.length; i++) {
+            sizes[i] = fleet.get(i).getSize();
+        }
+        Arrays.sort(sizes);
+
+        long signature = 0x9E3779B97F4A7C15L * (boardSize + 1);
+        for (int size : sizes) {
+            signature = (signature ^ size) * 0xBF58476D1CE4E5B9L;
+            signature ^= signature >>> 31;
+        }
+        return signature;
+    }
+
+    /**
+     * Returns the shot stored for a position.
+     *
+     * @param observedHash the observed hash of the opponent's board
+     * @return the packed cell index to shoot, or -1 if the position is not in the book
+     */
+    public int lookup(long observedHash) {
+        int low = 0;
+        int high = entryCount - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            long key = entries.getLong(middle * ENTRY_BYTES);
+            if (key < observedHash) {
+                low = middle + 1;
+            } else if (key > observedHash) {
+                high = middle - 1;
+            } else {
+                return entries.getShort(middle * ENTRY_BYTES + 8);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the number of positions in the book.
+     *
+     * @return the entry count
+     */
+    public int size() {
+        return entryCount;
+    }
+
+    /**
+     * Returns the board size the book was generated for.
+     *
+     * @return the board size, or 0 for the empty book
+     */
+    public int getBoardSize() {
+        return boardSize;
+    }
+
+    /**
+     * Returns the number of plies the book covers.
+     *
+     * @return the number of plies
+     */
+    public int getPlies() {
+        return plies;
+    }
+
+    /**
+     * Holds the book of the default file, loaded when first requested.
+     */
+    private static final class SharedHolder {
+
+        /** The shared book. */
+        static final OpeningBook BOOK = load(Paths.get(Constants.OPENING_BOOK_FILE), Constants.BOARD_SIZE);
+    }
+}
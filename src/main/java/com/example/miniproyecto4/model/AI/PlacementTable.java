@@ -0,0 +1,141 @@
+package com.example.miniproyecto4.model.AI;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Every in-bounds placement of one ship size on one board size, precomputed.
+ * Placements are numbered, each lists the packed cells ({@code x * boardSize + y})
+ * it covers, and each cell lists the placements covering it. Strategies then
+ * visit exactly the placements a shot can affect, with no bounds checks.
+ * <p>
+ * Tables are immutable and shared: one instance exists per board size and
+ * ship size in the JVM.
+ * </p>
+ */
+final class PlacementTable {
+
+    /** Shared tables, keyed by board size and ship size. */
+    private static final ConcurrentMap<Long, PlacementTable> TABLES = new ConcurrentHashMap<>();
+
+    /** Ship size of the placements. */
+    private final int shipSize;
+
+    /** Cells of every placement, {@code shipSize} consecutive entries per placement. */
+    private final int[] cells;
+
+    /** Per packed cell, the placements covering it. */
+    private final int[][] placementsAt;
+
+    /**
+     * Builds the table of a ship size on a board size.
+     *
+     * @param boardSize the board side length
+     * @param shipSize the ship size
+     */
+    private PlacementTable(int boardSize, int shipSize) {
+        this.shipSize = shipSize;
+        int cellCount = boardSize * boardSize;
+        int lines = Math.max(0, boardSize - shipSize + 1);
+        int count = shipSize == 1 ? cellCount : 2 * lines * boardSize;
+        this.cells = new int[count * shipSize];
+
+        int[] coverCount = new int[cellCount];
+        int placement = 0;
+        for (int x = 0; x < boardSize; x++) {
+            for (int y = 0; y < boardSize; y++) {
+                if (x + shipSize <= boardSize) {
+                    placement = add(placement, x * boardSize + y, boardSize, coverCount);
+                }
+                // A frigate placed vertically covers the same cell as horizontally
+                if (shipSize > 1 && y + shipSize <= boardSize) {
+                    placement = add(placement, x * boardSize + y, 1, coverCount);
+                }
+            }
+        }
+
+        this.placementsAt = new int[cellCount][];
+        for (int index = 0; index < cellCount; index++) {
+            placementsAt[index] = new int[coverCount[index]];
+            coverCount[index] = 0;
+        }
+        for (placement = 0; placement < count; placement++) {
+            for (int i = 0; i < shipSize; i++) {
+                int index = cells[placement * shipSize + i];
+                placementsAt[index][coverCount[index]++] = placement;
+            }
+        }
+    }
+
+    /**
+     * Records one placement.
+     *
+     * @param placement the number of the placement
+     * @param start packed index of its first cell
+     * @param step index distance between consecutive cells
+     * @param coverCount running number of placements per cell
+     * @return the number of the next placement
+     */
+    private int add(int placement, int start, int step, int[] coverCount) {
+        for (int i = 0, index = start; i < shipSize; i++, index += step) {
+            cells[placement * shipSize + i] = index;
+            coverCount[index]++;
+        }
+        return placement + 1;
+    }
+
+    /**
+     * Returns the shared table of a ship size on a board size.
+     *
+     * @param boardSize the board side length
+     * @param shipSize the ship size
+     * @return the placement table
+     * @throws IllegalArgumentException if either size is not positive
+     */
+    static PlacementTable of(int boardSize, int shipSize) {
+        if (boardSize <= 0 || shipSize <= 0) {
+            throw new IllegalArgumentException("Board size and ship size must be positive");
+        }
+        return TABLES.computeIfAbsent(((long) boardSize << 32) | shipSize,
+                key -> new PlacementTable(boardSize, shipSize));
+    }
+
+    /**
+     * Returns the ship size of the placements.
+     *
+     * @return the ship size
+     */
+    int getShipSize() {
+        return shipSize;
+    }
+
+    /**
+     * Returns the number of placements.
+     *
+     * @return the placement count, 0 if the ship does not fit the board
+     */
+    int size() {
+        return cells.length / shipSize;
+    }
+
+    /**
+     * Returns a cell covered by a placement.
+     *
+     * @param placement the placement number
+     * @param offset the position along the ship, from 0 to the ship size
+     * @return the packed index of the cell
+     */
+    int cellOf(int placement, int offset) {
+        return cells[placement * shipSize + offset];
+    }
+
+    /**
+     * Returns the placements covering a cell. The returned array must not be modified.
+     *
+     * @param index the packed cell index
+     * @return the placement numbers
+     */
+    int[] placementsAt(int index) {
+        return placementsAt[index];
+    }
+}
@@ -4,8 +4,11 @@ import com.example.miniproyecto4.model.Board.IBoard;
 import com.example.miniproyecto4.model.Cell.Cell;
 import com.example.miniproyecto4.model.Cell.CellStatus;
 import com.example.miniproyecto4.model.Cell.Coordinate;
+import com.example.miniproyecto4.model.Ship.IShip;
+import com.example.miniproyecto4.model.Ship.ShipFactory;
+import com.example.miniproyecto4.model.Shot.ShotAvailability;
+import com.example.miniproyecto4.model.Utils.Constants;
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * Elite AI strategy implementation using military-grade battleship tactics.
@@ -15,21 +18,68 @@ import java.util.stream.Collectors;
  * <li>Hunt Mode - Optimal search patterns using parity and density mapping</li>
  * <li>Target Mode - AGGRESSIVE pursuit - stays on the ship until it's destroyed</li>
  * <li>Destroy Mode - Systematic elimination with directional attacks</li>
+ * <li>Opening Book - Precomputed hunt shots until the first hit</li>
+ * <li>Endgame Mode - Exact hit probabilities once few ships remain</li>
  * </ol>
  * <p>
  * Key Feature: Once a ship is hit, the AI will NOT leave it until it's completely sunk.
  * </p>
+ * <p>
+ * The board size and fleet come from the engine: the constructor takes them,
+ * and the strategy adapts to the size and fleet of the opponent board it is
+ * given. Placement tables are precomputed per ship size, so the density grid
+ * only ever visits legal placements of ships actually in the fleet.
+ * </p>
  *
  * @author Generated AI Strategy
  * @version 1.0
  */
 public class RandomAIStrategy implements IAIStrategy {
 
+    /** Maximum number of recent misses that penalize their neighbourhood. */
+    private static final int MAX_TRACKED_MISSES = 15;
+
+    /** Heat penalty per recent miss on or next to a cell. */
+    private static final double MISS_PENALTY = 3.0;
+
+    /** Ships afloat at or below which target selection switches to the exact endgame solver. */
+    private static final int ENDGAME_SHIP_LIMIT = 2;
+
+    /** Shots to wait after the endgame solver ran out of budget before trying it again. */
+    private static final int ENDGAME_RETRY_INTERVAL = 4;
+
+    /** Ships afloat at or below which the endgame solver is tried when a thinking budget is given. */
+    private static final int ANYTIME_ENDGAME_SHIP_LIMIT = 3;
+
     /** Random number generator for introducing controlled randomness in decisions. */
     private final Random random;
 
-    /** Set of coordinates that have not been targeted yet. */
-    private final Set<Coordinate> availableTargets;
+    /** Side length of the board the strategy plays on. */
+    private int boardSize;
+
+    /** Number of cells on the board. */
+    private int cellCount;
+
+    /** Number of ships of each size in the full fleet, indexed by size. */
+    private int[] fleetBySize;
+
+    /** Precomputed placements of each ship size in the fleet, null for absent sizes. */
+    private PlacementTable[] placements;
+
+    /** Per ship size, whether each placement is still open (crosses no miss or sunk cell). */
+    private boolean[][] placementOpen;
+
+    /** Center bias and edge penalty for each packed cell index. */
+    private double[] positionalBias;
+
+    /** Marks the packed indices ({@code x * boardSize + y}) that have already been targeted. */
+    private boolean[] targeted;
+
+    /** Number of cells that have not been targeted yet. */
+    private int availableCount;
+
+    /** Number of untargeted cells on the even checkerboard colour. */
+    private int availableParityCount;
 
     /** List of coordinates where ships have been hit but not yet sunk. */
     private final List<Coordinate> activeHits;
@@ -37,11 +87,26 @@ public class RandomAIStrategy implements IAIStrategy {
     /** Stack of prioritized targets to attack next. */
     private final Deque<Coordinate> targetStack;
 
-    /** Heat map storing probability scores for each coordinate. */
-    private final Map<Coordinate, Double> heatMap;
+    /** Marks cells no ship can occupy any more (known misses and sunk ship cells). */
+    private boolean[] blocked;
+
+    /** Hit cells that are not yet known to be sunk; checked against the board before hunting. */
+    private final List<Integer> unresolvedHits;
 
-    /** Set of recently missed coordinates to avoid clustering. */
-    private final Set<Coordinate> processedMisses;
+    /** Per ship size, the number of open placements covering each cell. */
+    private int[][] coverage;
+
+    /** Number of remaining ships of each size. */
+    private int[] sizeMultiplicity;
+
+    /** Placement density per cell: coverage weighted by the remaining ships of each size. */
+    private int[] density;
+
+    /** Number of tracked recent misses on or orthogonally next to each cell. */
+    private int[] missProximity;
+
+    /** Recently missed coordinates, oldest first, used to avoid clustering. */
+    private final Deque<Coordinate> processedMisses;
 
     /** Current operational mode of the AI. */
     private AIMode currentMode;
@@ -52,18 +117,30 @@ public class RandomAIStrategy implements IAIStrategy {
     /** Reference to the opponent's board for status checking. */
     private IBoard opponentBoard;
 
+    /** The game engine's record of cells that can still be shot, or null when playing headless. */
+    private ShotAvailability shotAvailability;
+
     /** Total number of shots taken by the AI. */
     private int totalShots;
 
     /** Number of successful hits achieved. */
     private int successfulHits;
 
-    /** List of remaining ship sizes that haven't been sunk yet. */
-    private final List<Integer> remainingShips;
-
     /** Flag to enable/disable parity optimization mode. */
     private boolean useParityMode;
 
+    /** Exact solver used once few ships remain afloat. */
+    private final EndgameSolver endgameSolver;
+
+    /** The endgame solver is only tried while at most this many cells are untargeted. */
+    private int endgameRetryAt;
+
+    /** Precomputed hunt shots, followed until the first hit. */
+    private OpeningBook openingBook;
+
+    /** Thinking budget of the anytime decision in progress, or null. */
+    private ThinkingBudget thinking;
+
     /**
      * AI operational modes for different tactical situations.
      */
@@ -93,38 +170,177 @@ public class RandomAIStrategy implements IAIStrategy {
     }
 
     /**
-     * Constructs a new RandomAIStrategy with initialized state.
-     * Sets up all necessary data structures and initializes the board targets.
+     * Constructs a new RandomAIStrategy for the standard board and the fleet
+     * of {@link ShipFactory#createFleet()}.
      */
     public RandomAIStrategy() {
+        this(Constants.BOARD_SIZE, ShipFactory.createFleet());
+    }
+
+    /**
+     * Constructs a new RandomAIStrategy for a board size and fleet.
+     * Sets up all necessary data structures and initializes the board targets.
+     *
+     * @param boardSize side length of the opponent board
+     * @param fleet the ships the opponent places
+     * @throws IllegalArgumentException if the board size is not positive
+     */
+    public RandomAIStrategy(int boardSize, List<IShip> fleet) {
+        if (boardSize <= 0) {
+            throw new IllegalArgumentException("Board size must be positive");
+        }
         this.random = new Random();
-        this.availableTargets = new HashSet<>();
         this.activeHits = new ArrayList<>();
         this.targetStack = new ArrayDeque<>();
-        this.heatMap = new HashMap<>();
-        this.processedMisses = new HashSet<>();
-        this.remainingShips = new ArrayList<>(Arrays.asList(5, 4, 3, 3, 2));
+        this.unresolvedHits = new ArrayList<>();
+        this.processedMisses = new ArrayDeque<>();
         this.currentMode = AIMode.HUNT;
         this.lockedOrientation = ShipOrientation.UNKNOWN;
         this.useParityMode = true;
+        this.endgameSolver = new EndgameSolver();
+        this.openingBook = OpeningBook.shared();
         this.totalShots = 0;
         this.successfulHits = 0;
+        configure(boardSize, countBySize(fleet));
+        this.endgameRetryAt = cellCount;
         initializeTargets();
+        initializeDensity();
+    }
+
+    /**
+     * Counts the ships of each size in a fleet.
+     *
+     * @param fleet the ships
+     * @return the number of ships indexed by size
+     */
+    private static int[] countBySize(List<IShip> fleet) {
+        int maxSize = 0;
+        for (IShip ship : fleet) {
+            maxSize = Math.max(maxSize, ship.getSize());
+        }
+        int[] counts = new int[maxSize + 1];
+        for (IShip ship : fleet) {
+            if (ship.getSize() > 0) {
+                counts[ship.getSize()]++;
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Sizes every per-cell structure for a board and loads the placement
+     * tables of the fleet's ship sizes. Game state must be reinitialized afterwards.
+     *
+     * @param size side length of the board
+     * @param fleet number of ships of each size
+     */
+    private void configure(int size, int[] fleet) {
+        this.boardSize = size;
+        this.cellCount = size * size;
+        this.fleetBySize = fleet;
+        this.placements = new PlacementTable[fleet.length];
+        this.placementOpen = new boolean[fleet.length][];
+        this.coverage = new int[fleet.length][];
+        for (int shipSize = 1; shipSize < fleet.length; shipSize++) {
+            if (fleet[shipSize] > 0) {
+                placements[shipSize] = PlacementTable.of(size, shipSize);
+                placementOpen[shipSize] = new boolean[placements[shipSize].size()];
+                coverage[shipSize] = new int[cellCount];
+            }
+        }
+        this.sizeMultiplicity = new int[fleet.length];
+        this.targeted = new boolean[cellCount];
+        this.blocked = new boolean[cellCount];
+        this.density = new int[cellCount];
+        this.missProximity = new int[cellCount];
+        this.positionalBias = computePositionalBias(size);
     }
 
     /**
-     * Initializes all available target coordinates on a 10x10 board.
-     * Populates the availableTargets set with all coordinates from (0,0) to (9,9).
+     * Adapts the strategy to the opponent board it is given for the first time.
+     * If the board's size or fleet differs from the configured ones, the
+     * tables are rebuilt and tracking restarts for that board. Ships the board
+     * already reports as sunk, for example in a loaded game, are removed.
+     *
+     * @param board the opponent's board
+     */
+    private void adaptTo(IBoard board) {
+        List<IShip> ships = board.getShips();
+        int[] fleet = ships.isEmpty() ? fleetBySize : countBySize(ships);
+        if (board.getSize() != boardSize || !Arrays.equals(fleet, fleetBySize)) {
+            configure(board.getSize(), fleet);
+            clearTracking();
+        }
+        syncRemainingShips(board);
+    }
+
+    /**
+     * Marks every cell of the board as available for targeting.
      */
     private void initializeTargets() {
-        availableTargets.clear();
-        for (int x = 0; x < 10; x++) {
-            for (int y = 0; y < 10; y++) {
-                availableTargets.add(new Coordinate(x, y));
+        Arrays.fill(targeted, false);
+        availableCount = cellCount;
+        availableParityCount = 0;
+        for (int index = 0; index < cellCount; index++) {
+            if (isEvenParity(index)) {
+                availableParityCount++;
             }
         }
     }
 
+    /**
+     * Builds the placement coverage tables and the density grid for an empty board.
+     * This is the only full recomputation; afterwards the grid is updated incrementally.
+     */
+    private void initializeDensity() {
+        Arrays.fill(blocked, false);
+        Arrays.fill(density, 0);
+        Arrays.fill(missProximity, 0);
+        System.arraycopy(fleetBySize, 0, sizeMultiplicity, 0, fleetBySize.length);
+        unresolvedHits.clear();
+
+        for (int size = 1; size < sizeMultiplicity.length; size++) {
+            if (sizeMultiplicity[size] == 0) {
+                continue;
+            }
+            PlacementTable table = placements[size];
+            int[] cells = coverage[size];
+            Arrays.fill(placementOpen[size], true);
+            for (int index = 0; index < cellCount; index++) {
+                cells[index] = table.placementsAt(index).length;
+                density[index] += cells[index] * sizeMultiplicity[size];
+            }
+        }
+    }
+
+    /**
+     * Computes the center bias and edge penalty of every cell.
+     *
+     * @param size side length of the board
+     * @return the positional bias indexed by packed cell index
+     */
+    private static double[] computePositionalBias(int size) {
+        double[] bias = new double[size * size];
+        int center = (size - 1) / 2;
+        for (int x = 0; x < size; x++) {
+            for (int y = 0; y < size; y++) {
+                double value = 0.0;
+
+                // Center bias
+                int centerDist = Math.abs(x - center) + Math.abs(y - center);
+                value += (size - centerDist) * 0.5;
+
+                // Edge penalty
+                if (x == 0 || x == size - 1 || y == 0 || y == size - 1) {
+                    value -= 2.0;
+                }
+
+                bias[x * size + y] = value;
+            }
+        }
+        return bias;
+    }
+
     /**
      * Selects the next target coordinate to attack based on current AI state.
      * Prioritizes pursuing active hits before entering hunt mode.
@@ -134,13 +350,28 @@ public class RandomAIStrategy implements IAIStrategy {
      */
     @Override
     public Coordinate selectTarget(IBoard opponentBoard) {
+        if (opponentBoard != this.opponentBoard) {
+            adaptTo(opponentBoard);
+        }
         this.opponentBoard = opponentBoard;
         totalShots++;
 
-        if (availableTargets.isEmpty()) {
+        if (availableCount == 0) {
             return null;
         }
 
+        // OPENING: nothing hit yet, follow the book while the position is in it
+        Coordinate openingTarget = selectOpeningTarget();
+        if (openingTarget != null) {
+            return openingTarget;
+        }
+
+        // ENDGAME: few ships left, shoot the cell with the highest exact hit probability
+        Coordinate endgameTarget = selectEndgameTarget();
+        if (endgameTarget != null) {
+            return endgameTarget;
+        }
+
         // CRITICAL: If we have active hits, we MUST pursue them
         if (!activeHits.isEmpty()) {
             Coordinate target = pursuActiveShip();
@@ -162,6 +393,87 @@ public class RandomAIStrategy implements IAIStrategy {
         return executeHuntMode();
     }
 
+    /**
+     * Selects the next target within a thinking budget. The decision is the
+     * same as {@link #selectTarget(IBoard)}, except that the exact endgame
+     * solver is tried with up to {@value #ANYTIME_ENDGAME_SHIP_LIMIT} ships
+     * afloat and enumerates until the budget stops it rather than giving up
+     * at its small node budget. Every visited placement counts as an
+     * evaluation, plus one for the decision itself.
+     *
+     * @param opponentBoard the opponent's board to analyze
+     * @param budget the deadline, evaluation limit and cancellation flag of the decision
+     * @return the decision, whose target is null if no targets are available
+     */
+    @Override
+    public Decision selectTarget(IBoard opponentBoard, ThinkingBudget budget) {
+        long start = System.nanoTime();
+        Coordinate target;
+        thinking = budget;
+        try {
+            target = selectTarget(opponentBoard);
+        } finally {
+            thinking = null;
+        }
+        budget.recordEvaluations(1);
+        return new Decision(target, budget.getEvaluations(), System.nanoTime() - start);
+    }
+
+    /**
+     * OPENING BOOK: Until the first hit the board only shows misses, so the
+     * position is fully described by its observed hash and can be looked up.
+     *
+     * @return the book shot for the current position, or null once a ship
+     *         was hit or the position is not in the book
+     */
+    private Coordinate selectOpeningTarget() {
+        if (successfulHits > 0 || openingBook.size() == 0) {
+            return null;
+        }
+        int index = openingBook.lookup(opponentBoard.getObservedHash());
+        if (index < 0 || index >= cellCount) {
+            return null;
+        }
+        Coordinate target = Coordinate.ofIndex(index, boardSize);
+        return isValidTarget(target) ? target : null;
+    }
+
+    /**
+     * ENDGAME MODE: Enumerates every layout of the remaining ships consistent
+     * with the board and picks the cell most of them cover.
+     * Only used once at most {@value #ENDGAME_SHIP_LIMIT} ships are afloat.
+     * When the solver runs out of budget it is not tried again for
+     * {@value #ENDGAME_RETRY_INTERVAL} shots, or until a ship sinks.
+     * During an anytime decision the solver runs on the thinking budget instead.
+     *
+     * @return the most likely cell to hold a ship, or null to fall back to
+     *         pursuit and hunting (too many ships left or node budget exceeded)
+     */
+    private Coordinate selectEndgameTarget() {
+        int afloat = opponentBoard.getShipCount() - opponentBoard.getSunkShipsCount();
+        if (thinking != null) {
+            if (afloat == 0 || afloat > ANYTIME_ENDGAME_SHIP_LIMIT || thinking.shouldStop()) {
+                return null;
+            }
+        } else if (afloat == 0 || afloat > ENDGAME_SHIP_LIMIT || availableCount > endgameRetryAt) {
+            return null;
+        }
+
+        BoardObservation observation = BoardObservation.of(opponentBoard);
+        int index = thinking != null
+                ? endgameSolver.selectIndex(observation, random, thinking)
+                : endgameSolver.selectIndex(observation, random);
+        if (index < 0) {
+            // Too many layouts left: wait for more shots to narrow them down
+            if (thinking == null) {
+                endgameRetryAt = availableCount - ENDGAME_RETRY_INTERVAL;
+            }
+            return null;
+        }
+        Coordinate target = Coordinate.ofIndex(index, observation.getSize());
+        return isValidTarget(target) ? target : null;
+    }
+
     /**
      * CRITICAL METHOD: Pursues the currently hit ship until it's completely sunk.
      * This ensures the AI doesn't abandon a partially destroyed ship.
@@ -261,9 +573,9 @@ public class RandomAIStrategy implements IAIStrategy {
         // Try extending from the last position (forward)
         Coordinate forward = null;
         if (lockedOrientation == ShipOrientation.HORIZONTAL) {
-            forward = new Coordinate(last.getX() + 1, last.getY());
+            forward = Coordinate.of(last.getX() + 1, last.getY());
         } else {
-            forward = new Coordinate(last.getX(), last.getY() + 1);
+            forward = Coordinate.of(last.getX(), last.getY() + 1);
         }
 
         if (isValidTarget(forward)) {
@@ -273,9 +585,9 @@ public class RandomAIStrategy implements IAIStrategy {
         // Try extending from the first position (backward)
         Coordinate backward = null;
         if (lockedOrientation == ShipOrientation.HORIZONTAL) {
-            backward = new Coordinate(first.getX() - 1, first.getY());
+            backward = Coordinate.of(first.getX() - 1, first.getY());
         } else {
-            backward = new Coordinate(first.getX(), first.getY() - 1);
+            backward = Coordinate.of(first.getX(), first.getY() - 1);
         }
 
         if (isValidTarget(backward)) {
@@ -297,81 +609,54 @@ public class RandomAIStrategy implements IAIStrategy {
      * HUNT MODE: Systematic search using optimal coverage patterns.
      * Only used when NO ships are currently being pursued.
      * <p>
-     * Uses probability density heat mapping and optional parity optimization
-     * to maximize the chances of finding enemy ships efficiently.
+     * Uses the incrementally maintained probability density and optional parity
+     * optimization to maximize the chances of finding enemy ships efficiently.
+     * The best candidates are kept in a small bounded buffer during a single pass,
+     * so no candidate list is built or sorted.
      *
      * @return optimal coordinate for hunting, or null if no candidates available
      */
     private Coordinate executeHuntMode() {
-        // Rebuild heat map
-        calculateHeatMap();
-
-        // Get candidates based on parity if applicable
-        List<Coordinate> candidates = new ArrayList<>();
+        syncSunkCells();
 
-        if (useParityMode && shouldUseParity()) {
-            // Use checkerboard pattern for efficiency
-            for (Coordinate coord : availableTargets) {
-                if ((coord.getX() + coord.getY()) % 2 == 0) {
-                    candidates.add(coord);
-                }
-            }
-        }
-
-        if (candidates.isEmpty()) {
-            candidates = new ArrayList<>(availableTargets);
-        }
+        // Use checkerboard pattern for efficiency when it still has candidates
+        boolean parity = useParityMode && shouldUseParity() && availableParityCount > 0;
+        int candidateCount = parity ? availableParityCount : availableCount;
 
-        if (candidates.isEmpty()) {
+        if (candidateCount == 0) {
             return null;
         }
 
-        // Score and sort candidates
-        List<ScoredTarget> scored = candidates.stream()
-                .map(c -> new ScoredTarget(c, heatMap.getOrDefault(c, 0.0)))
-                .sorted()
-                .collect(Collectors.toList());
-
         // Take top 3% for slight randomness
-        int topCount = Math.max(1, scored.size() / 33);
-        List<ScoredTarget> topTargets = scored.subList(0, Math.min(topCount, scored.size()));
-
-        return topTargets.get(random.nextInt(topTargets.size())).coord;
-    }
-
-    /**
-     * Scored target for priority comparison in hunt mode.
-     * Associates a coordinate with its probability score from the heat map.
-     */
-    private static class ScoredTarget implements Comparable<ScoredTarget> {
-        /** The coordinate being scored. */
-        final Coordinate coord;
+        int topCount = Math.max(1, candidateCount / 33);
+        int[] topIndices = new int[topCount];
+        double[] topScores = new double[topCount];
+        int filled = 0;
+
+        for (int index = 0; index < cellCount; index++) {
+            if (targeted[index] || (parity && !isEvenParity(index)) || !isShotAvailable(index)) {
+                continue;
+            }
 
-        /** The probability/priority score for this coordinate. */
-        final double score;
+            double heat = heatAt(index);
+            if (filled == topCount && heat <= topScores[filled - 1]) {
+                continue;
+            }
 
-        /**
-         * Constructs a new ScoredTarget.
-         *
-         * @param coord the coordinate
-         * @param score the probability score
-         */
-        ScoredTarget(Coordinate coord, double score) {
-            this.coord = coord;
-            this.score = score;
+            int position = filled < topCount ? filled++ : filled - 1;
+            while (position > 0 && topScores[position - 1] < heat) {
+                topScores[position] = topScores[position - 1];
+                topIndices[position] = topIndices[position - 1];
+                position--;
+            }
+            topScores[position] = heat;
+            topIndices[position] = index;
         }
 
-        /**
-         * Compares this target with another based on score.
-         * Higher scores are considered "less than" for descending sort order.
-         *
-         * @param other the other ScoredTarget to compare to
-         * @return negative if this score is higher, positive if lower, zero if equal
-         */
-        @Override
-        public int compareTo(ScoredTarget other) {
-            return Double.compare(other.score, this.score);
+        if (filled == 0) {
+            return null;
         }
+        return Coordinate.ofIndex(topIndices[random.nextInt(filled)], boardSize);
     }
 
     /**
@@ -382,8 +667,8 @@ public class RandomAIStrategy implements IAIStrategy {
      * @return true if parity optimization is beneficial, false otherwise
      */
     private boolean shouldUseParity() {
-        for (int size : remainingShips) {
-            if (size > 0 && size >= 3) {
+        for (int size = 3; size < sizeMultiplicity.length; size++) {
+            if (sizeMultiplicity[size] > 0) {
                 return true;
             }
         }
@@ -391,137 +676,179 @@ public class RandomAIStrategy implements IAIStrategy {
     }
 
     /**
-     * Calculates probability density heat map for all available targets.
-     * Uses sophisticated ship placement analysis considering:
-     * <ul>
-     * <li>All possible placements for remaining ships</li>
-     * <li>Strategic value modifiers (center bias, edge penalties)</li>
-     * <li>Proximity to known misses</li>
-     * </ul>
-     * The heat map guides the AI's hunting decisions.
+     * Returns the hunting heat of a cell.
+     * Combines the placement density of the remaining ships with the strategic
+     * modifiers: center bias, edge penalty and proximity to recent misses.
+     *
+     * @param index packed cell index
+     * @return the heat score of the cell
      */
-    private void calculateHeatMap() {
-        heatMap.clear();
-
-        for (Coordinate coord : availableTargets) {
-            double heat = 0.0;
+    private double heatAt(int index) {
+        return density[index] + positionalBias[index] - MISS_PENALTY * missProximity[index];
+    }
 
-            // Calculate for each remaining ship size
-            for (int shipSize : remainingShips) {
-                if (shipSize == 0) continue;
+    /**
+     * Marks a cell as unable to hold a ship and removes from the density grid
+     * every open placement crossing it. Only the precomputed placements
+     * covering the cell are visited.
+     *
+     * @param index packed cell index
+     */
+    private void blockCell(int index) {
+        if (blocked[index]) {
+            return;
+        }
 
-                // Try all possible placements containing this coordinate
-                heat += countValidPlacements(coord, shipSize, true);  // Horizontal
-                heat += countValidPlacements(coord, shipSize, false); // Vertical
+        for (int size = 1; size < sizeMultiplicity.length; size++) {
+            int weight = sizeMultiplicity[size];
+            if (weight == 0) {
+                continue;
+            }
+            PlacementTable table = placements[size];
+            boolean[] open = placementOpen[size];
+            int[] cells = coverage[size];
+            for (int placement : table.placementsAt(index)) {
+                if (!open[placement]) {
+                    continue;
+                }
+                open[placement] = false;
+                for (int offset = 0; offset < size; offset++) {
+                    int cell = table.cellOf(placement, offset);
+                    cells[cell]--;
+                    density[cell] -= weight;
+                }
             }
+        }
 
-            // Apply strategic modifiers
-            heat += calculateStrategicValue(coord);
+        blocked[index] = true;
+    }
 
-            heatMap.put(coord, heat);
+    /**
+     * Removes one remaining ship of the given size from the density grid.
+     *
+     * @param size size of the sunk ship
+     */
+    private void removeShipSize(int size) {
+        if (size <= 0 || size >= sizeMultiplicity.length || sizeMultiplicity[size] == 0) {
+            return;
+        }
+
+        int[] cells = coverage[size];
+        for (int index = 0; index < cellCount; index++) {
+            density[index] -= cells[index];
         }
+        sizeMultiplicity[size]--;
     }
 
     /**
-     * Counts valid ship placements that include the given coordinate.
-     * Iterates through all possible starting positions where a ship of the
-     * given size could be placed such that it covers the specified coordinate.
+     * Removes from the density grid every ship the board reports as sunk.
+     * Sunk ships are announced to the shooter, so their sizes are public;
+     * reading them from the board avoids guessing a ship's size from the
+     * number of hits, which is wrong when hits of adjacent ships mix.
      *
-     * @param coord coordinate to check
-     * @param shipSize size of ship
-     * @param horizontal true for horizontal placement, false for vertical
-     * @return count of valid placements (as a double for probability calculations)
+     * @param board the opponent's board
      */
-    private double countValidPlacements(Coordinate coord, int shipSize, boolean horizontal) {
-        double count = 0.0;
+    private void syncRemainingShips(IBoard board) {
+        int[] afloat = new int[sizeMultiplicity.length];
+        for (IShip ship : board.getShips()) {
+            int size = ship.getSize();
+            if (!ship.isSunk() && size > 0 && size < afloat.length) {
+                afloat[size]++;
+            }
+        }
+        for (int size = 1; size < afloat.length; size++) {
+            while (sizeMultiplicity[size] > afloat[size]) {
+                removeShipSize(size);
+            }
+        }
+    }
 
-        for (int offset = 0; offset < shipSize; offset++) {
-            int startX = horizontal ? coord.getX() - offset : coord.getX();
-            int startY = horizontal ? coord.getY() : coord.getY() - offset;
+    /**
+     * Blocks hit cells that the board now reports as sunk.
+     * Only the pending hits are inspected, not the whole board.
+     */
+    private void syncSunkCells() {
+        if (opponentBoard == null || unresolvedHits.isEmpty()) {
+            return;
+        }
 
-            if (isValidPlacement(startX, startY, shipSize, horizontal)) {
-                count += 1.0;
+        Iterator<Integer> it = unresolvedHits.iterator();
+        while (it.hasNext()) {
+            int index = it.next();
+            Cell cell = opponentBoard.getCell(index);
+            if (cell != null && cell.getStatus() == CellStatus.SUNK) {
+                blockCell(index);
+                it.remove();
             }
         }
-
-        return count;
     }
 
     /**
-     * Validates if a ship can be placed at the given position.
-     * Checks that all cells of the ship would:
-     * <ul>
-     * <li>Be within board bounds</li>
-     * <li>Not overlap with known misses or sunk ships</li>
-     * <li>Be available for targeting</li>
-     * </ul>
+     * Records a miss in the recent-miss window, updating the proximity counts
+     * of the miss and its orthogonal neighbours and evicting the oldest miss
+     * once the window is full.
      *
-     * @param x starting x coordinate
-     * @param y starting y coordinate
-     * @param size ship size
-     * @param horizontal placement orientation (true=horizontal, false=vertical)
-     * @return true if placement is valid, false otherwise
+     * @param miss the missed coordinate
      */
-    private boolean isValidPlacement(int x, int y, int size, boolean horizontal) {
-        for (int i = 0; i < size; i++) {
-            int checkX = horizontal ? x + i : x;
-            int checkY = horizontal ? y : y + i;
-
-            Coordinate check = new Coordinate(checkX, checkY);
-
-            if (!isInBounds(check)) {
-                return false;
-            }
+    private void recordMiss(Coordinate miss) {
+        processedMisses.addLast(miss);
+        adjustMissProximity(miss, 1);
 
-            if (!availableTargets.contains(check)) {
-                if (opponentBoard != null) {
-                    Cell cell = opponentBoard.getCell(check);
-                    if (cell == null || cell.getStatus() == CellStatus.MISS ||
-                            cell.getStatus() == CellStatus.SUNK) {
-                        return false;
-                    }
-                } else {
-                    return false;
-                }
-            }
+        if (processedMisses.size() > MAX_TRACKED_MISSES) {
+            adjustMissProximity(processedMisses.removeFirst(), -1);
         }
-
-        return true;
     }
 
     /**
-     * Calculates strategic value modifiers for a coordinate.
-     * Applies tactical bonuses and penalties:
-     * <ul>
-     * <li>Center bias - coordinates near the center receive bonuses</li>
-     * <li>Edge penalty - coordinates on board edges receive penalties</li>
-     * <li>Miss proximity penalty - coordinates near recent misses are penalized</li>
-     * </ul>
+     * Adds a delta to the miss proximity of a cell and its orthogonal neighbours.
      *
-     * @param coord coordinate to evaluate
-     * @return strategic value modifier (can be positive or negative)
+     * @param miss the missed coordinate
+     * @param delta the amount to add
      */
-    private double calculateStrategicValue(Coordinate coord) {
-        double value = 0.0;
-
-        // Center bias
-        int centerDist = Math.abs(coord.getX() - 4) + Math.abs(coord.getY() - 4);
-        value += (10 - centerDist) * 0.5;
+    private void adjustMissProximity(Coordinate miss, int delta) {
+        int x = miss.getX();
+        int y = miss.getY();
+        adjustMissProximity(x, y, delta);
+        adjustMissProximity(x - 1, y, delta);
+        adjustMissProximity(x + 1, y, delta);
+        adjustMissProximity(x, y - 1, delta);
+        adjustMissProximity(x, y + 1, delta);
+    }
 
-        // Edge penalty
-        if (coord.getX() == 0 || coord.getX() == 9 || coord.getY() == 0 || coord.getY() == 9) {
-            value -= 2.0;
+    /**
+     * Adds a delta to the miss proximity of a single cell if it is on the board.
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @param delta the amount to add
+     */
+    private void adjustMissProximity(int x, int y, int delta) {
+        if (x >= 0 && x < boardSize && y >= 0 && y < boardSize) {
+            missProximity[x * boardSize + y] += delta;
         }
+    }
 
-        // Penalty near misses
-        for (Coordinate miss : processedMisses) {
-            int dist = manhattanDistance(coord, miss);
-            if (dist <= 1) {
-                value -= 3.0;
-            }
+    /**
+     * Marks a cell as targeted and updates the availability counters.
+     *
+     * @param index packed cell index
+     */
+    private void markTargeted(int index) {
+        targeted[index] = true;
+        availableCount--;
+        if (isEvenParity(index)) {
+            availableParityCount--;
         }
+    }
 
-        return value;
+    /**
+     * Checks if a cell lies on the even colour of the checkerboard.
+     *
+     * @param index packed cell index
+     * @return true if the sum of its coordinates is even
+     */
+    private boolean isEvenParity(int index) {
+        return ((index / boardSize) + (index % boardSize)) % 2 == 0;
     }
 
     /**
@@ -533,10 +860,10 @@ public class RandomAIStrategy implements IAIStrategy {
      */
     private List<Coordinate> getOrthogonalAdjacents(Coordinate coord) {
         return Arrays.asList(
-                new Coordinate(coord.getX(), coord.getY() - 1),  // Up
-                new Coordinate(coord.getX(), coord.getY() + 1),  // Down
-                new Coordinate(coord.getX() - 1, coord.getY()),  // Left
-                new Coordinate(coord.getX() + 1, coord.getY())   // Right
+                Coordinate.of(coord.getX(), coord.getY() - 1),  // Up
+                Coordinate.of(coord.getX(), coord.getY() + 1),  // Down
+                Coordinate.of(coord.getX() - 1, coord.getY()),  // Left
+                Coordinate.of(coord.getX() + 1, coord.getY())   // Right
         );
     }
 
@@ -554,48 +881,99 @@ public class RandomAIStrategy implements IAIStrategy {
         int dy = b.getY() - a.getY();
 
         if (Math.abs(dx) == 2 && dy == 0) {
-            return new Coordinate(a.getX() + dx / 2, a.getY());
+            return Coordinate.of(a.getX() + dx / 2, a.getY());
         } else if (Math.abs(dy) == 2 && dx == 0) {
-            return new Coordinate(a.getX(), a.getY() + dy / 2);
+            return Coordinate.of(a.getX(), a.getY() + dy / 2);
         }
 
         return null;
     }
 
     /**
-     * Calculates Manhattan distance between two coordinates.
-     * Manhattan distance is the sum of absolute differences in x and y coordinates,
-     * representing the minimum number of orthogonal moves needed to travel between points.
+     * Checks if coordinate is a valid target.
+     * A coordinate is valid if it's within bounds and hasn't been targeted yet.
      *
-     * @param a first coordinate
-     * @param b second coordinate
-     * @return Manhattan distance as an integer
+     * @param coord coordinate to check
+     * @return true if valid and available for targeting, false otherwise
      */
-    private int manhattanDistance(Coordinate a, Coordinate b) {
-        return Math.abs(a.getX() - b.getX()) + Math.abs(a.getY() - b.getY());
+    private boolean isValidTarget(Coordinate coord) {
+        return isNewShot(coord) && isShotAvailable(coord.toIndex(boardSize));
     }
 
     /**
-     * Checks if coordinate is a valid target.
-     * A coordinate is valid if it's within bounds and hasn't been targeted yet.
+     * Checks if a coordinate is on the board and has not been targeted by this strategy.
      *
      * @param coord coordinate to check
-     * @return true if valid and available for targeting, false otherwise
+     * @return true if the strategy has not recorded a shot there yet
      */
-    private boolean isValidTarget(Coordinate coord) {
-        return isInBounds(coord) && availableTargets.contains(coord);
+    private boolean isNewShot(Coordinate coord) {
+        return isInBounds(coord) && !targeted[coord.toIndex(boardSize)];
+    }
+
+    /**
+     * Checks a cell against the game engine's shot availability, if one was shared.
+     *
+     * @param index packed cell index
+     * @return false only if the engine already recorded a shot on the cell
+     */
+    private boolean isShotAvailable(int index) {
+        return shotAvailability == null || shotAvailability.isAvailable(index);
+    }
+
+    /**
+     * Uses the game engine's record of open cells to skip cells shot before
+     * this strategy started tracking the game, for example after a load.
+     *
+     * @param availability the shot availability of the opponent's board
+     */
+    @Override
+    public void setShotAvailability(ShotAvailability availability) {
+        this.shotAvailability = availability;
+    }
+
+    /**
+     * Replaces the opening book, for example with {@link OpeningBook#empty()}
+     * to always search live.
+     *
+     * @param openingBook the book to follow until the first hit
+     */
+    public void setOpeningBook(OpeningBook openingBook) {
+        this.openingBook = Objects.requireNonNull(openingBook, "openingBook");
     }
 
     /**
      * Checks if coordinate is within board bounds.
-     * Valid coordinates have both x and y values between 0 and 9 inclusive.
+     * Valid coordinates have both x and y values between 0 and the board size, exclusive.
      *
      * @param coord coordinate to check
-     * @return true if coordinate is within the 10x10 board, false otherwise
+     * @return true if coordinate is within the board, false otherwise
      */
     private boolean isInBounds(Coordinate coord) {
-        return coord.getX() >= 0 && coord.getX() < 10 &&
-                coord.getY() >= 0 && coord.getY() < 10;
+        return coord.getX() >= 0 && coord.getX() < boardSize &&
+                coord.getY() >= 0 && coord.getY() < boardSize;
+    }
+
+    /**
+     * Selects the next target as a packed index ({@code x * size + y}).
+     *
+     * @param opponentBoard the opponent's board to analyze
+     * @return the packed index to target next, or -1 if no targets available
+     */
+    @Override
+    public int selectTargetIndex(IBoard opponentBoard) {
+        Coordinate target = selectTarget(opponentBoard);
+        return target == null ? -1 : target.toIndex(boardSize);
+    }
+
+    /**
+     * Updates the AI strategy with the result of a shot given as a packed index.
+     *
+     * @param lastShotIndex the packed index ({@code x * size + y}) of the last shot
+     * @param wasHit true if the shot was a hit, false if it was a miss
+     */
+    @Override
+    public void updateStrategy(int lastShotIndex, boolean wasHit) {
+        updateStrategy(Coordinate.ofIndex(lastShotIndex, boardSize), wasHit);
     }
 
     /**
@@ -611,10 +989,17 @@ public class RandomAIStrategy implements IAIStrategy {
      */
     @Override
     public void updateStrategy(Coordinate lastShot, boolean wasHit) {
-        availableTargets.remove(lastShot);
+        boolean newShot = isNewShot(lastShot);
+        int index = newShot ? lastShot.toIndex(boardSize) : -1;
+        if (newShot) {
+            markTargeted(index);
+        }
 
         if (wasHit) {
             // HIT - Add to active hits and update mode
+            if (newShot) {
+                unresolvedHits.add(index);
+            }
             successfulHits++;
             activeHits.add(lastShot);
 
@@ -644,13 +1029,10 @@ public class RandomAIStrategy implements IAIStrategy {
             }
 
         } else {
-            // MISS - Record it
-            processedMisses.add(lastShot);
-
-            if (processedMisses.size() > 15) {
-                Iterator<Coordinate> it = processedMisses.iterator();
-                it.next();
-                it.remove();
+            // MISS - Record it and drop every placement crossing it
+            if (newShot) {
+                blockCell(index);
+                recordMiss(lastShot);
             }
 
             // If we have active hits but missed, check if ship is actually sunk
@@ -693,16 +1075,16 @@ public class RandomAIStrategy implements IAIStrategy {
     private void queueAlignedTargets(Coordinate coord) {
         if (lockedOrientation == ShipOrientation.HORIZONTAL) {
             // Only queue left and right
-            Coordinate left = new Coordinate(coord.getX() - 1, coord.getY());
-            Coordinate right = new Coordinate(coord.getX() + 1, coord.getY());
+            Coordinate left = Coordinate.of(coord.getX() - 1, coord.getY());
+            Coordinate right = Coordinate.of(coord.getX() + 1, coord.getY());
 
             if (isValidTarget(right)) targetStack.push(right);
             if (isValidTarget(left)) targetStack.push(left);
 
         } else if (lockedOrientation == ShipOrientation.VERTICAL) {
             // Only queue up and down
-            Coordinate up = new Coordinate(coord.getX(), coord.getY() - 1);
-            Coordinate down = new Coordinate(coord.getX(), coord.getY() + 1);
+            Coordinate up = Coordinate.of(coord.getX(), coord.getY() - 1);
+            Coordinate down = Coordinate.of(coord.getX(), coord.getY() + 1);
 
             if (isValidTarget(down)) targetStack.push(down);
             if (isValidTarget(up)) targetStack.push(up);
@@ -772,7 +1154,7 @@ public class RandomAIStrategy implements IAIStrategy {
      * <p>
      * Actions performed:
      * <ul>
-     * <li>Removes the ship size from remaining ships list</li>
+     * <li>Removes the ships the board reports as sunk from the density grid</li>
      * <li>Clears all active hits</li>
      * <li>Clears the target stack</li>
      * <li>Returns to HUNT mode</li>
@@ -780,16 +1162,19 @@ public class RandomAIStrategy implements IAIStrategy {
      * </ul>
      */
     private void registerSunkShip() {
-        int sunkSize = activeHits.size();
+        // Remove the sunk ship's size as reported by the board
+        syncRemainingShips(opponentBoard);
 
-        // Remove ship from remaining list
-        for (int i = 0; i < remainingShips.size(); i++) {
-            if (remainingShips.get(i) == sunkSize) {
-                remainingShips.set(i, 0);
-                break;
-            }
+        // Sunk cells can no longer hold any other ship
+        for (Coordinate hit : activeHits) {
+            int index = hit.toIndex(boardSize);
+            blockCell(index);
+            unresolvedHits.remove(Integer.valueOf(index));
         }
 
+        // Fewer ships means fewer layouts, so the endgame solver may succeed now
+        endgameRetryAt = cellCount;
+
         // Reset state
         activeHits.clear();
         targetStack.clear();
@@ -805,21 +1190,25 @@ public class RandomAIStrategy implements IAIStrategy {
      */
     @Override
     public void reset() {
-        availableTargets.clear();
+        clearTracking();
+        opponentBoard = null;
+        totalShots = 0;
+        successfulHits = 0;
+        useParityMode = true;
+    }
+
+    /**
+     * Forgets every shot and hit and restores the full fleet on an empty board.
+     */
+    private void clearTracking() {
         initializeTargets();
         activeHits.clear();
         targetStack.clear();
-        heatMap.clear();
         processedMisses.clear();
-
-        remainingShips.clear();
-        remainingShips.addAll(Arrays.asList(5, 4, 3, 3, 2));
+        endgameRetryAt = cellCount;
+        initializeDensity();
 
         currentMode = AIMode.HUNT;
         lockedOrientation = ShipOrientation.UNKNOWN;
-        opponentBoard = null;
-        totalShots = 0;
-        successfulHits = 0;
-        useParityMode = true;
     }
 }
\ No newline at end of file
@@ -0,0 +1,140 @@
+package com.example.miniproyecto4.model.AI;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compute budget of one anytime decision
+ * ({@link IAIStrategy#selectTarget(com.example.miniproyecto4.model.Board.IBoard, ThinkingBudget)}).
+ * <p>
+ * A budget ends at a wall-clock deadline, after a number of evaluations, or
+ * when it is cancelled, whichever comes first. Strategies poll
+ * {@link #shouldStop()} between units of work and report the work they
+ * completed with {@link #recordEvaluations(long)}; what counts as an
+ * evaluation is up to the strategy, for example one sampled layout or one
+ * visited placement. Every method is thread-safe, so parallel workers can
+ * share one budget and another thread can cancel it.
+ * </p>
+ */
+public final class ThinkingBudget {
+
+    /** {@link System#nanoTime()} when the budget was created. */
+    private final long startNanos;
+
+    /** Thinking time in nanoseconds, saturated at {@link Long#MAX_VALUE}. */
+    private final long durationNanos;
+
+    /** Maximum number of evaluations, or {@link Long#MAX_VALUE} for no limit. */
+    private final long maxEvaluations;
+
+    /** Number of evaluations completed so far. */
+    private final LongAdder evaluations = new LongAdder();
+
+    /** True once the budget has been cancelled. */
+    private volatile boolean cancelled;
+
+    /**
+     * Creates a budget starting now. The deadline is kept as a start time and
+     * a duration, compared through the elapsed time, so that even a duration
+     * of {@link Long#MAX_VALUE} never overflows into a deadline in the past.
+     *
+     * @param durationNanos thinking time in nanoseconds
+     * @param maxEvaluations maximum number of evaluations
+     */
+    private ThinkingBudget(long durationNanos, long maxEvaluations) {
+        this.startNanos = System.nanoTime();
+        this.durationNanos = durationNanos;
+        this.maxEvaluations = maxEvaluations;
+    }
+
+    /**
+     * Creates a budget ending after the given time from now.
+     *
+     * @param millis thinking time in milliseconds; very large values never expire
+     * @return the budget
+     * @throws IllegalArgumentException if the time is negative
+     */
+    public static ThinkingBudget ofMillis(long millis) {
+        return of(millis, Long.MAX_VALUE);
+    }
+
+    /**
+     * Creates a budget ending after the given time from now or the given
+     * number of evaluations, whichever comes first.
+     *
+     * @param millis thinking time in milliseconds
+     * @param maxEvaluations maximum number of evaluations
+     * @return the budget
+     * @throws IllegalArgumentException if the time is negative or the evaluations not positive
+     */
+    public static ThinkingBudget of(long millis, long maxEvaluations) {
+        if (millis < 0 || maxEvaluations <= 0) {
+            throw new IllegalArgumentException("Thinking time must not be negative and evaluations must be positive");
+        }
+        return new ThinkingBudget(TimeUnit.MILLISECONDS.toNanos(millis), maxEvaluations);
+    }
+
+    /**
+     * Checks whether work should stop: the budget was cancelled, its deadline
+     * passed or its evaluations were used up.
+     *
+     * @return true if the strategy should return its best target so far
+     */
+    public boolean shouldStop() {
+        return cancelled || System.nanoTime() - startNanos >= durationNanos
+                || (maxEvaluations != Long.MAX_VALUE && evaluations.sum() >= maxEvaluations);
+    }
+
+    /**
+     * Cancels the budget. Strategies stop at their next check and return
+     * their best target so far.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * Checks if the budget was cancelled.
+     *
+     * @return true if {@link #cancel()} was called
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Records completed evaluations.
+     *
+     * @param count the number of evaluations completed
+     */
+    public void recordEvaluations(long count) {
+        evaluations.add(count);
+    }
+
+    /**
+     * Returns the number of evaluations completed so far.
+     *
+     * @return the evaluation count
+     */
+    public long getEvaluations() {
+        return evaluations.sum();
+    }
+
+    /**
+     * Returns the maximum number of evaluations.
+     *
+     * @return the evaluation limit, or {@link Long#MAX_VALUE} for none
+     */
+    public long getMaxEvaluations() {
+        return maxEvaluations;
+    }
+
+    /**
+     * Returns the time left before the deadline.
+     *
+     * @return the remaining time in nanoseconds, 0 once the deadline passed
+     */
+    public long getRemainingNanos() {
+        return Math.max(0L, durationNanos - (System.nanoTime() - startNanos));
+    }
+}
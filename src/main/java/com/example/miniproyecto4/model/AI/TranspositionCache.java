@@ -0,0 +1,202 @@
+package com.example.miniproyecto4.model.AI;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, thread-safe cache from an observed board hash
+ * ({@link com.example.miniproyecto4.model.Board.IBoard#getObservedHash()})
+ * to a result computed for that position, such as a probability grid.
+ * One cache can be shared by every strategy, session and simulation worker
+ * of the JVM, so a position evaluated in one game is reused in the next.
+ * <p>
+ * The table is set-associative: each hash maps to one set of
+ * {@value #WAYS} entries. Lookups are lock-free; they compare the full
+ * 64-bit key and mark the entry as recently used. Inserts lock only their
+ * set and evict with the CLOCK policy: the set's hand sweeps its ways,
+ * clearing the recently-used mark, until it finds an unmarked victim.
+ * Memory therefore stays fixed at the configured capacity.
+ * </p>
+ *
+ * @param <V> the cached result type; values must not be modified once cached
+ */
+public class TranspositionCache<V> {
+
+    /** Entries per set. */
+    private static final int WAYS = 4;
+
+    /** Entry slots, {@value #WAYS} consecutive slots per set. */
+    private final AtomicReferenceArray<Entry<V>> slots;
+
+    /** CLOCK hand of each set. */
+    private final int[] hands;
+
+    /** Lock objects, one per set. */
+    private final Object[] locks;
+
+    /** Mask selecting the set of a hash. */
+    private final int setMask;
+
+    /** Number of successful lookups. */
+    private final LongAdder hits = new LongAdder();
+
+    /** Number of failed lookups. */
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates a cache holding at least the given number of entries.
+     * The capacity is rounded up to a power of two.
+     *
+     * @param capacity minimum number of entries
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    public TranspositionCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        int needed = (capacity + WAYS - 1) / WAYS;
+        int sets = needed <= 1 ? 1 : Integer.highestOneBit(needed - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(sets * WAYS);
+        this.hands = new int[sets];
+        this.locks = new Object[sets];
+        for (int i = 0; i < sets; i++) {
+            locks[i] = new Object();
+        }
+        this.setMask = sets - 1;
+    }
+
+    /**
+     * Returns the result cached for a position.
+     *
+     * @param key the observed board hash
+     * @return the cached result, or null if the position is not cached
+     */
+    public V get(long key) {
+        int base = setOf(key) * WAYS;
+        for (int way = 0; way < WAYS; way++) {
+            Entry<V> entry = slots.get(base + way);
+            if (entry != null && entry.key == key) {
+                entry.referenced = true;
+                hits.increment();
+                return entry.value;
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Caches the result of a position, replacing any result already cached for it.
+     *
+     * @param key the observed board hash
+     * @param value the result; must not be modified afterwards
+     */
+    public void put(long key, V value) {
+        if (value == null) {
+            return;
+        }
+        int set = setOf(key);
+        int base = set * WAYS;
+        Entry<V> entry = new Entry<>(key, value);
+
+        synchronized (locks[set]) {
+            for (int way = 0; way < WAYS; way++) {
+                Entry<V> current = slots.get(base + way);
+                if (current == null || current.key == key) {
+                    slots.set(base + way, entry);
+                    return;
+                }
+            }
+
+            int hand = hands[set];
+            Entry<V> victim = slots.get(base + hand);
+            while (victim.referenced) {
+                victim.referenced = false;
+                hand = (hand + 1) % WAYS;
+                victim = slots.get(base + hand);
+            }
+            slots.set(base + hand, entry);
+            hands[set] = (hand + 1) % WAYS;
+        }
+    }
+
+    /**
+     * Removes every entry.
+     */
+    public void clear() {
+        for (int set = 0; set <= setMask; set++) {
+            synchronized (locks[set]) {
+                for (int way = 0; way < WAYS; way++) {
+                    slots.set(set * WAYS + way, null);
+                }
+                hands[set] = 0;
+            }
+        }
+    }
+
+    /**
+     * Returns the maximum number of entries.
+     *
+     * @return the capacity
+     */
+    public int getCapacity() {
+        return slots.length();
+    }
+
+    /**
+     * Returns the number of lookups that found a result.
+     *
+     * @return the hit count
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that found nothing.
+     *
+     * @return the miss count
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Maps a key to its set. Zobrist hashes are uniform, so folding the
+     * two halves is enough.
+     *
+     * @param key the observed board hash
+     * @return the set index
+     */
+    private int setOf(long key) {
+        return (int) (key ^ (key >>> 32)) & setMask;
+    }
+
+    /**
+     * A cached result with its key and CLOCK mark.
+     *
+     * @param <V> the cached result type
+     */
+    private static final class Entry<V> {
+
+        /** Observed board hash. */
+        final long key;
+
+        /** Cached result. */
+        final V value;
+
+        /** Set on every hit, cleared as the CLOCK hand passes. */
+        volatile boolean referenced;
+
+        /**
+         * Creates an entry.
+         *
+         * @param key the observed board hash
+         * @param value the cached result
+         */
+        Entry(long key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,666 @@
+package com.example.miniproyecto4.model.Board;
+
+import com.example.miniproyecto4.model.Cell.Cell;
+import com.example.miniproyecto4.model.Cell.CellStatus;
+import com.example.miniproyecto4.model.Cell.Coordinate;
+import com.example.miniproyecto4.model.Ship.IShip;
+import com.example.miniproyecto4.model.Ship.ShipType;
+import com.example.miniproyecto4.model.Validation.Orientation;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Bit-packed implementation of the game board for Battleship.
+ * Stores ship, hit, miss and sunk state as bit masks indexed by {@code x * size + y}
+ * (two {@code long} words for the default 10x10 board) and keeps a byte array with
+ * the id of the ship occupying each cell.
+ * Ship lookups, placement checks and the win check are plain array and bit operations
+ * that do not allocate.
+ * Implements Serializable to support game state persistence.
+ */
+public class BitBoard implements IBoard, Serializable {
+
+    /**
+     * Serial version UID for serialization compatibility.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Default size of the board (10x10).
+     */
+    private static final int DEFAULT_SIZE = 10;
+
+    /**
+     * Maximum number of ships that can be tracked by the byte occupancy array.
+     */
+    private static final int MAX_SHIPS = 255;
+
+    /**
+     * The size of the board (width and height).
+     */
+    private final int size;
+
+    /**
+     * Cells occupied by a ship.
+     */
+    private final long[] shipMask;
+
+    /**
+     * Cells holding a ship that has been hit but not sunk.
+     */
+    private final long[] hitMask;
+
+    /**
+     * Cells that were shot and contained no ship.
+     */
+    private final long[] missMask;
+
+    /**
+     * Cells belonging to a sunk ship.
+     */
+    private final long[] sunkMask;
+
+    /**
+     * Ship id occupying each cell, stored as (index in {@link #ships}) + 1; 0 means empty.
+     */
+    private final byte[] occupancy;
+
+    /**
+     * List of all ships placed on the board, in placement order.
+     */
+    private final List<IShip> ships;
+
+    /**
+     * Cell views backed by the bit masks, created once and rebuilt after deserialization.
+     */
+    private transient Cell[] cells;
+
+    /**
+     * Listeners notified of cell changes; not serialized.
+     */
+    private transient BoardChangeSupport changes;
+
+    /**
+     * Live fleet counters, updated as ships are placed, hit and removed; not serialized.
+     */
+    private transient FleetCounters fleet;
+
+    /**
+     * Zobrist hash of the observed cell states, updated as cells change; not serialized.
+     */
+    private transient ObservedStateHash observed;
+
+    /**
+     * Constructs a bit board with the default size (10x10).
+     */
+    public BitBoard() {
+        this(DEFAULT_SIZE);
+    }
+
+    /**
+     * Constructs a bit board with a custom size.
+     *
+     * @param size the size of the board (width and height)
+     */
+    public BitBoard(int size) {
+        int words = (size * size + 63) >>> 6;
+        this.size = size;
+        this.shipMask = new long[words];
+        this.hitMask = new long[words];
+        this.missMask = new long[words];
+        this.sunkMask = new long[words];
+        this.occupancy = new byte[size * size];
+        this.ships = new ArrayList<>();
+        this.changes = new BoardChangeSupport(this);
+        this.fleet = new FleetCounters();
+        this.observed = new ObservedStateHash();
+        initializeCells();
+    }
+
+    /**
+     * Creates the cell views for every position of the board.
+     */
+    private void initializeCells() {
+        cells = new Cell[size * size];
+        for (int x = 0; x < size; x++) {
+            for (int y = 0; y < size; y++) {
+                cells[x * size + y] = new BitCell(x, y);
+            }
+        }
+    }
+
+    /**
+     * Returns the size of the board.
+     *
+     * @return the board size (width and height)
+     */
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the cell at the specified coordinates.
+     * The returned cell reads and writes its status directly from the bit masks.
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @return the cell at the given position, or null if coordinates are invalid
+     */
+    @Override
+    public Cell getCell(int x, int y) {
+        if (x < 0 || x >= size || y < 0 || y >= size) {
+            return null;
+        }
+        return cells[x * size + y];
+    }
+
+    /**
+     * Returns the cell at the specified coordinate.
+     *
+     * @param coordinate the coordinate
+     * @return the cell at the given position, or null if coordinate is invalid
+     */
+    @Override
+    public Cell getCell(Coordinate coordinate) {
+        return getCell(coordinate.getX(), coordinate.getY());
+    }
+
+    /**
+     * Returns the cell at the specified packed index.
+     *
+     * @param index the packed index ({@code x * size + y})
+     * @return the cell at the given index, or null if the index is invalid
+     */
+    @Override
+    public Cell getCell(int index) {
+        if (index < 0 || index >= cells.length) {
+            return null;
+        }
+        return cells[index];
+    }
+
+    /**
+     * Places a ship on the board.
+     * Validates that all ship cells are within bounds and not occupied,
+     * walking the cells arithmetically from the start coordinate.
+     *
+     * @param ship the ship to place
+     * @return true if the ship was placed successfully, false otherwise
+     */
+    @Override
+    public boolean placeShip(IShip ship) {
+        if (ship == null || ship.getStartCoordinate() == null || ships.size() >= MAX_SHIPS) {
+            return false;
+        }
+
+        int x = ship.getStartCoordinate().getX();
+        int y = ship.getStartCoordinate().getY();
+        int length = ship.getSize();
+        boolean horizontal = ship.getOrientation() == Orientation.HORIZONTAL;
+        int endX = horizontal ? x + length - 1 : x;
+        int endY = horizontal ? y : y + length - 1;
+
+        if (x < 0 || y < 0 || endX >= size || endY >= size) {
+            return false;
+        }
+
+        int start = x * size + y;
+        int step = horizontal ? size : 1;
+
+        for (int i = 0, index = start; i < length; i++, index += step) {
+            if (occupancy[index] != 0) {
+                return false;
+            }
+        }
+
+        ships.add(ship);
+        fleet.add(ship);
+        byte id = (byte) ships.size();
+        int[] indices = new int[length];
+
+        for (int i = 0, index = start; i < length; i++, index += step) {
+            occupancy[index] = id;
+            shipMask[index >>> 6] |= 1L << index;
+            indices[i] = index;
+        }
+
+        changes.fire(indices, CellStatus.SHIP);
+        return true;
+    }
+
+    /**
+     * Removes a ship from the board.
+     * Clears all cells occupied by the ship and renumbers the ships placed after it.
+     *
+     * @param ship the ship to remove
+     * @return true if the ship was removed successfully, false if ship not found
+     */
+    @Override
+    public boolean removeShip(IShip ship) {
+        int position = ships.indexOf(ship);
+        if (position < 0) {
+            return false;
+        }
+
+        int id = position + 1;
+        int[] indices = new int[ship.getSize()];
+        int removed = 0;
+        for (int index = 0; index < occupancy.length; index++) {
+            int occupant = occupancy[index] & 0xFF;
+            if (occupant == id) {
+                observed.update(index, statusAt(index), CellStatus.EMPTY);
+                occupancy[index] = 0;
+                clearBit(shipMask, index);
+                clearShotBits(index);
+                if (removed < indices.length) {
+                    indices[removed++] = index;
+                }
+            } else if (occupant > id) {
+                occupancy[index] = (byte) (occupant - 1);
+            }
+        }
+
+        ships.remove(position);
+        fleet.remove(ship);
+        changes.fire(Arrays.copyOf(indices, removed), CellStatus.EMPTY);
+        return true;
+    }
+
+    /**
+     * Returns a copy of the list of all ships on the board.
+     *
+     * @return a new list containing all ships
+     */
+    @Override
+    public List<IShip> getShips() {
+        return new ArrayList<>(ships);
+    }
+
+    /**
+     * Returns the ship at the specified coordinate.
+     *
+     * @param coordinate the coordinate to check
+     * @return the ship at that coordinate, or null if no ship exists
+     */
+    @Override
+    public IShip getShipAt(Coordinate coordinate) {
+        if (!isValidCoordinate(coordinate)) {
+            return null;
+        }
+        return getShipAt(coordinate.getX() * size + coordinate.getY());
+    }
+
+    /**
+     * Returns the ship at the specified packed index.
+     *
+     * @param index the packed index ({@code x * size + y})
+     * @return the ship at that index, or null if no ship exists
+     */
+    @Override
+    public IShip getShipAt(int index) {
+        if (index < 0 || index >= occupancy.length) {
+            return null;
+        }
+        int id = occupancy[index] & 0xFF;
+        return id == 0 ? null : ships.get(id - 1);
+    }
+
+    /**
+     * Checks if there is a ship at the specified coordinate.
+     *
+     * @param coordinate the coordinate to check
+     * @return true if a ship exists at that coordinate, false otherwise
+     */
+    @Override
+    public boolean hasShipAt(Coordinate coordinate) {
+        if (!isValidCoordinate(coordinate)) {
+            return false;
+        }
+        return hasShipAt(coordinate.getX() * size + coordinate.getY());
+    }
+
+    /**
+     * Checks if there is a ship at the specified packed index.
+     *
+     * @param index the packed index ({@code x * size + y})
+     * @return true if a ship exists at that index, false otherwise
+     */
+    @Override
+    public boolean hasShipAt(int index) {
+        if (index < 0 || index >= occupancy.length) {
+            return false;
+        }
+        return (shipMask[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Validates if a coordinate is within the board bounds.
+     *
+     * @param coordinate the coordinate to validate
+     * @return true if the coordinate is valid, false otherwise
+     */
+    @Override
+    public boolean isValidCoordinate(Coordinate coordinate) {
+        int x = coordinate.getX();
+        int y = coordinate.getY();
+        return x >= 0 && x < size && y >= 0 && y < size;
+    }
+
+    /**
+     * Returns the number of ships on the board.
+     *
+     * @return the number of placed ships
+     */
+    @Override
+    public int getShipCount() {
+        return fleet.getShipCount();
+    }
+
+    /**
+     * Returns the count of sunk ships on the board.
+     * Read from the live fleet counters.
+     *
+     * @return the number of ships that have been completely sunk
+     */
+    @Override
+    public int getSunkShipsCount() {
+        return fleet.getSunkCount();
+    }
+
+    /**
+     * Returns the number of ship segments that have not been hit yet.
+     *
+     * @return the remaining ship segments
+     */
+    @Override
+    public int getRemainingSegments() {
+        return fleet.getRemainingSegments();
+    }
+
+    /**
+     * Returns the number of ships of a type that are still afloat.
+     *
+     * @param type the ship type
+     * @return the remaining ships of that type
+     */
+    @Override
+    public int getRemainingShips(ShipType type) {
+        return fleet.getRemainingShips(type);
+    }
+
+    /**
+     * Checks if all ships on the board have been sunk.
+     * A board is defeated when every ship cell has been recorded as HIT or SUNK,
+     * which is checked word by word against the ship mask.
+     *
+     * @return true if all ships are sunk, false otherwise
+     */
+    @Override
+    public boolean allShipsSunk() {
+        if (ships.isEmpty()) {
+            return false;
+        }
+
+        long remaining = 0L;
+        for (int w = 0; w < shipMask.length; w++) {
+            remaining |= shipMask[w] & ~(hitMask[w] | sunkMask[w]);
+        }
+        return remaining == 0L;
+    }
+
+    /**
+     * Returns the Zobrist hash of the observed board state.
+     *
+     * @return the hash of hit, missed and sunk cells, ships afloat per type and board size
+     */
+    @Override
+    public long getObservedHash() {
+        return observed.value(size, fleet);
+    }
+
+    /**
+     * Resets the board to its initial empty state.
+     * Clears all ships and every bit mask.
+     */
+    @Override
+    public void reset() {
+        fleet.clear(ships);
+        ships.clear();
+        observed.clear();
+        Arrays.fill(occupancy, (byte) 0);
+        Arrays.fill(shipMask, 0L);
+        Arrays.fill(hitMask, 0L);
+        Arrays.fill(missMask, 0L);
+        Arrays.fill(sunkMask, 0L);
+        changes.fireFull();
+    }
+
+    /**
+     * Sets the status of a cell and notifies the change listeners.
+     *
+     * @param index the packed index of the cell ({@code x * size + y})
+     * @param status the new status of the cell
+     */
+    @Override
+    public void setCellStatus(int index, CellStatus status) {
+        if (index >= 0 && index < size * size) {
+            setStatusAt(index, status);
+            changes.fire(index, status);
+        }
+    }
+
+    /**
+     * Marks every cell of a ship as sunk and notifies the change listeners
+     * with a single delta covering the whole ship.
+     *
+     * @param ship the ship that has been sunk
+     */
+    @Override
+    public void markShipSunk(IShip ship) {
+        List<Coordinate> coordinates = ship.getCoordinates();
+        int[] indices = new int[coordinates.size()];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = coordinates.get(i).toIndex(size);
+            setStatusAt(indices[i], CellStatus.SUNK);
+        }
+        changes.fire(indices, CellStatus.SUNK);
+    }
+
+    /**
+     * Registers a listener notified when cells change status through this board.
+     *
+     * @param listener the listener to add
+     */
+    @Override
+    public void addChangeListener(BoardChangeListener listener) {
+        changes.add(listener);
+    }
+
+    /**
+     * Removes a previously registered change listener.
+     *
+     * @param listener the listener to remove
+     */
+    @Override
+    public void removeChangeListener(BoardChangeListener listener) {
+        changes.remove(listener);
+    }
+
+    /**
+     * Decodes the status of a cell from the bit masks.
+     * Shot results take precedence over the presence of a ship.
+     *
+     * @param index the packed cell index
+     * @return the status of the cell
+     */
+    private CellStatus statusAt(int index) {
+        int w = index >>> 6;
+        long bit = 1L << index;
+
+        if ((sunkMask[w] & bit) != 0) {
+            return CellStatus.SUNK;
+        }
+        if ((hitMask[w] & bit) != 0) {
+            return CellStatus.HIT;
+        }
+        if ((missMask[w] & bit) != 0) {
+            return CellStatus.MISS;
+        }
+        return (shipMask[w] & bit) != 0 ? CellStatus.SHIP : CellStatus.EMPTY;
+    }
+
+    /**
+     * Encodes a new status for a cell into the bit masks.
+     * EMPTY and SHIP only clear the shot state, since ship presence is owned by placement.
+     *
+     * @param index the packed cell index
+     * @param status the new status
+     */
+    private void setStatusAt(int index, CellStatus status) {
+        observed.update(index, statusAt(index), status);
+        clearShotBits(index);
+
+        long bit = 1L << index;
+        int w = index >>> 6;
+
+        if (status == CellStatus.HIT) {
+            hitMask[w] |= bit;
+        } else if (status == CellStatus.MISS) {
+            missMask[w] |= bit;
+        } else if (status == CellStatus.SUNK) {
+            sunkMask[w] |= bit;
+        }
+    }
+
+    /**
+     * Clears the hit, miss and sunk bits of a cell.
+     *
+     * @param index the packed cell index
+     */
+    private void clearShotBits(int index) {
+        clearBit(hitMask, index);
+        clearBit(missMask, index);
+        clearBit(sunkMask, index);
+    }
+
+    /**
+     * Clears a single bit in a mask.
+     *
+     * @param mask the mask to update
+     * @param index the bit index
+     */
+    private static void clearBit(long[] mask, int index) {
+        mask[index >>> 6] &= ~(1L << index);
+    }
+
+    /**
+     * Rebuilds the transient cell views, listener list, fleet counters and observed-state hash after deserialization.
+     *
+     * @param in the object input stream
+     * @throws IOException if an I/O error occurs
+     * @throws ClassNotFoundException if a class cannot be resolved
+     */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        changes = new BoardChangeSupport(this);
+        fleet = new FleetCounters();
+        for (IShip ship : ships) {
+            fleet.add(ship);
+        }
+        initializeCells();
+        observed = new ObservedStateHash();
+        observed.rebuild(this);
+    }
+
+    /**
+     * Cell view whose status lives in the enclosing board's bit masks.
+     */
+    private class BitCell extends Cell {
+
+        /**
+         * Serial version UID for serialization compatibility.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Packed index of this cell on the board.
+         */
+        private final int index;
+
+        /**
+         * Constructs a cell view for the given position.
+         *
+         * @param x the x coordinate
+         * @param y the y coordinate
+         */
+        BitCell(int x, int y) {
+            super(x, y);
+            this.index = x * size + y;
+        }
+
+        /**
+         * Returns the status decoded from the board masks.
+         *
+         * @return the cell status
+         */
+        @Override
+        public CellStatus getStatus() {
+            return statusAt(index);
+        }
+
+        /**
+         * Writes the status into the board masks.
+         *
+         * @param status the new status to set
+         */
+        @Override
+        public void setStatus(CellStatus status) {
+            setStatusAt(index, status);
+        }
+
+        /**
+         * Checks if this cell is empty.
+         *
+         * @return true if the cell is empty, false otherwise
+         */
+        @Override
+        public boolean isEmpty() {
+            return statusAt(index) == CellStatus.EMPTY;
+        }
+
+        /**
+         * Checks if this cell contains a ship that has not been hit.
+         *
+         * @return true if the cell contains an intact ship, false otherwise
+         */
+        @Override
+        public boolean hasShip() {
+            return statusAt(index) == CellStatus.SHIP;
+        }
+
+        /**
+         * Checks if this cell has been hit.
+         *
+         * @return true if the cell has been hit, false otherwise
+         */
+        @Override
+        public boolean isHit() {
+            return statusAt(index) == CellStatus.HIT;
+        }
+
+        /**
+         * Checks if this cell is a miss.
+         *
+         * @return true if the cell is a miss, false otherwise
+         */
+        @Override
+        public boolean isMiss() {
+            return statusAt(index) == CellStatus.MISS;
+        }
+    }
+}
@@ -4,6 +4,9 @@ import com.example.miniproyecto4.model.Cell.Cell;
 import com.example.miniproyecto4.model.Cell.CellStatus;
 import com.example.miniproyecto4.model.Cell.Coordinate;
 import com.example.miniproyecto4.model.Ship.IShip;
+import com.example.miniproyecto4.model.Ship.ShipType;
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -47,6 +50,21 @@ public class Board implements IBoard, Serializable {
      */
     private final Map<Coordinate, IShip> shipPositions;
 
+    /**
+     * Listeners notified of cell changes; not serialized.
+     */
+    private transient BoardChangeSupport changes;
+
+    /**
+     * Live fleet counters, updated as ships are placed, hit and removed; not serialized.
+     */
+    private transient FleetCounters fleet;
+
+    /**
+     * Zobrist hash of the observed cell states, updated as cells change; not serialized.
+     */
+    private transient ObservedStateHash observed;
+
     /**
      * Constructs a board with the default size (10x10).
      * Initializes an empty grid with no ships.
@@ -66,6 +84,9 @@ public class Board implements IBoard, Serializable {
         this.grid = new Cell[size][size];
         this.ships = new ArrayList<>();
         this.shipPositions = new HashMap<>();
+        this.changes = new BoardChangeSupport(this);
+        this.fleet = new FleetCounters();
+        this.observed = new ObservedStateHash();
         initializeGrid();
     }
 
@@ -100,7 +121,7 @@ public class Board implements IBoard, Serializable {
      */
     @Override
     public Cell getCell(int x, int y) {
-        if (!isValidCoordinate(new Coordinate(x, y))) {
+        if (x < 0 || x >= size || y < 0 || y >= size) {
             return null;
         }
         return grid[x][y];
@@ -117,6 +138,20 @@ public class Board implements IBoard, Serializable {
         return getCell(coordinate.getX(), coordinate.getY());
     }
 
+    /**
+     * Returns the cell at the specified packed index.
+     *
+     * @param index the packed index ({@code x * size + y})
+     * @return the cell at the given index, or null if the index is invalid
+     */
+    @Override
+    public Cell getCell(int index) {
+        if (index < 0 || index >= size * size) {
+            return null;
+        }
+        return grid[index / size][index % size];
+    }
+
     /**
      * Places a ship on the board.
      * Validates that all ship coordinates are within bounds and not occupied.
@@ -138,13 +173,17 @@ public class Board implements IBoard, Serializable {
             }
         }
 
-        for (Coordinate coord : coordinates) {
-            Cell cell = getCell(coord);
-            cell.setStatus(CellStatus.SHIP);
+        int[] indices = new int[coordinates.size()];
+        for (int i = 0; i < indices.length; i++) {
+            Coordinate coord = coordinates.get(i);
+            indices[i] = coord.toIndex(size);
+            updateCell(indices[i], CellStatus.SHIP);
             shipPositions.put(coord, ship);
         }
 
         ships.add(ship);
+        fleet.add(ship);
+        changes.fire(indices, CellStatus.SHIP);
         return true;
     }
 
@@ -161,15 +200,18 @@ public class Board implements IBoard, Serializable {
             return false;
         }
 
-        for (Coordinate coord : ship.getCoordinates()) {
-            Cell cell = getCell(coord);
-            if (cell != null) {
-                cell.setStatus(CellStatus.EMPTY);
-            }
+        List<Coordinate> coordinates = ship.getCoordinates();
+        int[] indices = new int[coordinates.size()];
+        for (int i = 0; i < indices.length; i++) {
+            Coordinate coord = coordinates.get(i);
+            indices[i] = coord.toIndex(size);
+            updateCell(indices[i], CellStatus.EMPTY);
             shipPositions.remove(coord);
         }
 
         ships.remove(ship);
+        fleet.remove(ship);
+        changes.fire(indices, CellStatus.EMPTY);
         return true;
     }
 
@@ -194,6 +236,21 @@ public class Board implements IBoard, Serializable {
         return shipPositions.get(coordinate);
     }
 
+    /**
+     * Returns the ship at the specified packed index.
+     * Looks up the interned coordinate so no key object is allocated.
+     *
+     * @param index the packed index ({@code x * size + y})
+     * @return the ship at that index, or null if no ship exists
+     */
+    @Override
+    public IShip getShipAt(int index) {
+        if (index < 0 || index >= size * size) {
+            return null;
+        }
+        return shipPositions.get(Coordinate.ofIndex(index, size));
+    }
+
     /**
      * Checks if there is a ship at the specified coordinate.
      *
@@ -205,6 +262,17 @@ public class Board implements IBoard, Serializable {
         return shipPositions.containsKey(coordinate);
     }
 
+    /**
+     * Checks if there is a ship at the specified packed index.
+     *
+     * @param index the packed index ({@code x * size + y})
+     * @return true if a ship exists at that index, false otherwise
+     */
+    @Override
+    public boolean hasShipAt(int index) {
+        return getShipAt(index) != null;
+    }
+
     /**
      * Validates if a coordinate is within the board bounds.
      *
@@ -218,20 +286,46 @@ public class Board implements IBoard, Serializable {
         return x >= 0 && x < size && y >= 0 && y < size;
     }
 
+    /**
+     * Returns the number of ships on the board.
+     *
+     * @return the number of placed ships
+     */
+    @Override
+    public int getShipCount() {
+        return fleet.getShipCount();
+    }
+
     /**
      * Returns the count of sunk ships on the board.
+     * Read from the live fleet counters.
      *
      * @return the number of ships that have been completely sunk
      */
     @Override
     public int getSunkShipsCount() {
-        int count = 0;
-        for (IShip ship : ships) {
-            if (ship.isSunk()) {
-                count++;
-            }
-        }
-        return count;
+        return fleet.getSunkCount();
+    }
+
+    /**
+     * Returns the number of ship segments that have not been hit yet.
+     *
+     * @return the remaining ship segments
+     */
+    @Override
+    public int getRemainingSegments() {
+        return fleet.getRemainingSegments();
+    }
+
+    /**
+     * Returns the number of ships of a type that are still afloat.
+     *
+     * @param type the ship type
+     * @return the remaining ships of that type
+     */
+    @Override
+    public int getRemainingShips(ShipType type) {
+        return fleet.getRemainingShips(type);
     }
 
     /**
@@ -241,7 +335,17 @@ public class Board implements IBoard, Serializable {
      */
     @Override
     public boolean allShipsSunk() {
-        return !ships.isEmpty() && getSunkShipsCount() == ships.size();
+        return fleet.getShipCount() > 0 && fleet.getSunkCount() == fleet.getShipCount();
+    }
+
+    /**
+     * Returns the Zobrist hash of the observed board state.
+     *
+     * @return the hash of hit, missed and sunk cells, ships afloat per type and board size
+     */
+    @Override
+    public long getObservedHash() {
+        return observed.value(size, fleet);
     }
 
     /**
@@ -250,8 +354,92 @@ public class Board implements IBoard, Serializable {
      */
     @Override
     public void reset() {
+        fleet.clear(ships);
         ships.clear();
         shipPositions.clear();
+        observed.clear();
         initializeGrid();
+        changes.fireFull();
+    }
+
+    /**
+     * Sets the status of a cell and notifies the change listeners.
+     *
+     * @param index the packed index of the cell ({@code x * size + y})
+     * @param status the new status of the cell
+     */
+    @Override
+    public void setCellStatus(int index, CellStatus status) {
+        if (index >= 0 && index < size * size) {
+            updateCell(index, status);
+            changes.fire(index, status);
+        }
+    }
+
+    /**
+     * Marks every cell of a ship as sunk and notifies the change listeners
+     * with a single delta covering the whole ship.
+     *
+     * @param ship the ship that has been sunk
+     */
+    @Override
+    public void markShipSunk(IShip ship) {
+        List<Coordinate> coordinates = ship.getCoordinates();
+        int[] indices = new int[coordinates.size()];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = coordinates.get(i).toIndex(size);
+            updateCell(indices[i], CellStatus.SUNK);
+        }
+        changes.fire(indices, CellStatus.SUNK);
+    }
+
+    /**
+     * Sets the status of a cell and updates the observed-state hash.
+     *
+     * @param index the packed index of the cell
+     * @param status the new status of the cell
+     */
+    private void updateCell(int index, CellStatus status) {
+        Cell cell = grid[index / size][index % size];
+        observed.update(index, cell.getStatus(), status);
+        cell.setStatus(status);
+    }
+
+    /**
+     * Registers a listener notified when cells change status through this board.
+     *
+     * @param listener the listener to add
+     */
+    @Override
+    public void addChangeListener(BoardChangeListener listener) {
+        changes.add(listener);
+    }
+
+    /**
+     * Removes a previously registered change listener.
+     *
+     * @param listener the listener to remove
+     */
+    @Override
+    public void removeChangeListener(BoardChangeListener listener) {
+        changes.remove(listener);
+    }
+
+    /**
+     * Restores the transient listener list, fleet counters and observed-state hash after deserialization.
+     *
+     * @param in the object input stream
+     * @throws IOException if an I/O error occurs
+     * @throws ClassNotFoundException if a class cannot be resolved
+     */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        changes = new BoardChangeSupport(this);
+        fleet = new FleetCounters();
+        for (IShip ship : ships) {
+            fleet.add(ship);
+        }
+        observed = new ObservedStateHash();
+        observed.rebuild(this);
     }
 }
\ No newline at end of file
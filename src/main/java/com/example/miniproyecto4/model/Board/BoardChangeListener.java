@@ -0,0 +1,17 @@
+package com.example.miniproyecto4.model.Board;
+
+/**
+ * Listener notified when cells of a board change status.
+ * May be called from any thread that modifies the board.
+ */
+@FunctionalInterface
+public interface BoardChangeListener {
+
+    /**
+     * Called after one or more cells of a board changed status.
+     *
+     * @param board the board that changed
+     * @param delta the changed cells and their new status
+     */
+    void onBoardChanged(IBoard board, BoardDelta delta);
+}
@@ -0,0 +1,97 @@
+package com.example.miniproyecto4.model.Board;
+
+import com.example.miniproyecto4.model.Cell.CellStatus;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Listener list shared by the board implementations.
+ * Deltas are only built when at least one listener is registered, so boards
+ * without observers (simulations, the AI) pay no allocation per change.
+ */
+class BoardChangeSupport {
+
+    /**
+     * The board whose changes are reported.
+     */
+    private final IBoard board;
+
+    /**
+     * Registered listeners; safe to modify while events are delivered.
+     */
+    private final List<BoardChangeListener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Creates the listener list for a board.
+     *
+     * @param board the board whose changes are reported
+     */
+    BoardChangeSupport(IBoard board) {
+        this.board = board;
+    }
+
+    /**
+     * Registers a listener.
+     *
+     * @param listener the listener to add
+     */
+    void add(BoardChangeListener listener) {
+        if (listener != null) {
+            listeners.add(listener);
+        }
+    }
+
+    /**
+     * Removes a listener.
+     *
+     * @param listener the listener to remove
+     */
+    void remove(BoardChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Reports a change of one cell.
+     *
+     * @param index the packed index of the cell
+     * @param status the new status
+     */
+    void fire(int index, CellStatus status) {
+        if (!listeners.isEmpty()) {
+            fire(BoardDelta.of(index, status));
+        }
+    }
+
+    /**
+     * Reports several cells changing to the same status.
+     *
+     * @param indices the packed indices of the cells
+     * @param status the new status
+     */
+    void fire(int[] indices, CellStatus status) {
+        if (!listeners.isEmpty()) {
+            fire(BoardDelta.of(indices, status));
+        }
+    }
+
+    /**
+     * Reports the status of every cell, after the whole board changed.
+     */
+    void fireFull() {
+        if (!listeners.isEmpty()) {
+            fire(BoardDelta.full(board));
+        }
+    }
+
+    /**
+     * Delivers a delta to every listener.
+     *
+     * @param delta the delta to deliver
+     */
+    private void fire(BoardDelta delta) {
+        for (BoardChangeListener listener : listeners) {
+            listener.onBoardChanged(board, delta);
+        }
+    }
+}
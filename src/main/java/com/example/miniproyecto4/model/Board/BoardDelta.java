@@ -0,0 +1,140 @@
+package com.example.miniproyecto4.model.Board;
+
+import com.example.miniproyecto4.model.Cell.CellStatus;
+
+/**
+ * Compact, immutable description of cells that changed status.
+ * Each entry packs the cell index ({@code x * size + y}) and the ordinal of
+ * its new {@link CellStatus} into one int, so a sinking ship or a whole
+ * board fits in a single small array.
+ */
+public final class BoardDelta {
+
+    /**
+     * Number of low bits holding the status ordinal.
+     */
+    private static final int STATUS_BITS = 3;
+
+    /**
+     * Mask selecting the status ordinal of an entry.
+     */
+    private static final int STATUS_MASK = (1 << STATUS_BITS) - 1;
+
+    /**
+     * Cached cell statuses, indexed by ordinal.
+     */
+    private static final CellStatus[] STATUSES = CellStatus.values();
+
+    /**
+     * Changed cells, each packed as {@code index << 3 | ordinal}.
+     */
+    private final int[] entries;
+
+    /**
+     * True if the delta describes every cell of the board.
+     */
+    private final boolean full;
+
+    /**
+     * Creates a delta over packed entries.
+     *
+     * @param entries the packed entries, owned by the delta
+     * @param full true if the entries cover the whole board
+     */
+    private BoardDelta(int[] entries, boolean full) {
+        this.entries = entries;
+        this.full = full;
+    }
+
+    /**
+     * Creates a delta for a single cell.
+     *
+     * @param index the packed index of the cell
+     * @param status the new status of the cell
+     * @return the delta
+     */
+    public static BoardDelta of(int index, CellStatus status) {
+        return new BoardDelta(new int[]{pack(index, status)}, false);
+    }
+
+    /**
+     * Creates a delta for several cells that changed to the same status,
+     * such as the cells of a ship that was sunk.
+     *
+     * @param indices the packed indices of the cells
+     * @param status the new status of the cells
+     * @return the delta
+     */
+    public static BoardDelta of(int[] indices, CellStatus status) {
+        int[] entries = new int[indices.length];
+        for (int i = 0; i < indices.length; i++) {
+            entries[i] = pack(indices[i], status);
+        }
+        return new BoardDelta(entries, false);
+    }
+
+    /**
+     * Creates a delta holding the current status of every cell of a board.
+     * Used to bring a view up to date in one step, for example after a load.
+     *
+     * @param board the board to describe
+     * @return the delta
+     */
+    public static BoardDelta full(IBoard board) {
+        int cells = board.getSize() * board.getSize();
+        int[] entries = new int[cells];
+        for (int index = 0; index < cells; index++) {
+            entries[index] = pack(index, board.getCell(index).getStatus());
+        }
+        return new BoardDelta(entries, true);
+    }
+
+    /**
+     * Returns the number of changed cells.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return entries.length;
+    }
+
+    /**
+     * Returns the packed index of an entry.
+     *
+     * @param i the position of the entry
+     * @return the cell index ({@code x * size + y})
+     */
+    public int getIndex(int i) {
+        return entries[i] >>> STATUS_BITS;
+    }
+
+    /**
+     * Returns the new status of an entry.
+     *
+     * @param i the position of the entry
+     * @return the cell status
+     */
+    public CellStatus getStatus(int i) {
+        return STATUSES[entries[i] & STATUS_MASK];
+    }
+
+    /**
+     * Checks if the delta describes every cell of the board.
+     *
+     * @return true for a full-board delta, false otherwise
+     */
+    public boolean isFull() {
+        return full;
+    }
+
+    /**
+     * Packs a cell index and status into one entry.
+     *
+     * @param index the packed index of the cell
+     * @param status the status of the cell
+     * @return the packed entry
+     */
+    private static int pack(int index, CellStatus status) {
+        return index << STATUS_BITS | status.ordinal();
+    }
+}
@@ -33,4 +33,24 @@ public class BoardFactory {
     public static IBoard createEmptyBoard() {
         return new Board();
     }
+
+    /**
+     * Creates a bit-packed board with the default size (10x10).
+     * Intended for headless simulations where cell lookups dominate.
+     *
+     * @return A new bit board instance
+     */
+    public static IBoard createBitBoard() {
+        return new BitBoard();
+    }
+
+    /**
+     * Creates a bit-packed board with a custom size.
+     *
+     * @param size The size of the board
+     * @return A new bit board instance
+     */
+    public static IBoard createBitBoard(int size) {
+        return new BitBoard(size);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,138 @@
+package com.example.miniproyecto4.model.Board;
+
+import com.example.miniproyecto4.model.Ship.IShip;
+import com.example.miniproyecto4.model.Ship.ShipHitListener;
+import com.example.miniproyecto4.model.Ship.ShipType;
+
+import java.util.List;
+
+/**
+ * Live fleet counters shared by the board implementations.
+ * Tracks ships placed, ships sunk, segments still afloat and ships still
+ * afloat per type. Registered as the hit listener of every ship on the board,
+ * so the counters follow every hit, whether it comes from shot resolution,
+ * a save being replayed or a direct call to {@link IShip#hit}.
+ */
+class FleetCounters implements ShipHitListener {
+
+    /**
+     * Number of ships on the board.
+     */
+    private int shipCount;
+
+    /**
+     * Number of sunk ships on the board.
+     */
+    private int sunkCount;
+
+    /**
+     * Number of ship segments not hit yet.
+     */
+    private int remainingSegments;
+
+    /**
+     * Ships still afloat, indexed by ship type ordinal.
+     */
+    private final int[] remainingByType = new int[ShipType.values().length];
+
+    /**
+     * Starts tracking a ship placed on the board, including any hits it already has.
+     *
+     * @param ship the placed ship
+     */
+    void add(IShip ship) {
+        ship.setHitListener(this);
+        shipCount++;
+        remainingSegments += ship.getSize() - ship.getHitCount();
+        if (ship.isSunk()) {
+            sunkCount++;
+        } else {
+            remainingByType[ship.getType().ordinal()]++;
+        }
+    }
+
+    /**
+     * Stops tracking a ship removed from the board.
+     *
+     * @param ship the removed ship
+     */
+    void remove(IShip ship) {
+        ship.setHitListener(null);
+        shipCount--;
+        remainingSegments -= ship.getSize() - ship.getHitCount();
+        if (ship.isSunk()) {
+            sunkCount--;
+        } else {
+            remainingByType[ship.getType().ordinal()]--;
+        }
+    }
+
+    /**
+     * Stops tracking every ship and resets the counters to zero.
+     *
+     * @param ships the ships that were on the board
+     */
+    void clear(List<IShip> ships) {
+        for (int i = 0; i < ships.size(); i++) {
+            ships.get(i).setHitListener(null);
+        }
+        shipCount = 0;
+        sunkCount = 0;
+        remainingSegments = 0;
+        for (int i = 0; i < remainingByType.length; i++) {
+            remainingByType[i] = 0;
+        }
+    }
+
+    /**
+     * Updates the counters after a new hit on a tracked ship.
+     *
+     * @param ship the ship that was hit
+     * @param sunk true if the hit sank the ship
+     */
+    @Override
+    public void onShipHit(IShip ship, boolean sunk) {
+        remainingSegments--;
+        if (sunk) {
+            sunkCount++;
+            remainingByType[ship.getType().ordinal()]--;
+        }
+    }
+
+    /**
+     * Returns the number of ships on the board.
+     *
+     * @return the ship count
+     */
+    int getShipCount() {
+        return shipCount;
+    }
+
+    /**
+     * Returns the number of sunk ships.
+     *
+     * @return the sunk ship count
+     */
+    int getSunkCount() {
+        return sunkCount;
+    }
+
+    /**
+     * Returns the number of ship segments not hit yet.
+     *
+     * @return the remaining segments
+     */
+    int getRemainingSegments() {
+        return remainingSegments;
+    }
+
+    /**
+     * Returns the number of ships of a type that are still afloat.
+     *
+     * @param type the ship type
+     * @return the remaining ships of that type
+     */
+    int getRemainingShips(ShipType type) {
+        return remainingByType[type.ordinal()];
+    }
+}
@@ -1,8 +1,10 @@
 package com.example.miniproyecto4.model.Board;
 
 import com.example.miniproyecto4.model.Cell.Cell;
+import com.example.miniproyecto4.model.Cell.CellStatus;
 import com.example.miniproyecto4.model.Cell.Coordinate;
 import com.example.miniproyecto4.model.Ship.IShip;
+import com.example.miniproyecto4.model.Ship.ShipType;
 import java.io.Serializable;
 import java.util.List;
 
@@ -36,6 +38,14 @@ public interface IBoard extends Serializable {
      */
     Cell getCell(Coordinate coordinate);
 
+    /**
+     * Gets the cell at the specified packed index ({@code x * size + y}).
+     *
+     * @param index The packed cell index
+     * @return The cell at the given index, or null if invalid
+     */
+    Cell getCell(int index);
+
     /**
      * Places a ship on the board.
      *
@@ -67,6 +77,14 @@ public interface IBoard extends Serializable {
      */
     IShip getShipAt(Coordinate coordinate);
 
+    /**
+     * Gets the ship at the specified packed index ({@code x * size + y}).
+     *
+     * @param index The packed cell index
+     * @return The ship at that index, or null if no ship exists
+     */
+    IShip getShipAt(int index);
+
     /**
      * Checks if there is a ship at the specified coordinate.
      *
@@ -75,6 +93,14 @@ public interface IBoard extends Serializable {
      */
     boolean hasShipAt(Coordinate coordinate);
 
+    /**
+     * Checks if there is a ship at the specified packed index ({@code x * size + y}).
+     *
+     * @param index The packed cell index
+     * @return true if a ship exists at that index, false otherwise
+     */
+    boolean hasShipAt(int index);
+
     /**
      * Validates if a coordinate is within the board bounds.
      *
@@ -83,6 +109,14 @@ public interface IBoard extends Serializable {
      */
     boolean isValidCoordinate(Coordinate coordinate);
 
+    /**
+     * Gets the number of ships placed on the board.
+     * Constant-time; prefer it over {@code getShips().size()}, which copies the list.
+     *
+     * @return the number of placed ships
+     */
+    int getShipCount();
+
     /**
      * Gets the count of sunk ships on the board.
      *
@@ -90,6 +124,21 @@ public interface IBoard extends Serializable {
      */
     int getSunkShipsCount();
 
+    /**
+     * Gets the number of ship segments that have not been hit yet.
+     *
+     * @return the remaining ship segments
+     */
+    int getRemainingSegments();
+
+    /**
+     * Gets the number of ships of a type that are still afloat.
+     *
+     * @param type the ship type
+     * @return the remaining ships of that type
+     */
+    int getRemainingShips(ShipType type);
+
     /**
      * Checks if all ships on the board are sunk.
      *
@@ -97,8 +146,49 @@ public interface IBoard extends Serializable {
      */
     boolean allShipsSunk();
 
+    /**
+     * Gets a 64-bit Zobrist hash of what a shooter can observe on the board:
+     * which cells are hit, which are missed or sunk, how many ships of each
+     * type are still afloat and the board size. Hidden ships do not affect it.
+     * Maintained incrementally as cells change through the board, so reading
+     * it is constant-time. Boards with the same observed state hash equally.
+     *
+     * @return the hash of the observed state
+     */
+    long getObservedHash();
+
     /**
      * Resets the board to its initial empty state.
      */
     void reset();
+
+    /**
+     * Sets the status of a cell and notifies the change listeners.
+     *
+     * @param index The packed index of the cell ({@code x * size + y})
+     * @param status The new status of the cell
+     */
+    void setCellStatus(int index, CellStatus status);
+
+    /**
+     * Marks every cell of a ship as sunk and notifies the change listeners
+     * with a single delta covering the whole ship.
+     *
+     * @param ship The ship that has been sunk
+     */
+    void markShipSunk(IShip ship);
+
+    /**
+     * Registers a listener notified when cells change status through this board.
+     *
+     * @param listener The listener to add
+     */
+    void addChangeListener(BoardChangeListener listener);
+
+    /**
+     * Removes a previously registered change listener.
+     *
+     * @param listener The listener to remove
+     */
+    void removeChangeListener(BoardChangeListener listener);
 }
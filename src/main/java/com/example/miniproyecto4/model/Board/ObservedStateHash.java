@@ -0,0 +1,151 @@
+package com.example.miniproyecto4.model.Board;
+
+import com.example.miniproyecto4.model.Cell.CellStatus;
+import com.example.miniproyecto4.model.Ship.ShipType;
+
+/**
+ * Incremental Zobrist hash of what a shooter can observe on a board, shared
+ * by the board implementations.
+ * Every cell is in one of three observed classes: unknown (EMPTY or SHIP, the
+ * shooter cannot tell them apart), HIT, or blocked (MISS or SUNK). Each cell
+ * and class other than unknown has a fixed 64-bit key, and the cell part of
+ * the hash is the XOR of the keys of every cell, so a status change is one
+ * XOR out and one XOR in. The fleet part mixes in the number of ships still
+ * afloat per type and the board size when the hash is read.
+ * <p>
+ * Keys are derived from the cell index with a SplitMix64 finalizer rather
+ * than stored in a table, so any board size is supported and every board in
+ * the JVM agrees on them. Equal observed states therefore hash equally
+ * across boards, games and threads.
+ * </p>
+ */
+class ObservedStateHash {
+
+    /**
+     * Seed of the cell keys.
+     */
+    private static final long CELL_SEED = 0x6A09E667F3BCC909L;
+
+    /**
+     * Seed of the fleet keys.
+     */
+    private static final long FLEET_SEED = 0xBB67AE8584CAA73BL;
+
+    /**
+     * Seed of the board size key.
+     */
+    private static final long SIZE_SEED = 0x3C6EF372FE94F82BL;
+
+    /**
+     * Observed class of a cell that has not been shot.
+     */
+    private static final int UNKNOWN = 0;
+
+    /**
+     * Observed class of a hit cell whose ship is still afloat.
+     */
+    private static final int HIT = 1;
+
+    /**
+     * Observed class of a missed or sunk cell.
+     */
+    private static final int BLOCKED = 2;
+
+    /**
+     * Cached ship types, indexed by ordinal.
+     */
+    private static final ShipType[] TYPES = ShipType.values();
+
+    /**
+     * XOR of the keys of every cell that is not unknown.
+     */
+    private long cells;
+
+    /**
+     * Updates the hash after a cell changed status.
+     *
+     * @param index the packed index of the cell
+     * @param previous the status before the change
+     * @param current the status after the change
+     */
+    void update(int index, CellStatus previous, CellStatus current) {
+        cells ^= cellKey(index, classOf(previous)) ^ cellKey(index, classOf(current));
+    }
+
+    /**
+     * Forgets every shot, as for a board with no cell shot.
+     */
+    void clear() {
+        cells = 0L;
+    }
+
+    /**
+     * Recomputes the cell part of the hash from scratch.
+     * Used after deserialization, when only the cell statuses are known.
+     *
+     * @param board the board to hash
+     */
+    void rebuild(IBoard board) {
+        cells = 0L;
+        int cellCount = board.getSize() * board.getSize();
+        for (int index = 0; index < cellCount; index++) {
+            cells ^= cellKey(index, classOf(board.getCell(index).getStatus()));
+        }
+    }
+
+    /**
+     * Returns the hash of the observed state.
+     *
+     * @param size the board size
+     * @param fleet the live fleet counters of the board
+     * @return the 64-bit hash of cells, ships afloat per type and board size
+     */
+    long value(int size, FleetCounters fleet) {
+        long hash = cells ^ mix(SIZE_SEED + size);
+        for (ShipType type : TYPES) {
+            hash ^= mix(FLEET_SEED + (type.ordinal() << 16) + fleet.getRemainingShips(type));
+        }
+        return hash;
+    }
+
+    /**
+     * Returns the key of a cell in an observed class.
+     *
+     * @param index the packed index of the cell
+     * @param observedClass UNKNOWN, HIT or BLOCKED
+     * @return the key, or 0 for unknown cells
+     */
+    private static long cellKey(int index, int observedClass) {
+        return observedClass == UNKNOWN ? 0L : mix(CELL_SEED + ((long) index << 2) + observedClass);
+    }
+
+    /**
+     * Maps a cell status to the class a shooter observes.
+     *
+     * @param status the cell status
+     * @return UNKNOWN, HIT or BLOCKED
+     */
+    private static int classOf(CellStatus status) {
+        switch (status) {
+            case HIT:
+                return HIT;
+            case MISS:
+            case SUNK:
+                return BLOCKED;
+            default:
+                return UNKNOWN;
+        }
+    }
+
+    /**
+     * SplitMix64 finalizer: spreads every input bit over the whole output.
+     *
+     * @param z the value to mix
+     * @return the mixed value
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -43,7 +43,7 @@ public class Cell implements ICell, Serializable {
      * @param y the y coordinate
      */
     public Cell(int x, int y) {
-        this(new Coordinate(x, y));
+        this(Coordinate.of(x, y));
     }
 
     /**
@@ -1,13 +1,16 @@
 package com.example.miniproyecto4.model.Cell;
 
 import java.io.Serializable;
-import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Represents a coordinate position on the game board.
  * Uses a 2D coordinate system with x (column) and y (row) values.
  * Implements Serializable to support game state persistence.
  * Immutable class with proper equals and hashCode implementations for use in collections.
+ * Coordinates inside the board range should be obtained through {@link #of(int, int)},
+ * which returns shared interned instances instead of allocating a new object per call.
  */
 public class Coordinate implements Serializable {
 
@@ -16,6 +19,21 @@ public class Coordinate implements Serializable {
      */
     private static final long serialVersionUID = 1L;
 
+    /**
+     * Side of the square of interned coordinates; covers every board up to 32x32.
+     */
+    private static final int POOL_SIZE = 32;
+
+    /**
+     * Interned coordinates indexed by {@code x * POOL_SIZE + y}.
+     */
+    private static final Coordinate[] POOL = createPool();
+
+    /**
+     * Per-board-size tables mapping a packed index to its interned coordinate.
+     */
+    private static final ConcurrentMap<Integer, Coordinate[]> INDEX_TABLES = new ConcurrentHashMap<>();
+
     /**
      * The x coordinate (column position).
      */
@@ -37,6 +55,82 @@ public class Coordinate implements Serializable {
         this.y = y;
     }
 
+    /**
+     * Builds the pool of interned coordinates.
+     *
+     * @return the pool indexed by {@code x * POOL_SIZE + y}
+     */
+    private static Coordinate[] createPool() {
+        Coordinate[] pool = new Coordinate[POOL_SIZE * POOL_SIZE];
+        for (int x = 0; x < POOL_SIZE; x++) {
+            for (int y = 0; y < POOL_SIZE; y++) {
+                pool[x * POOL_SIZE + y] = new Coordinate(x, y);
+            }
+        }
+        return pool;
+    }
+
+    /**
+     * Returns the coordinate for the given values.
+     * Values inside the interned range return a shared instance; anything else
+     * (such as the off-board neighbours probed by the AI) is allocated as usual.
+     *
+     * @param x the x coordinate (column)
+     * @param y the y coordinate (row)
+     * @return the coordinate for (x, y)
+     */
+    public static Coordinate of(int x, int y) {
+        if (x >= 0 && x < POOL_SIZE && y >= 0 && y < POOL_SIZE) {
+            return POOL[x * POOL_SIZE + y];
+        }
+        return new Coordinate(x, y);
+    }
+
+    /**
+     * Returns the coordinate for a packed board index ({@code x * boardSize + y}).
+     *
+     * @param index the packed index
+     * @param boardSize the size of the board the index refers to
+     * @return the coordinate at that index
+     */
+    public static Coordinate ofIndex(int index, int boardSize) {
+        return indexTable(boardSize)[index];
+    }
+
+    /**
+     * Returns the intern table for a board size, creating it on first use.
+     * Entries are the same shared instances returned by {@link #of(int, int)}.
+     *
+     * @param boardSize the size of the board
+     * @return the coordinates indexed by {@code x * boardSize + y}
+     */
+    private static Coordinate[] indexTable(int boardSize) {
+        Coordinate[] table = INDEX_TABLES.get(boardSize);
+        if (table == null) {
+            table = new Coordinate[boardSize * boardSize];
+            for (int x = 0; x < boardSize; x++) {
+                for (int y = 0; y < boardSize; y++) {
+                    table[x * boardSize + y] = of(x, y);
+                }
+            }
+            Coordinate[] existing = INDEX_TABLES.putIfAbsent(boardSize, table);
+            if (existing != null) {
+                table = existing;
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Returns the packed index of this coordinate on a board of the given size.
+     *
+     * @param boardSize the size of the board
+     * @return the index {@code x * boardSize + y}
+     */
+    public int toIndex(int boardSize) {
+        return x * boardSize + y;
+    }
+
     /**
      * Returns the x coordinate.
      *
@@ -78,7 +172,7 @@ public class Coordinate implements Serializable {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(x, y);
+        return 31 * x + y;
     }
 
     /**
@@ -90,4 +184,13 @@ public class Coordinate implements Serializable {
     public String toString() {
         return "(" + x + "," + y + ")";
     }
+
+    /**
+     * Replaces deserialized coordinates with their interned instance.
+     *
+     * @return the canonical coordinate for these values
+     */
+    private Object readResolve() {
+        return of(x, y);
+    }
 }
\ No newline at end of file
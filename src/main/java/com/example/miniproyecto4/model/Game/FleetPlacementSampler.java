@@ -0,0 +1,543 @@
+package com.example.miniproyecto4.model.Game;
+
+import com.example.miniproyecto4.model.Board.IBoard;
+import com.example.miniproyecto4.model.Cell.Coordinate;
+import com.example.miniproyecto4.model.Ship.IShip;
+import com.example.miniproyecto4.model.Validation.Orientation;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Placement engine drawing random fleets uniformly among all legal layouts.
+ * <p>
+ * For every ship length in the fleet it keeps two bit masks, one per
+ * orientation, with a bit set for each start cell where a ship of that length
+ * still fits, and placing a ship clears the starts it blocks for every length.
+ * Ships are placed longest first. Bit positions use the packed index
+ * {@code x * size + y}.
+ * </p>
+ * <p>
+ * Drawing each ship uniformly from the starts left by the ships before it
+ * favours layouts where the early ships block little, so whole fleets are
+ * drawn by rejection instead: every ship is drawn from the starts that were
+ * legal on the initial board, and the whole draw is discarded as soon as a
+ * ship overlaps one already placed. Every layout is then equally likely, and
+ * on the default board about one draw in five succeeds. Crowded boards where
+ * rejection keeps failing fall back to enumerating every layout and picking
+ * one uniformly, and only when there are too many to enumerate to a
+ * backtracking search, so a fleet is always found when one exists.
+ * </p>
+ * <p>
+ * An instance reuses its buffers between calls and is not thread-safe; give
+ * each thread its own sampler.
+ * </p>
+ */
+public class FleetPlacementSampler {
+
+    /**
+     * Orientation slot of horizontal placements.
+     */
+    private static final int HORIZONTAL = 0;
+
+    /**
+     * Orientation slot of vertical placements.
+     */
+    private static final int VERTICAL = 1;
+
+    /**
+     * Whole-fleet draws tried before falling back to enumeration.
+     */
+    private static final int REJECTION_ATTEMPTS = 4096;
+
+    /**
+     * Search nodes the enumeration may visit before falling back to backtracking.
+     */
+    private static final int ENUMERATION_NODE_LIMIT = 1_000_000;
+
+    /**
+     * Side length of the boards this sampler places fleets on.
+     */
+    private final int size;
+
+    /**
+     * Number of cells on the board.
+     */
+    private final int cells;
+
+    /**
+     * Number of 64-bit words in one cell mask.
+     */
+    private final int words;
+
+    /**
+     * Distinct ship lengths of the current fleet, longest first.
+     */
+    private int[] lengths = new int[0];
+
+    /**
+     * Number of valid entries in {@link #lengths}.
+     */
+    private int lengthCount;
+
+    /**
+     * Number of longs in one search state: the occupancy mask followed by two
+     * legal-start masks for every distinct length.
+     */
+    private int stride;
+
+    /**
+     * Search states, one per depth, each {@link #stride} longs long.
+     */
+    private long[] states = new long[0];
+
+    /**
+     * Placements already tried at each depth, two cell masks per depth.
+     */
+    private long[] tried = new long[0];
+
+    /**
+     * Chosen placement at each depth, encoded as {@code orientation * cells + index}.
+     */
+    private int[] choices = new int[0];
+
+    /**
+     * Placements of the layout being enumerated, encoded like {@link #choices}.
+     */
+    private int[] current = new int[0];
+
+    /**
+     * Complete layouts seen by the enumeration so far.
+     */
+    private int layoutsSeen;
+
+    /**
+     * Search nodes the enumeration may still visit.
+     */
+    private int nodesLeft;
+
+    /**
+     * Fleet positions in placement order.
+     */
+    private int[] order = new int[0];
+
+    /**
+     * Length slot of the ship placed at each depth.
+     */
+    private int[] slots = new int[0];
+
+    /**
+     * Creates a sampler for boards of the given size.
+     *
+     * @param size the side length of the board
+     */
+    public FleetPlacementSampler(int size) {
+        this.size = size;
+        this.cells = size * size;
+        this.words = (cells + 63) >>> 6;
+    }
+
+    /**
+     * Places every ship of the fleet on the board. Cells already occupied on
+     * the board are avoided. Nothing is placed if the fleet cannot fit.
+     *
+     * @param board the board to place the ships on
+     * @param fleet the ships to place
+     * @param random the random number generator to use
+     * @return true if every ship was placed, false if no arrangement exists
+     * @throws IllegalArgumentException if the board size does not match this sampler
+     */
+    public boolean place(IBoard board, List<IShip> fleet, Random random) {
+        if (board.getSize() != size) {
+            throw new IllegalArgumentException("Board size " + board.getSize() + " does not match sampler size " + size);
+        }
+
+        prepare(fleet);
+        initialize(board);
+        if (!sample(fleet.size(), random)) {
+            return false;
+        }
+
+        for (int depth = 0; depth < fleet.size(); depth++) {
+            IShip ship = fleet.get(order[depth]);
+            int index = choices[depth] % cells;
+            Orientation orientation = choices[depth] < cells ? Orientation.HORIZONTAL : Orientation.VERTICAL;
+            ship.setPosition(Coordinate.ofIndex(index, size), orientation);
+            if (!board.placeShip(ship)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Sorts the fleet longest first, collects its distinct lengths and sizes the buffers.
+     *
+     * @param fleet the ships to place
+     */
+    private void prepare(List<IShip> fleet) {
+        int count = fleet.size();
+        if (order.length < count) {
+            order = new int[count];
+            slots = new int[count];
+            choices = new int[count];
+            current = new int[count];
+            lengths = new int[count];
+        }
+
+        for (int i = 0; i < count; i++) {
+            int length = fleet.get(i).getSize();
+            int j = i;
+            while (j > 0 && fleet.get(order[j - 1]).getSize() < length) {
+                order[j] = order[j - 1];
+                j--;
+            }
+            order[j] = i;
+        }
+
+        lengthCount = 0;
+        for (int depth = 0; depth < count; depth++) {
+            int length = fleet.get(order[depth]).getSize();
+            if (lengthCount == 0 || lengths[lengthCount - 1] != length) {
+                lengths[lengthCount++] = length;
+            }
+            slots[depth] = lengthCount - 1;
+        }
+
+        stride = words * (1 + 2 * lengthCount);
+        if (states.length < (count + 1) * stride) {
+            states = new long[(count + 1) * stride];
+        }
+        if (tried.length < count * 2 * words) {
+            tried = new long[count * 2 * words];
+        }
+    }
+
+    /**
+     * Builds the search state at depth 0 from the cells already occupied on the board.
+     *
+     * @param board the board to place the ships on
+     */
+    private void initialize(IBoard board) {
+        for (int i = 0; i < stride; i++) {
+            states[i] = 0L;
+        }
+        for (int index = 0; index < cells; index++) {
+            if (board.hasShipAt(index)) {
+                states[index >>> 6] |= 1L << index;
+            }
+        }
+
+        for (int slot = 0; slot < lengthCount; slot++) {
+            int length = lengths[slot];
+            for (int x = 0; x < size; x++) {
+                for (int y = 0; y < size; y++) {
+                    int index = x * size + y;
+                    if (x + length <= size && isFree(index, length, size)) {
+                        states[maskOffset(0, slot, HORIZONTAL) + (index >>> 6)] |= 1L << index;
+                    }
+                    if (y + length <= size && isFree(index, length, 1)) {
+                        states[maskOffset(0, slot, VERTICAL) + (index >>> 6)] |= 1L << index;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks that every cell of a span is free in the depth 0 occupancy mask.
+     *
+     * @param start the packed index of the first cell
+     * @param length the number of cells
+     * @param step the index distance between consecutive cells
+     * @return true if no cell of the span is occupied
+     */
+    private boolean isFree(int start, int length, int step) {
+        for (int i = 0, index = start; i < length; i++, index += step) {
+            if ((states[index >>> 6] & 1L << index) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Chooses a placement for every ship, uniformly among all legal layouts
+     * when rejection or enumeration succeeds.
+     *
+     * @param count the number of ships
+     * @param random the random number generator to use
+     * @return true if a placement was found for every ship
+     */
+    private boolean sample(int count, Random random) {
+        if (count > 0 && !isFeasible(0, 0, count)) {
+            return false;
+        }
+        for (int attempt = 0; attempt < REJECTION_ATTEMPTS; attempt++) {
+            if (drawFleet(count, random)) {
+                return true;
+            }
+        }
+
+        layoutsSeen = 0;
+        nodesLeft = ENUMERATION_NODE_LIMIT;
+        if (enumerate(0, count, random)) {
+            return layoutsSeen > 0;
+        }
+        return search(count, random);
+    }
+
+    /**
+     * Draws every ship uniformly from the starts legal on the initial board.
+     * The draw fails as soon as a ship overlaps one already placed, which
+     * makes every complete layout equally likely.
+     *
+     * @param count the number of ships
+     * @param random the random number generator to use
+     * @return true if no ship overlapped, with the placements in {@link #choices}
+     */
+    private boolean drawFleet(int count, Random random) {
+        for (int depth = 0; depth < count; depth++) {
+            int choice = draw(0, slots[depth], random);
+            int index = choice % cells;
+            int orientation = choice / cells;
+            if ((states[maskOffset(depth, slots[depth], orientation) + (index >>> 6)] & 1L << index) == 0) {
+                return false;
+            }
+            apply(depth, choice);
+            choices[depth] = choice;
+        }
+        return true;
+    }
+
+    /**
+     * Draws a start uniformly among the set bits of one length's masks.
+     *
+     * @param depth the depth of the state to draw from
+     * @param slot the length slot
+     * @param random the random number generator to use
+     * @return the encoded placement
+     */
+    private int draw(int depth, int slot, Random random) {
+        int total = 0;
+        for (int o = HORIZONTAL; o <= VERTICAL; o++) {
+            int offset = maskOffset(depth, slot, o);
+            for (int w = 0; w < words; w++) {
+                total += Long.bitCount(states[offset + w]);
+            }
+        }
+
+        int target = random.nextInt(total);
+        for (int o = HORIZONTAL; o <= VERTICAL; o++) {
+            int offset = maskOffset(depth, slot, o);
+            for (int w = 0; w < words; w++) {
+                long bits = states[offset + w];
+                int available = Long.bitCount(bits);
+                if (target < available) {
+                    for (int i = 0; i < target; i++) {
+                        bits &= bits - 1;
+                    }
+                    return o * cells + (w << 6) + Long.numberOfTrailingZeros(bits);
+                }
+                target -= available;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Visits every complete layout from a depth on and keeps one uniformly
+     * at random (reservoir sampling) in {@link #choices}.
+     *
+     * @param depth the depth of the next ship to place
+     * @param count the number of ships
+     * @param random the random number generator to use
+     * @return true if every layout was visited, false if the node limit ran out
+     */
+    private boolean enumerate(int depth, int count, Random random) {
+        if (depth == count) {
+            if (random.nextInt(++layoutsSeen) == 0) {
+                System.arraycopy(current, 0, choices, 0, count);
+            }
+            return true;
+        }
+
+        for (int o = HORIZONTAL; o <= VERTICAL; o++) {
+            for (int w = 0; w < words; w++) {
+                long bits = states[maskOffset(depth, slots[depth], o) + w];
+                while (bits != 0L) {
+                    if (--nodesLeft < 0) {
+                        return false;
+                    }
+                    int choice = o * cells + (w << 6) + Long.numberOfTrailingZeros(bits);
+                    bits &= bits - 1;
+                    apply(depth, choice);
+                    if (isFeasible(depth + 1, depth + 1, count)) {
+                        current[depth] = choice;
+                        if (!enumerate(depth + 1, count, random)) {
+                            return false;
+                        }
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Runs the backtracking search over the ships in placement order.
+     * Always finds a fleet when one exists, but does not draw layouts uniformly.
+     *
+     * @param count the number of ships
+     * @param random the random number generator to use
+     * @return true if a placement was found for every ship
+     */
+    private boolean search(int count, Random random) {
+        for (int i = 0; i < count * 2 * words; i++) {
+            tried[i] = 0L;
+        }
+
+        int depth = 0;
+        while (depth < count) {
+            int choice = pick(depth, random);
+            if (choice < 0) {
+                clearTried(depth);
+                if (--depth < 0) {
+                    return false;
+                }
+                continue;
+            }
+
+            int index = choice % cells;
+            tried[depth * 2 * words + (choice / cells) * words + (index >>> 6)] |= 1L << index;
+            apply(depth, choice);
+            if (isFeasible(depth + 1, depth + 1, count)) {
+                choices[depth] = choice;
+                depth++;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Draws a placement uniformly among the legal, untried placements of the
+     * ship at a depth.
+     *
+     * @param depth the search depth
+     * @param random the random number generator to use
+     * @return the encoded placement, or -1 if none is left
+     */
+    private int pick(int depth, Random random) {
+        int triedOffset = depth * 2 * words;
+        int total = 0;
+        for (int o = HORIZONTAL; o <= VERTICAL; o++) {
+            int offset = maskOffset(depth, slots[depth], o);
+            for (int w = 0; w < words; w++) {
+                total += Long.bitCount(states[offset + w] & ~tried[triedOffset + o * words + w]);
+            }
+        }
+        if (total == 0) {
+            return -1;
+        }
+
+        int target = random.nextInt(total);
+        for (int o = HORIZONTAL; o <= VERTICAL; o++) {
+            int offset = maskOffset(depth, slots[depth], o);
+            for (int w = 0; w < words; w++) {
+                long bits = states[offset + w] & ~tried[triedOffset + o * words + w];
+                int available = Long.bitCount(bits);
+                if (target < available) {
+                    for (int i = 0; i < target; i++) {
+                        bits &= bits - 1;
+                    }
+                    return o * cells + (w << 6) + Long.numberOfTrailingZeros(bits);
+                }
+                target -= available;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Builds the state at the next depth by placing a ship on a copy of the
+     * current state and clearing every start the ship now blocks.
+     *
+     * @param depth the depth of the ship being placed
+     * @param choice the encoded placement
+     */
+    private void apply(int depth, int choice) {
+        System.arraycopy(states, depth * stride, states, (depth + 1) * stride, stride);
+
+        int next = depth + 1;
+        int start = choice % cells;
+        int step = choice < cells ? size : 1;
+        int length = lengths[slots[depth]];
+
+        for (int i = 0, index = start; i < length; i++, index += step) {
+            states[next * stride + (index >>> 6)] |= 1L << index;
+            int x = index / size;
+            int y = index % size;
+            for (int slot = 0; slot < lengthCount; slot++) {
+                int blocked = lengths[slot];
+                int horizontal = maskOffset(next, slot, HORIZONTAL);
+                int vertical = maskOffset(next, slot, VERTICAL);
+                for (int k = 0; k < blocked && k <= x; k++) {
+                    int cell = index - k * size;
+                    states[horizontal + (cell >>> 6)] &= ~(1L << cell);
+                }
+                for (int k = 0; k < blocked && k <= y; k++) {
+                    int cell = index - k;
+                    states[vertical + (cell >>> 6)] &= ~(1L << cell);
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks that every ship from a depth on still has at least one legal start.
+     *
+     * @param stateDepth the depth of the state to check
+     * @param firstShip the depth of the first ship still to place
+     * @param count the number of ships
+     * @return true if no remaining ship is blocked
+     */
+    private boolean isFeasible(int stateDepth, int firstShip, int count) {
+        for (int depth = firstShip; depth < count; depth++) {
+            if (depth > firstShip && slots[depth] == slots[depth - 1]) {
+                continue;
+            }
+            int horizontal = maskOffset(stateDepth, slots[depth], HORIZONTAL);
+            int vertical = maskOffset(stateDepth, slots[depth], VERTICAL);
+            long any = 0L;
+            for (int w = 0; w < words; w++) {
+                any |= states[horizontal + w] | states[vertical + w];
+            }
+            if (any == 0L) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Forgets the placements tried at a depth.
+     *
+     * @param depth the search depth
+     */
+    private void clearTried(int depth) {
+        for (int i = depth * 2 * words; i < (depth + 1) * 2 * words; i++) {
+            tried[i] = 0L;
+        }
+    }
+
+    /**
+     * Returns the offset of a legal-start mask within the state array.
+     *
+     * @param depth the search depth
+     * @param slot the length slot
+     * @param orientation the orientation slot
+     * @return the index of the first word of the mask
+     */
+    private int maskOffset(int depth, int slot, int orientation) {
+        return depth * stride + words * (1 + 2 * slot + orientation);
+    }
+}
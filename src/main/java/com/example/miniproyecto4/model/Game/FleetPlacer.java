@@ -0,0 +1,34 @@
+package com.example.miniproyecto4.model.Game;
+
+import com.example.miniproyecto4.model.Board.IBoard;
+import com.example.miniproyecto4.model.Ship.IShip;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Utility class placing a fleet at random positions on a board.
+ * Used for the computer's fleet and by the headless simulation.
+ * Placement is delegated to a {@link FleetPlacementSampler}.
+ * This class cannot be instantiated.
+ */
+public class FleetPlacer {
+
+    /**
+     * Places every ship of the fleet on the board at random coordinates and
+     * orientations without overlaps. Succeeds whenever the fleet can fit.
+     *
+     * @param board the board to place the ships on
+     * @param fleet the ships to place
+     * @param random the random number generator to use
+     * @return true if every ship was placed, false if the fleet cannot fit on the board
+     */
+    public static boolean placeRandomly(IBoard board, List<IShip> fleet, Random random) {
+        return new FleetPlacementSampler(board.getSize()).place(board, fleet, random);
+    }
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private FleetPlacer() {
+    }
+}
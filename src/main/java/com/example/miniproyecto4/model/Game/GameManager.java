@@ -2,112 +2,147 @@ package com.example.miniproyecto4.model.Game;
 
 import com.example.miniproyecto4.model.AI.IAIStrategy;
 import com.example.miniproyecto4.model.AI.RandomAIStrategy;
+import com.example.miniproyecto4.model.AI.ThinkingBudget;
 import com.example.miniproyecto4.model.Board.IBoard;
-import com.example.miniproyecto4.model.Cell.Cell;
-import com.example.miniproyecto4.model.Cell.CellStatus;
 import com.example.miniproyecto4.model.Cell.Coordinate;
 import com.example.miniproyecto4.model.GameSave.GameRepository;
 import com.example.miniproyecto4.model.GameSave.IGameRepository;
 import com.example.miniproyecto4.model.GameSave.SerializableGameData;
+import com.example.miniproyecto4.model.GameSave.JournaledGameRepository;
+import com.example.miniproyecto4.model.GameSave.WriteBehindGameRepository;
 import com.example.miniproyecto4.model.Player.ComputerPlayer;
 import com.example.miniproyecto4.model.Player.IPlayer;
 import com.example.miniproyecto4.model.Player.Player;
-import com.example.miniproyecto4.model.Ship.IShip;
 import com.example.miniproyecto4.model.Ship.ShipFactory;
+import com.example.miniproyecto4.model.Shot.ShotAvailability;
+import com.example.miniproyecto4.model.Shot.ShotResolver;
 import com.example.miniproyecto4.model.Shot.ShotResult;
-import com.example.miniproyecto4.model.Validation.Orientation;
-import java.util.List;
 import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Manages the game flow and state for a Battleship game.
- * Implements the Singleton pattern to ensure only one game instance exists.
+ * Each instance is an independent game engine owning its players, AI strategy,
+ * random number generator and repository slot; engines are created per session
+ * by {@link GameSessionRegistry}, and {@link #getInstance()} returns the default session.
  * Handles turn management, shot processing, game persistence, and win conditions.
- * Thread-safe implementation using ReentrantLock for concurrent access protection.
+ * Thread-safe: changes are serialized by a per-engine ReentrantLock and publish
+ * a new immutable {@link GameState}, so the getters read the current state
+ * without taking the lock. A budgeted AI decision thinks outside that lock,
+ * holding only the strategy lock, so a long decision never blocks the game.
  */
 public class GameManager implements IGameManager {
     /**
-     * Singleton instance of the GameManager.
+     * Players, status, turn and last computer shot, replaced as a whole on every change.
      */
-    private static GameManager instance;
+    private final AtomicReference<GameState> state;
 
     /**
-     * The human player participating in the game.
+     * Game status at the last forced flush of the repository.
      */
-    private IPlayer humanPlayer;
+    private GameStatus persistedStatus;
 
     /**
-     * The computer-controlled opponent player.
+     * Repository for saving and loading game state.
      */
-    private ComputerPlayer computerPlayer;
+    private final IGameRepository repository;
 
     /**
-     * Current status of the game (SETUP, PLAYING, PLAYER_WON, COMPUTER_WON).
+     * Strategy used by the AI to determine shot targets.
      */
-    private GameStatus gameStatus;
+    private IAIStrategy aiStrategy;
 
     /**
-     * Flag indicating whether it is currently the human player's turn.
+     * Random number generator for AI ship placement and shot selection.
      */
-    private boolean isPlayerTurn;
+    private final Random random;
 
     /**
-     * Repository for saving and loading game state.
+     * Cells of the human board the computer can still shoot, shared with the
+     * computer player and the AI strategy.
      */
-    private final IGameRepository repository;
+    private ShotAvailability computerShots;
 
     /**
-     * Strategy used by the AI to determine shot targets.
+     * Target chosen by {@link #planComputerShot()} and not fired yet, or null.
      */
-    private final IAIStrategy aiStrategy;
+    private Coordinate plannedComputerShot;
 
     /**
-     * Random number generator for AI ship placement and shot selection.
+     * Lock for ensuring thread-safe game state modifications.
      */
-    private final Random random;
+    private final ReentrantLock gameLock;
 
     /**
-     * The last coordinate where the computer player took a shot.
+     * Guards the AI strategy and the human board it reads. Always taken after
+     * {@link #gameLock}; a budgeted decision holds it alone while it thinks.
      */
-    private Coordinate lastComputerShot;
-
-
-    private static final ReentrantLock instanceLock = new ReentrantLock();
+    private final ReentrantLock strategyLock;
 
+    /**
+     * Budget of the decision being thought outside the game lock, or null.
+     * Written under the game lock.
+     */
+    private volatile ThinkingBudget activeBudget;
 
     /**
-     * Lock for ensuring thread-safe game state modifications.
+     * Constructs a game engine with the default repository, AI strategy and random generator.
      */
-    private final ReentrantLock gameLock;
+    public GameManager() {
+        this(new WriteBehindGameRepository(new JournaledGameRepository(new GameRepository())),
+                new RandomAIStrategy(), new Random());
+    }
 
-    private GameManager() {
-        this.repository = new GameRepository();
-        this.aiStrategy = new RandomAIStrategy();
-        this.random = new Random();
-        this.gameStatus = GameStatus.SETUP;
-        this.isPlayerTurn = true;
+    /**
+     * Constructs a game engine with its own collaborators.
+     *
+     * @param repository the repository slot this engine saves to
+     * @param aiStrategy the strategy the computer player uses
+     * @param random the random generator used for ship placement
+     */
+    public GameManager(IGameRepository repository, IAIStrategy aiStrategy, Random random) {
+        this.repository = repository;
+        this.aiStrategy = aiStrategy;
+        this.random = random;
+        this.state = new AtomicReference<>(GameState.INITIAL);
+        this.persistedStatus = GameStatus.SETUP;
         this.gameLock = new ReentrantLock();
+        this.strategyLock = new ReentrantLock();
     }
 
     /**
-     * Gets the singleton instance of GameManager.
-     * Thread-safe implementation using double-checked locking.
+     * Gets the game engine of the default session, used by the JavaFX controllers.
      *
-     * @return the single GameManager instance
+     * @return the default session's GameManager
      */
     public static GameManager getInstance() {
-        if (instance == null) {
-            instanceLock.lock();
-            try {
-                if (instance == null) {
-                    instance = new GameManager();
-                }
-            } finally {
-                instanceLock.unlock();
+        return GameSessionRegistry.getInstance().getDefaultSession();
+    }
+
+    /**
+     * Replaces the strategy the computer player uses to choose its shots.
+     * The new strategy is reset so it starts from a clean state.
+     *
+     * @param strategy the AI strategy to use, for example a {@link com.example.miniproyecto4.model.AI.MonteCarloAIStrategy}
+     * @throws IllegalArgumentException if the strategy is null
+     */
+    public void setAIStrategy(IAIStrategy strategy) {
+        if (strategy == null) {
+            throw new IllegalArgumentException("AI strategy cannot be null");
+        }
+        gameLock.lock();
+        lockStrategy();
+        try {
+            strategy.reset();
+            if (computerShots != null) {
+                strategy.setShotAvailability(computerShots);
             }
+            this.aiStrategy = strategy;
+        } finally {
+            strategyLock.unlock();
+            gameLock.unlock();
         }
-        return instance;
     }
 
     /**
@@ -120,46 +155,30 @@ public class GameManager implements IGameManager {
     @Override
     public void startNewGame(String playerNickname) {
         gameLock.lock();
+        lockStrategy();
         try {
-            humanPlayer = new Player(playerNickname);
-            computerPlayer = new ComputerPlayer();
+            ComputerPlayer computerPlayer = new ComputerPlayer();
+            placeComputerShips(computerPlayer);
 
-            placeComputerShips();
-
-            gameStatus = GameStatus.SETUP;
-            isPlayerTurn = true;
-            lastComputerShot = null;
             aiStrategy.reset();
+            plannedComputerShot = null;
+            state.set(new GameState(new Player(playerNickname), computerPlayer, GameStatus.SETUP, true, null));
+            shareComputerShots();
+            saveGameInternal();
         } finally {
+            strategyLock.unlock();
             gameLock.unlock();
         }
     }
 
     /**
      * Places all computer ships randomly on the board.
-     * Uses random coordinates and orientations with collision detection.
+     * Every ship is drawn from its legal placements, so the fleet is always placed.
+     *
+     * @param computerPlayer the computer player whose board receives the fleet
      */
-    private void placeComputerShips() {
-        List<IShip> fleet = ShipFactory.createFleet();
-        IBoard board = computerPlayer.getBoard();
-
-        for (IShip ship : fleet) {
-            boolean placed = false;
-            int attempts = 0;
-
-            while (!placed && attempts < 1000) {
-                int x = random.nextInt(board.getSize());
-                int y = random.nextInt(board.getSize());
-                Orientation orientation = random.nextBoolean() ? Orientation.HORIZONTAL : Orientation.VERTICAL;
-
-                ship.setPosition(new Coordinate(x, y), orientation);
-
-                if (board.placeShip(ship)) {
-                    placed = true;
-                }
-                attempts++;
-            }
-        }
+    private void placeComputerShips(ComputerPlayer computerPlayer) {
+        FleetPlacer.placeRandomly(computerPlayer.getBoard(), ShipFactory.createFleet(), random);
     }
     /**
      * Loads a previously saved game from the repository.
@@ -168,40 +187,35 @@ public class GameManager implements IGameManager {
     @Override
     public void loadGame() {
         gameLock.lock();
+        lockStrategy();
         try {
             SerializableGameData data = repository.loadGame();
 
             if (data != null) {
-                this.humanPlayer = data.getHumanPlayer();
-                this.computerPlayer = (ComputerPlayer) data.getComputerPlayer();
-                this.gameStatus = data.getGameStatus();
-                this.isPlayerTurn = data.isPlayerTurn();
+                state.set(new GameState(data.getHumanPlayer(), (ComputerPlayer) data.getComputerPlayer(),
+                        data.getGameStatus(), data.isPlayerTurn(), state.get().getLastComputerShot()));
+                this.persistedStatus = data.getGameStatus();
+                this.plannedComputerShot = null;
 
-                updateComputerAvailableShots();
+                shareComputerShots();
             }
         } finally {
+            strategyLock.unlock();
             gameLock.unlock();
         }
     }
 
     /**
-     * Updates the computer's AI strategy with already-taken shots.
-     * Synchronizes AI state with loaded game state.
+     * Builds the computer's shot availability from the human board and shares
+     * it with the computer player and the AI strategy, so already-taken shots
+     * are known after a new game or a load.
+     * Must be called with both locks held.
      */
-    private void updateComputerAvailableShots() {
-        IBoard playerBoard = humanPlayer.getBoard();
-        int size = playerBoard.getSize();
-
-        for (int x = 0; x < size; x++) {
-            for (int y = 0; y < size; y++) {
-                Coordinate coord = new Coordinate(x, y);
-                Cell cell = playerBoard.getCell(coord);
-
-                if (cell != null && (cell.isHit() || cell.isMiss())) {
-                    computerPlayer.markShotTaken(coord);
-                }
-            }
-        }
+    private void shareComputerShots() {
+        GameState current = state.get();
+        computerShots = ShotAvailability.fromBoard(current.getHumanPlayer().getBoard());
+        current.getComputerPlayer().setShotAvailability(computerShots);
+        aiStrategy.setShotAvailability(computerShots);
     }
     /**
      * Processes a shot from the human player at the specified coordinate.
@@ -214,127 +228,186 @@ public class GameManager implements IGameManager {
     public ShotResult processPlayerShot(Coordinate coordinate) {
         gameLock.lock();
         try {
-            if (!isPlayerTurn || gameStatus != GameStatus.PLAYING) {
+            GameState current = state.get();
+            if (!current.isPlayerTurn() || current.getGameStatus() != GameStatus.PLAYING) {
                 return ShotResult.INVALID;
             }
 
-            IBoard computerBoard = computerPlayer.getBoard();
-            Cell cell = computerBoard.getCell(coordinate);
+            IBoard computerBoard = current.getComputerPlayer().getBoard();
+            ShotResult result = ShotResolver.resolve(computerBoard, coordinate);
 
-            if (cell == null || cell.isHit() || cell.isMiss()) {
-                return ShotResult.INVALID;
+            if (result == ShotResult.INVALID) {
+                return result;
             }
 
-            IShip ship = computerBoard.getShipAt(coordinate);
-
-            if (ship == null) {
-                cell.setStatus(CellStatus.MISS);
-                isPlayerTurn = false;
-                saveGameInternal();
-                return ShotResult.WATER;
+            if (result == ShotResult.WATER) {
+                state.set(current.withPlayerTurn(false));
+            } else if (result == ShotResult.SUNK && computerBoard.allShipsSunk()) {
+                state.set(current.withStatus(GameStatus.PLAYER_WON));
             }
 
-            ship.hit(coordinate);
-            cell.setStatus(CellStatus.HIT);
-
-            if (ship.isSunk()) {
-                markShipAsSunk(computerBoard, ship);
+            saveGameInternal();
+            return result;
+        } finally {
+            gameLock.unlock();
+        }
+    }
+    /**
+     * Chooses the computer's next target without firing.
+     * The target is kept until {@link #processComputerShot()} fires it, so
+     * planning twice returns the same target and the AI is only asked once.
+     *
+     * @return the planned target, or null if it is not the computer's turn
+     */
+    @Override
+    public Coordinate planComputerShot() {
+        return planComputerShot(null);
+    }
 
-                if (computerBoard.allShipsSunk()) {
-                    gameStatus = GameStatus.PLAYER_WON;
-                    saveGameInternal();
-                    return ShotResult.SUNK;
+    /**
+     * Chooses the computer's next target without firing, letting the AI
+     * strategy think until the budget stops it. The strategy thinks outside
+     * the game lock, so the game stays responsive; a change to the game
+     * cancels the budget, and the target is only kept if the game is still
+     * where the decision started and the cell can still be shot.
+     * A target planned earlier is returned as is.
+     *
+     * @param budget the thinking budget, or null for an ordinary decision
+     * @return the planned target, or null if it is not the computer's turn
+     */
+    @Override
+    public Coordinate planComputerShot(ThinkingBudget budget) {
+        GameState planning;
+        gameLock.lock();
+        try {
+            planning = state.get();
+            if (planning.isPlayerTurn() || planning.getGameStatus() != GameStatus.PLAYING) {
+                return null;
+            }
+            if (plannedComputerShot == null && budget == null) {
+                lockStrategy();
+                try {
+                    plannedComputerShot = selectComputerTarget(planning);
+                } finally {
+                    strategyLock.unlock();
                 }
+            }
+            if (plannedComputerShot != null) {
+                return plannedComputerShot;
+            }
+            activeBudget = budget;
+        } finally {
+            gameLock.unlock();
+        }
 
-                saveGameInternal();
-                return ShotResult.SUNK;
+        Coordinate target = null;
+        strategyLock.lock();
+        try {
+            if (state.get() == planning) {
+                target = aiStrategy.selectTarget(planning.getHumanPlayer().getBoard(), budget).getTarget();
             }
+        } finally {
+            strategyLock.unlock();
+        }
 
-            saveGameInternal();
-            return ShotResult.HIT;
+        gameLock.lock();
+        try {
+            if (activeBudget == budget) {
+                activeBudget = null;
+            }
+            GameState current = state.get();
+            if (current != planning) {
+                return null;
+            }
+            if (plannedComputerShot == null) {
+                plannedComputerShot = ShotResolver.isTargetable(current.getHumanPlayer().getBoard(), target)
+                        ? target : current.getComputerPlayer().getNextShot();
+            }
+            return plannedComputerShot;
         } finally {
             gameLock.unlock();
         }
     }
+
+    /**
+     * Takes the strategy lock for a change made under the game lock, first
+     * cancelling any decision thinking outside it so the wait stays short.
+     * Must be called with the game lock held.
+     */
+    private void lockStrategy() {
+        ThinkingBudget budget = activeBudget;
+        if (budget != null) {
+            budget.cancel();
+        }
+        strategyLock.lock();
+    }
+
+    /**
+     * Asks the AI strategy for a target, falling back to a random open cell
+     * if the strategy has none or picks a cell that cannot be shot.
+     * Must be called with both locks held.
+     *
+     * @param current the current game state
+     * @return the target, or null if no cell can be shot
+     */
+    private Coordinate selectComputerTarget(GameState current) {
+        IBoard playerBoard = current.getHumanPlayer().getBoard();
+        Coordinate coordinate = aiStrategy.selectTarget(playerBoard);
+
+        if (!ShotResolver.isTargetable(playerBoard, coordinate)) {
+            coordinate = current.getComputerPlayer().getNextShot();
+        }
+        return coordinate;
+    }
+
     /**
      * Processes a shot from the computer player.
-     * Uses AI strategy to select a target, updates cell status, and checks for
-     * sunk ships and win conditions.
+     * Fires at the target planned by {@link #planComputerShot()}, or asks the
+     * AI strategy for one, then updates cell status and checks for sunk ships
+     * and win conditions.
      *
      * @return the result of the shot (INVALID, WATER, HIT, or SUNK)
      */
     @Override
     public ShotResult processComputerShot() {
         gameLock.lock();
+        lockStrategy();
         try {
-            if (isPlayerTurn || gameStatus != GameStatus.PLAYING) {
+            GameState current = state.get();
+            if (current.isPlayerTurn() || current.getGameStatus() != GameStatus.PLAYING) {
                 return ShotResult.INVALID;
             }
 
-            Coordinate coordinate = aiStrategy.selectTarget(humanPlayer.getBoard());
+            ComputerPlayer computerPlayer = current.getComputerPlayer();
+            IBoard playerBoard = current.getHumanPlayer().getBoard();
+            Coordinate coordinate = plannedComputerShot;
+            plannedComputerShot = null;
 
-            if (coordinate == null) {
-                coordinate = computerPlayer.getNextShot();
+            if (!ShotResolver.isTargetable(playerBoard, coordinate)) {
+                coordinate = selectComputerTarget(current);
             }
 
             if (coordinate == null) {
                 return ShotResult.INVALID;
             }
 
-            lastComputerShot = coordinate;
             computerPlayer.markShotTaken(coordinate);
 
-            IBoard playerBoard = humanPlayer.getBoard();
-            Cell cell = playerBoard.getCell(coordinate);
-
-            IShip ship = playerBoard.getShipAt(coordinate);
+            ShotResult result = ShotResolver.resolve(playerBoard, coordinate);
+            aiStrategy.updateStrategy(coordinate, result == ShotResult.HIT || result == ShotResult.SUNK);
 
-            if (ship == null) {
-                cell.setStatus(CellStatus.MISS);
-                isPlayerTurn = true;
-                aiStrategy.updateStrategy(coordinate, false);
-                saveGameInternal();
-                return ShotResult.WATER;
-            }
-
-            ship.hit(coordinate);
-            cell.setStatus(CellStatus.HIT);
-            aiStrategy.updateStrategy(coordinate, true);
-
-            if (ship.isSunk()) {
-                markShipAsSunk(playerBoard, ship);
-
-                if (playerBoard.allShipsSunk()) {
-                    gameStatus = GameStatus.COMPUTER_WON;
-                    saveGameInternal();
-                    return ShotResult.SUNK;
-                }
-
-                saveGameInternal();
-                return ShotResult.SUNK;
-            }
+            GameStatus status = result == ShotResult.SUNK && playerBoard.allShipsSunk()
+                    ? GameStatus.COMPUTER_WON : current.getGameStatus();
+            state.set(current.afterComputerShot(coordinate, status, result == ShotResult.WATER));
 
             saveGameInternal();
-            return ShotResult.HIT;
+            return result;
         } finally {
+            strategyLock.unlock();
             gameLock.unlock();
         }
     }
 
-    /**
-     * Marks all cells of a sunk ship with SUNK status.
-     *
-     * @param board the board containing the ship
-     * @param ship the ship that has been sunk
-     */
-    private void markShipAsSunk(IBoard board, IShip ship) {
-        for (Coordinate coord : ship.getCoordinates()) {
-            Cell cell = board.getCell(coord);
-            if (cell != null) {
-                cell.setStatus(CellStatus.SUNK);
-            }
-        }
-    }
     /**
      * Returns the human player instance.
      *
@@ -342,27 +415,17 @@ public class GameManager implements IGameManager {
      */
     @Override
     public IPlayer getHumanPlayer() {
-        gameLock.lock();
-        try {
-            return humanPlayer;
-        } finally {
-            gameLock.unlock();
-        }
+        return state.get().getHumanPlayer();
     }
 
     /**
      * Gets the coordinate of the last computer shot.
-     * Thread-safe accessor method.
+     * Reads the published state without locking.
      *
      * @return the last shot coordinate, or null if no shot has been made
      */
     public Coordinate getLastComputerShot() {
-        gameLock.lock();
-        try {
-            return lastComputerShot;
-        } finally {
-            gameLock.unlock();
-        }
+        return state.get().getLastComputerShot();
     }
 
     /**
@@ -372,12 +435,7 @@ public class GameManager implements IGameManager {
      */
     @Override
     public IPlayer getComputerPlayer() {
-        gameLock.lock();
-        try {
-            return computerPlayer;
-        } finally {
-            gameLock.unlock();
-        }
+        return state.get().getComputerPlayer();
     }
 
     /**
@@ -387,27 +445,21 @@ public class GameManager implements IGameManager {
      */
     @Override
     public GameStatus getGameStatus() {
-        gameLock.lock();
-        try {
-            return gameStatus;
-        } finally {
-            gameLock.unlock();
-        }
+        return state.get().getGameStatus();
     }
 
     /**
      * Sets the current game status.
-     * Automatically saves the game if transitioning to PLAYING status.
+     * Automatically saves the game if transitioning to PLAYING status,
+     * and flushes pending saves on any status change.
      *
      * @param status the new game status
      */
     public void setGameStatus(GameStatus status) {
         gameLock.lock();
         try {
-            this.gameStatus = status;
-            if (status == GameStatus.PLAYING) {
-                saveGameInternal();
-            }
+            state.set(state.get().withStatus(status));
+            saveGameInternal();
         } finally {
             gameLock.unlock();
         }
@@ -420,12 +472,7 @@ public class GameManager implements IGameManager {
      */
     @Override
     public boolean isPlayerTurn() {
-        gameLock.lock();
-        try {
-            return isPlayerTurn;
-        } finally {
-            gameLock.unlock();
-        }
+        return state.get().isPlayerTurn();
     }
     /**
      * Switches the turn between the human player and computer player.
@@ -434,7 +481,8 @@ public class GameManager implements IGameManager {
     public void switchTurn() {
         gameLock.lock();
         try {
-            isPlayerTurn = !isPlayerTurn;
+            GameState current = state.get();
+            state.set(current.withPlayerTurn(!current.isPlayerTurn()));
         } finally {
             gameLock.unlock();
         }
@@ -453,13 +501,48 @@ public class GameManager implements IGameManager {
         }
     }
 
+    /**
+     * Writes any save still queued in the repository to disk.
+     */
+    public void flushSaves() {
+        gameLock.lock();
+        try {
+            repository.flush();
+        } finally {
+            gameLock.unlock();
+        }
+    }
+
+    /**
+     * Closes the engine when it is discarded: writes any queued save, so the
+     * last state is not lost, then closes the repository and releases its
+     * background resources. The engine must not be used to play afterwards.
+     */
+    public void close() {
+        gameLock.lock();
+        try {
+            repository.flush();
+            repository.close();
+        } finally {
+            gameLock.unlock();
+        }
+    }
+
     /**
      * Internal method to save the game without acquiring the lock.
      * Should only be called when lock is already held.
+     * Saves during play may be written to disk later; the repository is
+     * flushed whenever the game status has changed since the last flush.
      */
     private void saveGameInternal() {
-        if (gameStatus == GameStatus.PLAYING) {
-            repository.saveGame(humanPlayer, computerPlayer, gameStatus, isPlayerTurn);
+        GameState current = state.get();
+        if (current.getGameStatus() == GameStatus.PLAYING) {
+            repository.saveGame(current.getHumanPlayer(), current.getComputerPlayer(),
+                    current.getGameStatus(), current.isPlayerTurn());
+        }
+        if (current.getGameStatus() != persistedStatus) {
+            persistedStatus = current.getGameStatus();
+            repository.flush();
         }
     }
     /**
@@ -469,12 +552,7 @@ public class GameManager implements IGameManager {
      */
     @Override
     public boolean hasWinner() {
-        gameLock.lock();
-        try {
-            return gameStatus == GameStatus.PLAYER_WON || gameStatus == GameStatus.COMPUTER_WON;
-        } finally {
-            gameLock.unlock();
-        }
+        return state.get().hasWinner();
     }
     /**
      * Returns the winner of the game.
@@ -483,17 +561,17 @@ public class GameManager implements IGameManager {
      */
     @Override
     public IPlayer getWinner() {
-        gameLock.lock();
-        try {
-            if (gameStatus == GameStatus.PLAYER_WON) {
-                return humanPlayer;
-            } else if (gameStatus == GameStatus.COMPUTER_WON) {
-                return computerPlayer;
-            }
-            return null;
-        } finally {
-            gameLock.unlock();
-        }
+        return state.get().getWinner();
+    }
+
+    /**
+     * Returns the current turn and status of the game as one consistent value.
+     * Never blocks, even while a shot is being resolved.
+     *
+     * @return the published game state
+     */
+    public GameState getState() {
+        return state.get();
     }
 
     /**
@@ -503,18 +581,21 @@ public class GameManager implements IGameManager {
     @Override
     public void resetGame() {
         gameLock.lock();
+        lockStrategy();
         try {
-            if (humanPlayer != null) {
-                humanPlayer.reset();
+            GameState current = state.get();
+            if (current.getHumanPlayer() != null) {
+                current.getHumanPlayer().reset();
             }
-            if (computerPlayer != null) {
-                computerPlayer.reset();
+            if (current.getComputerPlayer() != null) {
+                current.getComputerPlayer().reset();
             }
-            gameStatus = GameStatus.SETUP;
-            isPlayerTurn = true;
-            lastComputerShot = null;
+            state.set(new GameState(current.getHumanPlayer(), current.getComputerPlayer(), GameStatus.SETUP, true, null));
+            plannedComputerShot = null;
             aiStrategy.reset();
+            saveGameInternal();
         } finally {
+            strategyLock.unlock();
             gameLock.unlock();
         }
     }
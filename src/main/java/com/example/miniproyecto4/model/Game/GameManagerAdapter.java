@@ -1,5 +1,6 @@
 package com.example.miniproyecto4.model.Game;
 
+import com.example.miniproyecto4.model.AI.ThinkingBudget;
 import com.example.miniproyecto4.model.Cell.Coordinate;
 import com.example.miniproyecto4.model.Player.IPlayer;
 import com.example.miniproyecto4.model.Shot.ShotResult;
@@ -56,6 +57,29 @@ public abstract class GameManagerAdapter implements IGameManager {
         return ShotResult.INVALID;
     }
 
+    /**
+     * Default implementation that returns null.
+     * Subclasses should override this method to plan computer shots ahead of time.
+     *
+     * @return null by default
+     */
+    @Override
+    public Coordinate planComputerShot() {
+        return null;
+    }
+
+    /**
+     * Default implementation that returns null.
+     * Subclasses should override this method to plan computer shots within a thinking budget.
+     *
+     * @param budget the thinking budget
+     * @return null by default
+     */
+    @Override
+    public Coordinate planComputerShot(ThinkingBudget budget) {
+        return null;
+    }
+
     /**
      * Default implementation that returns null.
      * Subclasses should override this method to return the actual human player.
@@ -0,0 +1,134 @@
+package com.example.miniproyecto4.model.Game;
+
+import com.example.miniproyecto4.model.AI.RandomAIStrategy;
+import com.example.miniproyecto4.model.GameSave.GameRepository;
+import com.example.miniproyecto4.model.GameSave.GameSessionFiles;
+import com.example.miniproyecto4.model.GameSave.JournaledGameRepository;
+import com.example.miniproyecto4.model.GameSave.WriteBehindGameRepository;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Registry of independent game engines keyed by session identifier.
+ * Every session gets its own {@link GameManager}, with its own players, AI
+ * strategy, random generator, repository slot and lock, so games in different
+ * sessions never contend with each other. The registry itself only uses a
+ * concurrent map; the desktop application plays in {@link #DEFAULT_SESSION_ID}.
+ */
+public class GameSessionRegistry {
+
+    /**
+     * Identifier of the session used by the desktop application.
+     */
+    public static final String DEFAULT_SESSION_ID = GameSessionFiles.DEFAULT_SESSION_ID;
+
+    /**
+     * Process-wide registry instance.
+     */
+    private static final GameSessionRegistry INSTANCE = new GameSessionRegistry();
+
+    /**
+     * Engines by session identifier.
+     */
+    private final ConcurrentMap<String, GameManager> sessions;
+
+    /**
+     * Creates the engine for a new session identifier.
+     */
+    private final Function<String, GameManager> engineFactory;
+
+    /**
+     * Constructs a registry whose engines use a per-session repository,
+     * a RandomAIStrategy and a fresh random generator.
+     */
+    public GameSessionRegistry() {
+        this(sessionId -> new GameManager(
+                new WriteBehindGameRepository(new JournaledGameRepository(GameRepository.forSession(sessionId))),
+                new RandomAIStrategy(), new Random()));
+    }
+
+    /**
+     * Constructs a registry with a custom engine factory.
+     *
+     * @param engineFactory creates the engine for a session identifier
+     */
+    public GameSessionRegistry(Function<String, GameManager> engineFactory) {
+        this.sessions = new ConcurrentHashMap<>();
+        this.engineFactory = engineFactory;
+    }
+
+    /**
+     * Returns the process-wide registry.
+     *
+     * @return the shared registry
+     */
+    public static GameSessionRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the engine of a session, creating it on first use.
+     *
+     * @param sessionId the session identifier
+     * @return the session's game engine
+     */
+    public GameManager getOrCreateSession(String sessionId) {
+        return sessions.computeIfAbsent(sessionId, engineFactory);
+    }
+
+    /**
+     * Returns the engine of an existing session.
+     *
+     * @param sessionId the session identifier
+     * @return the session's game engine, or null if the session does not exist
+     */
+    public GameManager getSession(String sessionId) {
+        return sessions.get(sessionId);
+    }
+
+    /**
+     * Returns the engine of the default session used by the desktop application.
+     *
+     * @return the default session's game engine
+     */
+    public GameManager getDefaultSession() {
+        return getOrCreateSession(DEFAULT_SESSION_ID);
+    }
+
+    /**
+     * Removes a session and closes its engine. Saves still queued by the engine
+     * are written first; callers that still hold the engine must not play with
+     * it any more, since its repository rejects new saves.
+     *
+     * @param sessionId the session identifier
+     * @return the removed engine, or null if the session did not exist
+     */
+    public GameManager removeSession(String sessionId) {
+        GameManager engine = sessions.remove(sessionId);
+        if (engine != null) {
+            engine.close();
+        }
+        return engine;
+    }
+
+    /**
+     * Returns the identifiers of the active sessions.
+     *
+     * @return a snapshot of the session identifiers
+     */
+    public Set<String> getSessionIds() {
+        return Set.copyOf(sessions.keySet());
+    }
+
+    /**
+     * Returns the number of active sessions.
+     *
+     * @return the session count
+     */
+    public int getSessionCount() {
+        return sessions.size();
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.miniproyecto4.model.Game;
+
+import com.example.miniproyecto4.model.Cell.Coordinate;
+import com.example.miniproyecto4.model.Player.ComputerPlayer;
+import com.example.miniproyecto4.model.Player.IPlayer;
+
+/**
+ * Immutable view of the turn and status of a game: the players, the game
+ * status, whose turn it is and the last computer shot.
+ * {@link GameManager} publishes a new instance after every change, so readers
+ * get a consistent state without taking the game lock. The players and their
+ * boards are mutable objects shared with the engine; only the references and
+ * the turn and status values are fixed.
+ */
+public final class GameState {
+
+    /**
+     * State of an engine before any game was started.
+     */
+    static final GameState INITIAL = new GameState(null, null, GameStatus.SETUP, true, null);
+
+    /**
+     * The human player, or null before a game is started.
+     */
+    private final IPlayer humanPlayer;
+
+    /**
+     * The computer player, or null before a game is started.
+     */
+    private final ComputerPlayer computerPlayer;
+
+    /**
+     * Current status of the game.
+     */
+    private final GameStatus gameStatus;
+
+    /**
+     * True if it is the human player's turn.
+     */
+    private final boolean playerTurn;
+
+    /**
+     * Coordinate of the last computer shot, or null.
+     */
+    private final Coordinate lastComputerShot;
+
+    /**
+     * Constructs a game state.
+     *
+     * @param humanPlayer the human player
+     * @param computerPlayer the computer player
+     * @param gameStatus the game status
+     * @param playerTurn true if it is the human player's turn
+     * @param lastComputerShot the last computer shot, or null
+     */
+    GameState(IPlayer humanPlayer, ComputerPlayer computerPlayer, GameStatus gameStatus,
+              boolean playerTurn, Coordinate lastComputerShot) {
+        this.humanPlayer = humanPlayer;
+        this.computerPlayer = computerPlayer;
+        this.gameStatus = gameStatus;
+        this.playerTurn = playerTurn;
+        this.lastComputerShot = lastComputerShot;
+    }
+
+    /**
+     * Returns a copy of this state with another status.
+     *
+     * @param status the new game status
+     * @return the new state, or this state if the status is unchanged
+     */
+    GameState withStatus(GameStatus status) {
+        return status == gameStatus ? this : new GameState(humanPlayer, computerPlayer, status, playerTurn, lastComputerShot);
+    }
+
+    /**
+     * Returns a copy of this state with another turn.
+     *
+     * @param turn true if it is the human player's turn
+     * @return the new state, or this state if the turn is unchanged
+     */
+    GameState withPlayerTurn(boolean turn) {
+        return turn == playerTurn ? this : new GameState(humanPlayer, computerPlayer, gameStatus, turn, lastComputerShot);
+    }
+
+    /**
+     * Returns a copy of this state after a computer shot.
+     *
+     * @param shot the coordinate of the shot
+     * @param status the game status after the shot
+     * @param turn true if the turn passed to the human player
+     * @return the new state
+     */
+    GameState afterComputerShot(Coordinate shot, GameStatus status, boolean turn) {
+        return new GameState(humanPlayer, computerPlayer, status, turn, shot);
+    }
+
+    /**
+     * Returns the human player.
+     *
+     * @return the human player, or null before a game is started
+     */
+    public IPlayer getHumanPlayer() {
+        return humanPlayer;
+    }
+
+    /**
+     * Returns the computer player.
+     *
+     * @return the computer player, or null before a game is started
+     */
+    public ComputerPlayer getComputerPlayer() {
+        return computerPlayer;
+    }
+
+    /**
+     * Returns the game status.
+     *
+     * @return the game status
+     */
+    public GameStatus getGameStatus() {
+        return gameStatus;
+    }
+
+    /**
+     * Checks if it is the human player's turn.
+     *
+     * @return true if it is the human player's turn
+     */
+    public boolean isPlayerTurn() {
+        return playerTurn;
+    }
+
+    /**
+     * Returns the coordinate of the last computer shot.
+     *
+     * @return the last computer shot, or null if there was none
+     */
+    public Coordinate getLastComputerShot() {
+        return lastComputerShot;
+    }
+
+    /**
+     * Checks if either side has won.
+     *
+     * @return true if the game was won by the player or the computer
+     */
+    public boolean hasWinner() {
+        return gameStatus == GameStatus.PLAYER_WON || gameStatus == GameStatus.COMPUTER_WON;
+    }
+
+    /**
+     * Returns the winner of the game.
+     *
+     * @return the winning player, or null if there is no winner yet
+     */
+    public IPlayer getWinner() {
+        if (gameStatus == GameStatus.PLAYER_WON) {
+            return humanPlayer;
+        } else if (gameStatus == GameStatus.COMPUTER_WON) {
+            return computerPlayer;
+        }
+        return null;
+    }
+}
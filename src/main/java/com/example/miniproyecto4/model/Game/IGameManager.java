@@ -1,5 +1,6 @@
 package com.example.miniproyecto4.model.Game;
 
+import com.example.miniproyecto4.model.AI.ThinkingBudget;
 import com.example.miniproyecto4.model.Cell.Coordinate;
 import com.example.miniproyecto4.model.Player.IPlayer;
 import com.example.miniproyecto4.model.Shot.ShotResult;
@@ -41,6 +42,25 @@ public interface IGameManager {
      */
     ShotResult processComputerShot();
 
+    /**
+     * Chooses the computer's next target without firing, so the AI can think
+     * while the interface is still animating. The next call to
+     * {@link #processComputerShot()} fires at the planned target.
+     *
+     * @return the planned target, or null if the computer cannot shoot now
+     */
+    Coordinate planComputerShot();
+
+    /**
+     * Chooses the computer's next target without firing, letting the AI
+     * strategy use the whole budget to refine its choice.
+     * The next call to {@link #processComputerShot()} fires at the planned target.
+     *
+     * @param budget the thinking budget; cancelling it makes the AI return its best target so far
+     * @return the planned target, or null if the computer cannot shoot now
+     */
+    Coordinate planComputerShot(ThinkingBudget budget);
+
     /**
      * Returns the human player instance.
      *
@@ -0,0 +1,334 @@
+package com.example.miniproyecto4.model.GameSave;
+
+import com.example.miniproyecto4.model.Board.BoardFactory;
+import com.example.miniproyecto4.model.Board.IBoard;
+import com.example.miniproyecto4.model.Cell.CellStatus;
+import com.example.miniproyecto4.model.Cell.Coordinate;
+import com.example.miniproyecto4.model.Game.GameStatus;
+import com.example.miniproyecto4.model.Player.ComputerPlayer;
+import com.example.miniproyecto4.model.Player.IPlayer;
+import com.example.miniproyecto4.model.Player.Player;
+import com.example.miniproyecto4.model.Ship.IShip;
+import com.example.miniproyecto4.model.Ship.ShipFactory;
+import com.example.miniproyecto4.model.Ship.ShipType;
+import com.example.miniproyecto4.model.Validation.Orientation;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Serializes game data in a compact, versioned binary layout.
+ * <p>
+ * All values are big-endian. The file starts with a header (magic number and
+ * format version), followed by the game status and turn flag, then the human
+ * and the computer player. Each player is stored as its nickname (length-prefixed
+ * UTF-8), its sunk ship count, the board size, one byte per cell status in
+ * packed index order ({@code x * size + y}) and its fleet. Every ship takes
+ * its type, start x, start y, orientation and a bitmask of hit segments.
+ * </p>
+ * <p>
+ * Files written by {@link GameSerializer} begin with the Java serialization
+ * magic number; they are still read through it, and the next save rewrites
+ * them in this format.
+ * </p>
+ */
+public class BinaryGameSerializer implements ISerializer {
+
+    /**
+     * Magic number identifying a binary save file ("BSHV").
+     */
+    static final int MAGIC = 0x42534856;
+
+    /**
+     * Current version of the binary layout.
+     */
+    static final short FORMAT_VERSION = 1;
+
+    /**
+     * First two bytes of every Java serialization stream.
+     */
+    private static final short JAVA_SERIALIZATION_MAGIC = (short) 0xACED;
+
+    /**
+     * Bytes taken by the file header: magic, version, game status and turn flag.
+     */
+    private static final int HEADER_BYTES = 4 + 2 + 1 + 1;
+
+    /**
+     * Bytes taken by each ship: type, x, y, orientation and hit mask.
+     */
+    private static final int SHIP_BYTES = 4 + 4;
+
+    /**
+     * Serializer used to read save files written before the binary format existed.
+     */
+    private final ISerializer legacySerializer;
+
+    /**
+     * Constructs a binary serializer that reads legacy files with a GameSerializer.
+     */
+    public BinaryGameSerializer() {
+        this.legacySerializer = new GameSerializer();
+    }
+
+    /**
+     * Writes game data to a file in the binary format.
+     *
+     * @param data the game data to serialize
+     * @param filename the name of the file to write to
+     */
+    @Override
+    public void serialize(SerializableGameData data, String filename) {
+        byte[] bytes = encode(data);
+        if (bytes == null) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(Paths.get(filename),
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Reads game data from a file, accepting both the binary format and legacy
+     * Java serialization files.
+     *
+     * @param filename the name of the file to read from
+     * @return the deserialized game data, or null if the file is missing or invalid
+     */
+    @Override
+    public SerializableGameData deserialize(String filename) {
+        Path path = Paths.get(filename);
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            buffer = ByteBuffer.allocate((int) channel.size());
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // Keep reading until the whole file is in the buffer.
+            }
+            buffer.flip();
+        } catch (IOException e) {
+            e.printStackTrace();
+            return null;
+        }
+
+        if (buffer.remaining() >= 2 && buffer.getShort(0) == JAVA_SERIALIZATION_MAGIC) {
+            return legacySerializer.deserialize(filename);
+        }
+        return decode(buffer);
+    }
+
+    /**
+     * Encodes game data into the binary format.
+     *
+     * @param data the game data to encode
+     * @return the encoded bytes, or null if a value does not fit the format
+     */
+    @Override
+    public byte[] encode(SerializableGameData data) {
+        byte[] humanName = nicknameBytes(data.getHumanPlayer());
+        byte[] computerName = nicknameBytes(data.getComputerPlayer());
+        if (humanName.length > Short.MAX_VALUE || computerName.length > Short.MAX_VALUE) {
+            System.err.println("Nickname too long for the binary save format");
+            return null;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES
+                + playerBytes(data.getHumanPlayer(), humanName)
+                + playerBytes(data.getComputerPlayer(), computerName));
+
+        buffer.putInt(MAGIC);
+        buffer.putShort(FORMAT_VERSION);
+        buffer.put((byte) data.getGameStatus().ordinal());
+        buffer.put((byte) (data.isPlayerTurn() ? 1 : 0));
+        writePlayer(buffer, data.getHumanPlayer(), humanName);
+        writePlayer(buffer, data.getComputerPlayer(), computerName);
+
+        return buffer.array();
+    }
+
+    /**
+     * Decodes game data from a buffer holding the binary format.
+     *
+     * @param buffer the buffer positioned at the start of the header
+     * @return the decoded game data, or null if the data is not a valid save
+     */
+    SerializableGameData decode(ByteBuffer buffer) {
+        try {
+            if (buffer.getInt() != MAGIC) {
+                System.err.println("Not a binary save file");
+                return null;
+            }
+            short version = buffer.getShort();
+            if (version != FORMAT_VERSION) {
+                System.err.println("Unsupported save format version: " + version);
+                return null;
+            }
+
+            GameStatus gameStatus = enumAt(GameStatus.values(), buffer.get());
+            boolean isPlayerTurn = buffer.get() != 0;
+            IPlayer humanPlayer = readPlayer(buffer, false);
+            IPlayer computerPlayer = readPlayer(buffer, true);
+
+            return new SerializableGameData(humanPlayer, computerPlayer, gameStatus, isPlayerTurn);
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Returns the number of bytes a player takes in the binary format.
+     *
+     * @param player the player
+     * @param name the player's encoded nickname
+     * @return the encoded size
+     */
+    private static int playerBytes(IPlayer player, byte[] name) {
+        IBoard board = player.getBoard();
+        int size = board.getSize();
+        return 2 + name.length + 2 + 1 + size * size + 1 + board.getShipCount() * SHIP_BYTES;
+    }
+
+    /**
+     * Writes one player's nickname, sunk count, board and fleet.
+     *
+     * @param buffer the destination buffer
+     * @param player the player to write
+     * @param name the player's encoded nickname
+     */
+    private static void writePlayer(ByteBuffer buffer, IPlayer player, byte[] name) {
+        IBoard board = player.getBoard();
+        int size = board.getSize();
+
+        buffer.putShort((short) name.length);
+        buffer.put(name);
+        buffer.putShort((short) player.getSunkShipsCount());
+        buffer.put((byte) size);
+
+        for (int index = 0; index < size * size; index++) {
+            buffer.put((byte) board.getCell(index).getStatus().ordinal());
+        }
+
+        List<IShip> ships = board.getShips();
+        buffer.put((byte) ships.size());
+        for (IShip ship : ships) {
+            buffer.put((byte) ship.getType().ordinal());
+            buffer.put((byte) ship.getStartCoordinate().getX());
+            buffer.put((byte) ship.getStartCoordinate().getY());
+            buffer.put((byte) ship.getOrientation().ordinal());
+            buffer.putInt(hitMask(ship, size));
+        }
+    }
+
+    /**
+     * Reads one player, rebuilding the board, the fleet and its hits.
+     *
+     * @param buffer the source buffer
+     * @param computer true to create a ComputerPlayer, false for a human Player
+     * @return the decoded player
+     * @throws IllegalArgumentException if the data describes an impossible board
+     */
+    private static IPlayer readPlayer(ByteBuffer buffer, boolean computer) {
+        int nameLength = buffer.getShort();
+        if (nameLength < 0 || nameLength > buffer.remaining()) {
+            throw new IllegalArgumentException("Invalid nickname length in save file: " + nameLength);
+        }
+        byte[] name = new byte[nameLength];
+        buffer.get(name);
+        int sunkShips = buffer.getShort();
+        int size = buffer.get() & 0xFF;
+
+        IBoard board = BoardFactory.createBoard(size);
+        CellStatus[] statuses = new CellStatus[size * size];
+        for (int index = 0; index < statuses.length; index++) {
+            statuses[index] = enumAt(CellStatus.values(), buffer.get());
+        }
+
+        int shipCount = buffer.get() & 0xFF;
+        for (int i = 0; i < shipCount; i++) {
+            ShipType type = enumAt(ShipType.values(), buffer.get());
+            int x = buffer.get() & 0xFF;
+            int y = buffer.get() & 0xFF;
+            Orientation orientation = enumAt(Orientation.values(), buffer.get());
+            int hits = buffer.getInt();
+
+            IShip ship = ShipFactory.createShip(type, Coordinate.of(x, y), orientation);
+            if (!board.placeShip(ship)) {
+                throw new IllegalArgumentException("Invalid ship position in save file");
+            }
+            for (int segment = 0; segment < ship.getSize(); segment++) {
+                if ((hits & (1 << segment)) != 0) {
+                    ship.hit(ship.getCoordinateIndex(segment, size), size);
+                }
+            }
+        }
+
+        for (int index = 0; index < statuses.length; index++) {
+            board.setCellStatus(index, statuses[index]);
+        }
+
+        String nickname = new String(name, StandardCharsets.UTF_8);
+        Player player = computer ? new ComputerPlayer(board) : new Player(nickname, board);
+        player.setNickname(nickname);
+        for (int i = 0; i < sunkShips; i++) {
+            player.incrementSunkShips();
+        }
+        return player;
+    }
+
+    /**
+     * Builds the bitmask of hit segments of a ship.
+     *
+     * @param ship the ship
+     * @param boardSize side length of the board the ship is on
+     * @return a mask whose bit i is set when segment i has been hit
+     */
+    private static int hitMask(IShip ship, int boardSize) {
+        int mask = 0;
+        for (int segment = 0; segment < ship.getSize(); segment++) {
+            if (ship.isHitAt(ship.getCoordinateIndex(segment, boardSize), boardSize)) {
+                mask |= 1 << segment;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Encodes a player's nickname as UTF-8.
+     *
+     * @param player the player
+     * @return the encoded nickname, empty if the player has none
+     */
+    private static byte[] nicknameBytes(IPlayer player) {
+        String nickname = player.getNickname();
+        return nickname == null ? new byte[0] : nickname.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Looks up an enum constant by its stored ordinal.
+     *
+     * @param values the constants of the enum
+     * @param ordinal the stored ordinal
+     * @param <E> the enum type
+     * @return the matching constant
+     * @throws IllegalArgumentException if the ordinal is out of range
+     */
+    private static <E extends Enum<E>> E enumAt(E[] values, byte ordinal) {
+        int index = ordinal & 0xFF;
+        if (index >= values.length) {
+            throw new IllegalArgumentException("Invalid value in save file: " + index);
+        }
+        return values[index];
+    }
+}
@@ -9,9 +9,30 @@ import java.io.*;
 public class FlatFileManager implements IFlatFileManager {
 
     /**
-     * The filename used to store player data in text format.
+     * The default filename used to store player data in text format.
      */
-    private static final String PLAYER_DATA_FILE = "player_data.txt";
+    public static final String DEFAULT_PLAYER_DATA_FILE = "player_data.txt";
+
+    /**
+     * The filename this manager reads and writes.
+     */
+    private final String playerDataFile;
+
+    /**
+     * Constructs a FlatFileManager using the default player data file.
+     */
+    public FlatFileManager() {
+        this(DEFAULT_PLAYER_DATA_FILE);
+    }
+
+    /**
+     * Constructs a FlatFileManager using the given player data file.
+     *
+     * @param playerDataFile the name of the file to store player data in
+     */
+    public FlatFileManager(String playerDataFile) {
+        this.playerDataFile = playerDataFile;
+    }
 
     /**
      * Saves player data to a flat file.
@@ -22,7 +43,7 @@ public class FlatFileManager implements IFlatFileManager {
      */
     @Override
     public void savePlayerData(String nickname, int sunkShips) {
-        try (PrintWriter writer = new PrintWriter(new FileWriter(PLAYER_DATA_FILE))) {
+        try (PrintWriter writer = new PrintWriter(new FileWriter(playerDataFile))) {
             writer.println(nickname);
             writer.println(sunkShips);
         } catch (IOException e) {
@@ -39,7 +60,7 @@ public class FlatFileManager implements IFlatFileManager {
      */
     @Override
     public String[] loadPlayerData() {
-        try (BufferedReader reader = new BufferedReader(new FileReader(PLAYER_DATA_FILE))) {
+        try (BufferedReader reader = new BufferedReader(new FileReader(playerDataFile))) {
             String nickname = reader.readLine();
             String sunkShips = reader.readLine();
             return new String[]{nickname, sunkShips};
@@ -55,7 +76,7 @@ public class FlatFileManager implements IFlatFileManager {
      */
     @Override
     public void deletePlayerData() {
-        File file = new File(PLAYER_DATA_FILE);
+        File file = new File(playerDataFile);
         if (file.exists()) {
             file.delete();
         }
@@ -3,17 +3,27 @@ package com.example.miniproyecto4.model.GameSave;
 import com.example.miniproyecto4.model.Game.GameStatus;
 import com.example.miniproyecto4.model.Player.IPlayer;
 import java.io.*;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 
 /**
  * Repository implementation for managing game state persistence.
  * Combines serialization for game state and flat file storage for player data.
  */
-public class GameRepository implements IGameRepository {
+public class GameRepository implements IStagedGameRepository {
 
     /**
-     * The filename used to store serialized game state.
+     * The default filename used to store serialized game state.
      */
-    private static final String SAVE_FILE = "battleship_save.ser";
+    public static final String DEFAULT_SAVE_FILE = "battleship_save.ser";
+
+    /**
+     * The filename this repository stores serialized game state in.
+     */
+    private final String saveFile;
 
     /**
      * Serializer instance for handling game data serialization.
@@ -27,11 +37,40 @@ public class GameRepository implements IGameRepository {
 
     /**
      * Constructs a GameRepository with default serializer and flat file manager.
-     * Initializes the repository with a GameSerializer and FlatFileManager.
+     * Initializes the repository with a BinaryGameSerializer and FlatFileManager.
      */
     public GameRepository() {
-        this.serializer = new GameSerializer();
-        this.flatFileManager = new FlatFileManager();
+        this(DEFAULT_SAVE_FILE, new FlatFileManager());
+    }
+
+    /**
+     * Constructs a GameRepository storing its data in the given files.
+     *
+     * @param saveFile the name of the file for the serialized game state
+     * @param flatFileManager the manager for the player data file
+     */
+    public GameRepository(String saveFile, IFlatFileManager flatFileManager) {
+        this.serializer = new BinaryGameSerializer();
+        this.saveFile = saveFile;
+        this.flatFileManager = flatFileManager;
+    }
+
+    /**
+     * Creates a repository whose files belong to the given game session.
+     * The default session keeps the historical file names so existing saves still load;
+     * any other session gets its own suffixed files.
+     *
+     * @param sessionId the session identifier
+     * @return a repository bound to the session's save slot
+     */
+    public static GameRepository forSession(String sessionId) {
+        if (sessionId == null || GameSessionFiles.DEFAULT_SESSION_ID.equals(sessionId)) {
+            return new GameRepository();
+        }
+        String suffix = GameSessionFiles.suffixFor(sessionId);
+        return new GameRepository(
+                GameSessionFiles.withSuffix(DEFAULT_SAVE_FILE, suffix),
+                new FlatFileManager(GameSessionFiles.withSuffix(FlatFileManager.DEFAULT_PLAYER_DATA_FILE, suffix)));
     }
 
     /**
@@ -45,11 +84,92 @@ public class GameRepository implements IGameRepository {
      */
     @Override
     public void saveGame(IPlayer humanPlayer, IPlayer computerPlayer, GameStatus gameStatus, boolean isPlayerTurn) {
+        write(snapshot(humanPlayer, computerPlayer, gameStatus, isPlayerTurn));
+    }
+
+    /**
+     * Encodes the current game state in memory without writing anything.
+     * The returned snapshot no longer references the live players, so it can be
+     * written later by {@link #write(GameSnapshot)} while the game keeps changing.
+     *
+     * @param humanPlayer the human player
+     * @param computerPlayer the computer player
+     * @param gameStatus the current game status
+     * @param isPlayerTurn true if it is the player's turn, false otherwise
+     * @return the snapshot, or null if the state could not be encoded
+     */
+    public GameSnapshot snapshot(IPlayer humanPlayer, IPlayer computerPlayer, GameStatus gameStatus, boolean isPlayerTurn) {
         SerializableGameData gameData = new SerializableGameData(humanPlayer, computerPlayer, gameStatus, isPlayerTurn);
+        byte[] payload = serializer.encode(gameData);
+        if (payload == null) {
+            return null;
+        }
+        return new GameSnapshot(payload, humanPlayer.getNickname(), humanPlayer.getSunkShipsCount(), gameStatus);
+    }
 
-        serializer.serialize(gameData, SAVE_FILE);
+    /**
+     * Prepares a save by taking a snapshot; the write replaces the whole save file.
+     *
+     * @param humanPlayer the human player
+     * @param computerPlayer the computer player
+     * @param gameStatus the current game status
+     * @param isPlayerTurn true if it is the player's turn, false otherwise
+     * @return the write of the snapshot, or null if the state could not be encoded
+     */
+    @Override
+    public PendingWrite stageSave(IPlayer humanPlayer, IPlayer computerPlayer, GameStatus gameStatus, boolean isPlayerTurn) {
+        GameSnapshot snapshot = snapshot(humanPlayer, computerPlayer, gameStatus, isPlayerTurn);
+        return snapshot == null ? null : new PendingWrite(() -> write(snapshot), true);
+    }
+
+    /**
+     * Writes a snapshot to the save file and updates the player data file.
+     * The bytes go to a temporary file first, which then replaces the save file,
+     * so a crash during the write never leaves a truncated save behind.
+     *
+     * @param snapshot the snapshot to write; null is ignored
+     * @return true if the save file was written, false otherwise
+     */
+    public boolean write(GameSnapshot snapshot) {
+        if (snapshot == null) {
+            return false;
+        }
+
+        Path target = Paths.get(saveFile).toAbsolutePath();
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try {
+            Files.write(temp, snapshot.getPayload());
+            try {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+            return false;
+        }
+
+        flatFileManager.savePlayerData(snapshot.getNickname(), snapshot.getSunkShips());
+        return true;
+    }
+
+    /**
+     * Writes the player data file on its own, without touching the save file.
+     *
+     * @param nickname the nickname of the human player
+     * @param sunkShips the number of ships sunk by the human player
+     */
+    public void writePlayerData(String nickname, int sunkShips) {
+        flatFileManager.savePlayerData(nickname, sunkShips);
+    }
 
-        flatFileManager.savePlayerData(humanPlayer.getNickname(), humanPlayer.getSunkShipsCount());
+    /**
+     * Returns the name of the file this repository stores serialized game state in.
+     *
+     * @return the save file name
+     */
+    public String getSaveFile() {
+        return saveFile;
     }
 
     /**
@@ -60,7 +180,7 @@ public class GameRepository implements IGameRepository {
      */
     @Override
     public SerializableGameData loadGame() {
-        return serializer.deserialize(SAVE_FILE);
+        return serializer.deserialize(saveFile);
     }
 
     /**
@@ -70,7 +190,7 @@ public class GameRepository implements IGameRepository {
      */
     @Override
     public boolean hasSavedGame() {
-        File file = new File(SAVE_FILE);
+        File file = new File(saveFile);
         return file.exists();
     }
 
@@ -80,10 +200,24 @@ public class GameRepository implements IGameRepository {
      */
     @Override
     public void deleteSavedGame() {
-        File file = new File(SAVE_FILE);
+        File file = new File(saveFile);
         if (file.exists()) {
             file.delete();
         }
         flatFileManager.deletePlayerData();
     }
-}
\ No newline at end of file
+
+    /**
+     * Does nothing, since this repository writes every save immediately.
+     */
+    @Override
+    public void flush() {
+    }
+
+    /**
+     * Does nothing, since this repository holds no open resources.
+     */
+    @Override
+    public void close() {
+    }
+}
@@ -40,4 +40,22 @@ public class GameSerializer implements ISerializer {
             return null;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Encodes game data into a byte array using an object output stream.
+     *
+     * @param data the game data to encode
+     * @return the encoded bytes, or null if encoding fails
+     */
+    @Override
+    public byte[] encode(SerializableGameData data) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(bytes)) {
+            oos.writeObject(data);
+        } catch (IOException e) {
+            e.printStackTrace();
+            return null;
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.miniproyecto4.model.GameSave;
+
+/**
+ * Utility class deriving per-session file names.
+ * Session identifiers are encoded into a file-system safe suffix so that every
+ * session owns a separate save slot next to the default files. The encoding
+ * is injective: two different identifiers never share a file.
+ * This class cannot be instantiated.
+ */
+public class GameSessionFiles {
+
+    /**
+     * Identifier of the session used by the desktop application.
+     */
+    public static final String DEFAULT_SESSION_ID = "default";
+
+    /**
+     * Returns the file-name suffix for a session.
+     * Lower-case ASCII letters, digits and '-' are kept; every other
+     * character, '_' and upper-case letters included, is escaped as '_'
+     * followed by its four hex digits. The suffix can therefore always be
+     * decoded back to the identifier, even on case-insensitive file systems.
+     *
+     * @param sessionId the session identifier
+     * @return the suffix, starting with an underscore
+     */
+    public static String suffixFor(String sessionId) {
+        StringBuilder suffix = new StringBuilder(sessionId.length() + 1).append('_');
+        for (int i = 0; i < sessionId.length(); i++) {
+            char c = sessionId.charAt(i);
+            if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '-') {
+                suffix.append(c);
+            } else {
+                suffix.append('_').append(String.format("%04x", (int) c));
+            }
+        }
+        return suffix.toString();
+    }
+
+    /**
+     * Inserts a suffix before the extension of a file name.
+     *
+     * @param fileName the base file name, for example "battleship_save.ser"
+     * @param suffix the suffix to insert
+     * @return the suffixed file name, for example "battleship_save_arena1.ser"
+     */
+    public static String withSuffix(String fileName, String suffix) {
+        int dot = fileName.lastIndexOf('.');
+        if (dot < 0) {
+            return fileName + suffix;
+        }
+        return fileName.substring(0, dot) + suffix + fileName.substring(dot);
+    }
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private GameSessionFiles() {
+    }
+}
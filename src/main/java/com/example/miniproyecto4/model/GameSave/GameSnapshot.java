@@ -0,0 +1,82 @@
+package com.example.miniproyecto4.model.GameSave;
+
+import com.example.miniproyecto4.model.Game.GameStatus;
+
+/**
+ * Immutable, already-encoded copy of the game state ready to be written to disk.
+ * Taking a snapshot only costs CPU time, so it can be done while the game lock
+ * is held, and the resulting bytes can then be written later from any thread.
+ */
+public final class GameSnapshot {
+
+    /**
+     * Encoded game data, as written to the save file.
+     */
+    private final byte[] payload;
+
+    /**
+     * Nickname of the human player, for the player data file.
+     */
+    private final String nickname;
+
+    /**
+     * Ships sunk by the human player, for the player data file.
+     */
+    private final int sunkShips;
+
+    /**
+     * Game status at the time of the snapshot.
+     */
+    private final GameStatus gameStatus;
+
+    /**
+     * Constructs a snapshot.
+     *
+     * @param payload encoded game data; the array is not copied and must not be modified afterwards
+     * @param nickname nickname of the human player
+     * @param sunkShips ships sunk by the human player
+     * @param gameStatus game status at the time of the snapshot
+     */
+    public GameSnapshot(byte[] payload, String nickname, int sunkShips, GameStatus gameStatus) {
+        this.payload = payload;
+        this.nickname = nickname;
+        this.sunkShips = sunkShips;
+        this.gameStatus = gameStatus;
+    }
+
+    /**
+     * Returns the encoded game data. Callers must not modify the array.
+     *
+     * @return the encoded bytes
+     */
+    public byte[] getPayload() {
+        return payload;
+    }
+
+    /**
+     * Returns the nickname of the human player.
+     *
+     * @return the nickname
+     */
+    public String getNickname() {
+        return nickname;
+    }
+
+    /**
+     * Returns the number of ships sunk by the human player.
+     *
+     * @return the sunk ship count
+     */
+    public int getSunkShips() {
+        return sunkShips;
+    }
+
+    /**
+     * Returns the game status at the time of the snapshot.
+     *
+     * @return the game status
+     */
+    public GameStatus getGameStatus() {
+        return gameStatus;
+    }
+}
@@ -7,7 +7,7 @@ import com.example.miniproyecto4.model.Player.IPlayer;
  * Interface defining repository operations for game persistence.
  * Provides methods for saving, loading, and managing saved game data.
  */
-public interface IGameRepository {
+public interface IGameRepository extends AutoCloseable {
 
     /**
      * Saves the current game state to persistent storage.
@@ -40,4 +40,17 @@ public interface IGameRepository {
      * Removes all game state and player data files.
      */
     void deleteSavedGame();
-}
\ No newline at end of file
+
+    /**
+     * Writes any save that is still pending to persistent storage.
+     * Repositories that write synchronously have nothing to do.
+     */
+    void flush();
+
+    /**
+     * Writes any pending save and releases the resources held by the repository.
+     * The repository must not be used afterwards; closing it again does nothing.
+     */
+    @Override
+    void close();
+}
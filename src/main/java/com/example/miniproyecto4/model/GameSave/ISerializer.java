@@ -23,4 +23,13 @@ public interface ISerializer {
      * @return the deserialized game data, or null if deserialization fails
      */
     SerializableGameData deserialize(String filename);
-}
\ No newline at end of file
+
+    /**
+     * Encodes game data into an in-memory byte array without touching the disk.
+     * The bytes are exactly what {@link #serialize(SerializableGameData, String)} would write.
+     *
+     * @param data the game data to encode
+     * @return the encoded bytes, or null if encoding fails
+     */
+    byte[] encode(SerializableGameData data);
+}
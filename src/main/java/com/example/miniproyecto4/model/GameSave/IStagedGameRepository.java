@@ -0,0 +1,23 @@
+package com.example.miniproyecto4.model.GameSave;
+
+import com.example.miniproyecto4.model.Game.GameStatus;
+import com.example.miniproyecto4.model.Player.IPlayer;
+
+/**
+ * Repository whose saves can be prepared in memory and written to disk later.
+ * Staging only costs CPU time, so it can be done while the game lock is held;
+ * the returned writes must then be performed in the order they were staged.
+ */
+public interface IStagedGameRepository extends IGameRepository {
+
+    /**
+     * Prepares a save of the current game state without writing anything.
+     *
+     * @param humanPlayer the human player
+     * @param computerPlayer the computer player
+     * @param gameStatus the current game status
+     * @param isPlayerTurn true if it is the player's turn, false otherwise
+     * @return the write to perform, or null if there is nothing to write
+     */
+    PendingWrite stageSave(IPlayer humanPlayer, IPlayer computerPlayer, GameStatus gameStatus, boolean isPlayerTurn);
+}
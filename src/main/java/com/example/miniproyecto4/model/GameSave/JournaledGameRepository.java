@@ -0,0 +1,692 @@
+package com.example.miniproyecto4.model.GameSave;
+
+import com.example.miniproyecto4.model.Board.IBoard;
+import com.example.miniproyecto4.model.Cell.CellStatus;
+import com.example.miniproyecto4.model.Cell.Coordinate;
+import com.example.miniproyecto4.model.Game.GameStatus;
+import com.example.miniproyecto4.model.Player.IPlayer;
+import com.example.miniproyecto4.model.Ship.IShip;
+import com.example.miniproyecto4.model.Shot.ShotResolver;
+import com.example.miniproyecto4.model.Shot.ShotResult;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Repository storing the game as a snapshot followed by an append-only shot journal.
+ * <p>
+ * The save file starts with a header and a {@link BinaryGameSerializer} snapshot
+ * of the whole game. Every later save only appends fixed-size records: one per
+ * new shot (shooter, cell index, result) and one for the game status, turn and
+ * sunk counts when they change. Once the journal reaches the compaction threshold,
+ * or whenever the game no longer matches the snapshot (new game, reset, new
+ * fleet), the file is rewritten as a fresh snapshot through the atomic write of
+ * {@link GameRepository}.
+ * </p>
+ * <p>
+ * Saves can be staged with {@link #stageSave}, which encodes the records or
+ * the snapshot in memory and returns the disk write to perform later, so a
+ * {@link WriteBehindGameRepository} in front of the journal keeps appends and
+ * compactions off the game lock.
+ * </p>
+ * <p>
+ * Loading decodes the snapshot and replays the records with {@link ShotResolver},
+ * applying the same turn and victory rules as the game manager. Every record
+ * carries a checksum; a torn or corrupt tail left by a crash is dropped and
+ * truncated from the file. Save files in the older formats are loaded through
+ * the delegate and rewritten as a journal on the next save.
+ * </p>
+ */
+public class JournaledGameRepository implements IStagedGameRepository {
+
+    /**
+     * Default number of journal records written before the file is compacted.
+     */
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 64;
+
+    /**
+     * Magic number identifying a journaled save file ("BSHJ").
+     */
+    static final int MAGIC = 0x4253484A;
+
+    /**
+     * Current version of the journal layout.
+     */
+    static final short FORMAT_VERSION = 1;
+
+    /**
+     * Bytes taken by the file header: magic, version and snapshot length.
+     */
+    private static final int HEADER_BYTES = 4 + 2 + 4;
+
+    /**
+     * Bytes taken by every journal record: type, four payload bytes and a checksum.
+     */
+    static final int RECORD_BYTES = 6;
+
+    /**
+     * Record type of a shot.
+     */
+    private static final byte SHOT_RECORD = 1;
+
+    /**
+     * Record type of a game status, turn and sunk count update.
+     */
+    private static final byte STATE_RECORD = 2;
+
+    /**
+     * Shooter code of the human player.
+     */
+    private static final byte HUMAN = 0;
+
+    /**
+     * Shooter code of the computer player.
+     */
+    private static final byte COMPUTER = 1;
+
+    /**
+     * Repository owning the save file and the player data file.
+     */
+    private final GameRepository delegate;
+
+    /**
+     * Codec for the snapshot part of the file.
+     */
+    private final BinaryGameSerializer codec;
+
+    /**
+     * Number of records after which the file is compacted.
+     */
+    private final int compactionThreshold;
+
+    /**
+     * True when the save file holds a journal matching the tracked state below.
+     */
+    private boolean journalOpen;
+
+    /**
+     * Human board covered by the journal.
+     */
+    private IBoard humanBoard;
+
+    /**
+     * Computer board covered by the journal.
+     */
+    private IBoard computerBoard;
+
+    /**
+     * Cells of the human board whose shot is already in the file.
+     */
+    private boolean[] humanShots;
+
+    /**
+     * Cells of the computer board whose shot is already in the file.
+     */
+    private boolean[] computerShots;
+
+    /**
+     * Number of ships on the human board when the snapshot was taken.
+     */
+    private int humanShipCount;
+
+    /**
+     * Number of ships on the computer board when the snapshot was taken.
+     */
+    private int computerShipCount;
+
+    /**
+     * Game status as last written to the file.
+     */
+    private GameStatus journaledStatus;
+
+    /**
+     * Turn flag as last written to the file.
+     */
+    private boolean journaledTurn;
+
+    /**
+     * Human sunk ship count as last written to the file.
+     */
+    private int journaledHumanSunk;
+
+    /**
+     * Computer sunk ship count as last written to the file.
+     */
+    private int journaledComputerSunk;
+
+    /**
+     * Number of records after the snapshot.
+     */
+    private int recordCount;
+
+    /**
+     * True when the last write to the file failed, so the file no longer
+     * matches the tracked state and must be rewritten by the next save.
+     * Set by whichever thread performs the writes.
+     */
+    private volatile boolean appendFailed;
+
+    /**
+     * Constructs a journaled repository with the default compaction threshold.
+     *
+     * @param delegate the repository owning the save and player data files
+     */
+    public JournaledGameRepository(GameRepository delegate) {
+        this(delegate, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Constructs a journaled repository.
+     *
+     * @param delegate the repository owning the save and player data files
+     * @param compactionThreshold number of records after which the file is compacted
+     * @throws IllegalArgumentException if the delegate is null or the threshold is not positive
+     */
+    public JournaledGameRepository(GameRepository delegate, int compactionThreshold) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Delegate repository cannot be null");
+        }
+        if (compactionThreshold <= 0) {
+            throw new IllegalArgumentException("Compaction threshold must be positive");
+        }
+        this.delegate = delegate;
+        this.codec = new BinaryGameSerializer();
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Saves the current game state on the calling thread.
+     * Appends the shots made since the last save when the journal still matches
+     * the game, and writes a fresh snapshot otherwise or if the append fails.
+     *
+     * @param humanPlayer the human player
+     * @param computerPlayer the computer player
+     * @param gameStatus the current game status
+     * @param isPlayerTurn true if it is the player's turn, false otherwise
+     */
+    @Override
+    public void saveGame(IPlayer humanPlayer, IPlayer computerPlayer, GameStatus gameStatus, boolean isPlayerTurn) {
+        PendingWrite write = stageSave(humanPlayer, computerPlayer, gameStatus, isPlayerTurn);
+        if (write == null) {
+            return;
+        }
+        write.write();
+        if (appendFailed && !write.replacesSave()) {
+            PendingWrite compaction = stageCompaction(humanPlayer, computerPlayer, gameStatus, isPlayerTurn);
+            if (compaction != null) {
+                compaction.write();
+            }
+        }
+    }
+
+    /**
+     * Prepares the next save without touching the file.
+     * Encodes the records of the shots made since the last save when the
+     * journal still matches the game, and a fresh snapshot otherwise. The
+     * tracked state is updated right away, so saves staged later only add
+     * what changed after this one.
+     *
+     * @param humanPlayer the human player
+     * @param computerPlayer the computer player
+     * @param gameStatus the current game status
+     * @param isPlayerTurn true if it is the player's turn, false otherwise
+     * @return the append or the compaction to write, or null if nothing changed
+     */
+    @Override
+    public PendingWrite stageSave(IPlayer humanPlayer, IPlayer computerPlayer, GameStatus gameStatus, boolean isPlayerTurn) {
+        if (!canAppend(humanPlayer, computerPlayer)) {
+            return stageCompaction(humanPlayer, computerPlayer, gameStatus, isPlayerTurn);
+        }
+
+        int maxRecords = humanShots.length + computerShots.length + 1;
+        ByteBuffer records = ByteBuffer.allocate(maxRecords * RECORD_BYTES);
+        int written = appendShots(records, computerBoard, computerShots, HUMAN)
+                + appendShots(records, humanBoard, humanShots, COMPUTER);
+
+        int humanSunk = humanPlayer.getSunkShipsCount();
+        int computerSunk = computerPlayer.getSunkShipsCount();
+        boolean stateChanged = gameStatus != journaledStatus || isPlayerTurn != journaledTurn
+                || humanSunk != journaledHumanSunk || computerSunk != journaledComputerSunk;
+        if (stateChanged) {
+            putRecord(records, STATE_RECORD, (byte) gameStatus.ordinal(), (byte) (isPlayerTurn ? 1 : 0),
+                    (byte) humanSunk, (byte) computerSunk);
+            written++;
+        }
+        if (written == 0) {
+            return null;
+        }
+        records.flip();
+
+        String nickname = humanSunk != journaledHumanSunk ? humanPlayer.getNickname() : null;
+        recordCount += written;
+        journaledStatus = gameStatus;
+        journaledTurn = isPlayerTurn;
+        journaledHumanSunk = humanSunk;
+        journaledComputerSunk = computerSunk;
+        return new PendingWrite(() -> append(records, nickname, humanSunk), false);
+    }
+
+    /**
+     * Appends staged records to the save file.
+     * Does nothing once an earlier append has failed, so the file never holds
+     * records with a gap before them; the next save then compacts the file.
+     *
+     * @param records the encoded records
+     * @param nickname the nickname for the player data file, or null if it is unchanged
+     * @param humanSunk ships sunk by the human player, for the player data file
+     */
+    private void append(ByteBuffer records, String nickname, int humanSunk) {
+        if (appendFailed) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(savePath(), StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            while (records.hasRemaining()) {
+                channel.write(records);
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+            appendFailed = true;
+            return;
+        }
+        if (nickname != null) {
+            delegate.writePlayerData(nickname, humanSunk);
+        }
+    }
+
+    /**
+     * Loads the saved game, replaying the journal on top of its snapshot.
+     * A damaged tail is truncated from the file.
+     *
+     * @return the restored game data, or null if no save exists or loading fails
+     */
+    @Override
+    public SerializableGameData loadGame() {
+        journalOpen = false;
+        Path path = savePath();
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            buffer = ByteBuffer.allocate((int) channel.size());
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // Keep reading until the whole file is in the buffer.
+            }
+            buffer.flip();
+        } catch (IOException e) {
+            e.printStackTrace();
+            return null;
+        }
+
+        if (buffer.remaining() < HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+            return delegate.loadGame();
+        }
+
+        buffer.getInt();
+        short version = buffer.getShort();
+        int snapshotLength = buffer.getInt();
+        if (version != FORMAT_VERSION || snapshotLength < 0 || snapshotLength > buffer.remaining()) {
+            System.err.println("Invalid journal header in " + path);
+            return null;
+        }
+
+        ByteBuffer snapshot = buffer.slice();
+        snapshot.limit(snapshotLength);
+        SerializableGameData data = codec.decode(snapshot);
+        if (data == null) {
+            return null;
+        }
+        buffer.position(HEADER_BYTES + snapshotLength);
+
+        IPlayer human = data.getHumanPlayer();
+        IPlayer computer = data.getComputerPlayer();
+        GameStatus status = data.getGameStatus();
+        boolean playerTurn = data.isPlayerTurn();
+        int replayed = 0;
+        byte[] record = new byte[RECORD_BYTES];
+
+        while (buffer.remaining() >= RECORD_BYTES) {
+            buffer.get(record);
+            if (record[RECORD_BYTES - 1] != checksum(record)) {
+                break;
+            }
+
+            if (record[0] == SHOT_RECORD) {
+                IPlayer shooter = record[1] == HUMAN ? human : computer;
+                IBoard target = record[1] == HUMAN ? computer.getBoard() : human.getBoard();
+                ShotResult result = replayShot(target, record);
+                if (result == null) {
+                    break;
+                }
+                if (result == ShotResult.WATER) {
+                    playerTurn = shooter == computer;
+                } else if (result == ShotResult.SUNK && target.allShipsSunk()) {
+                    status = shooter == human ? GameStatus.PLAYER_WON : GameStatus.COMPUTER_WON;
+                }
+            } else if (record[0] == STATE_RECORD && (record[1] & 0xFF) < GameStatus.values().length) {
+                status = GameStatus.values()[record[1] & 0xFF];
+                playerTurn = record[2] != 0;
+                raiseSunkCount(human, record[3] & 0xFF);
+                raiseSunkCount(computer, record[4] & 0xFF);
+            } else {
+                break;
+            }
+            replayed++;
+        }
+
+        int validLength = HEADER_BYTES + snapshotLength + replayed * RECORD_BYTES;
+        if (validLength < buffer.limit()) {
+            truncate(path, validLength);
+        }
+
+        track(human, computer, status, playerTurn);
+        recordCount = replayed;
+        appendFailed = false;
+        return new SerializableGameData(human, computer, status, playerTurn);
+    }
+
+    /**
+     * Checks if a saved game exists in persistent storage.
+     *
+     * @return true if the save file exists, false otherwise
+     */
+    @Override
+    public boolean hasSavedGame() {
+        return delegate.hasSavedGame();
+    }
+
+    /**
+     * Deletes the saved game and forgets the journal state.
+     */
+    @Override
+    public void deleteSavedGame() {
+        delegate.deleteSavedGame();
+        journalOpen = false;
+        humanBoard = null;
+        computerBoard = null;
+    }
+
+    /**
+     * Does nothing, since {@link #saveGame} writes immediately and staged
+     * writes are performed by whoever staged them.
+     */
+    @Override
+    public void flush() {
+    }
+
+    /**
+     * Forgets the tracked boards so they can be collected, and closes the delegate.
+     * Staged writes must have been performed before.
+     */
+    @Override
+    public void close() {
+        journalOpen = false;
+        humanBoard = null;
+        computerBoard = null;
+        humanShots = null;
+        computerShots = null;
+        delegate.close();
+    }
+
+    /**
+     * Checks if the next save can be appended to the current journal.
+     *
+     * @param humanPlayer the human player
+     * @param computerPlayer the computer player
+     * @return true if the journal still describes these players' boards
+     */
+    private boolean canAppend(IPlayer humanPlayer, IPlayer computerPlayer) {
+        return journalOpen
+                && !appendFailed
+                && journaledStatus == GameStatus.PLAYING
+                && recordCount < compactionThreshold
+                && humanPlayer.getBoard() == humanBoard
+                && computerPlayer.getBoard() == computerBoard
+                && humanBoard.getShipCount() == humanShipCount
+                && computerBoard.getShipCount() == computerShipCount
+                && !hasUndoneShots(humanBoard, humanShots)
+                && !hasUndoneShots(computerBoard, computerShots);
+    }
+
+    /**
+     * Prepares a rewrite of the save file as a fresh snapshot with an empty journal.
+     * If the rewrite fails, the journal is marked as failed so the next save
+     * compacts again instead of appending to the old file.
+     *
+     * @param humanPlayer the human player
+     * @param computerPlayer the computer player
+     * @param gameStatus the current game status
+     * @param isPlayerTurn true if it is the player's turn, false otherwise
+     * @return the rewrite to perform, or null if the state could not be encoded
+     */
+    private PendingWrite stageCompaction(IPlayer humanPlayer, IPlayer computerPlayer, GameStatus gameStatus,
+                                         boolean isPlayerTurn) {
+        journalOpen = false;
+        byte[] state = codec.encode(new SerializableGameData(humanPlayer, computerPlayer, gameStatus, isPlayerTurn));
+        if (state == null) {
+            return null;
+        }
+
+        ByteBuffer payload = ByteBuffer.allocate(HEADER_BYTES + state.length);
+        payload.putInt(MAGIC);
+        payload.putShort(FORMAT_VERSION);
+        payload.putInt(state.length);
+        payload.put(state);
+        GameSnapshot snapshot = new GameSnapshot(payload.array(), humanPlayer.getNickname(),
+                humanPlayer.getSunkShipsCount(), gameStatus);
+
+        track(humanPlayer, computerPlayer, gameStatus, isPlayerTurn);
+        recordCount = 0;
+        return new PendingWrite(() -> appendFailed = !delegate.write(snapshot), true);
+    }
+
+    /**
+     * Remembers the state that the save file now describes.
+     *
+     * @param humanPlayer the human player
+     * @param computerPlayer the computer player
+     * @param gameStatus the game status in the file
+     * @param isPlayerTurn the turn flag in the file
+     */
+    private void track(IPlayer humanPlayer, IPlayer computerPlayer, GameStatus gameStatus, boolean isPlayerTurn) {
+        humanBoard = humanPlayer.getBoard();
+        computerBoard = computerPlayer.getBoard();
+        humanShots = shotCells(humanBoard);
+        computerShots = shotCells(computerBoard);
+        humanShipCount = humanBoard.getShipCount();
+        computerShipCount = computerBoard.getShipCount();
+        journaledStatus = gameStatus;
+        journaledTurn = isPlayerTurn;
+        journaledHumanSunk = humanPlayer.getSunkShipsCount();
+        journaledComputerSunk = computerPlayer.getSunkShipsCount();
+        journalOpen = true;
+    }
+
+    /**
+     * Writes a shot record for every cell shot since the last save.
+     * Records are ordered so that replaying them reproduces the original results:
+     * the cell that completes a sunk ship comes after the ship's other new hits.
+     *
+     * @param records the buffer receiving the records
+     * @param board the board that was shot at
+     * @param recorded cells whose shot is already in the file; updated in place
+     * @param shooter code of the player who shot at the board
+     * @return the number of records written
+     */
+    private static int appendShots(ByteBuffer records, IBoard board, boolean[] recorded, byte shooter) {
+        int written = 0;
+        Map<IShip, List<Integer>> sinking = new IdentityHashMap<>();
+
+        for (int index = 0; index < recorded.length; index++) {
+            if (recorded[index] || !isShot(board.getCell(index).getStatus())) {
+                continue;
+            }
+            recorded[index] = true;
+
+            IShip ship = board.getShipAt(index);
+            if (ship == null) {
+                putShot(records, shooter, index, ShotResult.WATER);
+                written++;
+            } else if (ship.isSunk()) {
+                sinking.computeIfAbsent(ship, key -> new ArrayList<>()).add(index);
+            } else {
+                putShot(records, shooter, index, ShotResult.HIT);
+                written++;
+            }
+        }
+
+        for (List<Integer> cells : sinking.values()) {
+            for (int i = 0; i < cells.size(); i++) {
+                putShot(records, shooter, cells.get(i), i == cells.size() - 1 ? ShotResult.SUNK : ShotResult.HIT);
+                written++;
+            }
+        }
+        return written;
+    }
+
+    /**
+     * Replays one shot record on a board.
+     *
+     * @param target the board that was shot at
+     * @param record the record bytes
+     * @return the replayed result, or null if the record does not match the board
+     */
+    private static ShotResult replayShot(IBoard target, byte[] record) {
+        int size = target.getSize();
+        int index = ((record[2] & 0xFF) << 8) | (record[3] & 0xFF);
+        int recordedResult = record[4] & 0xFF;
+        if (index >= size * size || recordedResult >= ShotResult.values().length) {
+            return null;
+        }
+
+        ShotResult result = ShotResolver.resolve(target, Coordinate.ofIndex(index, size));
+        if (result != ShotResult.values()[recordedResult]) {
+            System.err.println("Journal record does not match the saved board; stopping replay");
+            return null;
+        }
+        return result;
+    }
+
+    /**
+     * Writes a shot record.
+     *
+     * @param records the destination buffer
+     * @param shooter code of the shooting player
+     * @param index packed index of the target cell
+     * @param result the result of the shot
+     */
+    private static void putShot(ByteBuffer records, byte shooter, int index, ShotResult result) {
+        putRecord(records, SHOT_RECORD, shooter, (byte) (index >>> 8), (byte) index, (byte) result.ordinal());
+    }
+
+    /**
+     * Writes a record followed by its checksum.
+     *
+     * @param records the destination buffer
+     * @param type the record type
+     * @param b1 first payload byte
+     * @param b2 second payload byte
+     * @param b3 third payload byte
+     * @param b4 fourth payload byte
+     */
+    private static void putRecord(ByteBuffer records, byte type, byte b1, byte b2, byte b3, byte b4) {
+        byte[] record = {type, b1, b2, b3, b4, 0};
+        record[RECORD_BYTES - 1] = checksum(record);
+        records.put(record);
+    }
+
+    /**
+     * Computes the checksum of a record's first five bytes.
+     *
+     * @param record the record bytes
+     * @return the checksum byte
+     */
+    private static byte checksum(byte[] record) {
+        int hash = 0x5A;
+        for (int i = 0; i < RECORD_BYTES - 1; i++) {
+            hash = hash * 31 + (record[i] & 0xFF);
+        }
+        return (byte) (hash ^ (hash >>> 8) ^ (hash >>> 16));
+    }
+
+    /**
+     * Raises a player's sunk ship count to the given value.
+     *
+     * @param player the player
+     * @param sunkShips the count recorded in the journal
+     */
+    private static void raiseSunkCount(IPlayer player, int sunkShips) {
+        while (player.getSunkShipsCount() < sunkShips) {
+            player.incrementSunkShips();
+        }
+    }
+
+    /**
+     * Checks if a shot already in the file has disappeared from the board, as after a reset.
+     *
+     * @param board the board
+     * @param recorded cells whose shot is in the file
+     * @return true if some recorded cell is no longer shot
+     */
+    private static boolean hasUndoneShots(IBoard board, boolean[] recorded) {
+        for (int index = 0; index < recorded.length; index++) {
+            if (recorded[index] && !isShot(board.getCell(index).getStatus())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Lists the cells of a board that have been shot.
+     *
+     * @param board the board
+     * @return a flag per packed index, true where the cell has been shot
+     */
+    private static boolean[] shotCells(IBoard board) {
+        int size = board.getSize();
+        boolean[] shots = new boolean[size * size];
+        for (int index = 0; index < shots.length; index++) {
+            shots[index] = isShot(board.getCell(index).getStatus());
+        }
+        return shots;
+    }
+
+    /**
+     * Checks if a cell status means the cell has been shot.
+     *
+     * @param status the cell status
+     * @return true for HIT, MISS and SUNK
+     */
+    private static boolean isShot(CellStatus status) {
+        return status == CellStatus.HIT || status == CellStatus.MISS || status == CellStatus.SUNK;
+    }
+
+    /**
+     * Cuts the save file to the given length, dropping a damaged journal tail.
+     *
+     * @param path the save file
+     * @param length the length to keep
+     */
+    private static void truncate(Path path, long length) {
+        System.err.println("Dropping damaged journal tail from " + path);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.truncate(length);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Returns the path of the save file.
+     *
+     * @return the save file path
+     */
+    private Path savePath() {
+        return Paths.get(delegate.getSaveFile());
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.miniproyecto4.model.GameSave;
+
+/**
+ * Disk write prepared by {@link IStagedGameRepository#stageSave} and not performed yet.
+ * Everything it writes was captured when it was staged, so it can run later
+ * from any thread while the game keeps changing.
+ */
+public final class PendingWrite {
+
+    /**
+     * The disk I/O of the write.
+     */
+    private final Runnable write;
+
+    /**
+     * True if the write replaces the whole save file.
+     */
+    private final boolean replacesSave;
+
+    /**
+     * Constructs a pending write.
+     *
+     * @param write the disk I/O to perform
+     * @param replacesSave true if the write replaces the whole save file, making
+     *                     the writes staged before it unnecessary
+     */
+    PendingWrite(Runnable write, boolean replacesSave) {
+        this.write = write;
+        this.replacesSave = replacesSave;
+    }
+
+    /**
+     * Performs the write on the calling thread.
+     */
+    public void write() {
+        write.run();
+    }
+
+    /**
+     * Checks if the write replaces the whole save file.
+     * Writes staged before such a write no longer need to be performed.
+     *
+     * @return true if the write replaces the save file, false if it adds to it
+     */
+    public boolean replacesSave() {
+        return replacesSave;
+    }
+}
@@ -0,0 +1,242 @@
+package com.example.miniproyecto4.model.GameSave;
+
+import com.example.miniproyecto4.model.Game.GameStatus;
+import com.example.miniproyecto4.model.Player.IPlayer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Repository that takes disk writes off the caller's thread.
+ * <p>
+ * {@link #saveGame} only stages the save through the delegate's
+ * {@link IStagedGameRepository#stageSave}, which encodes it in memory and
+ * leaves nothing shared with the live game, and queues the resulting
+ * {@link PendingWrite}. A background writer performs the queued writes in
+ * order at a fixed interval. A write that replaces the whole save file drops
+ * the writes queued before it, so a burst of snapshot saves costs a single
+ * write, while journal appends are kept and written together. Callers that
+ * need the data on disk right away, such as
+ * the game manager when the game status changes, call {@link #flush()}.
+ * Pending saves are also written on {@link #close()} and when the JVM exits.
+ * Closing the repository also cancels its periodic flush and removes its
+ * shutdown hook; saves are rejected afterwards.
+ * </p>
+ */
+public class WriteBehindGameRepository implements IGameRepository {
+
+    /**
+     * Default time between background writes, in milliseconds.
+     */
+    public static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 250;
+
+    /**
+     * Single daemon thread shared by every write-behind repository.
+     */
+    private static final ScheduledExecutorService WRITER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "game-save-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Repository that performs the actual encoding and disk writes.
+     */
+    private final IStagedGameRepository delegate;
+
+    /**
+     * Writes staged but not performed yet, oldest first. Guarded by its own monitor.
+     */
+    private final ArrayDeque<PendingWrite> pending = new ArrayDeque<>();
+
+    /**
+     * Serializes writes so they reach the disk in the order they were staged.
+     */
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    /**
+     * Periodic task flushing pending saves.
+     */
+    private final ScheduledFuture<?> flushTask;
+
+    /**
+     * Hook flushing pending saves when the JVM exits.
+     */
+    private final Thread shutdownHook;
+
+    /**
+     * True once {@link #close()} has been called.
+     */
+    private volatile boolean closed;
+
+    /**
+     * Constructs a write-behind repository with the default flush interval.
+     *
+     * @param delegate the repository performing the actual writes
+     */
+    public WriteBehindGameRepository(IStagedGameRepository delegate) {
+        this(delegate, DEFAULT_FLUSH_INTERVAL_MILLIS);
+    }
+
+    /**
+     * Constructs a write-behind repository.
+     *
+     * @param delegate the repository performing the actual writes
+     * @param flushIntervalMillis time between background writes, in milliseconds
+     * @throws IllegalArgumentException if the delegate is null or the interval is not positive
+     */
+    public WriteBehindGameRepository(IStagedGameRepository delegate, long flushIntervalMillis) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Delegate repository cannot be null");
+        }
+        if (flushIntervalMillis <= 0) {
+            throw new IllegalArgumentException("Flush interval must be positive");
+        }
+        this.delegate = delegate;
+        this.flushTask = WRITER.scheduleWithFixedDelay(
+                this::flushQuietly, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+        this.shutdownHook = new Thread(this::flush, "game-save-shutdown");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    /**
+     * Stages the current game state and queues it for the background writer.
+     * A save replacing the whole file drops the saves that have not been written yet.
+     *
+     * @param humanPlayer the human player
+     * @param computerPlayer the computer player
+     * @param gameStatus the current game status
+     * @param isPlayerTurn true if it is the player's turn, false otherwise
+     * @throws IllegalStateException if the repository has been closed
+     */
+    @Override
+    public void saveGame(IPlayer humanPlayer, IPlayer computerPlayer, GameStatus gameStatus, boolean isPlayerTurn) {
+        if (closed) {
+            throw new IllegalStateException("Repository is closed");
+        }
+        PendingWrite write = delegate.stageSave(humanPlayer, computerPlayer, gameStatus, isPlayerTurn);
+        if (write == null) {
+            return;
+        }
+        synchronized (pending) {
+            if (write.replacesSave()) {
+                pending.clear();
+            }
+            pending.add(write);
+        }
+    }
+
+    /**
+     * Loads the saved game, writing any pending save first so the latest state is returned.
+     *
+     * @return the serialized game data, or null if no save exists or loading fails
+     */
+    @Override
+    public SerializableGameData loadGame() {
+        flush();
+        return delegate.loadGame();
+    }
+
+    /**
+     * Checks if a saved game exists, counting a save that has not been written yet.
+     *
+     * @return true if a save is pending or the save file exists, false otherwise
+     */
+    @Override
+    public boolean hasSavedGame() {
+        synchronized (pending) {
+            if (!pending.isEmpty()) {
+                return true;
+            }
+        }
+        return delegate.hasSavedGame();
+    }
+
+    /**
+     * Discards any pending save and deletes the saved game from persistent storage.
+     */
+    @Override
+    public void deleteSavedGame() {
+        writeLock.lock();
+        try {
+            synchronized (pending) {
+                pending.clear();
+            }
+            delegate.deleteSavedGame();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Performs the pending writes, if any, on the calling thread.
+     * Returns once the data is on disk.
+     */
+    @Override
+    public void flush() {
+        writeLock.lock();
+        try {
+            List<PendingWrite> writes;
+            synchronized (pending) {
+                writes = new ArrayList<>(pending);
+                pending.clear();
+            }
+            for (PendingWrite write : writes) {
+                write.write();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Stops the background writer for this repository, performs any pending
+     * write and closes the delegate. Closing again does nothing.
+     */
+    @Override
+    public void close() {
+        writeLock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            flushTask.cancel(false);
+            flush();
+            delegate.close();
+        } finally {
+            writeLock.unlock();
+        }
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException e) {
+            // The JVM is already shutting down and the hook will run anyway.
+        }
+    }
+
+    /**
+     * Checks if the repository has been closed, so its periodic flush is
+     * cancelled and it accepts no more saves.
+     *
+     * @return true once {@link #close()} has been called
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Flushes from the background writer, keeping the periodic task alive if a write fails.
+     */
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+        }
+    }
+}
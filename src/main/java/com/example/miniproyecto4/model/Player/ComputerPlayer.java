@@ -3,8 +3,9 @@ package com.example.miniproyecto4.model.Player;
 import com.example.miniproyecto4.model.Board.Board;
 import com.example.miniproyecto4.model.Board.IBoard;
 import com.example.miniproyecto4.model.Cell.Coordinate;
-import java.util.ArrayList;
-import java.util.List;
+import com.example.miniproyecto4.model.Shot.ShotAvailability;
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.util.Random;
 
 /**
@@ -20,10 +21,11 @@ public class ComputerPlayer extends Player {
     private static final long serialVersionUID = 1L;
 
     /**
-     * List of coordinates that are still available for the computer to target.
-     * This list is updated as shots are taken.
+     * Cells of the opponent's board that the computer can still target.
+     * Shared with the game engine and the AI strategy; not serialized, since the
+     * engine rebuilds it from the opponent's board after a load.
      */
-    private final List<Coordinate> availableShots;
+    private transient ShotAvailability availableShots;
 
     /**
      * Random number generator for selecting shot targets.
@@ -34,71 +36,68 @@ public class ComputerPlayer extends Player {
     /**
      * Constructs a ComputerPlayer with default settings.
      * Initializes the player with the nickname "Computer" and a new board,
-     * and sets up the list of available shots.
+     * and sets up the available shots.
      */
     public ComputerPlayer() {
         super("Computer");
-        this.availableShots = new ArrayList<>();
+        this.availableShots = new ShotAvailability(getBoard().getSize());
         this.random = new Random();
-        initializeAvailableShots();
     }
 
     /**
      * Constructs a ComputerPlayer with a specified board.
      * Initializes the player with the nickname "Computer" and the provided board,
-     * and sets up the list of available shots.
+     * and sets up the available shots.
      *
      * @param board the game board to use for this player
      */
     public ComputerPlayer(IBoard board) {
         super("Computer", board);
-        this.availableShots = new ArrayList<>();
+        this.availableShots = new ShotAvailability(getBoard().getSize());
         this.random = new Random();
-        initializeAvailableShots();
     }
 
     /**
-     * Initializes the list of available shots to include all coordinates on the board.
-     * Clears any existing shots and populates the list with all possible coordinates.
+     * Replaces the available shots with the ones tracked by the game engine.
+     *
+     * @param availableShots the availability of the opponent's board
      */
-    private void initializeAvailableShots() {
-        availableShots.clear();
-        int size = getBoard().getSize();
-        for (int x = 0; x < size; x++) {
-            for (int y = 0; y < size; y++) {
-                availableShots.add(new Coordinate(x, y));
-            }
-        }
+    public void setShotAvailability(ShotAvailability availableShots) {
+        this.availableShots = availableShots;
+    }
+
+    /**
+     * Returns the cells the computer can still target.
+     *
+     * @return the shot availability
+     */
+    public ShotAvailability getShotAvailability() {
+        return availableShots;
     }
 
     /**
      * Selects and returns the next shot coordinate for the computer player.
-     * Randomly selects a coordinate from the available shots list and removes it.
+     * Picks a coordinate uniformly from the available shots and marks it as taken.
      *
      * @return the next coordinate to shoot at, or null if no shots are available
      */
     public Coordinate getNextShot() {
-        if (availableShots.isEmpty()) {
-            return null;
-        }
-
         if (random == null) {
             random = new Random();
         }
 
-        int index = random.nextInt(availableShots.size());
-        Coordinate shot = availableShots.remove(index);
-        return shot;
+        int index = availableShots.takeRandom(random);
+        return index < 0 ? null : Coordinate.ofIndex(index, availableShots.getSize());
     }
 
     /**
      * Marks a specific coordinate as taken, removing it from available shots.
-     * Used to update the available shots list when a shot is taken by the AI strategy.
+     * Used to update the available shots when a shot is taken by the AI strategy.
      *
      * @param coordinate the coordinate to mark as taken
      */
     public void markShotTaken(Coordinate coordinate) {
-        availableShots.remove(coordinate);
+        availableShots.markTaken(coordinate);
     }
 
     /**
@@ -107,7 +106,7 @@ public class ComputerPlayer extends Player {
      * @return the count of available shot coordinates
      */
     public int getAvailableShotsCount() {
-        return availableShots.size();
+        return availableShots.getAvailableCount();
     }
 
     /**
@@ -117,20 +116,33 @@ public class ComputerPlayer extends Player {
      * @return true if the coordinate is available, false otherwise
      */
     public boolean isShotAvailable(Coordinate coordinate) {
-        return availableShots.contains(coordinate);
+        return availableShots.isAvailable(coordinate);
     }
 
     /**
      * Resets the computer player to its initial state.
-     * Calls the parent reset method and reinitializes the available shots list
-     * and random number generator.
+     * Calls the parent reset method, opens every available shot again
+     * and reinitializes the random number generator.
      */
     @Override
     public void reset() {
         super.reset();
-        initializeAvailableShots();
+        availableShots.reset();
         if (random == null) {
             random = new Random();
         }
     }
+
+    /**
+     * Restores the transient available shots after deserialization.
+     * Every cell starts open until the game engine shares its own availability.
+     *
+     * @param in the object input stream
+     * @throws IOException if an I/O error occurs
+     * @throws ClassNotFoundException if a class cannot be resolved
+     */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        availableShots = new ShotAvailability(getBoard().getSize());
+    }
 }
\ No newline at end of file
@@ -41,12 +41,20 @@ public interface IShip extends Serializable {
     Coordinate getStartCoordinate();
 
     /**
-     * Returns all coordinates occupied by the ship.
+     * Returns a read-only view of all coordinates occupied by the ship.
      *
-     * @return a list of all ship coordinates
+     * @return an unmodifiable list of all ship coordinates
      */
     List<Coordinate> getCoordinates();
 
+    /**
+     * Gets the coordinate of one of the ship segments.
+     *
+     * @param segment the segment position, from 0 to size - 1
+     * @return the coordinate of the segment, or null if the ship is not positioned
+     */
+    Coordinate getCoordinate(int segment);
+
     /**
      * Registers a hit at the specified coordinate.
      *
@@ -55,6 +63,15 @@ public interface IShip extends Serializable {
      */
     boolean hit(Coordinate coordinate);
 
+    /**
+     * Registers a hit at the specified packed index ({@code x * boardSize + y}).
+     *
+     * @param index the packed index where the hit occurred
+     * @param boardSize the size of the board the index refers to
+     * @return true if the hit was successful, false otherwise
+     */
+    boolean hit(int index, int boardSize);
+
     /**
      * Checks if the ship has been sunk.
      * A ship is sunk when all of its coordinates have been hit.
@@ -71,6 +88,24 @@ public interface IShip extends Serializable {
      */
     boolean isHitAt(Coordinate coordinate);
 
+    /**
+     * Checks if the ship has been hit at the specified packed index ({@code x * boardSize + y}).
+     *
+     * @param index the packed index to check
+     * @param boardSize the size of the board the index refers to
+     * @return true if the ship has been hit at this index, false otherwise
+     */
+    boolean isHitAt(int index, int boardSize);
+
+    /**
+     * Returns the packed index ({@code x * boardSize + y}) of one of the ship segments.
+     *
+     * @param segment the segment position, from 0 to size - 1
+     * @param boardSize the size of the board the index refers to
+     * @return the packed index of the segment, or -1 if the ship is not positioned
+     */
+    int getCoordinateIndex(int segment, int boardSize);
+
     /**
      * Returns the number of times the ship has been hit.
      *
@@ -86,4 +121,12 @@ public interface IShip extends Serializable {
      * @param orientation the orientation of the ship (horizontal or vertical)
      */
     void setPosition(Coordinate coordinate, Orientation orientation);
+
+    /**
+     * Sets the listener notified of new hits on this ship.
+     * Set by the board the ship is placed on; not serialized.
+     *
+     * @param listener the listener, or null to remove it
+     */
+    void setHitListener(ShipHitListener listener);
 }
\ No newline at end of file
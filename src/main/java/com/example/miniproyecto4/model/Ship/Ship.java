@@ -2,8 +2,12 @@ package com.example.miniproyecto4.model.Ship;
 
 import com.example.miniproyecto4.model.Cell.Coordinate;
 import com.example.miniproyecto4.model.Validation.Orientation;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -11,7 +15,11 @@ import java.util.Set;
 /**
  * Represents a ship in the Battleship game.
  * Manages ship position, orientation, hit tracking, and sunk status.
- * Implements Serializable to support game state persistence.
+ * Hits are kept in an int bit mask indexed by segment offset, and segments are
+ * found arithmetically from the start coordinate and orientation, so hits and
+ * lookups do not allocate.
+ * Implements Serializable to support game state persistence; the serialized
+ * form still stores the hit coordinates so existing saves keep loading.
  */
 public class Ship implements IShip, Serializable {
 
@@ -42,6 +50,8 @@ public class Ship implements IShip, Serializable {
 
     /**
      * Set of coordinates where the ship has been hit.
+     * Only used by the serialized form, to keep the saved format;
+     * the hit state itself lives in {@link #hitMask}.
      */
     private final Set<Coordinate> hitCoordinates;
 
@@ -50,6 +60,21 @@ public class Ship implements IShip, Serializable {
      */
     private final List<Coordinate> coordinates;
 
+    /**
+     * Read-only view of {@link #coordinates} returned to callers.
+     */
+    private transient List<Coordinate> coordinatesView;
+
+    /**
+     * Hit segments, bit {@code i} set when segment {@code i} has been hit.
+     */
+    private transient int hitMask;
+
+    /**
+     * Listener notified of new hits, usually the board holding the ship.
+     */
+    private transient ShipHitListener hitListener;
+
     /**
      * Constructs a Ship of the specified type without position information.
      * Initializes empty hit coordinates and coordinates lists.
@@ -60,7 +85,8 @@ public class Ship implements IShip, Serializable {
         this.type = type;
         this.size = type.getSize();
         this.hitCoordinates = new HashSet<>();
-        this.coordinates = new ArrayList<>();
+        this.coordinates = new ArrayList<>(size);
+        this.coordinatesView = Collections.unmodifiableList(coordinates);
     }
 
     /**
@@ -117,13 +143,28 @@ public class Ship implements IShip, Serializable {
     }
 
     /**
-     * Returns a copy of all coordinates occupied by the ship.
+     * Returns a read-only view of all coordinates occupied by the ship.
+     * The view is not a copy and reflects later calls to {@link #setPosition}.
      *
-     * @return a list of all ship coordinates
+     * @return an unmodifiable list of all ship coordinates
      */
     @Override
     public List<Coordinate> getCoordinates() {
-        return new ArrayList<>(coordinates);
+        return coordinatesView;
+    }
+
+    /**
+     * Returns the coordinate of one of the ship segments.
+     *
+     * @param segment the segment position, from 0 to size - 1
+     * @return the coordinate of the segment, or null if the ship is not positioned
+     */
+    @Override
+    public Coordinate getCoordinate(int segment) {
+        if (segment < 0 || segment >= coordinates.size()) {
+            return null;
+        }
+        return coordinates.get(segment);
     }
 
     /**
@@ -135,11 +176,19 @@ public class Ship implements IShip, Serializable {
      */
     @Override
     public boolean hit(Coordinate coordinate) {
-        if (coordinates.contains(coordinate) && !hitCoordinates.contains(coordinate)) {
-            hitCoordinates.add(coordinate);
-            return true;
-        }
-        return false;
+        return hitSegment(segmentAt(coordinate.getX(), coordinate.getY()));
+    }
+
+    /**
+     * Registers a hit at the specified packed index.
+     *
+     * @param index the packed index where the hit occurred
+     * @param boardSize the size of the board the index refers to
+     * @return true if the hit was successful, false otherwise
+     */
+    @Override
+    public boolean hit(int index, int boardSize) {
+        return hitSegment(segmentAt(index / boardSize, index % boardSize));
     }
 
     /**
@@ -150,7 +199,7 @@ public class Ship implements IShip, Serializable {
      */
     @Override
     public boolean isSunk() {
-        return hitCoordinates.size() == size;
+        return hitMask == (1 << size) - 1;
     }
 
     /**
@@ -161,7 +210,35 @@ public class Ship implements IShip, Serializable {
      */
     @Override
     public boolean isHitAt(Coordinate coordinate) {
-        return hitCoordinates.contains(coordinate);
+        return isSegmentHit(segmentAt(coordinate.getX(), coordinate.getY()));
+    }
+
+    /**
+     * Checks if the ship has been hit at the specified packed index.
+     *
+     * @param index the packed index to check
+     * @param boardSize the size of the board the index refers to
+     * @return true if the ship has been hit at this index, false otherwise
+     */
+    @Override
+    public boolean isHitAt(int index, int boardSize) {
+        return isSegmentHit(segmentAt(index / boardSize, index % boardSize));
+    }
+
+    /**
+     * Returns the packed index of one of the ship segments.
+     *
+     * @param segment the segment position, from 0 to size - 1
+     * @param boardSize the size of the board the index refers to
+     * @return the packed index of the segment, or -1 if the ship is not positioned
+     */
+    @Override
+    public int getCoordinateIndex(int segment, int boardSize) {
+        if (startCoordinate == null || segment < 0 || segment >= size) {
+            return -1;
+        }
+        int start = startCoordinate.toIndex(boardSize);
+        return orientation == Orientation.HORIZONTAL ? start + segment * boardSize : start + segment;
     }
 
     /**
@@ -171,7 +248,7 @@ public class Ship implements IShip, Serializable {
      */
     @Override
     public int getHitCount() {
-        return hitCoordinates.size();
+        return Integer.bitCount(hitMask);
     }
 
     /**
@@ -189,10 +266,105 @@ public class Ship implements IShip, Serializable {
 
         for (int i = 0; i < size; i++) {
             if (orientation == Orientation.HORIZONTAL) {
-                coordinates.add(new Coordinate(coordinate.getX() + i, coordinate.getY()));
+                coordinates.add(Coordinate.of(coordinate.getX() + i, coordinate.getY()));
             } else {
-                coordinates.add(new Coordinate(coordinate.getX(), coordinate.getY() + i));
+                coordinates.add(Coordinate.of(coordinate.getX(), coordinate.getY() + i));
             }
         }
     }
+
+    /**
+     * Sets the listener notified of new hits on this ship.
+     *
+     * @param listener the listener, or null to remove it
+     */
+    @Override
+    public void setHitListener(ShipHitListener listener) {
+        this.hitListener = listener;
+    }
+
+    /**
+     * Finds the segment of the ship at a board position.
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @return the segment offset, or -1 if the ship does not cover the position
+     */
+    private int segmentAt(int x, int y) {
+        if (startCoordinate == null) {
+            return -1;
+        }
+        int dx = x - startCoordinate.getX();
+        int dy = y - startCoordinate.getY();
+        int segment = orientation == Orientation.HORIZONTAL ? (dy == 0 ? dx : -1) : (dx == 0 ? dy : -1);
+        return segment < size ? segment : -1;
+    }
+
+    /**
+     * Marks a segment as hit.
+     *
+     * @param segment the segment offset, or -1
+     * @return true if the segment exists and was not hit before, false otherwise
+     */
+    private boolean hitSegment(int segment) {
+        if (segment < 0 || isSegmentHit(segment)) {
+            return false;
+        }
+        hitMask |= 1 << segment;
+        if (hitListener != null) {
+            hitListener.onShipHit(this, isSunk());
+        }
+        return true;
+    }
+
+    /**
+     * Checks if a segment has been hit.
+     *
+     * @param segment the segment offset, or -1
+     * @return true if the segment exists and has been hit, false otherwise
+     */
+    private boolean isSegmentHit(int segment) {
+        return segment >= 0 && (hitMask & 1 << segment) != 0;
+    }
+
+    /**
+     * Writes the ship, storing the hit segments as hit coordinates
+     * so the saved format stays the same.
+     *
+     * @param out the object output stream
+     * @throws IOException if an I/O error occurs
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        Set<Coordinate> hits = new HashSet<>();
+        for (int segment = 0; segment < coordinates.size(); segment++) {
+            if (isSegmentHit(segment)) {
+                hits.add(coordinates.get(segment));
+            }
+        }
+
+        ObjectOutputStream.PutField fields = out.putFields();
+        fields.put("type", type);
+        fields.put("size", size);
+        fields.put("startCoordinate", startCoordinate);
+        fields.put("orientation", orientation);
+        fields.put("hitCoordinates", hits);
+        fields.put("coordinates", coordinates);
+        out.writeFields();
+    }
+
+    /**
+     * Reads the ship and rebuilds the hit mask and the coordinates view.
+     *
+     * @param in the object input stream
+     * @throws IOException if an I/O error occurs
+     * @throws ClassNotFoundException if a class cannot be resolved
+     */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        coordinatesView = Collections.unmodifiableList(coordinates);
+        for (Coordinate coordinate : hitCoordinates) {
+            hit(coordinate);
+        }
+        hitCoordinates.clear();
+    }
 }
\ No newline at end of file
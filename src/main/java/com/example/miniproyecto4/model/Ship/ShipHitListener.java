@@ -0,0 +1,17 @@
+package com.example.miniproyecto4.model.Ship;
+
+/**
+ * Listener notified when a ship takes a new hit.
+ * Used by boards to keep their fleet counters up to date.
+ */
+@FunctionalInterface
+public interface ShipHitListener {
+
+    /**
+     * Called after a segment of the ship was hit for the first time.
+     *
+     * @param ship the ship that was hit
+     * @param sunk true if the hit sank the ship
+     */
+    void onShipHit(IShip ship, boolean sunk);
+}
@@ -0,0 +1,192 @@
+package com.example.miniproyecto4.model.Shot;
+
+import com.example.miniproyecto4.model.Board.IBoard;
+import com.example.miniproyecto4.model.Cell.Coordinate;
+import java.util.Random;
+
+/**
+ * Set of the cells of a board that can still be shot.
+ * The open cells are kept at the front of an array with each cell's position
+ * stored alongside, so marking a cell as taken swaps it with the last open
+ * cell. Marking, membership and uniform random picks are all constant-time.
+ * Cells are identified by their packed index ({@code x * size + y}).
+ * <p>
+ * The game engine builds one from the attacked board and shares it with the
+ * computer player and the AI strategy. Not thread-safe; the engine uses it
+ * under its game lock.
+ * </p>
+ */
+public class ShotAvailability {
+
+    /**
+     * Side length of the board.
+     */
+    private final int size;
+
+    /**
+     * Open cells in the first {@link #count} entries, taken cells after them.
+     */
+    private final int[] cells;
+
+    /**
+     * Position of each cell in {@link #cells}.
+     */
+    private final int[] positions;
+
+    /**
+     * Number of open cells.
+     */
+    private int count;
+
+    /**
+     * Creates the availability of an unshot board where every cell is open.
+     *
+     * @param size the side length of the board
+     */
+    public ShotAvailability(int size) {
+        this.size = size;
+        this.cells = new int[size * size];
+        this.positions = new int[size * size];
+        reset();
+    }
+
+    /**
+     * Creates the availability of a board from its current cell states.
+     * Cells already hit, missed or sunk are taken.
+     *
+     * @param board the attacked board
+     * @return the availability of the board
+     */
+    public static ShotAvailability fromBoard(IBoard board) {
+        ShotAvailability availability = new ShotAvailability(board.getSize());
+        availability.sync(board);
+        return availability;
+    }
+
+    /**
+     * Opens every cell again.
+     */
+    public void reset() {
+        for (int index = 0; index < cells.length; index++) {
+            cells[index] = index;
+            positions[index] = index;
+        }
+        count = cells.length;
+    }
+
+    /**
+     * Rebuilds the availability from the current cell states of a board of the same size.
+     *
+     * @param board the attacked board
+     */
+    public void sync(IBoard board) {
+        reset();
+        for (int index = 0; index < cells.length; index++) {
+            if (!ShotResolver.isTargetable(board, Coordinate.ofIndex(index, size))) {
+                markTaken(index);
+            }
+        }
+    }
+
+    /**
+     * Marks a cell as shot.
+     *
+     * @param index the packed index of the cell
+     * @return true if the cell was open, false if it was already taken or is outside the board
+     */
+    public boolean markTaken(int index) {
+        if (!isAvailable(index)) {
+            return false;
+        }
+        int position = positions[index];
+        int last = cells[--count];
+        cells[position] = last;
+        positions[last] = position;
+        cells[count] = index;
+        positions[index] = count;
+        return true;
+    }
+
+    /**
+     * Marks a cell as shot.
+     *
+     * @param coordinate the coordinate of the cell
+     * @return true if the cell was open, false if it was already taken or is outside the board
+     */
+    public boolean markTaken(Coordinate coordinate) {
+        return coordinate != null && isInBounds(coordinate) && markTaken(coordinate.toIndex(size));
+    }
+
+    /**
+     * Checks if a cell can still be shot.
+     *
+     * @param index the packed index of the cell
+     * @return true if the cell is open
+     */
+    public boolean isAvailable(int index) {
+        return index >= 0 && index < positions.length && positions[index] < count;
+    }
+
+    /**
+     * Checks if a cell can still be shot.
+     *
+     * @param coordinate the coordinate of the cell
+     * @return true if the cell is open
+     */
+    public boolean isAvailable(Coordinate coordinate) {
+        return coordinate != null && isInBounds(coordinate) && isAvailable(coordinate.toIndex(size));
+    }
+
+    /**
+     * Picks an open cell uniformly at random without taking it.
+     *
+     * @param random the random number generator to use
+     * @return the packed index of the cell, or -1 if no cell is open
+     */
+    public int pickRandom(Random random) {
+        return count == 0 ? -1 : cells[random.nextInt(count)];
+    }
+
+    /**
+     * Picks an open cell uniformly at random and marks it as shot.
+     *
+     * @param random the random number generator to use
+     * @return the packed index of the cell, or -1 if no cell is open
+     */
+    public int takeRandom(Random random) {
+        int index = pickRandom(random);
+        if (index >= 0) {
+            markTaken(index);
+        }
+        return index;
+    }
+
+    /**
+     * Returns the number of cells that can still be shot.
+     *
+     * @return the open cell count
+     */
+    public int getAvailableCount() {
+        return count;
+    }
+
+    /**
+     * Returns the side length of the board.
+     *
+     * @return the board size
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Checks if a coordinate lies on the board.
+     *
+     * @param coordinate the coordinate to check
+     * @return true if both components are within the board
+     */
+    private boolean isInBounds(Coordinate coordinate) {
+        return coordinate.getX() >= 0 && coordinate.getX() < size
+                && coordinate.getY() >= 0 && coordinate.getY() < size;
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.miniproyecto4.model.Shot;
+
+import com.example.miniproyecto4.model.Board.IBoard;
+import com.example.miniproyecto4.model.Cell.Cell;
+import com.example.miniproyecto4.model.Cell.CellStatus;
+import com.example.miniproyecto4.model.Cell.Coordinate;
+import com.example.miniproyecto4.model.Ship.IShip;
+
+/**
+ * Utility class applying shots to a board.
+ * Holds the shot rules shared by the game manager and the headless simulation:
+ * marking misses and hits, registering the hit on the ship and marking every
+ * cell of a ship as sunk once it has been completely hit.
+ * This class cannot be instantiated.
+ */
+public class ShotResolver {
+
+    /**
+     * Checks if a coordinate can still be shot on the given board.
+     *
+     * @param board the board being attacked
+     * @param coordinate the target coordinate
+     * @return true if the cell exists and has not been shot yet, false otherwise
+     */
+    public static boolean isTargetable(IBoard board, Coordinate coordinate) {
+        if (coordinate == null) {
+            return false;
+        }
+        Cell cell = board.getCell(coordinate);
+        return cell != null && !cell.isHit() && !cell.isMiss() && cell.getStatus() != CellStatus.SUNK;
+    }
+
+    /**
+     * Fires a shot at the given coordinate and updates the board accordingly.
+     *
+     * @param board the board being attacked
+     * @param coordinate the target coordinate
+     * @return INVALID if the cell cannot be shot, WATER on a miss,
+     *         HIT on a hit and SUNK when the hit sinks the ship
+     */
+    public static ShotResult resolve(IBoard board, Coordinate coordinate) {
+        if (!isTargetable(board, coordinate)) {
+            return ShotResult.INVALID;
+        }
+
+        int index = coordinate.toIndex(board.getSize());
+        IShip ship = board.getShipAt(coordinate);
+
+        if (ship == null) {
+            board.setCellStatus(index, CellStatus.MISS);
+            return ShotResult.WATER;
+        }
+
+        ship.hit(coordinate);
+        board.setCellStatus(index, CellStatus.HIT);
+
+        if (ship.isSunk()) {
+            markShipAsSunk(board, ship);
+            return ShotResult.SUNK;
+        }
+
+        return ShotResult.HIT;
+    }
+
+    /**
+     * Marks all cells of a sunk ship with SUNK status.
+     * Board listeners receive the whole ship as one change.
+     *
+     * @param board the board containing the ship
+     * @param ship the ship that has been sunk
+     */
+    public static void markShipAsSunk(IBoard board, IShip ship) {
+        board.markShipSunk(ship);
+    }
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private ShotResolver() {
+    }
+}
@@ -0,0 +1,305 @@
+package com.example.miniproyecto4.model.Simulation;
+
+import com.example.miniproyecto4.model.AI.OpeningBook;
+import com.example.miniproyecto4.model.Board.BoardFactory;
+import com.example.miniproyecto4.model.Board.IBoard;
+import com.example.miniproyecto4.model.Cell.Coordinate;
+import com.example.miniproyecto4.model.Game.FleetPlacementSampler;
+import com.example.miniproyecto4.model.Ship.ShipFactory;
+import com.example.miniproyecto4.model.Shot.ShotResolver;
+import com.example.miniproyecto4.model.Shot.ShotResult;
+import com.example.miniproyecto4.model.Utils.Constants;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Offline generator of {@link OpeningBook} files, driven by parallel self-play.
+ * <p>
+ * The book is built one ply at a time. For each ply, workers play games
+ * against random fleets from {@link ShipFactory#createFleet()}, firing the
+ * book shots chosen so far. A game that hits a ship leaves the book, exactly
+ * as the AI does at its first hit. The fleets of the games that only missed
+ * are random fleets consistent with those misses, so counting how often each
+ * open cell holds a ship in them estimates its hit probability. The most
+ * likely cell becomes the next book shot, keyed by the observed hash of the
+ * board the surviving games reached.
+ * </p>
+ */
+public class OpeningBookGenerator {
+
+    /**
+     * Default number of plies in the book.
+     */
+    public static final int DEFAULT_PLIES = 12;
+
+    /**
+     * Default number of self-play games per ply.
+     */
+    public static final int DEFAULT_GAMES_PER_PLY = 50_000;
+
+    /**
+     * Surviving games below which a ply is not trusted and the book ends.
+     */
+    private static final int MIN_SURVIVORS = 200;
+
+    /**
+     * Number of plies to generate.
+     */
+    private final int plies;
+
+    /**
+     * Self-play games per ply.
+     */
+    private final int gamesPerPly;
+
+    /**
+     * Number of worker threads.
+     */
+    private final int workers;
+
+    /**
+     * Side length of the boards.
+     */
+    private final int boardSize;
+
+    /**
+     * Base seed for fleet placement.
+     */
+    private final long seed;
+
+    /**
+     * Creates a generator.
+     *
+     * @param plies number of plies to generate
+     * @param gamesPerPly self-play games per ply
+     * @param workers number of worker threads
+     * @param boardSize side length of the boards
+     * @param seed base seed for fleet placement
+     */
+    public OpeningBookGenerator(int plies, int gamesPerPly, int workers, int boardSize, long seed) {
+        this.plies = plies;
+        this.gamesPerPly = gamesPerPly;
+        this.workers = Math.max(1, workers);
+        this.boardSize = boardSize;
+        this.seed = seed;
+    }
+
+    /**
+     * Generates the book and writes it to a file.
+     *
+     * @param file the book file
+     * @return the number of plies written
+     * @throws IOException if the file cannot be written
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    public int generate(Path file) throws IOException, InterruptedException {
+        int[] line = new int[plies];
+        long[] keys = new long[plies];
+        int depth = 0;
+
+        ExecutorService executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "opening-book-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            while (depth < plies) {
+                PlyStats stats = playPly(executor, Arrays.copyOf(line, depth), depth);
+                if (stats.survivors < MIN_SURVIVORS) {
+                    break;
+                }
+                int best = stats.bestOpenCell(Arrays.copyOf(line, depth));
+                if (best < 0) {
+                    break;
+                }
+                keys[depth] = stats.key;
+                line[depth] = best;
+                depth++;
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        OpeningBook.write(file, boardSize, depth, Arrays.copyOf(keys, depth), Arrays.copyOf(line, depth));
+        return depth;
+    }
+
+    /**
+     * Plays the self-play games of one ply on every worker and merges their statistics.
+     *
+     * @param executor the worker pool
+     * @param line the book shots chosen so far
+     * @param ply the ply being generated, used to derive the seeds
+     * @return the merged statistics
+     * @throws InterruptedException if interrupted while waiting for the workers
+     */
+    private PlyStats playPly(ExecutorService executor, int[] line, int ply) throws InterruptedException {
+        AtomicLong nextGame = new AtomicLong();
+        List<Future<PlyStats>> results = new ArrayList<>();
+        for (int i = 0; i < workers; i++) {
+            results.add(executor.submit(() -> runWorker(nextGame, line, ply)));
+        }
+
+        PlyStats total = new PlyStats(boardSize * boardSize);
+        try {
+            for (Future<PlyStats> result : results) {
+                total.merge(result.get());
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Opening book worker failed", e.getCause());
+        }
+        return total;
+    }
+
+    /**
+     * Claims and plays games of one ply until none are left.
+     *
+     * @param nextGame shared counter of the next game number
+     * @param line the book shots chosen so far
+     * @param ply the ply being generated
+     * @return the statistics of the games this worker played
+     */
+    private PlyStats runWorker(AtomicLong nextGame, int[] line, int ply) {
+        PlyStats stats = new PlyStats(boardSize * boardSize);
+        FleetPlacementSampler sampler = new FleetPlacementSampler(boardSize);
+        long plySeed = seed ^ (ply * 0xC2B2AE3D27D4EB4FL);
+
+        long game;
+        while ((game = nextGame.getAndIncrement()) < gamesPerPly) {
+            Random random = new Random(plySeed ^ (game * 0x9E3779B97F4A7C15L));
+            IBoard board = BoardFactory.createBoard(boardSize);
+            if (sampler.place(board, ShipFactory.createFleet(), random) && followLine(board, line)) {
+                stats.record(board);
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * Fires the book shots at a board, stopping at the first hit.
+     *
+     * @param board the board under attack
+     * @param line the book shots
+     * @return true if every shot missed
+     */
+    private boolean followLine(IBoard board, int[] line) {
+        for (int index : line) {
+            if (ShotResolver.resolve(board, Coordinate.ofIndex(index, boardSize)) != ShotResult.WATER) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Statistics of the games of one ply that are still in the book.
+     */
+    private static final class PlyStats {
+
+        /**
+         * Number of games that only missed.
+         */
+        int survivors;
+
+        /**
+         * Observed hash of the boards the surviving games reached.
+         */
+        long key;
+
+        /**
+         * Number of surviving games with a ship on each cell.
+         */
+        final long[] shipCounts;
+
+        /**
+         * Creates empty statistics.
+         *
+         * @param cellCount number of cells on the board
+         */
+        PlyStats(int cellCount) {
+            this.shipCounts = new long[cellCount];
+        }
+
+        /**
+         * Records the fleet of a surviving game.
+         *
+         * @param board the board of the game
+         */
+        void record(IBoard board) {
+            survivors++;
+            key = board.getObservedHash();
+            for (int index = 0; index < shipCounts.length; index++) {
+                if (board.hasShipAt(index)) {
+                    shipCounts[index]++;
+                }
+            }
+        }
+
+        /**
+         * Adds the statistics of another worker.
+         *
+         * @param other the statistics to add
+         */
+        void merge(PlyStats other) {
+            if (other.survivors > 0) {
+                key = other.key;
+            }
+            survivors += other.survivors;
+            for (int index = 0; index < shipCounts.length; index++) {
+                shipCounts[index] += other.shipCounts[index];
+            }
+        }
+
+        /**
+         * Returns the cell most often holding a ship, excluding the cells already shot.
+         * Ties go to the lowest index, so the book does not depend on thread timing.
+         *
+         * @param line the book shots so far
+         * @return the packed index of the best cell, or -1 if none holds a ship
+         */
+        int bestOpenCell(int[] line) {
+            boolean[] shot = new boolean[shipCounts.length];
+            for (int index : line) {
+                shot[index] = true;
+            }
+            int best = -1;
+            for (int index = 0; index < shipCounts.length; index++) {
+                if (!shot[index] && shipCounts[index] > 0 && (best < 0 || shipCounts[index] > shipCounts[best])) {
+                    best = index;
+                }
+            }
+            return best;
+        }
+    }
+
+    /**
+     * Generates a book from the command line.
+     * Arguments, all optional: output file, plies, games per ply, workers, seed.
+     *
+     * @param args the command-line arguments
+     * @throws IOException if the book cannot be written
+     * @throws InterruptedException if interrupted while waiting for the workers
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Path file = Paths.get(args.length > 0 ? args[0] : Constants.OPENING_BOOK_FILE);
+        int plies = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_PLIES;
+        int games = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_GAMES_PER_PLY;
+        int workers = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : System.nanoTime();
+
+        OpeningBookGenerator generator = new OpeningBookGenerator(plies, games, workers, Constants.BOARD_SIZE, seed);
+        long start = System.nanoTime();
+        int written = generator.generate(file);
+        System.out.printf("%d plies written to %s in %.1f s%n", written, file, (System.nanoTime() - start) / 1e9);
+    }
+}
@@ -0,0 +1,219 @@
+package com.example.miniproyecto4.model.Simulation;
+
+import java.util.Locale;
+
+/**
+ * Immutable summary of a headless simulation run.
+ * Reports throughput, the distribution of shots needed to win and the
+ * latency of individual AI decisions.
+ */
+public class SimulationReport {
+
+    /**
+     * Number of games played.
+     */
+    private final long games;
+
+    /**
+     * Wall-clock duration of the run in nanoseconds.
+     */
+    private final long elapsedNanos;
+
+    /**
+     * Games won by the first strategy.
+     */
+    private final long firstWins;
+
+    /**
+     * Games won by the second strategy.
+     */
+    private final long secondWins;
+
+    /**
+     * Mean number of shots fired by the winner.
+     */
+    private final double meanShotsToWin;
+
+    /**
+     * Median number of shots fired by the winner.
+     */
+    private final int p50ShotsToWin;
+
+    /**
+     * 99th percentile of the shots fired by the winner.
+     */
+    private final int p99ShotsToWin;
+
+    /**
+     * Number of timed decisions.
+     */
+    private final long decisions;
+
+    /**
+     * Mean decision latency in nanoseconds.
+     */
+    private final double meanDecisionNanos;
+
+    /**
+     * Median decision latency in nanoseconds.
+     */
+    private final long p50DecisionNanos;
+
+    /**
+     * 99th percentile decision latency in nanoseconds.
+     */
+    private final long p99DecisionNanos;
+
+    /**
+     * Number of decisions that had to be replaced because the target was unusable.
+     */
+    private final long invalidDecisions;
+
+    /**
+     * Builds a report from merged worker statistics.
+     *
+     * @param stats the merged statistics
+     * @param elapsedNanos wall-clock duration of the run
+     */
+    SimulationReport(SimulationStats stats, long elapsedNanos) {
+        this.games = stats.games;
+        this.elapsedNanos = elapsedNanos;
+        this.firstWins = stats.wins[0];
+        this.secondWins = stats.wins[1];
+        this.meanShotsToWin = stats.games == 0 ? 0.0 : (double) stats.totalShotsToWin / stats.games;
+        this.p50ShotsToWin = stats.shotsPercentile(50);
+        this.p99ShotsToWin = stats.shotsPercentile(99);
+        this.decisions = stats.decisions;
+        this.meanDecisionNanos = stats.decisions == 0 ? 0.0 : (double) stats.totalLatencyNanos / stats.decisions;
+        this.p50DecisionNanos = stats.latencyPercentile(50);
+        this.p99DecisionNanos = stats.latencyPercentile(99);
+        this.invalidDecisions = stats.invalidDecisions;
+    }
+
+    /**
+     * Returns the number of games played.
+     *
+     * @return the game count
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * Returns the throughput of the run.
+     *
+     * @return games completed per second of wall-clock time
+     */
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : games * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    /**
+     * Returns the number of games won by the first strategy.
+     *
+     * @return the first strategy's wins
+     */
+    public long getFirstWins() {
+        return firstWins;
+    }
+
+    /**
+     * Returns the number of games won by the second strategy.
+     *
+     * @return the second strategy's wins
+     */
+    public long getSecondWins() {
+        return secondWins;
+    }
+
+    /**
+     * Returns the mean number of shots the winner needed.
+     *
+     * @return the mean shots-to-win
+     */
+    public double getMeanShotsToWin() {
+        return meanShotsToWin;
+    }
+
+    /**
+     * Returns the median number of shots the winner needed.
+     *
+     * @return the p50 shots-to-win
+     */
+    public int getP50ShotsToWin() {
+        return p50ShotsToWin;
+    }
+
+    /**
+     * Returns the 99th percentile of the shots the winner needed.
+     *
+     * @return the p99 shots-to-win
+     */
+    public int getP99ShotsToWin() {
+        return p99ShotsToWin;
+    }
+
+    /**
+     * Returns the number of timed AI decisions.
+     *
+     * @return the decision count
+     */
+    public long getDecisions() {
+        return decisions;
+    }
+
+    /**
+     * Returns the mean time spent per AI decision.
+     *
+     * @return the mean decision latency in nanoseconds
+     */
+    public double getMeanDecisionNanos() {
+        return meanDecisionNanos;
+    }
+
+    /**
+     * Returns the median time spent per AI decision.
+     *
+     * @return the p50 decision latency in nanoseconds
+     */
+    public long getP50DecisionNanos() {
+        return p50DecisionNanos;
+    }
+
+    /**
+     * Returns the 99th percentile of the time spent per AI decision.
+     *
+     * @return the p99 decision latency in nanoseconds
+     */
+    public long getP99DecisionNanos() {
+        return p99DecisionNanos;
+    }
+
+    /**
+     * Returns the number of decisions whose target could not be shot.
+     *
+     * @return the invalid decision count
+     */
+    public long getInvalidDecisions() {
+        return invalidDecisions;
+    }
+
+    /**
+     * Returns a multi-line human-readable summary of the run.
+     *
+     * @return the formatted report
+     */
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT,
+                "games=%d (%.1f games/s)%n"
+                        + "wins: first=%d second=%d%n"
+                        + "shots-to-win: mean=%.2f p50=%d p99=%d%n"
+                        + "decision latency: mean=%.1fus p50=%.1fus p99=%.1fus (%d decisions, %d invalid)",
+                games, getGamesPerSecond(),
+                firstWins, secondWins,
+                meanShotsToWin, p50ShotsToWin, p99ShotsToWin,
+                meanDecisionNanos / 1000.0, p50DecisionNanos / 1000.0, p99DecisionNanos / 1000.0,
+                decisions, invalidDecisions);
+    }
+}
@@ -0,0 +1,280 @@
+package com.example.miniproyecto4.model.Simulation;
+
+import com.example.miniproyecto4.model.AI.IAIStrategy;
+import com.example.miniproyecto4.model.AI.MonteCarloAIStrategy;
+import com.example.miniproyecto4.model.AI.RandomAIStrategy;
+import com.example.miniproyecto4.model.AI.ThinkingBudget;
+import com.example.miniproyecto4.model.Board.BoardFactory;
+import com.example.miniproyecto4.model.Board.IBoard;
+import com.example.miniproyecto4.model.Cell.Coordinate;
+import com.example.miniproyecto4.model.Game.FleetPlacementSampler;
+import com.example.miniproyecto4.model.Game.FleetPlacer;
+import com.example.miniproyecto4.model.Ship.ShipFactory;
+import com.example.miniproyecto4.model.Shot.ShotResolver;
+import com.example.miniproyecto4.model.Shot.ShotResult;
+import com.example.miniproyecto4.model.Utils.Constants;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Headless entry point that plays complete AI-versus-AI games without the
+ * JavaFX interface or any disk I/O.
+ * <p>
+ * Games use the same fleet ({@link ShipFactory#createFleet()}), random
+ * placement ({@link FleetPlacer}) and shot rules ({@link ShotResolver}) as
+ * {@link com.example.miniproyecto4.model.Game.GameManager}: a side keeps
+ * shooting after a hit or a sink and passes the turn on a miss. Games are
+ * spread across a fixed pool of workers, each owning one instance of every
+ * strategy, and the first mover alternates between games.
+ * </p>
+ */
+public class SimulationRunner {
+
+    /**
+     * Number of games to play.
+     */
+    private final long games;
+
+    /**
+     * Number of worker threads.
+     */
+    private final int workers;
+
+    /**
+     * Side length of the simulated boards.
+     */
+    private final int boardSize;
+
+    /**
+     * Base seed for fleet placement; game n uses a seed derived from it.
+     */
+    private final long seed;
+
+    /**
+     * Creates the first side's strategy for each worker.
+     */
+    private final Supplier<IAIStrategy> firstStrategy;
+
+    /**
+     * Creates the second side's strategy for each worker.
+     */
+    private final Supplier<IAIStrategy> secondStrategy;
+
+    /**
+     * Thinking time per anytime decision in milliseconds, or 0 for ordinary decisions.
+     */
+    private long thinkingMillis;
+
+    /**
+     * Creates a runner on standard boards.
+     *
+     * @param games number of games to play
+     * @param workers number of worker threads
+     * @param seed base seed for fleet placement
+     * @param firstStrategy creates the first side's strategy
+     * @param secondStrategy creates the second side's strategy
+     */
+    public SimulationRunner(long games, int workers, long seed,
+                            Supplier<IAIStrategy> firstStrategy, Supplier<IAIStrategy> secondStrategy) {
+        this(games, workers, Constants.BOARD_SIZE, seed, firstStrategy, secondStrategy);
+    }
+
+    /**
+     * Creates a runner.
+     *
+     * @param games number of games to play
+     * @param workers number of worker threads
+     * @param boardSize side length of the simulated boards
+     * @param seed base seed for fleet placement
+     * @param firstStrategy creates the first side's strategy
+     * @param secondStrategy creates the second side's strategy
+     */
+    public SimulationRunner(long games, int workers, int boardSize, long seed,
+                            Supplier<IAIStrategy> firstStrategy, Supplier<IAIStrategy> secondStrategy) {
+        this.games = games;
+        this.workers = Math.max(1, workers);
+        this.boardSize = boardSize;
+        this.seed = seed;
+        this.firstStrategy = firstStrategy;
+        this.secondStrategy = secondStrategy;
+    }
+
+    /**
+     * Makes every decision an anytime decision with the given thinking time.
+     *
+     * @param thinkingMillis thinking time per decision in milliseconds, or 0 for ordinary decisions
+     * @throws IllegalArgumentException if the time is negative
+     */
+    public void setThinkingMillis(long thinkingMillis) {
+        if (thinkingMillis < 0) {
+            throw new IllegalArgumentException("Thinking time must not be negative");
+        }
+        this.thinkingMillis = thinkingMillis;
+    }
+
+    /**
+     * Plays every game and returns the merged statistics.
+     *
+     * @return the simulation report
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    public SimulationReport run() throws InterruptedException {
+        AtomicLong nextGame = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "simulation-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long start = System.nanoTime();
+        try {
+            List<Future<SimulationStats>> results = new ArrayList<>();
+            for (int i = 0; i < workers; i++) {
+                results.add(executor.submit(() -> runWorker(nextGame)));
+            }
+
+            SimulationStats total = new SimulationStats(boardSize * boardSize);
+            for (Future<SimulationStats> result : results) {
+                total.merge(result.get());
+            }
+            return new SimulationReport(total, System.nanoTime() - start);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Simulation worker failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Claims and plays games until none are left.
+     *
+     * @param nextGame shared counter of the next game number
+     * @return the statistics of the games this worker played
+     */
+    private SimulationStats runWorker(AtomicLong nextGame) {
+        IAIStrategy[] strategies = {firstStrategy.get(), secondStrategy.get()};
+        SimulationStats stats = new SimulationStats(boardSize * boardSize);
+        FleetPlacementSampler sampler = new FleetPlacementSampler(boardSize);
+
+        long game;
+        while ((game = nextGame.getAndIncrement()) < games) {
+            playGame(game, strategies, sampler, stats);
+        }
+        return stats;
+    }
+
+    /**
+     * Plays one complete game and records its outcome.
+     *
+     * @param game the game number, used to derive the placement seed and first mover
+     * @param strategies the strategies of both sides
+     * @param sampler the worker's fleet placement sampler
+     * @param stats the statistics to update
+     */
+    private void playGame(long game, IAIStrategy[] strategies, FleetPlacementSampler sampler, SimulationStats stats) {
+        Random random = new Random(seed ^ (game * 0x9E3779B97F4A7C15L));
+        IBoard[] boards = new IBoard[2];
+        for (int side = 0; side < 2; side++) {
+            boards[side] = BoardFactory.createBoard(boardSize);
+            sampler.place(boards[side], ShipFactory.createFleet(), random);
+            strategies[side].reset();
+        }
+
+        int[] shots = new int[2];
+        int shooter = (int) (game & 1);
+        int maxShots = boardSize * boardSize;
+
+        while (shots[shooter] < maxShots) {
+            IBoard target = boards[1 - shooter];
+            IAIStrategy strategy = strategies[shooter];
+
+            long before = System.nanoTime();
+            Coordinate coordinate = thinkingMillis > 0
+                    ? strategy.selectTarget(target, ThinkingBudget.ofMillis(thinkingMillis)).getTarget()
+                    : strategy.selectTarget(target);
+            stats.recordDecision(System.nanoTime() - before);
+
+            if (!ShotResolver.isTargetable(target, coordinate)) {
+                stats.invalidDecisions++;
+                coordinate = firstTargetable(target);
+            }
+
+            ShotResult result = ShotResolver.resolve(target, coordinate);
+            shots[shooter]++;
+            strategy.updateStrategy(coordinate, result == ShotResult.HIT || result == ShotResult.SUNK);
+
+            if (result == ShotResult.SUNK && target.allShipsSunk()) {
+                stats.recordGame(shooter, shots[shooter]);
+                return;
+            }
+            if (result == ShotResult.WATER) {
+                shooter = 1 - shooter;
+            }
+        }
+    }
+
+    /**
+     * Finds the first cell of a board that has not been shot yet.
+     *
+     * @param board the board being attacked
+     * @return the first targetable coordinate, or null if every cell was shot
+     */
+    private Coordinate firstTargetable(IBoard board) {
+        for (int index = 0; index < boardSize * boardSize; index++) {
+            Coordinate coordinate = Coordinate.ofIndex(index, boardSize);
+            if (ShotResolver.isTargetable(board, coordinate)) {
+                return coordinate;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Creates a strategy supplier from its command-line name.
+     *
+     * @param name "random" or "montecarlo"
+     * @return the matching supplier
+     * @throws IllegalArgumentException if the name is unknown
+     */
+    private static Supplier<IAIStrategy> strategyNamed(String name) {
+        switch (name.toLowerCase()) {
+            case "random":
+                return RandomAIStrategy::new;
+            case "montecarlo":
+                return MonteCarloAIStrategy::new;
+            default:
+                throw new IllegalArgumentException("Unknown strategy: " + name);
+        }
+    }
+
+    /**
+     * Runs a simulation from the command line and prints the report.
+     * Arguments, all optional: games, workers, first strategy, second strategy, seed,
+     * thinking time in milliseconds. Strategies are "random" (default) or "montecarlo";
+     * a positive thinking time makes every decision an anytime decision.
+     *
+     * @param args the command-line arguments
+     * @throws InterruptedException if interrupted while waiting for the workers
+     */
+    public static void main(String[] args) throws InterruptedException {
+        long games = args.length > 0 ? Long.parseLong(args[0]) : 10_000;
+        int workers = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        String first = args.length > 2 ? args[2] : "random";
+        String second = args.length > 3 ? args[3] : "random";
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : System.nanoTime();
+        long thinking = args.length > 5 ? Long.parseLong(args[5]) : 0;
+
+        SimulationRunner runner = new SimulationRunner(games, workers, seed, strategyNamed(first), strategyNamed(second));
+        runner.setThinkingMillis(thinking);
+        System.out.println(first + " vs " + second + ", " + workers + " workers, seed " + seed
+                + (thinking > 0 ? ", " + thinking + " ms thinking" : ""));
+        System.out.println(runner.run());
+    }
+}
@@ -0,0 +1,197 @@
+package com.example.miniproyecto4.model.Simulation;
+
+/**
+ * Mutable statistics gathered by one simulation worker.
+ * Each worker owns its own instance, so no synchronization is needed while
+ * games are running; the instances are merged once every worker finishes.
+ * Shots-to-win are kept in an exact histogram and decision latencies in a
+ * log-linear histogram, so memory stays constant whatever the number of games.
+ */
+class SimulationStats {
+
+    /**
+     * Sub-buckets per power of two in the latency histogram.
+     */
+    private static final int SUB_BUCKET_BITS = 4;
+
+    /**
+     * Number of latency buckets, enough for any non-negative long value.
+     */
+    private static final int LATENCY_BUCKETS = 64 << SUB_BUCKET_BITS;
+
+    /**
+     * Number of games won by each side (index 0 is the first strategy).
+     */
+    final long[] wins = new long[2];
+
+    /**
+     * Histogram of the winner's shot count per game.
+     */
+    final long[] shotsToWin;
+
+    /**
+     * Histogram of decision latencies in nanoseconds.
+     */
+    final long[] latencyBuckets = new long[LATENCY_BUCKETS];
+
+    /**
+     * Number of games played.
+     */
+    long games;
+
+    /**
+     * Sum of the winner's shot counts.
+     */
+    long totalShotsToWin;
+
+    /**
+     * Number of decisions timed.
+     */
+    long decisions;
+
+    /**
+     * Sum of every decision latency in nanoseconds.
+     */
+    long totalLatencyNanos;
+
+    /**
+     * Number of decisions that returned an unusable target and had to be replaced.
+     */
+    long invalidDecisions;
+
+    /**
+     * Creates empty statistics for boards with the given number of cells.
+     *
+     * @param cellCount cells per board, the upper bound of shots per game
+     */
+    SimulationStats(int cellCount) {
+        this.shotsToWin = new long[cellCount + 1];
+    }
+
+    /**
+     * Records a finished game.
+     *
+     * @param winner index of the winning side (0 or 1)
+     * @param shots number of shots the winner fired
+     */
+    void recordGame(int winner, int shots) {
+        games++;
+        wins[winner]++;
+        shotsToWin[Math.min(shots, shotsToWin.length - 1)]++;
+        totalShotsToWin += shots;
+    }
+
+    /**
+     * Records the latency of one decision.
+     *
+     * @param nanos time spent choosing the target, in nanoseconds
+     */
+    void recordDecision(long nanos) {
+        long value = Math.max(0, nanos);
+        decisions++;
+        totalLatencyNanos += value;
+        latencyBuckets[bucketOf(value)]++;
+    }
+
+    /**
+     * Adds the statistics of another worker to this one.
+     *
+     * @param other the statistics to merge in
+     */
+    void merge(SimulationStats other) {
+        games += other.games;
+        totalShotsToWin += other.totalShotsToWin;
+        decisions += other.decisions;
+        totalLatencyNanos += other.totalLatencyNanos;
+        invalidDecisions += other.invalidDecisions;
+        for (int i = 0; i < wins.length; i++) {
+            wins[i] += other.wins[i];
+        }
+        for (int i = 0; i < shotsToWin.length; i++) {
+            shotsToWin[i] += other.shotsToWin[i];
+        }
+        for (int i = 0; i < latencyBuckets.length; i++) {
+            latencyBuckets[i] += other.latencyBuckets[i];
+        }
+    }
+
+    /**
+     * Returns the shot count at the given percentile of finished games.
+     *
+     * @param percentile percentile between 0 and 100
+     * @return the shots-to-win percentile, or 0 if no game was played
+     */
+    int shotsPercentile(double percentile) {
+        long rank = rankOf(games, percentile);
+        long seen = 0;
+        for (int shots = 0; shots < shotsToWin.length; shots++) {
+            seen += shotsToWin[shots];
+            if (seen >= rank && seen > 0) {
+                return shots;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the decision latency at the given percentile.
+     * The value is the upper bound of the matching histogram bucket, which is
+     * within about 6% of the exact latency.
+     *
+     * @param percentile percentile between 0 and 100
+     * @return the latency percentile in nanoseconds, or 0 if nothing was timed
+     */
+    long latencyPercentile(double percentile) {
+        long rank = rankOf(decisions, percentile);
+        long seen = 0;
+        for (int bucket = 0; bucket < latencyBuckets.length; bucket++) {
+            seen += latencyBuckets[bucket];
+            if (seen >= rank && seen > 0) {
+                return upperBoundOf(bucket);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Converts a percentile to the 1-based rank of the matching sample.
+     *
+     * @param count number of samples
+     * @param percentile percentile between 0 and 100
+     * @return the rank of the sample at that percentile
+     */
+    private static long rankOf(long count, double percentile) {
+        return Math.max(1, (long) Math.ceil(count * percentile / 100.0));
+    }
+
+    /**
+     * Maps a value to its log-linear bucket.
+     *
+     * @param value a non-negative value
+     * @return the bucket index
+     */
+    private static int bucketOf(long value) {
+        if (value < (1L << SUB_BUCKET_BITS)) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int mantissa = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & ((1 << SUB_BUCKET_BITS) - 1);
+        return ((exponent - SUB_BUCKET_BITS + 1) << SUB_BUCKET_BITS) + mantissa;
+    }
+
+    /**
+     * Returns the largest value that falls into a bucket.
+     *
+     * @param bucket the bucket index
+     * @return the upper bound of the bucket
+     */
+    private static long upperBoundOf(int bucket) {
+        if (bucket < (1 << SUB_BUCKET_BITS)) {
+            return bucket;
+        }
+        int exponent = (bucket >>> SUB_BUCKET_BITS) + SUB_BUCKET_BITS - 1;
+        long mantissa = bucket & ((1 << SUB_BUCKET_BITS) - 1);
+        long lower = (1L << exponent) | (mantissa << (exponent - SUB_BUCKET_BITS));
+        return lower + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+}
@@ -67,6 +67,11 @@ public class Constants {
      */
     public static final String PLAYER_DATA_FILE = "player_data.txt";
 
+    /**
+     * The filename for the AI opening book.
+     */
+    public static final String OPENING_BOOK_FILE = "opening_book.bin";
+
     /**
      * Private constructor to prevent instantiation of this utility class.
      */
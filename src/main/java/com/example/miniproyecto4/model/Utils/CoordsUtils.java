@@ -67,7 +67,7 @@ public class CoordsUtils {
         int y = letter - 'A';
         int x = Integer.parseInt(alphanumeric.substring(1)) - 1;
 
-        return new Coordinate(x, y);
+        return Coordinate.of(x, y);
     }
 
     /**
@@ -0,0 +1,180 @@
+package com.example.miniproyecto4.view.Components;
+
+import com.example.miniproyecto4.model.Board.BoardChangeListener;
+import com.example.miniproyecto4.model.Board.BoardDelta;
+import com.example.miniproyecto4.model.Board.IBoard;
+import com.example.miniproyecto4.model.Cell.CellStatus;
+import com.example.miniproyecto4.model.Cell.Coordinate;
+import com.example.miniproyecto4.view.utils.Colors;
+import javafx.application.Platform;
+
+import java.util.Arrays;
+
+/**
+ * Keeps a board view in sync with a board model.
+ * Listens to the board's cell deltas, which may arrive from any thread, and
+ * applies them to the view in a single {@code Platform.runLater} per pulse.
+ * Several changes to the same cell before a pulse collapse into the last one,
+ * and cells whose status did not change are not repainted.
+ * Ship graphics are not handled here; they are drawn with
+ * {@link IBoardView#drawContinuousShip}.
+ */
+public class BoardViewBinder implements BoardChangeListener {
+
+    /**
+     * The observed board.
+     */
+    private final IBoard board;
+
+    /**
+     * The view being updated.
+     */
+    private final IBoardView view;
+
+    /**
+     * The size of the board.
+     */
+    private final int size;
+
+    /**
+     * Latest unapplied status of each cell, or null if the cell is unchanged.
+     */
+    private final CellStatus[] pending;
+
+    /**
+     * Indices of the cells with a pending status, in arrival order.
+     */
+    private final int[] dirty;
+
+    /**
+     * Number of valid entries in {@link #dirty}.
+     */
+    private int dirtyCount;
+
+    /**
+     * True while a flush is scheduled on the JavaFX thread.
+     */
+    private boolean flushScheduled;
+
+    /**
+     * Status last shown by the view for each cell. Only used on the JavaFX thread.
+     */
+    private final CellStatus[] shown;
+
+    /**
+     * Creates a binder; use {@link #bind(IBoard, IBoardView)}.
+     *
+     * @param board the board to observe
+     * @param view the view to update
+     */
+    private BoardViewBinder(IBoard board, IBoardView view) {
+        this.board = board;
+        this.view = view;
+        this.size = board.getSize();
+        this.pending = new CellStatus[size * size];
+        this.dirty = new int[size * size];
+        this.shown = new CellStatus[size * size];
+        Arrays.fill(shown, CellStatus.EMPTY);
+    }
+
+    /**
+     * Connects a view to a board. The current state of the board is applied
+     * as one bulk delta, so this also restores a view after a game is loaded.
+     *
+     * @param board the board to observe
+     * @param view the view to update
+     * @return the binder, used to disconnect later
+     */
+    public static BoardViewBinder bind(IBoard board, IBoardView view) {
+        BoardViewBinder binder = new BoardViewBinder(board, view);
+        board.addChangeListener(binder);
+        binder.onBoardChanged(board, BoardDelta.full(board));
+        return binder;
+    }
+
+    /**
+     * Stops listening to the board. Pending changes are still applied.
+     */
+    public void unbind() {
+        board.removeChangeListener(this);
+    }
+
+    /**
+     * Records the changed cells and schedules a flush if none is pending.
+     *
+     * @param board the board that changed
+     * @param delta the changed cells and their new status
+     */
+    @Override
+    public synchronized void onBoardChanged(IBoard board, BoardDelta delta) {
+        for (int i = 0; i < delta.size(); i++) {
+            int index = delta.getIndex(i);
+            if (pending[index] == null) {
+                dirty[dirtyCount++] = index;
+            }
+            pending[index] = delta.getStatus(i);
+        }
+
+        if (!flushScheduled && dirtyCount > 0) {
+            flushScheduled = true;
+            Platform.runLater(this::flush);
+        }
+    }
+
+    /**
+     * Applies every pending change to the view. Runs on the JavaFX thread.
+     */
+    private void flush() {
+        int count;
+        int[] indices;
+        CellStatus[] statuses;
+
+        synchronized (this) {
+            count = dirtyCount;
+            indices = Arrays.copyOf(dirty, count);
+            statuses = new CellStatus[count];
+            for (int i = 0; i < count; i++) {
+                statuses[i] = pending[indices[i]];
+                pending[indices[i]] = null;
+            }
+            dirtyCount = 0;
+            flushScheduled = false;
+        }
+
+        for (int i = 0; i < count; i++) {
+            apply(indices[i], statuses[i]);
+        }
+    }
+
+    /**
+     * Shows the new status of one cell if it differs from what the view shows.
+     *
+     * @param index the packed index of the cell
+     * @param status the new status
+     */
+    private void apply(int index, CellStatus status) {
+        if (shown[index] == status) {
+            return;
+        }
+        shown[index] = status;
+
+        Coordinate coordinate = Coordinate.ofIndex(index, size);
+        switch (status) {
+            case HIT:
+                view.markHit(coordinate);
+                break;
+            case MISS:
+                view.markMiss(coordinate);
+                break;
+            case SUNK:
+                view.markSunk(coordinate);
+                break;
+            case SHIP:
+                view.markShip(coordinate);
+                break;
+            default:
+                view.drawCell(coordinate, Colors.WATER);
+                break;
+        }
+    }
+}
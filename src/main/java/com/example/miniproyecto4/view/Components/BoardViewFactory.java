@@ -0,0 +1,63 @@
+package com.example.miniproyecto4.view.Components;
+
+/**
+ * Factory for creating board views.
+ * The renderer is chosen with the {@value #RENDERER_PROPERTY} system property:
+ * {@code canvas} selects {@link CanvasBoardView}, any other value or no value
+ * selects the node-based {@link BoardView}.
+ * This class cannot be instantiated.
+ */
+public class BoardViewFactory {
+
+    /**
+     * System property that selects the board renderer.
+     */
+    public static final String RENDERER_PROPERTY = "miniproyecto4.boardRenderer";
+
+    /**
+     * Property value that selects the canvas renderer.
+     */
+    public static final String CANVAS = "canvas";
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private BoardViewFactory() {
+    }
+
+    /**
+     * Creates a board view with the renderer selected by the system property.
+     *
+     * @param size the number of cells in each dimension
+     * @param cellSize the pixel size of each cell
+     * @return a new board view
+     */
+    public static IBoardView create(int size, double cellSize) {
+        if (CANVAS.equalsIgnoreCase(System.getProperty(RENDERER_PROPERTY))) {
+            return createCanvas(size, cellSize);
+        }
+        return createSceneGraph(size, cellSize);
+    }
+
+    /**
+     * Creates a board view drawn on a single canvas.
+     *
+     * @param size the number of cells in each dimension
+     * @param cellSize the pixel size of each cell
+     * @return a new canvas board view
+     */
+    public static IBoardView createCanvas(int size, double cellSize) {
+        return new CanvasBoardView(size, cellSize);
+    }
+
+    /**
+     * Creates a board view made of one node per cell.
+     *
+     * @param size the number of cells in each dimension
+     * @param cellSize the pixel size of each cell
+     * @return a new node-based board view
+     */
+    public static IBoardView createSceneGraph(int size, double cellSize) {
+        return new BoardView(size, cellSize);
+    }
+}
@@ -0,0 +1,651 @@
+package com.example.miniproyecto4.view.Components;
+
+import com.example.miniproyecto4.model.Cell.Coordinate;
+import com.example.miniproyecto4.model.Ship.IShip;
+import com.example.miniproyecto4.view.utils.Colors;
+import javafx.application.Platform;
+import javafx.geometry.VPos;
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.CycleMethod;
+import javafx.scene.paint.LinearGradient;
+import javafx.scene.paint.Stop;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.TextAlignment;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Board view that draws every cell, marker and ship on a single Canvas.
+ * Looks like {@link BoardView} but keeps the scene graph at one node, so
+ * there are no per-cell layout or CSS passes. Mouse events are mapped to
+ * cells by hit-testing, and changes are coalesced into one repaint per pulse.
+ */
+public class CanvasBoardView extends Pane implements IBoardView {
+
+    /**
+     * Cell state for a cell that has not been shot.
+     */
+    private static final int EMPTY = 0;
+
+    /**
+     * Cell state for a hit.
+     */
+    private static final int HIT = 1;
+
+    /**
+     * Cell state for a miss.
+     */
+    private static final int MISS = 2;
+
+    /**
+     * Cell state for a cell of a sunk ship.
+     */
+    private static final int SUNK = 3;
+
+    /**
+     * Preview state of a cell without preview.
+     */
+    private static final int NO_PREVIEW = 0;
+
+    /**
+     * Preview state of a cell in a valid placement preview.
+     */
+    private static final int VALID_PREVIEW = 1;
+
+    /**
+     * Preview state of a cell in an invalid placement preview.
+     */
+    private static final int INVALID_PREVIEW = 2;
+
+    /**
+     * Gap in pixels between neighbouring cells.
+     */
+    private static final double GAP = 2;
+
+    /**
+     * The number of cells in each dimension of the board.
+     */
+    private final int size;
+
+    /**
+     * The pixel size of each individual cell.
+     */
+    private final double cellSize;
+
+    /**
+     * Extra space around the board where ship bows and antennas can overflow.
+     */
+    private final double margin;
+
+    /**
+     * The canvas everything is drawn on.
+     */
+    private final Canvas canvas;
+
+    /**
+     * State of each cell, by packed index.
+     */
+    private final int[] states;
+
+    /**
+     * Background color of each cell, by packed index.
+     */
+    private final String[] backgrounds;
+
+    /**
+     * Preview state of each cell, by packed index.
+     */
+    private final int[] previews;
+
+    /**
+     * Ships drawn on the board, in drawing order, with their sprites.
+     */
+    private final Map<IShip, ShipSprite> ships;
+
+    /**
+     * Ships whose graphic is hidden.
+     */
+    private final Set<IShip> hiddenShips;
+
+    /**
+     * Font of the miss markers.
+     */
+    private final Font missFont;
+
+    /**
+     * Packed index of the cell under the mouse, or -1.
+     */
+    private int hoveredIndex = -1;
+
+    /**
+     * True while a repaint is scheduled for the next pulse.
+     */
+    private boolean repaintPending;
+
+    /**
+     * Action run when a cell is clicked.
+     */
+    private Consumer<Coordinate> onCellClicked;
+
+    /**
+     * Action run when the mouse enters a cell.
+     */
+    private Consumer<Coordinate> onCellEntered;
+
+    /**
+     * Action run when the mouse leaves a cell.
+     */
+    private Consumer<Coordinate> onCellExited;
+
+    /**
+     * Constructs a new CanvasBoardView with the specified size and cell dimensions.
+     *
+     * @param size the number of cells in each dimension (width and height)
+     * @param cellSize the pixel size of each cell
+     */
+    public CanvasBoardView(int size, double cellSize) {
+        this.size = size;
+        this.cellSize = cellSize;
+        this.margin = Math.ceil(cellSize * 0.25);
+        this.states = new int[size * size];
+        this.backgrounds = new String[size * size];
+        this.previews = new int[size * size];
+        this.ships = new LinkedHashMap<>();
+        this.hiddenShips = new HashSet<>();
+        this.missFont = Font.font("System", FontWeight.BOLD, cellSize / 2);
+        Arrays.fill(backgrounds, Colors.WATER);
+
+        double totalSize = size * cellSize + (size - 1) * GAP;
+        canvas = new Canvas(totalSize + 2 * margin, totalSize + 2 * margin);
+        canvas.setLayoutX(-margin);
+        canvas.setLayoutY(-margin);
+        getChildren().add(canvas);
+
+        canvas.setOnMouseMoved(this::handleMouseMoved);
+        canvas.setOnMouseExited(e -> hover(-1));
+        canvas.setOnMouseClicked(this::handleMouseClicked);
+
+        setPrefSize(totalSize, totalSize);
+        setMinSize(totalSize, totalSize);
+        setMaxSize(totalSize, totalSize);
+
+        paint();
+    }
+
+    /**
+     * Draws a complete ship across its cells as one continuous graphic.
+     *
+     * @param ship the ship to draw on the board
+     */
+    @Override
+    public void drawContinuousShip(IShip ship) {
+        List<Coordinate> coords = ship.getCoordinates();
+        if (coords.isEmpty()) return;
+
+        ships.put(ship, ShipSpriteCache.get(ship.getType(), ship.getOrientation(), cellSize));
+        hiddenShips.remove(ship);
+        requestRepaint();
+    }
+
+    /**
+     * Removes the graphic of a ship, keeping hits, misses and sunk markers.
+     *
+     * @param ship the ship whose graphic should be removed
+     */
+    @Override
+    public void removeShipGraphic(IShip ship) {
+        hiddenShips.remove(ship);
+        if (ships.remove(ship) != null) {
+            requestRepaint();
+        }
+    }
+
+    /**
+     * Shows or hides the graphic of a ship without rebuilding it.
+     * The ship is drawn the first time it is shown.
+     *
+     * @param ship the ship to show or hide
+     * @param visible true to show the ship, false to hide it
+     */
+    @Override
+    public void setShipVisible(IShip ship, boolean visible) {
+        if (!ships.containsKey(ship)) {
+            if (visible) {
+                drawContinuousShip(ship);
+            }
+            return;
+        }
+        boolean changed = visible ? hiddenShips.remove(ship) : hiddenShips.add(ship);
+        if (changed) {
+            requestRepaint();
+        }
+    }
+
+    /**
+     * Shows a placement preview on an empty cell.
+     *
+     * @param coordinate the coordinate of the cell to highlight
+     * @param valid true for a valid (green) preview, false for an invalid (red) one
+     */
+    @Override
+    public void showPreview(Coordinate coordinate, boolean valid) {
+        int index = indexOf(coordinate);
+        if (index >= 0 && states[index] == EMPTY) {
+            previews[index] = valid ? VALID_PREVIEW : INVALID_PREVIEW;
+            requestRepaint();
+        }
+    }
+
+    /**
+     * Removes the placement preview from a cell.
+     *
+     * @param coordinate the coordinate of the cell to restore
+     */
+    @Override
+    public void clearPreview(Coordinate coordinate) {
+        int index = indexOf(coordinate);
+        if (index >= 0 && previews[index] != NO_PREVIEW) {
+            previews[index] = NO_PREVIEW;
+            requestRepaint();
+        }
+    }
+
+    /**
+     * Sets the action run when a cell is clicked.
+     *
+     * @param handler receives the coordinate of the clicked cell, or null to remove the action
+     */
+    @Override
+    public void setOnCellClicked(Consumer<Coordinate> handler) {
+        this.onCellClicked = handler;
+    }
+
+    /**
+     * Sets the action run when the mouse enters a cell.
+     * Replaces the default hover highlight, as in {@link BoardView}.
+     *
+     * @param handler receives the coordinate of the entered cell, or null to remove the action
+     */
+    @Override
+    public void setOnCellEntered(Consumer<Coordinate> handler) {
+        this.onCellEntered = handler;
+        requestRepaint();
+    }
+
+    /**
+     * Sets the action run when the mouse leaves a cell.
+     *
+     * @param handler receives the coordinate of the cell left, or null to remove the action
+     */
+    @Override
+    public void setOnCellExited(Consumer<Coordinate> handler) {
+        this.onCellExited = handler;
+    }
+
+    /**
+     * Returns this pane, which is the node displaying the board.
+     *
+     * @return this board view
+     */
+    @Override
+    public Node asNode() {
+        return this;
+    }
+
+    /**
+     * Sets the background color of a cell.
+     *
+     * @param coordinate the coordinate of the cell to color
+     * @param color the color to apply in hexadecimal format
+     */
+    @Override
+    public void drawCell(Coordinate coordinate, String color) {
+        int index = indexOf(coordinate);
+        if (index >= 0) {
+            backgrounds[index] = color;
+            requestRepaint();
+        }
+    }
+
+    /**
+     * Marks a cell as hit by a shot.
+     *
+     * @param coordinate the coordinate of the cell to mark
+     */
+    @Override
+    public void markHit(Coordinate coordinate) {
+        mark(coordinate, HIT, Colors.HIT);
+    }
+
+    /**
+     * Marks a cell as a miss.
+     *
+     * @param coordinate the coordinate of the cell to mark
+     */
+    @Override
+    public void markMiss(Coordinate coordinate) {
+        mark(coordinate, MISS, Colors.WATER);
+    }
+
+    /**
+     * Does nothing, since ships are drawn as continuous graphics by
+     * {@link #drawContinuousShip(IShip)}. Kept for interface compatibility.
+     *
+     * @param coordinate the coordinate of the cell to mark
+     */
+    @Override
+    public void markShip(Coordinate coordinate) {
+        // Ships are drawn as continuous graphics
+    }
+
+    /**
+     * Marks a cell as part of a sunk ship.
+     *
+     * @param coordinate the coordinate of the cell to mark
+     */
+    @Override
+    public void markSunk(Coordinate coordinate) {
+        mark(coordinate, SUNK, Colors.SUNK);
+    }
+
+    /**
+     * Clears all cells and ship graphics from the board.
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(states, EMPTY);
+        Arrays.fill(previews, NO_PREVIEW);
+        Arrays.fill(backgrounds, Colors.WATER);
+        ships.clear();
+        hiddenShips.clear();
+        requestRepaint();
+    }
+
+    /**
+     * Repaints the whole board on the next pulse.
+     */
+    @Override
+    public void refresh() {
+        requestRepaint();
+    }
+
+    /**
+     * Sets the state of a cell and clears its preview.
+     *
+     * @param coordinate the coordinate of the cell
+     * @param state the new cell state
+     * @param background the new background color
+     */
+    private void mark(Coordinate coordinate, int state, String background) {
+        int index = indexOf(coordinate);
+        if (index >= 0) {
+            states[index] = state;
+            previews[index] = NO_PREVIEW;
+            backgrounds[index] = background;
+            requestRepaint();
+        }
+    }
+
+    /**
+     * Schedules a repaint for the next pulse, unless one is already pending.
+     */
+    private void requestRepaint() {
+        if (!repaintPending) {
+            repaintPending = true;
+            Platform.runLater(this::paint);
+        }
+    }
+
+    /**
+     * Redraws every cell, marker and ship.
+     */
+    private void paint() {
+        repaintPending = false;
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+
+        for (int x = 0; x < size; x++) {
+            for (int y = 0; y < size; y++) {
+                paintCell(gc, x, y, x * size + y);
+            }
+        }
+
+        for (Map.Entry<IShip, ShipSprite> entry : ships.entrySet()) {
+            if (hiddenShips.contains(entry.getKey())) {
+                continue;
+            }
+            Coordinate start = entry.getKey().getCoordinates().get(0);
+            ShipSprite sprite = entry.getValue();
+            gc.drawImage(sprite.getImage(), cellX(start.getX()) + sprite.getOffsetX(), cellY(start.getY()) + sprite.getOffsetY());
+        }
+    }
+
+    /**
+     * Draws one cell with its background and marker.
+     *
+     * @param gc the graphics context of the canvas
+     * @param x the column of the cell
+     * @param y the row of the cell
+     * @param index the packed index of the cell
+     */
+    private void paintCell(GraphicsContext gc, int x, int y, int index) {
+        double left = cellX(x);
+        double top = cellY(y);
+        double centerX = left + cellSize / 2;
+        double centerY = top + cellSize / 2;
+
+        gc.setGlobalAlpha(1.0);
+        if (states[index] == SUNK) {
+            gc.setFill(new LinearGradient(0, 0, 1, 1, true, CycleMethod.NO_CYCLE,
+                    new Stop(0, Color.web("#2C3E50")),
+                    new Stop(0.5, Color.web("#34495E")),
+                    new Stop(1, Color.web("#1C2833"))));
+        } else if (previews[index] == VALID_PREVIEW) {
+            gc.setGlobalAlpha(0.7);
+            gc.setFill(Color.web("#5A9F5A"));
+        } else if (previews[index] == INVALID_PREVIEW) {
+            gc.setGlobalAlpha(0.5);
+            gc.setFill(Color.web("#E74C3C"));
+        } else if (index == hoveredIndex && states[index] == EMPTY && onCellEntered == null) {
+            gc.setFill(Color.web(Colors.HOVER));
+        } else {
+            gc.setFill(Color.web(backgrounds[index]));
+        }
+        gc.fillRect(left, top, cellSize, cellSize);
+        gc.setStroke(Color.web(Colors.GRID));
+        gc.setLineWidth(1);
+        gc.strokeRect(left + 0.5, top + 0.5, cellSize - 1, cellSize - 1);
+        gc.setGlobalAlpha(1.0);
+
+        switch (states[index]) {
+            case HIT:
+                paintFire(gc, centerX, centerY, cellSize / 2);
+                break;
+            case MISS:
+                gc.setFill(Color.web(Colors.MISS));
+                gc.setFont(missFont);
+                gc.setTextAlign(TextAlignment.CENTER);
+                gc.setTextBaseline(VPos.CENTER);
+                gc.fillText("X", centerX, centerY);
+                break;
+            case SUNK:
+                paintFire(gc, centerX, centerY, cellSize * 0.6);
+                paintSunkBar(gc, centerX, centerY, 45);
+                paintSunkBar(gc, centerX, centerY, -45);
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Draws the flame marker of hit and sunk cells.
+     * The flame's bounding box is centered on the given point, as in {@link CellView}.
+     *
+     * @param gc the graphics context of the canvas
+     * @param centerX the x coordinate of the cell center
+     * @param centerY the y coordinate of the cell center
+     * @param fireSize the size of the flame
+     */
+    private static void paintFire(GraphicsContext gc, double centerX, double centerY, double fireSize) {
+        double ox = centerX;
+        double oy = centerY + fireSize * 0.35;
+
+        double[] outerX = {0, -0.5, -0.3, 0, 0.3, 0.5};
+        double[] outerY = {0.3, -0.2, -0.8, -1, -0.8, -0.2};
+        double[] innerX = {0, -0.3, -0.016, 0, 0.16, 0.3};
+        double[] innerY = {0.2, 0, -0.5, -0.5, -0.5, 0};
+        for (int i = 0; i < outerX.length; i++) {
+            outerX[i] = ox + outerX[i] * fireSize;
+            outerY[i] = oy + outerY[i] * fireSize;
+            innerX[i] = ox + innerX[i] * fireSize;
+            innerY[i] = oy + innerY[i] * fireSize;
+        }
+
+        gc.setFill(Color.web("#FF6B35"));
+        gc.fillPolygon(outerX, outerY, outerX.length);
+        gc.setStroke(Color.web("#E74C3C"));
+        gc.setLineWidth(1.5);
+        gc.strokePolygon(outerX, outerY, outerX.length);
+
+        gc.setFill(Color.web("#FFC914"));
+        gc.fillPolygon(innerX, innerY, innerX.length);
+
+        double core = fireSize * 0.08;
+        gc.setFill(Color.web("#FFF8DC"));
+        gc.fillOval(ox - core, oy - core, core * 2, core * 2);
+    }
+
+    /**
+     * Draws one bar of the cross marking a sunk cell.
+     *
+     * @param gc the graphics context of the canvas
+     * @param centerX the x coordinate of the cell center
+     * @param centerY the y coordinate of the cell center
+     * @param angle the rotation of the bar in degrees
+     */
+    private void paintSunkBar(GraphicsContext gc, double centerX, double centerY, double angle) {
+        double width = cellSize * 0.5;
+        double height = cellSize * 0.08;
+        gc.save();
+        gc.translate(centerX, centerY);
+        gc.rotate(angle);
+        gc.setFill(Color.web("#E74C3C"));
+        gc.fillRect(-width / 2, -height / 2, width, height);
+        gc.restore();
+    }
+
+    /**
+     * Updates the hovered cell and fires the enter and exit actions.
+     *
+     * @param index packed index of the cell now under the mouse, or -1
+     */
+    private void hover(int index) {
+        if (index == hoveredIndex) {
+            return;
+        }
+        int previous = hoveredIndex;
+        hoveredIndex = index;
+
+        if (previous >= 0 && onCellExited != null) {
+            onCellExited.accept(Coordinate.ofIndex(previous, size));
+        }
+        if (index >= 0 && onCellEntered != null) {
+            onCellEntered.accept(Coordinate.ofIndex(index, size));
+        }
+        requestRepaint();
+    }
+
+    /**
+     * Tracks the cell under the mouse.
+     *
+     * @param event the mouse event
+     */
+    private void handleMouseMoved(MouseEvent event) {
+        hover(hitTest(event.getX(), event.getY()));
+    }
+
+    /**
+     * Runs the click action for the cell under the mouse.
+     *
+     * @param event the mouse event
+     */
+    private void handleMouseClicked(MouseEvent event) {
+        int index = hitTest(event.getX(), event.getY());
+        if (index >= 0 && onCellClicked != null) {
+            onCellClicked.accept(Coordinate.ofIndex(index, size));
+        }
+    }
+
+    /**
+     * Finds the cell at a point of the canvas. Points in the gaps between
+     * cells or outside the board belong to no cell.
+     *
+     * @param canvasX the x coordinate on the canvas
+     * @param canvasY the y coordinate on the canvas
+     * @return the packed index of the cell, or -1
+     */
+    private int hitTest(double canvasX, double canvasY) {
+        double boardX = canvasX - margin;
+        double boardY = canvasY - margin;
+        if (boardX < 0 || boardY < 0) {
+            return -1;
+        }
+
+        int x = (int) (boardX / (cellSize + GAP));
+        int y = (int) (boardY / (cellSize + GAP));
+        if (x >= size || y >= size
+                || boardX - x * (cellSize + GAP) >= cellSize
+                || boardY - y * (cellSize + GAP) >= cellSize) {
+            return -1;
+        }
+        return x * size + y;
+    }
+
+    /**
+     * Returns the packed index of a coordinate.
+     *
+     * @param coordinate the coordinate
+     * @return the packed index, or -1 if the coordinate is outside the board
+     */
+    private int indexOf(Coordinate coordinate) {
+        int x = coordinate.getX();
+        int y = coordinate.getY();
+        if (x < 0 || x >= size || y < 0 || y >= size) {
+            return -1;
+        }
+        return x * size + y;
+    }
+
+    /**
+     * Returns the canvas x position of a column.
+     *
+     * @param x the column
+     * @return the left edge of the column in canvas pixels
+     */
+    private double cellX(int x) {
+        return margin + x * (cellSize + GAP);
+    }
+
+    /**
+     * Returns the canvas y position of a row.
+     *
+     * @param y the row
+     * @return the top edge of the row in canvas pixels
+     */
+    private double cellY(int y) {
+        return margin + y * (cellSize + GAP);
+    }
+}
@@ -1,11 +1,17 @@
 package com.example.miniproyecto4.view.Components;
 
 import com.example.miniproyecto4.model.Cell.Coordinate;
+import com.example.miniproyecto4.model.Ship.IShip;
+import javafx.scene.Node;
+
+import java.util.function.Consumer;
 
 /**
  * Interface defining the contract for visual board representation in the Battleship game.
  * Provides methods for drawing cells and marking different cell states
  * such as hits, misses, ships, and sunk ships.
+ * Implementations may use one node per cell ({@link BoardView}) or draw
+ * everything on a single canvas ({@link CanvasBoardView}).
  */
 public interface IBoardView {
 
@@ -54,4 +60,70 @@ public interface IBoardView {
      * Refreshes the visual state of all cells on the board.
      */
     void refresh();
-}
\ No newline at end of file
+
+    /**
+     * Draws a complete ship across its cells as one continuous graphic.
+     *
+     * @param ship the ship to draw on the board
+     */
+    void drawContinuousShip(IShip ship);
+
+    /**
+     * Removes the graphic of a ship, keeping hits, misses and sunk markers.
+     *
+     * @param ship the ship whose graphic should be removed
+     */
+    void removeShipGraphic(IShip ship);
+
+    /**
+     * Shows or hides the graphic of a ship without rebuilding it.
+     * The ship is drawn the first time it is shown.
+     *
+     * @param ship the ship to show or hide
+     * @param visible true to show the ship, false to hide it
+     */
+    void setShipVisible(IShip ship, boolean visible);
+
+    /**
+     * Highlights an empty cell as part of a ship placement preview.
+     *
+     * @param coordinate the coordinate of the cell to highlight
+     * @param valid true to show a valid (green) preview, false for an invalid (red) one
+     */
+    void showPreview(Coordinate coordinate, boolean valid);
+
+    /**
+     * Removes the placement preview from a cell.
+     *
+     * @param coordinate the coordinate of the cell to restore
+     */
+    void clearPreview(Coordinate coordinate);
+
+    /**
+     * Sets the action run when a cell is clicked.
+     *
+     * @param handler receives the coordinate of the clicked cell, or null to remove the action
+     */
+    void setOnCellClicked(Consumer<Coordinate> handler);
+
+    /**
+     * Sets the action run when the mouse enters a cell.
+     *
+     * @param handler receives the coordinate of the entered cell, or null to remove the action
+     */
+    void setOnCellEntered(Consumer<Coordinate> handler);
+
+    /**
+     * Sets the action run when the mouse leaves a cell.
+     *
+     * @param handler receives the coordinate of the cell left, or null to remove the action
+     */
+    void setOnCellExited(Consumer<Coordinate> handler);
+
+    /**
+     * Returns the JavaFX node displaying this board, for adding it to a layout.
+     *
+     * @return the node of the board
+     */
+    Node asNode();
+}
@@ -2,6 +2,7 @@ package com.example.miniproyecto4.view.Components;
 
 import com.example.miniproyecto4.model.Ship.ShipType;
 import com.example.miniproyecto4.model.Validation.Orientation;
+import com.example.miniproyecto4.view.utils.ImageCache;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.StackPane;
@@ -9,6 +10,7 @@ import javafx.scene.layout.StackPane;
 /**
  * Component for displaying ship images on the board.
  * Handles image loading, rotation, and scaling based on ship type and orientation.
+ * Images come from the shared {@link ImageCache}, so every instance shows the same decoded copy.
  */
 public class ShipImageView extends StackPane {
 
@@ -50,19 +52,12 @@ public class ShipImageView extends StackPane {
      */
     private void loadAndDisplayImage() {
         String imagePath = getImagePath();
+        Image image = ImageCache.get(imagePath);
 
-        try {
-            java.io.InputStream imageStream = getClass().getResourceAsStream(imagePath);
-
-            if (imageStream != null) {
-                Image image = new Image(imageStream);
-                imageView.setImage(image);
-                configureImageView();
-            } else {
-                createFallbackView();
-            }
-
-        } catch (Exception e) {
+        if (image != null && !image.isError()) {
+            imageView.setImage(image);
+            configureImageView();
+        } else {
             System.err.println("Error loading ship image: " + imagePath);
             createFallbackView();
         }
@@ -136,9 +131,11 @@ public class ShipImageView extends StackPane {
      */
     public void rotate(Orientation newOrientation) {
         this.currentOrientation = newOrientation;
-        getChildren().clear();
-        this.imageView.setImage(null);
-        loadAndDisplayImage();
+        if (imageView.getImage() != null) {
+            configureImageView();
+        } else {
+            createFallbackView();
+        }
     }
 
     /**
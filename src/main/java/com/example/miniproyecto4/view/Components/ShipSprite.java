@@ -0,0 +1,66 @@
+package com.example.miniproyecto4.view.Components;
+
+import javafx.scene.image.Image;
+
+/**
+ * A ship graphic rendered to an image, with the offset of the image from the
+ * top-left corner of the ship's first cell. The offset is negative when parts
+ * of the drawing, such as a bow or antenna, stick out of the cells.
+ */
+class ShipSprite {
+
+    /**
+     * The rendered graphic.
+     */
+    private final Image image;
+
+    /**
+     * Horizontal offset of the image from the first cell.
+     */
+    private final double offsetX;
+
+    /**
+     * Vertical offset of the image from the first cell.
+     */
+    private final double offsetY;
+
+    /**
+     * Creates a sprite.
+     *
+     * @param image the rendered graphic
+     * @param offsetX horizontal offset from the first cell
+     * @param offsetY vertical offset from the first cell
+     */
+    ShipSprite(Image image, double offsetX, double offsetY) {
+        this.image = image;
+        this.offsetX = offsetX;
+        this.offsetY = offsetY;
+    }
+
+    /**
+     * Gets the rendered graphic.
+     *
+     * @return the image of the ship
+     */
+    Image getImage() {
+        return image;
+    }
+
+    /**
+     * Gets the horizontal offset of the image from the first cell.
+     *
+     * @return the offset in pixels
+     */
+    double getOffsetX() {
+        return offsetX;
+    }
+
+    /**
+     * Gets the vertical offset of the image from the first cell.
+     *
+     * @return the offset in pixels
+     */
+    double getOffsetY() {
+        return offsetY;
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.miniproyecto4.view.Components;
+
+import com.example.miniproyecto4.model.Ship.ShipType;
+import com.example.miniproyecto4.model.Validation.Orientation;
+import javafx.geometry.Bounds;
+import javafx.scene.Group;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.paint.Color;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cache of ship graphics rendered to images.
+ * Each ship type, orientation and cell size is drawn with {@link ShipGraphics}
+ * and snapshotted once; board views then show the image instead of building
+ * the shapes again. Must be used from the JavaFX application thread.
+ * This class cannot be instantiated.
+ */
+class ShipSpriteCache {
+
+    /**
+     * Rendered sprites by type, orientation and cell size.
+     */
+    private static final Map<String, ShipSprite> SPRITES = new HashMap<>();
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private ShipSpriteCache() {
+    }
+
+    /**
+     * Returns the sprite of a ship, rendering it the first time it is requested.
+     *
+     * @param type the type of the ship
+     * @param orientation the orientation of the ship
+     * @param cellSize the pixel size of a board cell
+     * @return the cached sprite
+     */
+    static ShipSprite get(ShipType type, Orientation orientation, double cellSize) {
+        String key = type.name() + ":" + orientation.name() + ":" + cellSize;
+        return SPRITES.computeIfAbsent(key, k -> render(type.getSize(), orientation == Orientation.HORIZONTAL, cellSize));
+    }
+
+    /**
+     * Draws a ship at the origin and snapshots it with a transparent background.
+     *
+     * @param shipSize the number of cells of the ship
+     * @param horizontal true if the ship is horizontal
+     * @param cellSize the pixel size of a board cell
+     * @return the rendered sprite
+     */
+    private static ShipSprite render(int shipSize, boolean horizontal, double cellSize) {
+        Group graphic = ShipGraphics.create(shipSize, 0, 0, cellSize, horizontal);
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        Bounds bounds = graphic.getBoundsInParent();
+        return new ShipSprite(graphic.snapshot(parameters, null), bounds.getMinX(), bounds.getMinY());
+    }
+}
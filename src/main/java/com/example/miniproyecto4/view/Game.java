@@ -1,7 +1,9 @@
 package com.example.miniproyecto4.view;
 
 import com.example.miniproyecto4.controller.GameController;
-import com.example.miniproyecto4.view.Components.BoardView;
+import com.example.miniproyecto4.view.Components.BoardViewFactory;
+import com.example.miniproyecto4.view.Components.IBoardView;
+import com.example.miniproyecto4.view.utils.ImageCache;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
@@ -37,12 +39,12 @@ public class Game extends Stage {
     /**
      * Visual representation of the player's game board.
      */
-    private BoardView playerBoard;
+    private IBoardView playerBoard;
 
     /**
      * Visual representation of the enemy's game board.
      */
-    private BoardView enemyBoard;
+    private IBoardView enemyBoard;
 
     /**
      * Controller that manages game logic and user interactions.
@@ -66,6 +68,7 @@ public class Game extends Stage {
     private void loadFXML() {
         try {
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/example/miniproyecto4/GameView.fxml"));
+            loader.setBuilderFactory(ImageCache.builderFactory());
             root = loader.load();
 
             controller = loader.getController();
@@ -79,18 +82,19 @@ public class Game extends Stage {
 
     /**
      * Initializes the visual boards and connects them with the controller.
-     * Creates BoardView instances for both player and enemy boards.
+     * Creates board views for both player and enemy boards with the
+     * renderer selected in {@link BoardViewFactory}.
      */
     private void initializeBoards() {
-        playerBoard = new BoardView(10, 40);
-        enemyBoard = new BoardView(10, 40);
+        playerBoard = BoardViewFactory.create(10, 40);
+        enemyBoard = BoardViewFactory.create(10, 40);
 
         if (playerBoardContainer != null) {
-            playerBoardContainer.getChildren().add(playerBoard);
+            playerBoardContainer.getChildren().add(playerBoard.asNode());
         }
 
         if (enemyBoardContainer != null) {
-            enemyBoardContainer.getChildren().add(enemyBoard);
+            enemyBoardContainer.getChildren().add(enemyBoard.asNode());
         }
 
         if (controller != null) {
@@ -129,18 +133,18 @@ public class Game extends Stage {
     /**
      * Returns the player's visual board.
      *
-     * @return the player's BoardView
+     * @return the player's board view
      */
-    public BoardView getPlayerBoard() {
+    public IBoardView getPlayerBoard() {
         return playerBoard;
     }
 
     /**
      * Returns the enemy's visual board.
      *
-     * @return the enemy's BoardView
+     * @return the enemy's board view
      */
-    public BoardView getEnemyBoard() {
+    public IBoardView getEnemyBoard() {
         return enemyBoard;
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.example.miniproyecto4.view;
 
+import com.example.miniproyecto4.view.utils.ImageCache;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
@@ -37,6 +38,7 @@ public class Menu extends Stage {
     private void loadFXML() {
         try {
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/example/miniproyecto4/MenuView.fxml"));
+            loader.setBuilderFactory(ImageCache.builderFactory());
             root = loader.load();
         } catch (IOException e) {
             e.printStackTrace();
@@ -1,5 +1,6 @@
 package com.example.miniproyecto4.view;
 
+import com.example.miniproyecto4.view.utils.ImageCache;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
@@ -36,6 +37,7 @@ public class WinView extends Stage {
     private void loadFXML() {
         try {
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/example/miniproyecto4/WinView.fxml"));
+            loader.setBuilderFactory(ImageCache.builderFactory());
             root = loader.load();
         } catch (IOException e) {
             e.printStackTrace();
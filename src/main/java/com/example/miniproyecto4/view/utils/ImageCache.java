@@ -0,0 +1,191 @@
+package com.example.miniproyecto4.view.utils;
+
+import javafx.fxml.JavaFXBuilderFactory;
+import javafx.scene.image.Image;
+import javafx.util.Builder;
+import javafx.util.BuilderFactory;
+
+import java.net.URL;
+import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Application-wide cache of decoded images.
+ * Images are keyed by resource and requested size, so every asset is decoded
+ * once and shared by all views. {@link #preload()} decodes the game assets in
+ * the background at startup, and {@link #builderFactory()} makes FXML
+ * {@code <Image>} elements use the cache as well.
+ * This class cannot be instantiated.
+ */
+public class ImageCache {
+
+    /**
+     * Resource folder holding the image assets.
+     */
+    public static final String IMAGES_PATH = "/com/example/miniproyecto4/Images/";
+
+    /**
+     * File names of the image assets decoded by {@link #preload()}.
+     */
+    private static final String[] ASSETS = {
+            "Boat.png", "BoatPieces.png", "BoatPieces2.png", "Book_background.png",
+            "Button1.png", "Button2.png", "Derrota.png", "HasGanado.png",
+            "Menu.png", "Rules.png", "SimpleWave.png", "SuperSimpleWave.png",
+            "Title.png", "Victory.png", "Victory_Screen.png", "Wave.png",
+            "Wave2.png", "carrier.png", "destroyer.png", "frigate.png",
+            "star.png", "star2.png", "star3.png", "submarine.png",
+            "textField.png"
+    };
+
+    /**
+     * Decoded images by URL and requested size.
+     */
+    private static final Map<String, Image> IMAGES = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private ImageCache() {
+    }
+
+    /**
+     * Starts decoding every image asset in the background.
+     * Returns immediately; views that ask for an asset before it is ready
+     * get the same image, which shows as soon as decoding finishes.
+     */
+    public static void preload() {
+        for (String asset : ASSETS) {
+            URL url = ImageCache.class.getResource(IMAGES_PATH + asset);
+            if (url != null) {
+                getByUrl(url.toExternalForm(), 0, 0, false, true, true);
+            }
+        }
+    }
+
+    /**
+     * Returns an image resource at its natural size.
+     *
+     * @param path the resource path of the image
+     * @return the cached image, or null if the resource does not exist
+     */
+    public static Image get(String path) {
+        return get(path, 0, 0);
+    }
+
+    /**
+     * Returns an image resource decoded at the requested size.
+     * A width or height of 0 keeps the natural size in that dimension.
+     *
+     * @param path the resource path of the image
+     * @param width the requested width in pixels
+     * @param height the requested height in pixels
+     * @return the cached image, or null if the resource does not exist
+     */
+    public static Image get(String path, double width, double height) {
+        URL url = ImageCache.class.getResource(path);
+        if (url == null) {
+            return null;
+        }
+        return getByUrl(url.toExternalForm(), width, height, false, true, false);
+    }
+
+    /**
+     * Returns a builder factory for FXMLLoader that takes {@code <Image>}
+     * elements from the cache and builds everything else as usual.
+     *
+     * @return the builder factory
+     */
+    public static BuilderFactory builderFactory() {
+        BuilderFactory defaults = new JavaFXBuilderFactory();
+        return type -> type == Image.class ? new CachedImageBuilder() : defaults.getBuilder(type);
+    }
+
+    /**
+     * Returns the cached image for a URL and size, decoding it the first time.
+     *
+     * @param url the URL of the image
+     * @param width the requested width, or 0
+     * @param height the requested height, or 0
+     * @param preserveRatio whether to keep the aspect ratio when scaling
+     * @param smooth whether to use a better quality filter when scaling
+     * @param background whether to decode the image in the background
+     * @return the cached image
+     */
+    private static Image getByUrl(String url, double width, double height,
+                                  boolean preserveRatio, boolean smooth, boolean background) {
+        String key = url + "@" + width + "x" + height + (preserveRatio ? "p" : "") + (smooth ? "s" : "");
+        return IMAGES.computeIfAbsent(key, k -> new Image(url, width, height, preserveRatio, smooth, background));
+    }
+
+    /**
+     * Builder used by FXMLLoader for {@code <Image>} elements.
+     * Collects the element's attributes and looks the image up in the cache.
+     */
+    private static final class CachedImageBuilder extends AbstractMap<String, Object> implements Builder<Image> {
+
+        /**
+         * Attributes set on the element.
+         */
+        private final Map<String, Object> properties = new HashMap<>();
+
+        /**
+         * Stores an attribute of the element.
+         *
+         * @param key the attribute name
+         * @param value the attribute value
+         * @return the previous value of the attribute
+         */
+        @Override
+        public Object put(String key, Object value) {
+            return properties.put(key, value);
+        }
+
+        /**
+         * Returns the attributes set on the element.
+         *
+         * @return the attribute entries
+         */
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return properties.entrySet();
+        }
+
+        /**
+         * Returns the cached image for the collected attributes.
+         *
+         * @return the image
+         */
+        @Override
+        public Image build() {
+            return getByUrl(String.valueOf(properties.get("url")),
+                    number("requestedWidth"), number("requestedHeight"),
+                    flag("preserveRatio", false), flag("smooth", true), flag("backgroundLoading", false));
+        }
+
+        /**
+         * Reads a numeric attribute.
+         *
+         * @param key the attribute name
+         * @return the value, or 0 if the attribute is not set
+         */
+        private double number(String key) {
+            Object value = properties.get(key);
+            return value == null ? 0 : Double.parseDouble(value.toString());
+        }
+
+        /**
+         * Reads a boolean attribute.
+         *
+         * @param key the attribute name
+         * @param defaultValue the value used when the attribute is not set
+         * @return the value of the attribute
+         */
+        private boolean flag(String key, boolean defaultValue) {
+            Object value = properties.get(key);
+            return value == null ? defaultValue : Boolean.parseBoolean(value.toString());
+        }
+    }
+}
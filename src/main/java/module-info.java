@@ -21,6 +21,7 @@ module com.example.miniproyecto4 {
     exports com.example.miniproyecto4.model.GameSave;
     exports com.example.miniproyecto4.model.Exceptions;
     exports com.example.miniproyecto4.model.Utils;
+    exports com.example.miniproyecto4.model.Simulation;
     exports com.example.miniproyecto4.view.Components;
     exports com.example.miniproyecto4.view.utils;
 }
\ No newline at end of file
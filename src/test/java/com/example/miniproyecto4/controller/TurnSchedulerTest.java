@@ -0,0 +1,196 @@
+package com.example.miniproyecto4.controller;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the TurnScheduler class.
+ * Tests delayed actions, computations running during the delay and off the
+ * timer thread, failures, cancellation and shutdown.
+ */
+@DisplayName("TurnScheduler Unit Tests")
+class TurnSchedulerTest {
+
+    /**
+     * The scheduler instance used for testing.
+     */
+    private TurnScheduler scheduler;
+
+    /**
+     * Creates a fresh scheduler before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        scheduler = new TurnScheduler("test-turns");
+    }
+
+    /**
+     * Stops the scheduler after each test.
+     */
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    /**
+     * Tests that the action receives the computation's result once the delay has elapsed.
+     *
+     * @throws InterruptedException if the test is interrupted
+     */
+    @Test
+    @DisplayName("La acción debe recibir el resultado después del retraso")
+    void testSchedule_RunsAfterDelay() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicReference<String> received = new AtomicReference<>();
+        AtomicLong ranAt = new AtomicLong();
+        long start = System.nanoTime();
+
+        scheduler.schedule(100, () -> "disparo", result -> {
+            ranAt.set(System.nanoTime());
+            received.set(result);
+            done.countDown();
+        });
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals("disparo", received.get());
+        assertTrue(ranAt.get() - start >= TimeUnit.MILLISECONDS.toNanos(100));
+        assertTrue(waitUntilIdle());
+    }
+
+    /**
+     * Tests that the computation starts right away instead of after the delay.
+     *
+     * @throws InterruptedException if the test is interrupted
+     */
+    @Test
+    @DisplayName("El cálculo debe empezar durante el retraso")
+    void testSchedule_ComputesDuringDelay() throws InterruptedException {
+        CountDownLatch computed = new CountDownLatch(1);
+        AtomicBoolean actionRan = new AtomicBoolean();
+
+        scheduler.schedule(2_000, () -> {
+            computed.countDown();
+            return 1;
+        }, result -> actionRan.set(true));
+
+        assertTrue(computed.await(1, TimeUnit.SECONDS));
+        assertFalse(actionRan.get());
+        assertEquals(1, scheduler.getPendingCount());
+    }
+
+    /**
+     * Tests that a long computation does not hold up the timers of other tasks.
+     *
+     * @throws InterruptedException if the test is interrupted
+     */
+    @Test
+    @DisplayName("Un cálculo largo no debe retrasar otros temporizadores")
+    void testSchedule_LongComputationDoesNotBlockTimers() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch timerRan = new CountDownLatch(1);
+
+        scheduler.schedule(0, () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        }, result -> { });
+        scheduler.schedule(50, timerRan::countDown);
+
+        assertTrue(timerRan.await(5, TimeUnit.SECONDS));
+        release.countDown();
+    }
+
+    /**
+     * Tests that a failed computation passes null to the action.
+     *
+     * @throws InterruptedException if the test is interrupted
+     */
+    @Test
+    @DisplayName("Un cálculo fallido debe entregar null a la acción")
+    void testSchedule_FailedComputation() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicReference<Object> received = new AtomicReference<>("sin ejecutar");
+
+        scheduler.schedule(10, () -> {
+            throw new IllegalStateException("fallo de prueba");
+        }, result -> {
+            received.set(result);
+            done.countDown();
+        });
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertNull(received.get());
+    }
+
+    /**
+     * Tests that cancelled tasks never run their action.
+     *
+     * @throws InterruptedException if the test is interrupted
+     */
+    @Test
+    @DisplayName("Las tareas canceladas no deben ejecutar su acción")
+    void testCancel() throws InterruptedException {
+        AtomicBoolean actionRan = new AtomicBoolean();
+        CountDownLatch later = new CountDownLatch(1);
+
+        TurnScheduler.TurnHandle handle = scheduler.schedule(100, () -> actionRan.set(true));
+        scheduler.schedule(100, () -> actionRan.set(true));
+        scheduler.schedule(100, () -> actionRan.set(true));
+        assertEquals(3, scheduler.getPendingCount());
+
+        handle.cancel();
+        assertTrue(handle.isCancelled());
+        assertEquals(2, scheduler.getPendingCount());
+        scheduler.cancelAll();
+        assertEquals(0, scheduler.getPendingCount());
+
+        scheduler.schedule(300, later::countDown);
+        assertTrue(later.await(5, TimeUnit.SECONDS));
+        assertFalse(actionRan.get());
+    }
+
+    /**
+     * Tests that shutting down drops the pending tasks.
+     *
+     * @throws InterruptedException if the test is interrupted
+     */
+    @Test
+    @DisplayName("Detener el planificador debe descartar las tareas pendientes")
+    void testShutdown() throws InterruptedException {
+        AtomicBoolean actionRan = new AtomicBoolean();
+        scheduler.schedule(100, () -> actionRan.set(true));
+
+        scheduler.shutdown();
+        Thread.sleep(300);
+
+        assertEquals(0, scheduler.getPendingCount());
+        assertFalse(actionRan.get());
+    }
+
+    /**
+     * Waits until no task is pending any more.
+     *
+     * @return true if the scheduler became idle within a few seconds
+     * @throws InterruptedException if the wait is interrupted
+     */
+    private boolean waitUntilIdle() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (scheduler.getPendingCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        return scheduler.getPendingCount() == 0;
+    }
+}
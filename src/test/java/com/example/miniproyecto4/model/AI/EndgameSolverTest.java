@@ -0,0 +1,82 @@
+package com.example.miniproyecto4.model.AI;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the EndgameSolver class.
+ * Tests exact layout counts, hit constraints and the node budget fallback.
+ */
+@DisplayName("EndgameSolver Unit Tests")
+class EndgameSolverTest {
+
+    /**
+     * Tests the layout counts of one ship on an empty 3x3 board.
+     */
+    @Test
+    @DisplayName("Debe contar exactamente las posiciones de un barco")
+    void testCountLayouts_SingleShip() {
+        BoardObservation observation = new BoardObservation(3, new byte[9], new int[]{2});
+
+        long[] counts = new EndgameSolver().countLayouts(observation);
+
+        assertEquals(12, counts[9]);
+        assertEquals(2, counts[0]);
+        assertEquals(3, counts[1]);
+        assertEquals(4, counts[4]);
+    }
+
+    /**
+     * Tests that ships of equal size are counted once per distinct layout.
+     */
+    @Test
+    @DisplayName("Barcos iguales no deben contarse dos veces")
+    void testCountLayouts_EqualShips() {
+        BoardObservation observation = new BoardObservation(2, new byte[4], new int[]{1, 1});
+
+        long[] counts = new EndgameSolver().countLayouts(observation);
+
+        assertEquals(6, counts[4]);
+        for (int index = 0; index < 4; index++) {
+            assertEquals(3, counts[index]);
+        }
+    }
+
+    /**
+     * Tests that a hit next to blocked cells leads to the only cell that can complete its ship.
+     */
+    @Test
+    @DisplayName("Debe disparar a la única celda que completa el barco tocado")
+    void testSelectIndex_FollowsHit() {
+        byte[] cells = new byte[9];
+        cells[4] = BoardObservation.HIT;
+        cells[1] = BoardObservation.BLOCKED;
+        cells[3] = BoardObservation.BLOCKED;
+        cells[7] = BoardObservation.BLOCKED;
+        BoardObservation observation = new BoardObservation(3, cells, new int[]{2});
+
+        EndgameSolver solver = new EndgameSolver();
+
+        assertEquals(1, solver.countLayouts(observation)[9]);
+        assertEquals(5, solver.selectIndex(observation, new Random(1)));
+    }
+
+    /**
+     * Tests that the solver gives up once the node budget runs out.
+     */
+    @Test
+    @DisplayName("Debe abandonar al agotar el presupuesto de nodos")
+    void testNodeBudget() {
+        BoardObservation observation = new BoardObservation(10, new byte[100], new int[]{4, 3, 3});
+
+        EndgameSolver solver = new EndgameSolver(1000);
+
+        assertNull(solver.countLayouts(observation));
+        assertEquals(-1, solver.selectIndex(observation, new Random(1)));
+        assertThrows(IllegalArgumentException.class, () -> new EndgameSolver(0));
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.miniproyecto4.model.AI;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the MonteCarloAIStrategy class.
+ * Tests the fallback targets, estimate cache reuse and seeded reproducibility.
+ */
+@DisplayName("MonteCarloAIStrategy Unit Tests")
+class MonteCarloAIStrategyTest {
+
+    /** Time limit long enough that only the sample budget ends a decision. */
+    private static final long NO_TIME_LIMIT = 60_000;
+
+    /**
+     * Tests that a fully shot board has no target left.
+     */
+    @Test
+    @DisplayName("Debe devolver -1 cuando todas las celdas han sido disparadas")
+    void testSelectIndex_FullyShotBoard() {
+        byte[] cells = new byte[9];
+        Arrays.fill(cells, BoardObservation.BLOCKED);
+        BoardObservation observation = new BoardObservation(3, cells, new int[0]);
+
+        MonteCarloAIStrategy strategy = new MonteCarloAIStrategy(256, NO_TIME_LIMIT, ForkJoinPool.commonPool(), 1L);
+
+        assertEquals(-1, strategy.selectIndex(observation));
+    }
+
+    /**
+     * Tests that a position without any consistent layout falls back to a cell next to a hit.
+     */
+    @Test
+    @DisplayName("Sin distribuciones posibles debe disparar junto a un tocado")
+    void testSelectIndex_FallbackNextToHit() {
+        byte[] cells = new byte[4];
+        cells[0] = BoardObservation.HIT;
+        BoardObservation observation = new BoardObservation(2, cells, new int[]{3});
+
+        MonteCarloAIStrategy strategy = new MonteCarloAIStrategy(256, NO_TIME_LIMIT, ForkJoinPool.commonPool(), 1L);
+
+        assertEquals(2, strategy.selectIndex(observation));
+    }
+
+    /**
+     * Tests that a position already estimated is served from the cache.
+     */
+    @Test
+    @DisplayName("Debe reutilizar la estimación guardada de una posición")
+    void testSelectIndex_ReusesCache() {
+        TranspositionCache<long[]> cache = new TranspositionCache<>(64);
+        BoardObservation observation = new BoardObservation(6, new byte[36], new int[]{3, 2}, 12345L);
+
+        new MonteCarloAIStrategy(2048, NO_TIME_LIMIT, ForkJoinPool.commonPool(), 1L, cache).selectIndex(observation);
+        long[] estimate = cache.get(12345L);
+        assertNotNull(estimate);
+        assertEquals(2048, estimate[36]);
+
+        int index = new MonteCarloAIStrategy(2048, NO_TIME_LIMIT, ForkJoinPool.commonPool(), 2L, cache)
+                .selectIndex(observation);
+
+        assertTrue(index >= 0 && index < 36);
+        assertSame(estimate, cache.get(12345L));
+        assertEquals(1, cache.getMisses());
+        assertEquals(3, cache.getHits());
+    }
+
+    /**
+     * Tests that strategies with equal seeds make equal decisions, also after a reset.
+     */
+    @Test
+    @DisplayName("La misma semilla debe producir las mismas decisiones")
+    void testSelectIndex_SeededReproducibility() {
+        byte[] cells = new byte[64];
+        cells[27] = BoardObservation.HIT;
+        cells[10] = BoardObservation.BLOCKED;
+        BoardObservation observation = new BoardObservation(8, cells, new int[]{4, 3, 2, 2});
+
+        MonteCarloAIStrategy first = new MonteCarloAIStrategy(4096, NO_TIME_LIMIT, ForkJoinPool.commonPool(), 42L);
+        ForkJoinPool pool = new ForkJoinPool(2);
+        MonteCarloAIStrategy second = new MonteCarloAIStrategy(4096, NO_TIME_LIMIT, pool, 42L);
+
+        List<Integer> decisions = decide(first, observation);
+
+        assertEquals(decisions, decide(second, observation));
+        pool.shutdown();
+        first.reset();
+        assertEquals(decisions, decide(first, observation));
+    }
+
+    /**
+     * Makes a few decisions on the same observation.
+     *
+     * @param strategy the strategy deciding
+     * @param observation the observed board
+     * @return the chosen packed indices
+     */
+    private static List<Integer> decide(MonteCarloAIStrategy strategy, BoardObservation observation) {
+        List<Integer> decisions = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            decisions.add(strategy.selectIndex(observation));
+        }
+        return decisions;
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.miniproyecto4.model.AI;
+
+import com.example.miniproyecto4.model.Ship.IShip;
+import com.example.miniproyecto4.model.Ship.ShipFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the OpeningBook class.
+ * Tests the file round trip and the rejection of missing or stale books.
+ */
+@DisplayName("OpeningBook Unit Tests")
+class OpeningBookTest {
+
+    private Path directory;
+    private Path bookFile;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("book");
+        bookFile = directory.resolve("book.bin");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(bookFile);
+        Files.deleteIfExists(directory);
+    }
+
+    /**
+     * Tests that every written position is found, whatever the order of the keys.
+     */
+    @Test
+    @DisplayName("Debe encontrar cada posición escrita en el libro")
+    void testWriteAndLookup() throws IOException {
+        long[] keys = {42L, -7L, Long.MAX_VALUE, 0L};
+        int[] targets = {44, 55, 99, 0};
+        OpeningBook.write(bookFile, 10, 4, keys, targets);
+
+        OpeningBook book = OpeningBook.load(bookFile, 10);
+
+        assertEquals(4, book.size());
+        assertEquals(10, book.getBoardSize());
+        assertEquals(4, book.getPlies());
+        for (int i = 0; i < keys.length; i++) {
+            assertEquals(targets[i], book.lookup(keys[i]));
+        }
+        assertEquals(-1, book.lookup(43L));
+        assertFalse(Files.exists(directory.resolve("book.bin.tmp")));
+    }
+
+    /**
+     * Tests that a missing, truncated or other-size book is replaced by the empty book.
+     */
+    @Test
+    @DisplayName("Debe ignorar un libro ausente, dañado o de otro tamaño")
+    void testRejectsInvalidBook() throws IOException {
+        assertSame(OpeningBook.empty(), OpeningBook.load(bookFile, 10));
+
+        OpeningBook.write(bookFile, 10, 1, new long[] {1L}, new int[] {5});
+        assertSame(OpeningBook.empty(), OpeningBook.load(bookFile, 12));
+
+        byte[] bytes = Files.readAllBytes(bookFile);
+        Files.write(bookFile, Arrays.copyOf(bytes, bytes.length - 1));
+        assertSame(OpeningBook.empty(), OpeningBook.load(bookFile, 10));
+        assertEquals(-1, OpeningBook.empty().lookup(1L));
+        assertThrows(IllegalArgumentException.class,
+                () -> OpeningBook.write(bookFile, 10, 1, new long[] {1L}, new int[0]));
+    }
+
+    /**
+     * Tests that the fleet signature follows the fleet composition and board size only.
+     */
+    @Test
+    @DisplayName("La firma de la flota debe cambiar con la flota o el tamaño del tablero")
+    void testFleetSignature() {
+        long standard = OpeningBook.fleetSignature(ShipFactory.createFleet(), 10);
+        List<IShip> smaller = ShipFactory.createFleet();
+        smaller.remove(smaller.size() - 1);
+
+        assertEquals(standard, OpeningBook.fleetSignature(ShipFactory.createFleet(), 10));
+        assertNotEquals(standard, OpeningBook.fleetSignature(ShipFactory.createFleet(), 12));
+        assertNotEquals(standard, OpeningBook.fleetSignature(smaller, 10));
+    }
+}
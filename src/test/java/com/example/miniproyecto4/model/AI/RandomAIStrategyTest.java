@@ -0,0 +1,85 @@
+package com.example.miniproyecto4.model.AI;
+
+import com.example.miniproyecto4.model.Board.BoardFactory;
+import com.example.miniproyecto4.model.Board.IBoard;
+import com.example.miniproyecto4.model.Cell.Coordinate;
+import com.example.miniproyecto4.model.Game.FleetPlacementSampler;
+import com.example.miniproyecto4.model.Ship.IShip;
+import com.example.miniproyecto4.model.Ship.ShipFactory;
+import com.example.miniproyecto4.model.Ship.ShipType;
+import com.example.miniproyecto4.model.Shot.ShotResolver;
+import com.example.miniproyecto4.model.Shot.ShotResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the RandomAIStrategy class.
+ * Tests the placement tables and play on boards and fleets other than the standard ones.
+ */
+@DisplayName("RandomAIStrategy Unit Tests")
+class RandomAIStrategyTest {
+
+    /**
+     * Tests that the placement tables hold exactly the in-bounds placements.
+     */
+    @Test
+    @DisplayName("Las tablas de colocación deben contener solo las posiciones legales")
+    void testPlacementTables() {
+        PlacementTable carrier = PlacementTable.of(10, 4);
+        PlacementTable frigate = PlacementTable.of(10, 1);
+
+        assertEquals(2 * 7 * 10, carrier.size());
+        assertEquals(100, frigate.size());
+        assertEquals(2, carrier.placementsAt(0).length);
+        assertEquals(8, carrier.placementsAt(5 * 10 + 5).length);
+        assertEquals(1, frigate.placementsAt(42).length);
+        assertEquals(0, PlacementTable.of(3, 4).size());
+        assertSame(carrier, PlacementTable.of(10, 4));
+
+        for (int placement = 0; placement < carrier.size(); placement++) {
+            for (int offset = 0; offset < 4; offset++) {
+                int cell = carrier.cellOf(placement, offset);
+                int found = placement;
+                assertTrue(Arrays.stream(carrier.placementsAt(cell)).anyMatch(p -> p == found));
+            }
+        }
+    }
+
+    /**
+     * Tests that a strategy built for the standard board finishes games on a
+     * smaller board with another fleet, never repeating or leaving the board.
+     */
+    @Test
+    @DisplayName("Debe adaptarse al tamaño y la flota del tablero rival")
+    void testAdaptsToBoardAndFleet() {
+        RandomAIStrategy strategy = new RandomAIStrategy();
+        strategy.setOpeningBook(OpeningBook.empty());
+        FleetPlacementSampler sampler = new FleetPlacementSampler(6);
+
+        for (int game = 0; game < 20; game++) {
+            IBoard board = BoardFactory.createBoard(6);
+            List<IShip> fleet = Arrays.asList(ShipFactory.createShip(ShipType.CARRIER),
+                    ShipFactory.createShip(ShipType.DESTROYER), ShipFactory.createShip(ShipType.FRIGATE));
+            assertTrue(sampler.place(board, fleet, new Random(game)));
+
+            strategy.reset();
+            Set<Integer> shots = new HashSet<>();
+            while (!board.allShipsSunk()) {
+                int index = strategy.selectTargetIndex(board);
+                assertTrue(index >= 0 && index < 36, "Disparo fuera del tablero: " + index);
+                assertTrue(shots.add(index), "Disparo repetido: " + index);
+
+                ShotResult result = ShotResolver.resolve(board, Coordinate.ofIndex(index, 6));
+                strategy.updateStrategy(index, result != ShotResult.WATER);
+            }
+        }
+    }
+}
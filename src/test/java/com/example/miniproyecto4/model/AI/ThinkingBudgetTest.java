@@ -0,0 +1,104 @@
+package com.example.miniproyecto4.model.AI;
+
+import com.example.miniproyecto4.model.Board.BoardFactory;
+import com.example.miniproyecto4.model.Board.IBoard;
+import com.example.miniproyecto4.model.Cell.Coordinate;
+import com.example.miniproyecto4.model.Game.FleetPlacementSampler;
+import com.example.miniproyecto4.model.Ship.ShipFactory;
+import com.example.miniproyecto4.model.Shot.ShotResolver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for anytime decisions with a ThinkingBudget.
+ * Tests the evaluation limit, cancellation and the default single evaluation.
+ */
+@DisplayName("ThinkingBudget Unit Tests")
+class ThinkingBudgetTest {
+
+    private IBoard board;
+
+    @BeforeEach
+    void setUp() {
+        board = BoardFactory.createBoard();
+        assertTrue(new FleetPlacementSampler(board.getSize()).place(board, ShipFactory.createFleet(), new Random(3)));
+    }
+
+    /**
+     * Tests that sampling stops once the evaluation limit is reached.
+     */
+    @Test
+    @DisplayName("Debe detenerse al agotar las evaluaciones del presupuesto")
+    void testEvaluationLimit() {
+        MonteCarloAIStrategy strategy = new MonteCarloAIStrategy(4096, 1, ForkJoinPool.commonPool(), 7L);
+        ThinkingBudget budget = ThinkingBudget.of(TimeUnit.MINUTES.toMillis(1), 20_000);
+
+        Decision decision = strategy.selectTarget(board, budget);
+
+        assertTrue(ShotResolver.isTargetable(board, decision.getTarget()));
+        assertTrue(decision.getEvaluations() >= 20_000);
+        assertEquals(budget.getEvaluations(), decision.getEvaluations());
+        assertTrue(decision.getElapsedNanos() < TimeUnit.SECONDS.toNanos(30));
+        assertTrue(budget.getRemainingNanos() > 0);
+    }
+
+    /**
+     * Tests that a cancelled budget still yields a valid target without sampling.
+     */
+    @Test
+    @DisplayName("Un presupuesto cancelado debe devolver un objetivo válido de inmediato")
+    void testCancellation() {
+        MonteCarloAIStrategy strategy = new MonteCarloAIStrategy(4096, 1, ForkJoinPool.commonPool(), 7L);
+        ThinkingBudget budget = ThinkingBudget.ofMillis(TimeUnit.MINUTES.toMillis(1));
+        budget.cancel();
+
+        Decision decision = strategy.selectTarget(board, budget);
+
+        assertTrue(budget.isCancelled());
+        assertTrue(budget.shouldStop());
+        assertEquals(0, decision.getEvaluations());
+        assertTrue(ShotResolver.isTargetable(board, decision.getTarget()));
+    }
+
+    /**
+     * Tests that strategies without an anytime variant make one ordinary decision.
+     */
+    @Test
+    @DisplayName("Por defecto debe contar una única evaluación")
+    void testDefaultDecision() {
+        IAIStrategy strategy = new AIStrategyAdapter() {
+            @Override
+            public Coordinate selectTarget(IBoard opponentBoard) {
+                return Coordinate.of(2, 3);
+            }
+        };
+
+        Decision decision = strategy.selectTarget(board, ThinkingBudget.ofMillis(0));
+
+        assertEquals(Coordinate.of(2, 3), decision.getTarget());
+        assertEquals(1, decision.getEvaluations());
+        assertThrows(IllegalArgumentException.class, () -> ThinkingBudget.ofMillis(-1));
+        assertThrows(IllegalArgumentException.class, () -> ThinkingBudget.of(10, 0));
+    }
+
+    /**
+     * Tests that a very long thinking time does not overflow into an expired deadline.
+     */
+    @Test
+    @DisplayName("Un tiempo muy largo no debe desbordar el plazo")
+    void testHugeTimeDoesNotOverflow() {
+        ThinkingBudget budget = ThinkingBudget.ofMillis(Long.MAX_VALUE);
+
+        assertFalse(budget.shouldStop());
+        assertTrue(budget.getRemainingNanos() > TimeUnit.DAYS.toNanos(365));
+        assertFalse(AIDifficulty.HARD.newBudget(Long.MAX_VALUE).shouldStop());
+        assertTrue(ThinkingBudget.ofMillis(0).shouldStop());
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.miniproyecto4.model.AI;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the TranspositionCache class.
+ * Tests lookups, CLOCK eviction and concurrent use.
+ */
+@DisplayName("TranspositionCache Unit Tests")
+class TranspositionCacheTest {
+
+    /**
+     * Tests that cached values are found by their full key.
+     */
+    @Test
+    @DisplayName("Debe devolver el valor guardado para la misma clave")
+    void testGetAndPut() {
+        TranspositionCache<String> cache = new TranspositionCache<>(16);
+
+        assertNull(cache.get(42L));
+        cache.put(42L, "a");
+        cache.put(42L, "b");
+
+        assertEquals("b", cache.get(42L));
+        assertNull(cache.get(42L + (1L << 32)));
+        assertEquals(1, cache.getHits());
+        assertEquals(2, cache.getMisses());
+        assertEquals(16, cache.getCapacity());
+        assertThrows(IllegalArgumentException.class, () -> new TranspositionCache<String>(0));
+    }
+
+    /**
+     * Tests that a full set evicts an entry that was not used since the hand last passed.
+     */
+    @Test
+    @DisplayName("Al llenarse debe desalojar una entrada no usada recientemente")
+    void testClockEviction() {
+        TranspositionCache<Long> cache = new TranspositionCache<>(4);
+        for (long key = 1; key <= 4; key++) {
+            cache.put(key, key);
+        }
+
+        cache.get(1L);
+        cache.put(5L, 5L);
+
+        assertEquals(1L, cache.get(1L));
+        assertNull(cache.get(2L));
+        assertEquals(5L, cache.get(5L));
+
+        cache.clear();
+        assertNull(cache.get(1L));
+    }
+
+    /**
+     * Tests that concurrent readers and writers never see a value under the wrong key.
+     *
+     * @throws InterruptedException if interrupted while waiting for the workers
+     */
+    @Test
+    @DisplayName("El uso concurrente no debe mezclar claves y valores")
+    void testConcurrentUse() throws InterruptedException {
+        TranspositionCache<Long> cache = new TranspositionCache<>(64);
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        boolean[] mismatch = new boolean[1];
+
+        for (int worker = 0; worker < 4; worker++) {
+            pool.execute(() -> {
+                for (long i = 0; i < 20_000; i++) {
+                    long key = i % 500;
+                    cache.put(key, key);
+                    Long value = cache.get((i * 7) % 500);
+                    if (value != null && value != (i * 7) % 500) {
+                        mismatch[0] = true;
+                    }
+                }
+            });
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertFalse(mismatch[0]);
+        assertTrue(cache.getHits() > 0);
+    }
+}
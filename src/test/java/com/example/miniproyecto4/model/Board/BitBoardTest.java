@@ -0,0 +1,216 @@
+package com.example.miniproyecto4.model.Board;
+
+import com.example.miniproyecto4.model.Cell.CellStatus;
+import com.example.miniproyecto4.model.Cell.Coordinate;
+import com.example.miniproyecto4.model.Ship.Ship;
+import com.example.miniproyecto4.model.Ship.ShipType;
+import com.example.miniproyecto4.model.Validation.Orientation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the BitBoard class.
+ * Tests that the bit-packed board behaves like the object-based board
+ * for placement, lookups, shot state and serialization.
+ */
+@DisplayName("BitBoard Unit Tests")
+class BitBoardTest {
+
+    /**
+     * The bit board instance used for testing.
+     */
+    private BitBoard board;
+
+    /**
+     * Sets up the test environment before each test.
+     * Initializes a new bit board with default size.
+     */
+    @BeforeEach
+    void setUp() {
+        board = new BitBoard();
+    }
+
+    /**
+     * Tests that getCell returns null outside the board and EMPTY cells inside it.
+     */
+    @Test
+    @DisplayName("getCell debe respetar los límites del tablero")
+    void testGetCell_Bounds() {
+        assertNull(board.getCell(-1, 0));
+        assertNull(board.getCell(0, 10));
+        assertEquals(CellStatus.EMPTY, board.getCell(9, 9).getStatus());
+        assertEquals(new Coordinate(4, 7), board.getCell(4, 7).getCoordinate());
+    }
+
+    /**
+     * Tests that placeShip marks every ship cell and resolves the ship by coordinate.
+     */
+    @Test
+    @DisplayName("placeShip debe registrar el barco en todas sus celdas")
+    void testPlaceShip_Lookup() {
+        Ship ship = new Ship(ShipType.SUBMARINE, new Coordinate(2, 5), Orientation.VERTICAL);
+
+        assertTrue(board.placeShip(ship));
+        assertSame(ship, board.getShipAt(new Coordinate(2, 5)));
+        assertSame(ship, board.getShipAt(new Coordinate(2, 7)));
+        assertTrue(board.hasShipAt(new Coordinate(2, 6)));
+        assertFalse(board.hasShipAt(new Coordinate(3, 5)));
+        assertEquals(CellStatus.SHIP, board.getCell(2, 6).getStatus());
+    }
+
+    /**
+     * Tests that placeShip rejects ships that leave the board or overlap.
+     */
+    @Test
+    @DisplayName("placeShip debe rechazar barcos fuera de límites o superpuestos")
+    void testPlaceShip_Invalid() {
+        assertFalse(board.placeShip(new Ship(ShipType.CARRIER, new Coordinate(7, 0), Orientation.HORIZONTAL)));
+        assertTrue(board.placeShip(new Ship(ShipType.DESTROYER, new Coordinate(3, 3), Orientation.HORIZONTAL)));
+        assertFalse(board.placeShip(new Ship(ShipType.SUBMARINE, new Coordinate(4, 1), Orientation.VERTICAL)));
+        assertEquals(1, board.getShips().size());
+    }
+
+    /**
+     * Tests that cell status changes are written through to the bit masks.
+     */
+    @Test
+    @DisplayName("setStatus de la celda debe reflejarse en el tablero")
+    void testCellStatus_WriteThrough() {
+        board.placeShip(new Ship(ShipType.FRIGATE, new Coordinate(0, 0), Orientation.HORIZONTAL));
+
+        board.getCell(0, 0).setStatus(CellStatus.HIT);
+        board.getCell(5, 5).setStatus(CellStatus.MISS);
+
+        assertTrue(board.getCell(0, 0).isHit());
+        assertTrue(board.getCell(5, 5).isMiss());
+        assertEquals(CellStatus.HIT, board.getCell(new Coordinate(0, 0)).getStatus());
+    }
+
+    /**
+     * Tests that allShipsSunk is only true once every ship cell has been struck.
+     */
+    @Test
+    @DisplayName("allShipsSunk debe depender de las celdas de barco alcanzadas")
+    void testAllShipsSunk() {
+        assertFalse(board.allShipsSunk());
+
+        board.placeShip(new Ship(ShipType.DESTROYER, new Coordinate(8, 9), Orientation.HORIZONTAL));
+        board.getCell(8, 9).setStatus(CellStatus.HIT);
+        assertFalse(board.allShipsSunk());
+
+        board.getCell(9, 9).setStatus(CellStatus.SUNK);
+        assertTrue(board.allShipsSunk());
+    }
+
+    /**
+     * Tests that removing a ship keeps the lookups of the remaining ships correct.
+     */
+    @Test
+    @DisplayName("removeShip debe conservar los barcos restantes")
+    void testRemoveShip_Renumbers() {
+        Ship first = new Ship(ShipType.DESTROYER, new Coordinate(0, 0), Orientation.HORIZONTAL);
+        Ship second = new Ship(ShipType.SUBMARINE, new Coordinate(0, 2), Orientation.HORIZONTAL);
+        board.placeShip(first);
+        board.placeShip(second);
+
+        assertTrue(board.removeShip(first));
+        assertNull(board.getShipAt(new Coordinate(0, 0)));
+        assertSame(second, board.getShipAt(new Coordinate(2, 2)));
+        assertEquals(CellStatus.EMPTY, board.getCell(1, 0).getStatus());
+    }
+
+    /**
+     * Tests that boards larger than 10x10 use the multi-word masks correctly.
+     */
+    @Test
+    @DisplayName("Tableros grandes deben funcionar con varias palabras de bits")
+    void testLargeBoard() {
+        BitBoard large = new BitBoard(15);
+        Ship ship = new Ship(ShipType.CARRIER, new Coordinate(11, 14), Orientation.HORIZONTAL);
+
+        assertTrue(large.placeShip(ship));
+        assertSame(ship, large.getShipAt(new Coordinate(14, 14)));
+        large.getCell(14, 14).setStatus(CellStatus.HIT);
+        assertEquals(CellStatus.HIT, large.getCell(14, 14).getStatus());
+        assertEquals(CellStatus.SHIP, large.getCell(13, 14).getStatus());
+    }
+
+    /**
+     * Tests that the board keeps its state after a serialization round trip.
+     *
+     * @throws Exception if serialization fails
+     */
+    @Test
+    @DisplayName("La serialización debe conservar el estado del tablero")
+    void testSerializationRoundTrip() throws Exception {
+        board.placeShip(new Ship(ShipType.DESTROYER, new Coordinate(4, 4), Orientation.VERTICAL));
+        board.getCell(4, 4).setStatus(CellStatus.HIT);
+        board.getCell(0, 9).setStatus(CellStatus.MISS);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(board);
+        }
+        BitBoard copy;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (BitBoard) in.readObject();
+        }
+
+        assertEquals(CellStatus.HIT, copy.getCell(4, 4).getStatus());
+        assertEquals(CellStatus.SHIP, copy.getCell(4, 5).getStatus());
+        assertEquals(CellStatus.MISS, copy.getCell(0, 9).getStatus());
+        assertNotNull(copy.getShipAt(new Coordinate(4, 5)));
+    }
+
+    /**
+     * Tests that the observed hash ignores hidden ships, follows shots and
+     * agrees between board implementations and after serialization.
+     *
+     * @throws Exception if serialization fails
+     */
+    @Test
+    @DisplayName("El hash observado debe ignorar barcos ocultos y seguir los disparos")
+    void testObservedHash() throws Exception {
+        Board other = new Board();
+        board.placeShip(new Ship(ShipType.DESTROYER, new Coordinate(0, 0), Orientation.HORIZONTAL));
+        other.placeShip(new Ship(ShipType.DESTROYER, new Coordinate(5, 5), Orientation.VERTICAL));
+        long unshot = board.getObservedHash();
+        assertEquals(unshot, other.getObservedHash());
+
+        board.setCellStatus(99, CellStatus.MISS);
+        assertNotEquals(unshot, board.getObservedHash());
+        other.setCellStatus(99, CellStatus.MISS);
+        assertEquals(board.getObservedHash(), other.getObservedHash());
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(board);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertEquals(board.getObservedHash(), ((BitBoard) in.readObject()).getObservedHash());
+        }
+
+        board.setCellStatus(99, CellStatus.EMPTY);
+        assertEquals(unshot, board.getObservedHash());
+        assertNotEquals(unshot, new BitBoard(12).getObservedHash());
+    }
+
+    /**
+     * Tests that the factory creates bit boards of the requested size.
+     */
+    @Test
+    @DisplayName("BoardFactory debe crear tableros de bits")
+    void testFactory() {
+        IBoard created = BoardFactory.createBitBoard(12);
+        assertTrue(created instanceof BitBoard);
+        assertEquals(12, created.getSize());
+    }
+}
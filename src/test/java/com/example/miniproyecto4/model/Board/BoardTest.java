@@ -5,11 +5,15 @@ import com.example.miniproyecto4.model.Cell.CellStatus;
 import com.example.miniproyecto4.model.Cell.Coordinate;
 import com.example.miniproyecto4.model.Ship.Ship;
 import com.example.miniproyecto4.model.Ship.ShipType;
+import com.example.miniproyecto4.model.Shot.ShotResolver;
 import com.example.miniproyecto4.model.Validation.Orientation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -456,4 +460,121 @@ class BoardTest {
         assertFalse(board.hasShipAt(new Coordinate(1, 1)));
         assertFalse(board.hasShipAt(new Coordinate(1, 2)));
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests that the packed-index lookups agree with the coordinate lookups.
+     */
+    @Test
+    @DisplayName("Las búsquedas por índice deben coincidir con las de coordenadas")
+    void testPackedIndexLookups() {
+        Ship ship = new Ship(ShipType.DESTROYER, new Coordinate(3, 6), Orientation.HORIZONTAL);
+        board.placeShip(ship);
+
+        int index = new Coordinate(4, 6).toIndex(board.getSize());
+
+        assertEquals(46, index);
+        assertSame(board.getCell(4, 6), board.getCell(index));
+        assertSame(ship, board.getShipAt(index));
+        assertTrue(board.hasShipAt(index));
+        assertFalse(board.hasShipAt(index + 1));
+        assertNull(board.getCell(100));
+        assertEquals(index, ship.getCoordinateIndex(1, board.getSize()));
+    }
+
+    /**
+     * Tests that interned coordinates are shared and equal to allocated ones.
+     */
+    @Test
+    @DisplayName("Coordinate.of debe devolver instancias compartidas")
+    void testCoordinateInterning() {
+        assertSame(Coordinate.of(2, 9), Coordinate.of(2, 9));
+        assertSame(Coordinate.of(2, 9), Coordinate.ofIndex(29, 10));
+        assertEquals(new Coordinate(2, 9), Coordinate.of(2, 9));
+        assertEquals(new Coordinate(-1, 4), Coordinate.of(-1, 4));
+    }
+
+    /**
+     * Tests that shots are reported as single-cell deltas and a sinking ship as one batched delta.
+     */
+    @Test
+    @DisplayName("Los cambios de celdas deben notificarse como deltas compactos")
+    void testChangeListener_Deltas() {
+        Ship ship = new Ship(ShipType.DESTROYER, new Coordinate(2, 2), Orientation.VERTICAL);
+        board.placeShip(ship);
+        List<BoardDelta> deltas = new ArrayList<>();
+        board.addChangeListener((changed, delta) -> deltas.add(delta));
+
+        ShotResolver.resolve(board, new Coordinate(0, 0));
+        ShotResolver.resolve(board, new Coordinate(2, 2));
+        ShotResolver.resolve(board, new Coordinate(2, 3));
+
+        assertEquals(4, deltas.size());
+        assertEquals(0, deltas.get(0).getIndex(0));
+        assertEquals(CellStatus.MISS, deltas.get(0).getStatus(0));
+        assertEquals(CellStatus.HIT, deltas.get(1).getStatus(0));
+
+        BoardDelta sunk = deltas.get(3);
+        assertEquals(2, sunk.size());
+        assertEquals(22, sunk.getIndex(0));
+        assertEquals(23, sunk.getIndex(1));
+        assertEquals(CellStatus.SUNK, sunk.getStatus(1));
+    }
+
+    /**
+     * Tests that a full delta describes every cell and that removed listeners are not notified.
+     */
+    @Test
+    @DisplayName("El delta completo debe describir todo el tablero")
+    void testFullDelta_AndRemoveListener() {
+        board.placeShip(new Ship(ShipType.FRIGATE, new Coordinate(9, 9), Orientation.HORIZONTAL));
+        board.setCellStatus(5, CellStatus.MISS);
+
+        BoardDelta full = BoardDelta.full(board);
+        assertTrue(full.isFull());
+        assertEquals(100, full.size());
+        assertEquals(CellStatus.MISS, full.getStatus(5));
+        assertEquals(CellStatus.SHIP, full.getStatus(99));
+
+        List<BoardDelta> deltas = new ArrayList<>();
+        BoardChangeListener listener = (changed, delta) -> deltas.add(delta);
+        board.addChangeListener(listener);
+        board.removeChangeListener(listener);
+        board.setCellStatus(6, CellStatus.MISS);
+        assertTrue(deltas.isEmpty());
+    }
+
+    /**
+     * Tests that the fleet counters follow placements, hits, removals and resets.
+     */
+    @Test
+    @DisplayName("Los contadores de flota deben seguir colocaciones, impactos y retiros")
+    void testFleetCounters() {
+        Ship carrier = new Ship(ShipType.CARRIER, new Coordinate(0, 0), Orientation.HORIZONTAL);
+        Ship destroyer = new Ship(ShipType.DESTROYER, new Coordinate(0, 2), Orientation.VERTICAL);
+        board.placeShip(carrier);
+        board.placeShip(destroyer);
+
+        assertEquals(2, board.getShipCount());
+        assertEquals(6, board.getRemainingSegments());
+        assertEquals(1, board.getRemainingShips(ShipType.CARRIER));
+
+        ShotResolver.resolve(board, new Coordinate(0, 2));
+        destroyer.hit(new Coordinate(0, 3));
+        destroyer.hit(new Coordinate(0, 3));
+
+        assertEquals(4, board.getRemainingSegments());
+        assertEquals(1, board.getSunkShipsCount());
+        assertEquals(0, board.getRemainingShips(ShipType.DESTROYER));
+
+        board.removeShip(destroyer);
+        assertEquals(1, board.getShipCount());
+        assertEquals(0, board.getSunkShipsCount());
+        assertEquals(4, board.getRemainingSegments());
+
+        board.reset();
+        carrier.hit(new Coordinate(1, 0));
+        assertEquals(0, board.getShipCount());
+        assertEquals(0, board.getRemainingSegments());
+        assertEquals(0, board.getRemainingShips(ShipType.CARRIER));
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.miniproyecto4.model.Game;
+
+import com.example.miniproyecto4.model.Board.Board;
+import com.example.miniproyecto4.model.Board.BoardFactory;
+import com.example.miniproyecto4.model.Board.IBoard;
+import com.example.miniproyecto4.model.Cell.Coordinate;
+import com.example.miniproyecto4.model.Ship.IShip;
+import com.example.miniproyecto4.model.Ship.Ship;
+import com.example.miniproyecto4.model.Ship.ShipFactory;
+import com.example.miniproyecto4.model.Ship.ShipType;
+import com.example.miniproyecto4.model.Validation.Orientation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the FleetPlacementSampler class.
+ * Tests that fleets are always placed, without overlaps, and that single
+ * placements and whole fleets are drawn uniformly.
+ */
+@DisplayName("FleetPlacementSampler Unit Tests")
+class FleetPlacementSamplerTest {
+
+    /**
+     * Tests that the default fleet is always placed on both board implementations.
+     */
+    @Test
+    @DisplayName("La flota completa siempre debe colocarse")
+    void testPlace_DefaultFleet() {
+        FleetPlacementSampler sampler = new FleetPlacementSampler(10);
+        Random random = new Random(7);
+
+        for (int i = 0; i < 200; i++) {
+            IBoard board = i % 2 == 0 ? BoardFactory.createBoard(10) : BoardFactory.createBitBoard(10);
+            assertTrue(sampler.place(board, ShipFactory.createFleet(), random));
+            assertEquals(10, board.getShipCount());
+            assertEquals(20, board.getRemainingSegments());
+        }
+    }
+
+    /**
+     * Tests that a crowded board is filled through backtracking.
+     */
+    @Test
+    @DisplayName("Un tablero saturado debe llenarse retrocediendo")
+    void testPlace_CrowdedBoard() {
+        FleetPlacementSampler sampler = new FleetPlacementSampler(4);
+        Random random = new Random(11);
+
+        for (int i = 0; i < 100; i++) {
+            List<IShip> fleet = new ArrayList<>();
+            for (int s = 0; s < 4; s++) {
+                fleet.add(ShipFactory.createShip(ShipType.CARRIER));
+            }
+            IBoard board = new Board(4);
+            assertTrue(sampler.place(board, fleet, random));
+            assertEquals(16, board.getRemainingSegments());
+        }
+    }
+
+    /**
+     * Tests that an impossible fleet is rejected and ships already on the board are avoided.
+     */
+    @Test
+    @DisplayName("Una flota imposible debe rechazarse sin colocar barcos")
+    void testPlace_ImpossibleFleet() {
+        IBoard board = new Board(4);
+        board.placeShip(new Ship(ShipType.FRIGATE, new Coordinate(1, 1), Orientation.HORIZONTAL));
+        List<IShip> fleet = new ArrayList<>();
+        for (int s = 0; s < 4; s++) {
+            fleet.add(ShipFactory.createShip(ShipType.CARRIER));
+        }
+
+        assertFalse(new FleetPlacementSampler(4).place(board, fleet, new Random(3)));
+        assertEquals(1, board.getShipCount());
+    }
+
+    /**
+     * Tests that a single ship is drawn uniformly among its legal placements.
+     */
+    @Test
+    @DisplayName("Las posiciones legales deben elegirse de forma uniforme")
+    void testPlace_Uniform() {
+        FleetPlacementSampler sampler = new FleetPlacementSampler(4);
+        Random random = new Random(5);
+        Map<String, Integer> counts = new HashMap<>();
+
+        for (int i = 0; i < 8000; i++) {
+            IShip ship = ShipFactory.createShip(ShipType.SUBMARINE);
+            assertTrue(sampler.place(new Board(4), Collections.singletonList(ship), random));
+            counts.merge(ship.getStartCoordinate() + ":" + ship.getOrientation(), 1, Integer::sum);
+        }
+
+        assertEquals(16, counts.size());
+        for (int count : counts.values()) {
+            assertTrue(count > 380 && count < 620, "count " + count);
+        }
+    }
+
+    /**
+     * Tests that whole fleets are drawn uniformly among all their layouts,
+     * with a chi-square bound about five standard deviations above its mean.
+     */
+    @Test
+    @DisplayName("Las flotas completas deben elegirse de forma uniforme")
+    void testPlace_UniformFleet() {
+        FleetPlacementSampler sampler = new FleetPlacementSampler(4);
+        Random random = new Random(9);
+        Map<String, Integer> counts = new HashMap<>();
+        int draws = 264 * 400;
+
+        for (int i = 0; i < draws; i++) {
+            IShip submarine = ShipFactory.createShip(ShipType.SUBMARINE);
+            IShip destroyer = ShipFactory.createShip(ShipType.DESTROYER);
+            assertTrue(sampler.place(new Board(4), List.of(submarine, destroyer), random));
+            counts.merge(submarine.getStartCoordinate() + ":" + submarine.getOrientation() + "/"
+                    + destroyer.getStartCoordinate() + ":" + destroyer.getOrientation(), 1, Integer::sum);
+        }
+
+        assertEquals(264, counts.size());
+        double expected = draws / 264.0;
+        double chiSquare = 0;
+        for (int count : counts.values()) {
+            chiSquare += (count - expected) * (count - expected) / expected;
+        }
+        assertTrue(chiSquare < 380, "chi-square " + chiSquare);
+    }
+}
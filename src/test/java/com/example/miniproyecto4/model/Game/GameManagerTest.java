@@ -0,0 +1,136 @@
+package com.example.miniproyecto4.model.Game;
+
+import com.example.miniproyecto4.model.AI.Decision;
+import com.example.miniproyecto4.model.AI.RandomAIStrategy;
+import com.example.miniproyecto4.model.AI.ThinkingBudget;
+import com.example.miniproyecto4.model.Board.IBoard;
+import com.example.miniproyecto4.model.Cell.Coordinate;
+import com.example.miniproyecto4.model.GameSave.IGameRepository;
+import com.example.miniproyecto4.model.GameSave.SerializableGameData;
+import com.example.miniproyecto4.model.Player.IPlayer;
+import com.example.miniproyecto4.model.Ship.ShipFactory;
+import com.example.miniproyecto4.model.Shot.ShotResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for budgeted AI decisions in the GameManager class.
+ * Tests that the strategy thinks without blocking the game.
+ */
+@DisplayName("GameManager Unit Tests")
+class GameManagerTest {
+
+    /**
+     * Strategy that thinks until its budget stops it, signalling when it starts.
+     */
+    private static class SlowStrategy extends RandomAIStrategy {
+        private final CountDownLatch thinking = new CountDownLatch(1);
+
+        @Override
+        public Decision selectTarget(IBoard opponentBoard, ThinkingBudget budget) {
+            thinking.countDown();
+            while (!budget.shouldStop()) {
+                Thread.onSpinWait();
+            }
+            return super.selectTarget(opponentBoard, budget);
+        }
+    }
+
+    /**
+     * Repository that keeps nothing.
+     */
+    private static class NoSaveRepository implements IGameRepository {
+        @Override
+        public void saveGame(IPlayer humanPlayer, IPlayer computerPlayer, GameStatus gameStatus, boolean isPlayerTurn) {
+        }
+
+        @Override
+        public SerializableGameData loadGame() {
+            return null;
+        }
+
+        @Override
+        public boolean hasSavedGame() {
+            return false;
+        }
+
+        @Override
+        public void deleteSavedGame() {
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    /**
+     * The strategy the engine thinks with.
+     */
+    private SlowStrategy strategy;
+
+    /**
+     * The engine under test, on the computer's turn.
+     */
+    private GameManager manager;
+
+    /**
+     * Sets up the test environment before each test.
+     * Starts a game and hands the turn to the computer.
+     */
+    @BeforeEach
+    void setUp() {
+        strategy = new SlowStrategy();
+        manager = new GameManager(new NoSaveRepository(), strategy, new Random(1));
+        manager.startNewGame("Ana");
+        FleetPlacer.placeRandomly(manager.getHumanPlayer().getBoard(), ShipFactory.createFleet(), new Random(2));
+        manager.setGameStatus(GameStatus.PLAYING);
+        manager.switchTurn();
+    }
+
+    /**
+     * Tests that the game can change while the AI thinks, and that the change
+     * cancels the decision and discards its target.
+     */
+    @Test
+    @DisplayName("El juego no debe bloquearse mientras la IA piensa")
+    void testPlan_DoesNotBlockGame() throws Exception {
+        ThinkingBudget budget = ThinkingBudget.ofMillis(TimeUnit.MINUTES.toMillis(1));
+        CompletableFuture<Coordinate> plan = CompletableFuture.supplyAsync(() -> manager.planComputerShot(budget));
+        assertTrue(strategy.thinking.await(5, TimeUnit.SECONDS));
+
+        long start = System.nanoTime();
+        manager.switchTurn();
+        manager.resetGame();
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+
+        assertNull(plan.get(5, TimeUnit.SECONDS));
+        assertTrue(budget.isCancelled());
+        assertEquals(GameStatus.SETUP, manager.getGameStatus());
+    }
+
+    /**
+     * Tests that a finished decision is kept and fired by the next computer shot.
+     */
+    @Test
+    @DisplayName("El disparo planeado debe dispararse en el siguiente turno")
+    void testPlan_FiresPlannedTarget() {
+        Coordinate planned = manager.planComputerShot(ThinkingBudget.ofMillis(20));
+
+        assertNotNull(planned);
+        assertEquals(planned, manager.planComputerShot(ThinkingBudget.ofMillis(20)));
+        assertNotEquals(ShotResult.INVALID, manager.processComputerShot());
+        assertEquals(planned, manager.getLastComputerShot());
+    }
+}
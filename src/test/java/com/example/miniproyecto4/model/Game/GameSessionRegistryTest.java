@@ -0,0 +1,148 @@
+package com.example.miniproyecto4.model.Game;
+
+import com.example.miniproyecto4.model.AI.RandomAIStrategy;
+import com.example.miniproyecto4.model.GameSave.FlatFileManager;
+import com.example.miniproyecto4.model.GameSave.GameRepository;
+import com.example.miniproyecto4.model.GameSave.GameSessionFiles;
+import com.example.miniproyecto4.model.GameSave.JournaledGameRepository;
+import com.example.miniproyecto4.model.GameSave.WriteBehindGameRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the GameSessionRegistry class.
+ * Tests that sessions get independent engines and their own save files,
+ * and that removed sessions are closed.
+ */
+@DisplayName("GameSessionRegistry Unit Tests")
+class GameSessionRegistryTest {
+
+    /**
+     * The registry instance used for testing.
+     */
+    private GameSessionRegistry registry;
+
+    /**
+     * Sets up the test environment before each test.
+     * Initializes a new, empty registry.
+     */
+    @BeforeEach
+    void setUp() {
+        registry = new GameSessionRegistry();
+    }
+
+    /**
+     * Tests that the same session id always returns the same engine.
+     */
+    @Test
+    @DisplayName("La misma sesión debe devolver el mismo motor")
+    void testSameSession_SameEngine() {
+        GameManager first = registry.getOrCreateSession("arena-1");
+
+        assertSame(first, registry.getOrCreateSession("arena-1"));
+        assertSame(first, registry.getSession("arena-1"));
+        assertEquals(1, registry.getSessionCount());
+    }
+
+    /**
+     * Tests that different sessions hold independent game state.
+     */
+    @Test
+    @DisplayName("Sesiones distintas deben tener estados independientes")
+    void testDifferentSessions_IndependentState() {
+        GameManager first = registry.getOrCreateSession("arena-1");
+        GameManager second = registry.getOrCreateSession("arena-2");
+
+        first.startNewGame("Ana");
+        second.startNewGame("Luis");
+
+        assertNotSame(first, second);
+        assertEquals("Ana", first.getHumanPlayer().getNickname());
+        assertEquals("Luis", second.getHumanPlayer().getNickname());
+        assertNotSame(first.getComputerPlayer().getBoard(), second.getComputerPlayer().getBoard());
+    }
+
+    /**
+     * Tests that removed sessions are no longer returned.
+     */
+    @Test
+    @DisplayName("removeSession debe eliminar la sesión")
+    void testRemoveSession() {
+        GameManager engine = registry.getOrCreateSession("arena-1");
+
+        assertSame(engine, registry.removeSession("arena-1"));
+        assertNull(registry.getSession("arena-1"));
+        assertNotSame(engine, registry.getOrCreateSession("arena-1"));
+    }
+
+    /**
+     * Tests that removing a session writes its queued save and closes its repository.
+     *
+     * @throws IOException if the temporary directory cannot be created
+     */
+    @Test
+    @DisplayName("removeSession debe guardar y cerrar el repositorio de la sesión")
+    void testRemoveSession_ClosesRepository() throws IOException {
+        Path directory = Files.createTempDirectory("sessions");
+        File saveFile = directory.resolve("save.ser").toFile();
+        AtomicReference<WriteBehindGameRepository> repository = new AtomicReference<>();
+        GameSessionRegistry sessions = new GameSessionRegistry(sessionId -> {
+            repository.set(new WriteBehindGameRepository(new JournaledGameRepository(new GameRepository(
+                    saveFile.getPath(), new FlatFileManager(directory.resolve("player.txt").toString()))), 60_000));
+            return new GameManager(repository.get(), new RandomAIStrategy(), new Random(1));
+        });
+
+        try {
+            GameManager engine = sessions.getOrCreateSession("arena-1");
+            engine.startNewGame("Ana");
+            engine.setGameStatus(GameStatus.PLAYING);
+            engine.switchTurn();
+            engine.saveGame();
+
+            assertSame(engine, sessions.removeSession("arena-1"));
+            assertTrue(repository.get().isClosed());
+            assertTrue(saveFile.exists());
+            assertThrows(IllegalStateException.class, engine::saveGame);
+            repository.get().close();
+        } finally {
+            File[] files = directory.toFile().listFiles();
+            if (files != null) {
+                for (File file : files) {
+                    file.delete();
+                }
+            }
+            directory.toFile().delete();
+        }
+    }
+
+    /**
+     * Tests that session file names are suffixed and escaped without collisions.
+     */
+    @Test
+    @DisplayName("Los archivos de sesión deben llevar el sufijo de la sesión")
+    void testSessionFileNames() {
+        String suffix = GameSessionFiles.suffixFor("arena/1");
+
+        assertEquals("_arena_002f1", suffix);
+        assertEquals("_arena-1", GameSessionFiles.suffixFor("arena-1"));
+        assertEquals("battleship_save_arena_002f1.ser", GameSessionFiles.withSuffix("battleship_save.ser", suffix));
+        assertEquals("save_arena_002f1", GameSessionFiles.withSuffix("save", suffix));
+
+        Set<String> suffixes = new HashSet<>();
+        for (String id : new String[]{"a/b", "a.b", "a_b", "a_002fb", "a__b", "A/b"}) {
+            assertTrue(suffixes.add(GameSessionFiles.suffixFor(id)), id);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.miniproyecto4.model.GameSave;
+
+import com.example.miniproyecto4.model.Board.IBoard;
+import com.example.miniproyecto4.model.Cell.CellStatus;
+import com.example.miniproyecto4.model.Cell.Coordinate;
+import com.example.miniproyecto4.model.Game.GameStatus;
+import com.example.miniproyecto4.model.Player.ComputerPlayer;
+import com.example.miniproyecto4.model.Player.IPlayer;
+import com.example.miniproyecto4.model.Player.Player;
+import com.example.miniproyecto4.model.Ship.IShip;
+import com.example.miniproyecto4.model.Ship.ShipFactory;
+import com.example.miniproyecto4.model.Ship.ShipType;
+import com.example.miniproyecto4.model.Shot.ShotResolver;
+import com.example.miniproyecto4.model.Validation.Orientation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the BinaryGameSerializer class.
+ * Tests round trips of the binary format, corrupt data and loading of legacy save files.
+ */
+@DisplayName("BinaryGameSerializer Unit Tests")
+class BinaryGameSerializerTest {
+
+    /**
+     * The serializer instance used for testing.
+     */
+    private BinaryGameSerializer serializer;
+
+    /**
+     * Game data with ships, hits, misses and a sunk ship.
+     */
+    private SerializableGameData data;
+
+    /**
+     * Sets up the test environment before each test.
+     * Builds a game in progress on the human player's board.
+     */
+    @BeforeEach
+    void setUp() {
+        serializer = new BinaryGameSerializer();
+
+        IPlayer human = new Player("Camila");
+        IBoard board = human.getBoard();
+        board.placeShip(ShipFactory.createShip(ShipType.CARRIER, Coordinate.of(0, 0), Orientation.HORIZONTAL));
+        board.placeShip(ShipFactory.createShip(ShipType.FRIGATE, Coordinate.of(5, 5), Orientation.VERTICAL));
+        ShotResolver.resolve(board, Coordinate.of(1, 0));
+        ShotResolver.resolve(board, Coordinate.of(5, 5));
+        ShotResolver.resolve(board, Coordinate.of(9, 9));
+        human.incrementSunkShips();
+
+        data = new SerializableGameData(human, new ComputerPlayer(), GameStatus.PLAYING, false);
+    }
+
+    /**
+     * Tests that encoding and decoding restores players, board and fleet.
+     */
+    @Test
+    @DisplayName("Codificar y decodificar debe conservar el estado de la partida")
+    void testRoundTrip() {
+        SerializableGameData copy = serializer.decode(ByteBuffer.wrap(serializer.encode(data)));
+
+        assertNotNull(copy);
+        assertEquals(GameStatus.PLAYING, copy.getGameStatus());
+        assertFalse(copy.isPlayerTurn());
+        assertEquals("Camila", copy.getHumanPlayer().getNickname());
+        assertEquals(1, copy.getHumanPlayer().getSunkShipsCount());
+        assertTrue(copy.getComputerPlayer() instanceof ComputerPlayer);
+
+        IBoard board = copy.getHumanPlayer().getBoard();
+        assertEquals(2, board.getShips().size());
+        assertEquals(1, board.getSunkShipsCount());
+        assertEquals(CellStatus.HIT, board.getCell(1, 0).getStatus());
+        assertEquals(CellStatus.SUNK, board.getCell(5, 5).getStatus());
+        assertEquals(CellStatus.MISS, board.getCell(9, 9).getStatus());
+        assertEquals(CellStatus.SHIP, board.getCell(2, 0).getStatus());
+
+        IShip carrier = board.getShipAt(Coordinate.of(0, 0));
+        assertTrue(carrier.isHitAt(Coordinate.of(1, 0)));
+        assertEquals(1, carrier.getHitCount());
+    }
+
+    /**
+     * Tests that a corrupt nickname length is rejected instead of throwing.
+     */
+    @Test
+    @DisplayName("Una longitud de apodo corrupta debe rechazarse sin excepción")
+    void testDecode_CorruptNicknameLength() {
+        byte[] bytes = serializer.encode(data);
+
+        ByteBuffer negative = ByteBuffer.wrap(bytes.clone());
+        negative.putShort(8, (short) -5);
+        assertNull(serializer.decode(negative));
+
+        ByteBuffer tooLong = ByteBuffer.wrap(bytes.clone());
+        tooLong.putShort(8, Short.MAX_VALUE);
+        assertNull(serializer.decode(tooLong));
+    }
+
+    /**
+     * Tests that the binary format is much smaller than Java serialization.
+     */
+    @Test
+    @DisplayName("El formato binario debe ser más compacto que la serialización de Java")
+    void testSmallerThanJavaSerialization() {
+        byte[] binary = serializer.encode(data);
+        byte[] legacy = new GameSerializer().encode(data);
+
+        assertTrue(binary.length * 10 < legacy.length);
+    }
+
+    /**
+     * Tests that files written with Java serialization still load.
+     *
+     * @throws IOException if the temporary file cannot be created
+     */
+    @Test
+    @DisplayName("Los archivos antiguos deben seguir cargando")
+    void testLegacyFile_Migrated() throws IOException {
+        File file = File.createTempFile("legacy", ".ser");
+        try {
+            new GameSerializer().serialize(data, file.getPath());
+
+            SerializableGameData loaded = serializer.deserialize(file.getPath());
+            assertNotNull(loaded);
+            assertEquals("Camila", loaded.getHumanPlayer().getNickname());
+
+            serializer.serialize(loaded, file.getPath());
+            SerializableGameData rewritten = serializer.deserialize(file.getPath());
+            assertNotNull(rewritten);
+            assertEquals(2, rewritten.getHumanPlayer().getBoard().getShips().size());
+        } finally {
+            file.delete();
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.miniproyecto4.model.GameSave;
+
+import com.example.miniproyecto4.model.Board.IBoard;
+import com.example.miniproyecto4.model.Cell.CellStatus;
+import com.example.miniproyecto4.model.Cell.Coordinate;
+import com.example.miniproyecto4.model.Game.GameStatus;
+import com.example.miniproyecto4.model.Player.ComputerPlayer;
+import com.example.miniproyecto4.model.Player.IPlayer;
+import com.example.miniproyecto4.model.Player.Player;
+import com.example.miniproyecto4.model.Ship.ShipFactory;
+import com.example.miniproyecto4.model.Ship.ShipType;
+import com.example.miniproyecto4.model.Shot.ShotResolver;
+import com.example.miniproyecto4.model.Validation.Orientation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the JournaledGameRepository class.
+ * Tests appends, replay on load, torn tail recovery and compaction.
+ */
+@DisplayName("JournaledGameRepository Unit Tests")
+class JournaledGameRepositoryTest {
+
+    /**
+     * Temporary directory holding the test save files.
+     */
+    private Path directory;
+
+    /**
+     * Path of the save file.
+     */
+    private File saveFile;
+
+    /**
+     * The repository instance used for testing.
+     */
+    private JournaledGameRepository repository;
+
+    /**
+     * The human player of the test game.
+     */
+    private IPlayer human;
+
+    /**
+     * The computer player of the test game.
+     */
+    private IPlayer computer;
+
+    /**
+     * Sets up the test environment before each test.
+     * Creates a repository in a temporary directory and a game with one ship per side.
+     *
+     * @throws IOException if the temporary directory cannot be created
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("journal");
+        saveFile = directory.resolve("save.ser").toFile();
+        repository = new JournaledGameRepository(newDelegate(), 8);
+
+        human = new Player("Ana");
+        computer = new ComputerPlayer();
+        human.getBoard().placeShip(ShipFactory.createShip(ShipType.DESTROYER, Coordinate.of(0, 0), Orientation.HORIZONTAL));
+        computer.getBoard().placeShip(ShipFactory.createShip(ShipType.DESTROYER, Coordinate.of(4, 4), Orientation.VERTICAL));
+        computer.getBoard().placeShip(ShipFactory.createShip(ShipType.FRIGATE, Coordinate.of(8, 8), Orientation.VERTICAL));
+    }
+
+    /**
+     * Removes the temporary files after each test.
+     */
+    @AfterEach
+    void tearDown() {
+        File[] files = directory.toFile().listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        directory.toFile().delete();
+    }
+
+    /**
+     * Tests that a save after a shot only appends a couple of records.
+     */
+    @Test
+    @DisplayName("Un disparo debe agregar solo unos pocos bytes")
+    void testShot_Appended() {
+        repository.saveGame(human, computer, GameStatus.PLAYING, true);
+        long snapshotLength = saveFile.length();
+
+        ShotResolver.resolve(computer.getBoard(), Coordinate.of(0, 9));
+        repository.saveGame(human, computer, GameStatus.PLAYING, false);
+
+        assertEquals(snapshotLength + 2 * JournaledGameRepository.RECORD_BYTES, saveFile.length());
+    }
+
+    /**
+     * Tests that loading replays every journaled shot on top of the snapshot.
+     */
+    @Test
+    @DisplayName("Cargar debe reproducir los disparos del registro")
+    void testLoad_ReplaysJournal() {
+        repository.saveGame(human, computer, GameStatus.PLAYING, true);
+        ShotResolver.resolve(computer.getBoard(), Coordinate.of(4, 4));
+        ShotResolver.resolve(computer.getBoard(), Coordinate.of(4, 5));
+        human.incrementSunkShips();
+        repository.saveGame(human, computer, GameStatus.PLAYING, true);
+        ShotResolver.resolve(human.getBoard(), Coordinate.of(5, 5));
+        repository.saveGame(human, computer, GameStatus.PLAYING, true);
+
+        SerializableGameData data = new JournaledGameRepository(newDelegate()).loadGame();
+
+        assertNotNull(data);
+        assertEquals(1, data.getHumanPlayer().getSunkShipsCount());
+        IBoard computerBoard = data.getComputerPlayer().getBoard();
+        assertEquals(CellStatus.SUNK, computerBoard.getCell(4, 4).getStatus());
+        assertEquals(1, computerBoard.getSunkShipsCount());
+        assertEquals(CellStatus.MISS, data.getHumanPlayer().getBoard().getCell(5, 5).getStatus());
+    }
+
+    /**
+     * Tests that a torn record at the end of the file is dropped and truncated.
+     *
+     * @throws IOException if the save file cannot be modified
+     */
+    @Test
+    @DisplayName("Un registro incompleto al final debe descartarse")
+    void testTornTail_Truncated() throws IOException {
+        repository.saveGame(human, computer, GameStatus.PLAYING, true);
+        ShotResolver.resolve(computer.getBoard(), Coordinate.of(8, 8));
+        repository.saveGame(human, computer, GameStatus.PLAYING, true);
+        long validLength = saveFile.length();
+
+        try (RandomAccessFile file = new RandomAccessFile(saveFile, "rw")) {
+            file.seek(validLength);
+            file.write(new byte[]{1, 0, 0});
+        }
+
+        SerializableGameData data = new JournaledGameRepository(newDelegate()).loadGame();
+
+        assertNotNull(data);
+        assertEquals(CellStatus.SUNK, data.getComputerPlayer().getBoard().getCell(8, 8).getStatus());
+        assertEquals(validLength, saveFile.length());
+    }
+
+    /**
+     * Tests that the journal is compacted into a snapshot after the threshold.
+     */
+    @Test
+    @DisplayName("El registro debe compactarse al superar el umbral")
+    void testCompaction() {
+        repository.saveGame(human, computer, GameStatus.PLAYING, true);
+        long snapshotLength = saveFile.length();
+
+        for (int y = 0; y < 9; y++) {
+            ShotResolver.resolve(computer.getBoard(), Coordinate.of(9, y));
+            repository.saveGame(human, computer, GameStatus.PLAYING, true);
+        }
+
+        assertTrue(saveFile.length() < snapshotLength + 9 * JournaledGameRepository.RECORD_BYTES);
+        SerializableGameData data = new JournaledGameRepository(newDelegate()).loadGame();
+        assertEquals(CellStatus.MISS, data.getComputerPlayer().getBoard().getCell(9, 8).getStatus());
+    }
+
+    /**
+     * Creates a repository over the test files.
+     *
+     * @return a new delegate repository
+     */
+    private GameRepository newDelegate() {
+        return new GameRepository(saveFile.getPath(), new FlatFileManager(directory.resolve("player.txt").toString()));
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.miniproyecto4.model.GameSave;
+
+import com.example.miniproyecto4.model.Cell.CellStatus;
+import com.example.miniproyecto4.model.Cell.Coordinate;
+import com.example.miniproyecto4.model.Game.GameStatus;
+import com.example.miniproyecto4.model.Player.ComputerPlayer;
+import com.example.miniproyecto4.model.Player.IPlayer;
+import com.example.miniproyecto4.model.Player.Player;
+import com.example.miniproyecto4.model.Ship.ShipFactory;
+import com.example.miniproyecto4.model.Ship.ShipType;
+import com.example.miniproyecto4.model.Shot.ShotResolver;
+import com.example.miniproyecto4.model.Validation.Orientation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the WriteBehindGameRepository class.
+ * Tests that saves are queued, coalesced and written on flush, also in front of a journal.
+ */
+@DisplayName("WriteBehindGameRepository Unit Tests")
+class WriteBehindGameRepositoryTest {
+
+    /**
+     * Temporary directory holding the test save files.
+     */
+    private Path directory;
+
+    /**
+     * Path of the serialized game file.
+     */
+    private File saveFile;
+
+    /**
+     * The repository instance used for testing.
+     */
+    private WriteBehindGameRepository repository;
+
+    /**
+     * The player data file used for testing.
+     */
+    private String playerFile;
+
+    /**
+     * Sets up the test environment before each test.
+     * Creates a repository writing into a fresh temporary directory, with an
+     * interval long enough that the background writer never runs during a test.
+     *
+     * @throws IOException if the temporary directory cannot be created
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("write-behind");
+        saveFile = directory.resolve("save.ser").toFile();
+        playerFile = directory.resolve("player.txt").toString();
+        repository = new WriteBehindGameRepository(newDelegate(), 60_000);
+    }
+
+    /**
+     * Closes the repository and removes the temporary files after each test.
+     */
+    @AfterEach
+    void tearDown() {
+        repository.close();
+        File[] files = directory.toFile().listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        directory.toFile().delete();
+    }
+
+    /**
+     * Tests that a save is only written to disk when flushed.
+     */
+    @Test
+    @DisplayName("El guardado debe escribirse al hacer flush")
+    void testSave_WrittenOnFlush() {
+        repository.saveGame(new Player("Ana"), new ComputerPlayer(), GameStatus.PLAYING, true);
+
+        assertFalse(saveFile.exists());
+        assertTrue(repository.hasSavedGame());
+
+        repository.flush();
+
+        assertTrue(saveFile.exists());
+    }
+
+    /**
+     * Tests that only the latest of several queued saves is kept.
+     */
+    @Test
+    @DisplayName("Varios guardados pendientes deben conservar solo el último")
+    void testSaves_Coalesced() {
+        IPlayer human = new Player("Ana");
+        IPlayer computer = new ComputerPlayer();
+        repository.saveGame(human, computer, GameStatus.PLAYING, true);
+        repository.saveGame(human, computer, GameStatus.PLAYING, false);
+
+        SerializableGameData data = repository.loadGame();
+
+        assertNotNull(data);
+        assertFalse(data.isPlayerTurn());
+    }
+
+    /**
+     * Tests that deleting the save discards a save that was still pending.
+     */
+    @Test
+    @DisplayName("Eliminar la partida debe descartar el guardado pendiente")
+    void testDelete_DiscardsPending() {
+        repository.saveGame(new Player("Ana"), new ComputerPlayer(), GameStatus.PLAYING, true);
+
+        repository.deleteSavedGame();
+        repository.flush();
+
+        assertFalse(repository.hasSavedGame());
+        assertFalse(saveFile.exists());
+    }
+
+    /**
+     * Tests that journal appends are queued in order and written together on flush.
+     */
+    @Test
+    @DisplayName("Los registros del diario deben escribirse en orden al hacer flush")
+    void testJournal_AppendsWrittenOnFlush() {
+        repository.close();
+        repository = new WriteBehindGameRepository(new JournaledGameRepository(newDelegate()), 60_000);
+
+        IPlayer human = new Player("Ana");
+        IPlayer computer = new ComputerPlayer();
+        computer.getBoard().placeShip(ShipFactory.createShip(ShipType.DESTROYER, Coordinate.of(4, 4), Orientation.VERTICAL));
+        repository.saveGame(human, computer, GameStatus.PLAYING, true);
+        ShotResolver.resolve(computer.getBoard(), Coordinate.of(4, 4));
+        repository.saveGame(human, computer, GameStatus.PLAYING, true);
+        ShotResolver.resolve(computer.getBoard(), Coordinate.of(0, 0));
+        repository.saveGame(human, computer, GameStatus.PLAYING, false);
+
+        assertFalse(saveFile.exists());
+
+        repository.flush();
+
+        SerializableGameData data = new JournaledGameRepository(newDelegate()).loadGame();
+        assertNotNull(data);
+        assertFalse(data.isPlayerTurn());
+        assertEquals(CellStatus.HIT, data.getComputerPlayer().getBoard().getCell(4, 4).getStatus());
+        assertEquals(CellStatus.MISS, data.getComputerPlayer().getBoard().getCell(0, 0).getStatus());
+    }
+
+    /**
+     * Creates a repository writing into the test files.
+     *
+     * @return the repository
+     */
+    private GameRepository newDelegate() {
+        return new GameRepository(saveFile.getPath(), new FlatFileManager(playerFile));
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.miniproyecto4.model.Ship;
+
+import com.example.miniproyecto4.model.Cell.Coordinate;
+import com.example.miniproyecto4.model.Validation.Orientation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the Ship class.
+ * Tests segment hits, the read-only coordinates view and serialization.
+ */
+@DisplayName("Ship Unit Tests")
+class ShipTest {
+
+    /**
+     * A vertical submarine starting at (2, 3).
+     */
+    private Ship ship;
+
+    /**
+     * Sets up the test environment before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        ship = new Ship(ShipType.SUBMARINE, Coordinate.of(2, 3), Orientation.VERTICAL);
+    }
+
+    /**
+     * Tests that hits are only counted once and only on the ship's cells.
+     */
+    @Test
+    @DisplayName("Los impactos deben contarse una vez por segmento")
+    void testHits() {
+        assertTrue(ship.hit(Coordinate.of(2, 4)));
+        assertFalse(ship.hit(Coordinate.of(2, 4)));
+        assertFalse(ship.hit(Coordinate.of(3, 4)));
+        assertFalse(ship.hit(Coordinate.of(2, 6)));
+        assertTrue(ship.hit(25, 10));
+
+        assertEquals(2, ship.getHitCount());
+        assertTrue(ship.isHitAt(24, 10));
+        assertFalse(ship.isHitAt(Coordinate.of(2, 3)));
+        assertFalse(ship.isSunk());
+
+        ship.hit(Coordinate.of(2, 3));
+        assertTrue(ship.isSunk());
+    }
+
+    /**
+     * Tests that the geometry accessors agree and the coordinates cannot be modified.
+     */
+    @Test
+    @DisplayName("Las coordenadas deben ser de solo lectura")
+    void testGeometry() {
+        List<Coordinate> coordinates = ship.getCoordinates();
+
+        assertSame(coordinates, ship.getCoordinates());
+        assertEquals(Coordinate.of(2, 5), ship.getCoordinate(2));
+        assertNull(ship.getCoordinate(3));
+        assertEquals(25, ship.getCoordinateIndex(2, 10));
+        assertThrows(UnsupportedOperationException.class, () -> coordinates.add(Coordinate.of(0, 0)));
+
+        Ship horizontal = new Ship(ShipType.DESTROYER, Coordinate.of(4, 1), Orientation.HORIZONTAL);
+        assertEquals(51, horizontal.getCoordinateIndex(1, 10));
+    }
+
+    /**
+     * Tests that hits survive Java serialization.
+     *
+     * @throws IOException if the ship cannot be written or read
+     * @throws ClassNotFoundException if the ship class cannot be resolved
+     */
+    @Test
+    @DisplayName("Los impactos deben conservarse al serializar")
+    void testSerialization() throws IOException, ClassNotFoundException {
+        ship.hit(Coordinate.of(2, 5));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(ship);
+        }
+        Ship copy;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (Ship) in.readObject();
+        }
+
+        assertEquals(1, copy.getHitCount());
+        assertTrue(copy.isHitAt(Coordinate.of(2, 5)));
+        assertEquals(3, copy.getCoordinates().size());
+    }
+}
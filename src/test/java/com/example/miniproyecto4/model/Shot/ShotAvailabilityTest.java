@@ -0,0 +1,87 @@
+package com.example.miniproyecto4.model.Shot;
+
+import com.example.miniproyecto4.model.Board.Board;
+import com.example.miniproyecto4.model.Cell.Coordinate;
+import com.example.miniproyecto4.model.Player.ComputerPlayer;
+import com.example.miniproyecto4.model.Ship.Ship;
+import com.example.miniproyecto4.model.Ship.ShipType;
+import com.example.miniproyecto4.model.Validation.Orientation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ShotAvailability class.
+ * Tests marking, membership, random picks and rebuilding from a board.
+ */
+@DisplayName("ShotAvailability Unit Tests")
+class ShotAvailabilityTest {
+
+    /**
+     * Tests that marking a cell removes it exactly once.
+     */
+    @Test
+    @DisplayName("Marcar una celda debe quitarla una sola vez")
+    void testMarkTaken() {
+        ShotAvailability availability = new ShotAvailability(10);
+
+        assertTrue(availability.markTaken(37));
+        assertFalse(availability.markTaken(37));
+        assertFalse(availability.isAvailable(Coordinate.of(3, 7)));
+        assertTrue(availability.isAvailable(Coordinate.of(7, 3)));
+        assertFalse(availability.markTaken(Coordinate.of(10, 0)));
+        assertEquals(99, availability.getAvailableCount());
+    }
+
+    /**
+     * Tests that random takes visit every cell once and then stop.
+     */
+    @Test
+    @DisplayName("Los disparos aleatorios deben cubrir cada celda una vez")
+    void testTakeRandom_CoversBoard() {
+        ShotAvailability availability = new ShotAvailability(10);
+        Random random = new Random(9);
+        boolean[] seen = new boolean[100];
+
+        for (int i = 0; i < 100; i++) {
+            int index = availability.takeRandom(random);
+            assertFalse(seen[index]);
+            seen[index] = true;
+        }
+
+        assertEquals(-1, availability.takeRandom(random));
+        assertEquals(0, availability.getAvailableCount());
+
+        availability.reset();
+        assertEquals(100, availability.getAvailableCount());
+    }
+
+    /**
+     * Tests that the availability of a board skips every cell already shot.
+     */
+    @Test
+    @DisplayName("La disponibilidad de un tablero debe omitir celdas disparadas")
+    void testFromBoard_AndComputerPlayer() {
+        Board board = new Board();
+        board.placeShip(new Ship(ShipType.DESTROYER, new Coordinate(4, 4), Orientation.HORIZONTAL));
+        ShotResolver.resolve(board, new Coordinate(0, 0));
+        ShotResolver.resolve(board, new Coordinate(4, 4));
+        ShotResolver.resolve(board, new Coordinate(5, 4));
+
+        ShotAvailability availability = ShotAvailability.fromBoard(board);
+        assertEquals(97, availability.getAvailableCount());
+        assertFalse(availability.isAvailable(Coordinate.of(5, 4)));
+
+        ComputerPlayer computer = new ComputerPlayer();
+        computer.setShotAvailability(availability);
+        computer.markShotTaken(Coordinate.of(9, 9));
+        assertEquals(96, availability.getAvailableCount());
+
+        Coordinate shot = computer.getNextShot();
+        assertTrue(ShotResolver.isTargetable(board, shot));
+        assertFalse(computer.isShotAvailable(shot));
+    }
+}